@@ -90,4 +90,13 @@ public interface MetricsRegister {
      * @param duration duration
      */
     void recordTime(String name, String[] labelValues, long duration);
+    
+    /**
+     * Observe value of histogram.
+     *
+     * @param name name
+     * @param labelValues label values
+     * @param value value
+     */
+    void histogramObserve(String name, String[] labelValues, double value);
 }
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import java.lang.reflect.Method;
+import org.apache.shardingsphere.agent.api.advice.AdviceTargetObject;
+import org.apache.shardingsphere.agent.api.advice.InstanceMethodAroundAdvice;
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.reporter.MetricsReporter;
+import org.apache.shardingsphere.infra.executor.sql.prepare.ConnectionModeDecision;
+
+/**
+ * Connection mode selector advice.
+ */
+public final class ConnectionModeSelectorAdvice implements InstanceMethodAroundAdvice {
+    
+    private static final String CONNECTION_MODE = "connection_mode_selection_total";
+    
+    private static final String CONNECTION_SIZE = "connection_mode_selection_connection_size";
+    
+    private static final String RESULT_ROWS = "connection_mode_selection_result_rows";
+    
+    private static final String CONNECTION_ACQUIRE_MILLIS = "connection_mode_selection_acquire_millis";
+    
+    static {
+        MetricsReporter.registerCounter(CONNECTION_MODE, new String[] {"datasource", "mode"}, "the shardingsphere connection mode selection total");
+        MetricsReporter.registerHistogram(CONNECTION_SIZE, new String[] {"datasource"}, "the shardingsphere selected connection size");
+        MetricsReporter.registerHistogram(RESULT_ROWS, new String[] {"datasource"}, "the shardingsphere observed result rows for connection mode selection");
+        MetricsReporter.registerHistogram(CONNECTION_ACQUIRE_MILLIS, new String[] {"datasource"}, "the shardingsphere observed connection acquire millis for connection mode selection");
+    }
+    
+    @Override
+    public void afterMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        ConnectionModeDecision decision = (ConnectionModeDecision) result.getResult();
+        if (null == decision) {
+            return;
+        }
+        String[] dataSourceLabel = {(String) args[0]};
+        MetricsReporter.counterIncrement(CONNECTION_MODE, new String[] {(String) args[0], decision.getConnectionMode().name()});
+        MetricsReporter.histogramObserve(CONNECTION_SIZE, dataSourceLabel, decision.getConnectionSize());
+        if (ConnectionModeDecision.UNKNOWN != decision.getAverageRows()) {
+            MetricsReporter.histogramObserve(RESULT_ROWS, dataSourceLabel, decision.getAverageRows());
+        }
+        if (ConnectionModeDecision.UNKNOWN != decision.getAverageConnectionAcquireMillis()) {
+            MetricsReporter.histogramObserve(CONNECTION_ACQUIRE_MILLIS, dataSourceLabel, decision.getAverageConnectionAcquireMillis());
+        }
+    }
+}
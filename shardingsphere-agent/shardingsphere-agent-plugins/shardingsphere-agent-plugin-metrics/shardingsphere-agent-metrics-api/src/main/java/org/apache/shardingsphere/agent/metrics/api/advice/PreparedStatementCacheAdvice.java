@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import org.apache.shardingsphere.agent.api.advice.AdviceTargetObject;
+import org.apache.shardingsphere.agent.api.advice.InstanceMethodAroundAdvice;
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.reporter.MetricsReporter;
+
+/**
+ * Prepared statement cache advice.
+ */
+public final class PreparedStatementCacheAdvice implements InstanceMethodAroundAdvice {
+    
+    private static final String CACHE_HIT = "proxy_backend_prepared_statement_cache_hit_total";
+    
+    private static final String CACHE_MISS = "proxy_backend_prepared_statement_cache_miss_total";
+    
+    static {
+        MetricsReporter.registerCounter(CACHE_HIT, "the shardingsphere proxy backend prepared statement cache hit total");
+        MetricsReporter.registerCounter(CACHE_MISS, "the shardingsphere proxy backend prepared statement cache miss total");
+    }
+    
+    @Override
+    public void afterMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        Optional<?> preparedStatement = (Optional<?>) result.getResult();
+        if (null == preparedStatement) {
+            return;
+        }
+        MetricsReporter.counterIncrement(preparedStatement.isPresent() ? CACHE_HIT : CACHE_MISS);
+    }
+}
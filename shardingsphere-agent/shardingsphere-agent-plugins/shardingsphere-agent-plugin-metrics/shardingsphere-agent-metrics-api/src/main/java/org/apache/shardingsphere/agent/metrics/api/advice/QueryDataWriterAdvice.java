@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import java.lang.reflect.Method;
+import org.apache.shardingsphere.agent.api.advice.AdviceTargetObject;
+import org.apache.shardingsphere.agent.api.advice.InstanceMethodAroundAdvice;
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.constant.MethodNameConstant;
+import org.apache.shardingsphere.agent.metrics.api.reporter.MetricsReporter;
+
+/**
+ * Query data writer advice.
+ * 
+ * <p>
+ * Suspended millis is measured by query data writer of each connection, since writing is resumed on another thread.
+ * </p>
+ */
+public final class QueryDataWriterAdvice implements InstanceMethodAroundAdvice {
+    
+    private static final String BUFFERED_BYTES = "proxy_frontend_buffered_bytes";
+    
+    private static final String SUSPENDED_CONNECTIONS = "proxy_frontend_suspended_connections";
+    
+    private static final String SUSPENDED_TOTAL = "proxy_frontend_suspended_total";
+    
+    private static final String SUSPENDED_MILLIS = "proxy_frontend_suspended_millis";
+    
+    static {
+        MetricsReporter.registerHistogram(BUFFERED_BYTES, "the shardingsphere proxy bytes buffered in frontend channel when flushing");
+        MetricsReporter.registerGauge(SUSPENDED_CONNECTIONS, "the shardingsphere proxy connections suspended by unwritable frontend channel");
+        MetricsReporter.registerCounter(SUSPENDED_TOTAL, "the shardingsphere proxy suspended total by unwritable frontend channel");
+        MetricsReporter.registerHistogram(SUSPENDED_MILLIS, "the shardingsphere proxy suspended millis by unwritable frontend channel");
+    }
+    
+    @Override
+    public void afterMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        if (MethodNameConstant.FLUSH.equals(method.getName())) {
+            if (null != result.getResult()) {
+                MetricsReporter.histogramObserve(BUFFERED_BYTES, (Long) result.getResult());
+            }
+        } else if (MethodNameConstant.SUSPEND.equals(method.getName())) {
+            MetricsReporter.gaugeIncrement(SUSPENDED_CONNECTIONS);
+            MetricsReporter.counterIncrement(SUSPENDED_TOTAL);
+        } else if (MethodNameConstant.RESUME.equals(method.getName())) {
+            MetricsReporter.gaugeDecrement(SUSPENDED_CONNECTIONS);
+            if (null != result.getResult()) {
+                MetricsReporter.histogramObserve(SUSPENDED_MILLIS, (Long) result.getResult());
+            }
+        }
+    }
+}
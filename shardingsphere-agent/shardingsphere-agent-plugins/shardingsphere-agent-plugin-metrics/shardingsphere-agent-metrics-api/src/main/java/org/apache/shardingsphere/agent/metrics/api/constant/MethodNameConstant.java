@@ -39,4 +39,14 @@ public final class MethodNameConstant {
     public static final String COMMIT = "commit";
     
     public static final String ROLL_BACK = "rollback";
+    
+    public static final String CONNECTION_MODE_SELECT = "select";
+    
+    public static final String FLUSH = "flush";
+    
+    public static final String SUSPEND = "suspend";
+    
+    public static final String RESUME = "resume";
+    
+    public static final String PREPARED_STATEMENT_CACHE_GET = "get";
 }
@@ -42,6 +42,18 @@ public final class MetricsPluginDefinitionService extends AbstractPluginDefiniti
     
     private static final String TRANSACTION_ADVICE_CLASS = "org.apache.shardingsphere.agent.metrics.api.advice.TransactionAdvice";
     
+    private static final String CONNECTION_MODE_SELECTOR_ENHANCE_CLASS = "org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.AdaptiveConnectionModeSelector";
+    
+    private static final String CONNECTION_MODE_SELECTOR_ADVICE_CLASS = "org.apache.shardingsphere.agent.metrics.api.advice.ConnectionModeSelectorAdvice";
+    
+    private static final String QUERY_DATA_WRITER_ENHANCE_CLASS = "org.apache.shardingsphere.proxy.frontend.command.QueryDataWriter";
+    
+    private static final String QUERY_DATA_WRITER_ADVICE_CLASS = "org.apache.shardingsphere.agent.metrics.api.advice.QueryDataWriterAdvice";
+    
+    private static final String PREPARED_STATEMENT_CACHE_ENHANCE_CLASS = "org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.PreparedStatementCache";
+    
+    private static final String PREPARED_STATEMENT_CACHE_ADVICE_CLASS = "org.apache.shardingsphere.agent.metrics.api.advice.PreparedStatementCacheAdvice";
+    
     @Override
     public void defineInterceptors() {
         defineInterceptor(COMMAND_EXECUTOR_TASK_ENHANCE_CLASS)
@@ -61,6 +73,18 @@ public final class MetricsPluginDefinitionService extends AbstractPluginDefiniti
                 .aroundInstanceMethod(ElementMatchers.named(MethodNameConstant.COMMIT).or(ElementMatchers.named(MethodNameConstant.ROLL_BACK)))
                 .implement(TRANSACTION_ADVICE_CLASS)
                 .build();
+        defineInterceptor(CONNECTION_MODE_SELECTOR_ENHANCE_CLASS)
+                .aroundInstanceMethod(ElementMatchers.named(MethodNameConstant.CONNECTION_MODE_SELECT))
+                .implement(CONNECTION_MODE_SELECTOR_ADVICE_CLASS)
+                .build();
+        defineInterceptor(QUERY_DATA_WRITER_ENHANCE_CLASS)
+                .aroundInstanceMethod(ElementMatchers.named(MethodNameConstant.FLUSH).or(ElementMatchers.named(MethodNameConstant.SUSPEND)).or(ElementMatchers.named(MethodNameConstant.RESUME)))
+                .implement(QUERY_DATA_WRITER_ADVICE_CLASS)
+                .build();
+        defineInterceptor(PREPARED_STATEMENT_CACHE_ENHANCE_CLASS)
+                .aroundInstanceMethod(ElementMatchers.named(MethodNameConstant.PREPARED_STATEMENT_CACHE_GET))
+                .implement(PREPARED_STATEMENT_CACHE_ADVICE_CLASS)
+                .build();
     }
     
     @Override
@@ -217,6 +217,27 @@ public final class MetricsReporter {
         recordTime(name, null, duration);
     }
     
+    /**
+     * Observe value of histogram.
+     *
+     * @param name name
+     * @param labelValues label values
+     * @param value value
+     */
+    public static void histogramObserve(final String name, final String[] labelValues, final double value) {
+        metricsRegister.histogramObserve(name, labelValues, value);
+    }
+    
+    /**
+     * Observe value of histogram.
+     *
+     * @param name name
+     * @param value value
+     */
+    public static void histogramObserve(final String name, final double value) {
+        histogramObserve(name, null, value);
+    }
+    
     private static String[] getLabelNames(final List<String> labels) {
         return labels.toArray(new String[0]);
     }
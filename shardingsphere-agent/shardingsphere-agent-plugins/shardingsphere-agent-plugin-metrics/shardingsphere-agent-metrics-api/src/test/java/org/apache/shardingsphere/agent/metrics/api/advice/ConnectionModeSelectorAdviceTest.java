@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.util.ReflectiveUtil;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.ConnectionModeDecision;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class ConnectionModeSelectorAdviceTest extends MetricsAdviceBaseTest {
+    
+    private final ConnectionModeSelectorAdvice connectionModeSelectorAdvice = new ConnectionModeSelectorAdvice();
+    
+    @Mock
+    private Method select;
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertAfterMethod() {
+        MethodInvocationResult result = new MethodInvocationResult();
+        result.rebase(new ConnectionModeDecision(ConnectionMode.CONNECTION_STRICTLY, 2, 10D, 20D));
+        connectionModeSelectorAdvice.afterMethod(new MockAdviceTargetObject(), select, new Object[]{"ds_0", Collections.emptyList(), 4}, result);
+        Map<String, DoubleAdder> counterMap = (Map<String, DoubleAdder>) ReflectiveUtil.getFieldValue(getFixturemetricsregister(), "COUNTER_MAP");
+        assertThat(counterMap.get("connection_mode_selection_total").intValue(), is(1));
+        Map<String, LongAdder> histogramMap = (Map<String, LongAdder>) ReflectiveUtil.getFieldValue(getFixturemetricsregister(), "HISTOGRAM_MAP");
+        assertThat(histogramMap.get("connection_mode_selection_connection_size").longValue(), is(2L));
+        assertThat(histogramMap.get("connection_mode_selection_result_rows").longValue(), is(10L));
+        assertThat(histogramMap.get("connection_mode_selection_acquire_millis").longValue(), is(20L));
+    }
+}
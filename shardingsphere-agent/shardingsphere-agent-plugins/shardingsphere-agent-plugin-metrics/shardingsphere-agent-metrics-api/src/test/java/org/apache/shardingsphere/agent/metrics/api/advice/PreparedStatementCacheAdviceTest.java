@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.util.ReflectiveUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.DoubleAdder;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PreparedStatementCacheAdviceTest extends MetricsAdviceBaseTest {
+    
+    private final PreparedStatementCacheAdvice preparedStatementCacheAdvice = new PreparedStatementCacheAdvice();
+    
+    @Mock
+    private Method get;
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertAfterMethod() {
+        MethodInvocationResult hitResult = new MethodInvocationResult();
+        hitResult.rebase(Optional.of(new Object()));
+        preparedStatementCacheAdvice.afterMethod(new MockAdviceTargetObject(), get, new Object[]{}, hitResult);
+        MethodInvocationResult missResult = new MethodInvocationResult();
+        missResult.rebase(Optional.empty());
+        preparedStatementCacheAdvice.afterMethod(new MockAdviceTargetObject(), get, new Object[]{}, missResult);
+        preparedStatementCacheAdvice.afterMethod(new MockAdviceTargetObject(), get, new Object[]{}, missResult);
+        Map<String, DoubleAdder> counterMap = (Map<String, DoubleAdder>) ReflectiveUtil.getFieldValue(getFixturemetricsregister(), "COUNTER_MAP");
+        assertThat(counterMap.get("proxy_backend_prepared_statement_cache_hit_total").intValue(), is(1));
+        assertThat(counterMap.get("proxy_backend_prepared_statement_cache_miss_total").intValue(), is(2));
+    }
+}
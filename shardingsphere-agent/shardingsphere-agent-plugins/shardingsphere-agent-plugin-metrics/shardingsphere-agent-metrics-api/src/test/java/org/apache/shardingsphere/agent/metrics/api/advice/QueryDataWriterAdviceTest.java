@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.constant.MethodNameConstant;
+import org.apache.shardingsphere.agent.metrics.api.util.ReflectiveUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class QueryDataWriterAdviceTest extends MetricsAdviceBaseTest {
+    
+    private final QueryDataWriterAdvice queryDataWriterAdvice = new QueryDataWriterAdvice();
+    
+    @Mock
+    private Method flush;
+    
+    @Mock
+    private Method suspend;
+    
+    @Mock
+    private Method resume;
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertMethod() {
+        when(flush.getName()).thenReturn(MethodNameConstant.FLUSH);
+        when(suspend.getName()).thenReturn(MethodNameConstant.SUSPEND);
+        when(resume.getName()).thenReturn(MethodNameConstant.RESUME);
+        MockAdviceTargetObject targetObject = new MockAdviceTargetObject();
+        MethodInvocationResult flushResult = new MethodInvocationResult();
+        flushResult.rebase(1024L);
+        queryDataWriterAdvice.afterMethod(targetObject, flush, new Object[]{}, flushResult);
+        queryDataWriterAdvice.afterMethod(targetObject, suspend, new Object[]{}, new MethodInvocationResult());
+        Map<String, AtomicInteger> gaugeMap = (Map<String, AtomicInteger>) ReflectiveUtil.getFieldValue(getFixturemetricsregister(), "GAUGE_MAP");
+        assertThat(gaugeMap.get("proxy_frontend_suspended_connections").intValue(), is(1));
+        MethodInvocationResult resumeResult = new MethodInvocationResult();
+        resumeResult.rebase(10L);
+        queryDataWriterAdvice.afterMethod(targetObject, resume, new Object[]{}, resumeResult);
+        assertThat(gaugeMap.get("proxy_frontend_suspended_connections").intValue(), is(0));
+        Map<String, DoubleAdder> counterMap = (Map<String, DoubleAdder>) ReflectiveUtil.getFieldValue(getFixturemetricsregister(), "COUNTER_MAP");
+        assertThat(counterMap.get("proxy_frontend_suspended_total").intValue(), is(1));
+        Map<String, LongAdder> histogramMap = (Map<String, LongAdder>) ReflectiveUtil.getFieldValue(getFixturemetricsregister(), "HISTOGRAM_MAP");
+        assertThat(histogramMap.get("proxy_frontend_buffered_bytes").longValue(), is(1024L));
+        assertThat(histogramMap.get("proxy_frontend_suspended_millis").longValue(), is(10L));
+    }
+}
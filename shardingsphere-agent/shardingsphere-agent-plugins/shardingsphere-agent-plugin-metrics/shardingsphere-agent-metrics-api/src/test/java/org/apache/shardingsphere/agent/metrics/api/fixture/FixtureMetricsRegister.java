@@ -86,4 +86,12 @@ public final class FixtureMetricsRegister implements MetricsRegister {
             longAdder.add(duration);
         }
     }
+    
+    @Override
+    public void histogramObserve(final String name, final String[] labelValues, final double value) {
+        LongAdder longAdder = HISTOGRAM_MAP.get(name);
+        if (null != longAdder) {
+            longAdder.add((long) value);
+        }
+    }
 }
@@ -128,6 +128,16 @@ public final class PrometheusMetricsRegister implements MetricsRegister {
         }
     }
     
+    @Override
+    public void histogramObserve(final String name, final String[] labelValues, final double value) {
+        Histogram histogram = HISTOGRAM_MAP.get(name);
+        if (null != labelValues) {
+            histogram.labels(labelValues).observe(value);
+        } else {
+            histogram.observe(value);
+        }
+    }
+    
     private static class PrometheusMetricsRegisterHolder {
         
         private static final PrometheusMetricsRegister INSTANCE = new PrometheusMetricsRegister();
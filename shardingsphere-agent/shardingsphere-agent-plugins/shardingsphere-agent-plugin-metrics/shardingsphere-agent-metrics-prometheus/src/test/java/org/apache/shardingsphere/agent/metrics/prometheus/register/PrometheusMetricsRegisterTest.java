@@ -84,9 +84,11 @@ public final class PrometheusMetricsRegisterTest {
         String latencyMillis = "execute_latency_millis";
         prometheusMetricsRegister.registerHistogram(latencyMillis, null, "the shardingsphere executor latency millis");
         prometheusMetricsRegister.recordTime(latencyMillis, null, 1000);
+        prometheusMetricsRegister.histogramObserve(latencyMillis, null, 12.5D);
         Map<String, Histogram> histogramMap = (Map<String, Histogram>) ReflectiveUtil.getFieldValue(prometheusMetricsRegister, "HISTOGRAM_MAP");
         assertThat(histogramMap.size(), is(2));
         Histogram histogram = histogramMap.get(name);
         assertThat(histogram.labels(labelNames).get().sum, is(1000.0));
+        assertThat(histogramMap.get(latencyMillis).get().sum, is(1012.5D));
     }
 }
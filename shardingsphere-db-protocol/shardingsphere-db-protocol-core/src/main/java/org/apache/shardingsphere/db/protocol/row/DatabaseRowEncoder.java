@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.row;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Database row encoder.
+ * 
+ * <p>
+ * Encode current row of query result into byte buffer as a whole packet with header, instead of creating row packet for each row.
+ * Rows which can not be framed as a whole packet by encoder are returned as packets, and should be written through codec instead.
+ * </p>
+ */
+public interface DatabaseRowEncoder {
+    
+    /**
+     * Encode current row.
+     *
+     * @param context channel handler context
+     * @param out byte buffer to write
+     * @return empty if current row is encoded into byte buffer, otherwise packet of current row to be written through codec
+     * @throws SQLException SQL exception
+     */
+    Optional<DatabasePacket<?>> encode(ChannelHandlerContext context, ByteBuf out) throws SQLException;
+}
@@ -0,0 +1,299 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.text;
+
+import io.netty.buffer.ByteBuf;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Text value encoder.
+ * 
+ * <p>
+ * Write text format of values into byte buffers as ASCII directly without creating intermediate strings.
+ * Floating point numbers are not supported, because the shortest text format of them is not trivial to generate.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TextValueEncoder {
+    
+    private static final int NANOS_WIDTH = 9;
+    
+    private static final int DATE_TIME_LENGTH_WITHOUT_YEAR = 15;
+    
+    private static final int DATE_LENGTH_WITHOUT_YEAR = 6;
+    
+    private static final int TIME_LENGTH = 8;
+    
+    private static final int MAX_COMPACT_DECIMAL_PRECISION = 18;
+    
+    private static final int MAX_PLAIN_DECIMAL_LEADING_ZEROS = 6;
+    
+    /**
+     * Judge whether value is integral number which can be encoded directly.
+     * 
+     * @param value value
+     * @return is integral number or not
+     */
+    public static boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    /**
+     * Judge whether value is decimal whose unscaled value fits in long, which can be encoded as plain format directly.
+     * 
+     * @param value value
+     * @return is compact decimal or not
+     */
+    public static boolean isCompactDecimal(final Object value) {
+        return value instanceof BigDecimal && ((BigDecimal) value).precision() <= MAX_COMPACT_DECIMAL_PRECISION;
+    }
+    
+    /**
+     * Judge whether value is compact decimal whose {@code toString()} is the same as {@code toPlainString()}.
+     * 
+     * @param value value
+     * @return is compact decimal in plain format or not
+     */
+    public static boolean isCompactPlainDecimal(final Object value) {
+        if (!isCompactDecimal(value)) {
+            return false;
+        }
+        BigDecimal decimal = (BigDecimal) value;
+        return decimal.scale() >= 0 && decimal.scale() - decimal.precision() < MAX_PLAIN_DECIMAL_LEADING_ZEROS;
+    }
+    
+    /**
+     * Get length of text format of long value.
+     * 
+     * @param value long value
+     * @return length of text format
+     */
+    public static int getLength(final long value) {
+        int result = value < 0 ? 2 : 1;
+        for (long remaining = value / 10; 0 != remaining; remaining /= 10) {
+            result++;
+        }
+        return result;
+    }
+    
+    /**
+     * Get length of text format of timestamp, which is the same as {@code Timestamp.toString()}.
+     * 
+     * @param value timestamp
+     * @param omitZeroNanos whether omit fractional seconds if nanos is zero
+     * @return length of text format
+     */
+    public static int getLength(final Timestamp value, final boolean omitZeroNanos) {
+        return Math.max(getLength(value.toLocalDateTime().getYear()), 4) + DATE_TIME_LENGTH_WITHOUT_YEAR + getNanosLength(value.getNanos(), omitZeroNanos);
+    }
+    
+    /**
+     * Get length of text format of date, which is the same as {@code Date.toString()}.
+     * 
+     * @param value date
+     * @return length of text format
+     */
+    public static int getLength(final Date value) {
+        return Math.max(getLength(value.toLocalDate().getYear()), 4) + DATE_LENGTH_WITHOUT_YEAR;
+    }
+    
+    /**
+     * Get length of text format of time, which is the same as {@code Time.toString()}.
+     * 
+     * @param value time
+     * @return length of text format
+     */
+    public static int getLength(final Time value) {
+        return TIME_LENGTH;
+    }
+    
+    /**
+     * Get length of plain text format of compact decimal, which is the same as {@code BigDecimal.toPlainString()}.
+     * 
+     * @param value compact decimal
+     * @return length of text format
+     */
+    public static int getLength(final BigDecimal value) {
+        long unscaledValue = value.unscaledValue().longValue();
+        int scale = value.scale();
+        if (0 == unscaledValue && scale <= 0) {
+            return 1;
+        }
+        int signLength = unscaledValue < 0 ? 1 : 0;
+        int digitsLength = getLength(Math.abs(unscaledValue));
+        if (scale <= 0) {
+            return signLength + digitsLength - scale;
+        }
+        return digitsLength > scale ? signLength + digitsLength + 1 : signLength + scale + 2;
+    }
+    
+    /**
+     * Write text format of long value.
+     * 
+     * @param byteBuf byte buffer
+     * @param value long value
+     */
+    public static void write(final ByteBuf byteBuf, final long value) {
+        int length = getLength(value);
+        byteBuf.ensureWritable(length);
+        int index = byteBuf.writerIndex() + length;
+        long remaining = value;
+        do {
+            byteBuf.setByte(--index, '0' + (int) Math.abs(remaining % 10));
+            remaining /= 10;
+        } while (0 != remaining);
+        if (value < 0) {
+            byteBuf.setByte(--index, '-');
+        }
+        byteBuf.writerIndex(byteBuf.writerIndex() + length);
+    }
+    
+    /**
+     * Write text format of timestamp, which is the same as {@code Timestamp.toString()}.
+     * 
+     * @param byteBuf byte buffer
+     * @param value timestamp
+     * @param omitZeroNanos whether omit fractional seconds if nanos is zero
+     */
+    public static void write(final ByteBuf byteBuf, final Timestamp value, final boolean omitZeroNanos) {
+        LocalDateTime dateTime = value.toLocalDateTime();
+        writePadded(byteBuf, dateTime.getYear(), 4);
+        byteBuf.writeByte('-');
+        writePadded(byteBuf, dateTime.getMonthValue(), 2);
+        byteBuf.writeByte('-');
+        writePadded(byteBuf, dateTime.getDayOfMonth(), 2);
+        byteBuf.writeByte(' ');
+        writePadded(byteBuf, dateTime.getHour(), 2);
+        byteBuf.writeByte(':');
+        writePadded(byteBuf, dateTime.getMinute(), 2);
+        byteBuf.writeByte(':');
+        writePadded(byteBuf, dateTime.getSecond(), 2);
+        int nanosLength = getNanosLength(value.getNanos(), omitZeroNanos);
+        if (0 == nanosLength) {
+            return;
+        }
+        byteBuf.writeByte('.');
+        if (0 == value.getNanos()) {
+            byteBuf.writeByte('0');
+            return;
+        }
+        int nanos = value.getNanos();
+        for (int i = nanosLength - 1; i < NANOS_WIDTH; i++) {
+            nanos /= 10;
+        }
+        writePadded(byteBuf, nanos, nanosLength - 1);
+    }
+    
+    /**
+     * Write text format of date, which is the same as {@code Date.toString()}.
+     * 
+     * @param byteBuf byte buffer
+     * @param value date
+     */
+    public static void write(final ByteBuf byteBuf, final Date value) {
+        LocalDate date = value.toLocalDate();
+        writePadded(byteBuf, date.getYear(), 4);
+        byteBuf.writeByte('-');
+        writePadded(byteBuf, date.getMonthValue(), 2);
+        byteBuf.writeByte('-');
+        writePadded(byteBuf, date.getDayOfMonth(), 2);
+    }
+    
+    /**
+     * Write text format of time, which is the same as {@code Time.toString()}.
+     * 
+     * @param byteBuf byte buffer
+     * @param value time
+     */
+    public static void write(final ByteBuf byteBuf, final Time value) {
+        LocalTime time = value.toLocalTime();
+        writePadded(byteBuf, time.getHour(), 2);
+        byteBuf.writeByte(':');
+        writePadded(byteBuf, time.getMinute(), 2);
+        byteBuf.writeByte(':');
+        writePadded(byteBuf, time.getSecond(), 2);
+    }
+    
+    /**
+     * Write plain text format of compact decimal, which is the same as {@code BigDecimal.toPlainString()}.
+     * 
+     * @param byteBuf byte buffer
+     * @param value compact decimal
+     */
+    public static void write(final ByteBuf byteBuf, final BigDecimal value) {
+        long unscaledValue = value.unscaledValue().longValue();
+        int scale = value.scale();
+        if (scale <= 0) {
+            write(byteBuf, unscaledValue);
+            for (int i = 0 == unscaledValue ? 0 : scale; i < 0; i++) {
+                byteBuf.writeByte('0');
+            }
+            return;
+        }
+        if (unscaledValue < 0) {
+            byteBuf.writeByte('-');
+        }
+        long digits = Math.abs(unscaledValue);
+        int digitsLength = getLength(digits);
+        if (digitsLength > scale) {
+            long divisor = pow10(scale);
+            write(byteBuf, digits / divisor);
+            byteBuf.writeByte('.');
+            writePadded(byteBuf, digits % divisor, scale);
+            return;
+        }
+        byteBuf.writeByte('0');
+        byteBuf.writeByte('.');
+        writePadded(byteBuf, digits, scale);
+    }
+    
+    private static long pow10(final int exponent) {
+        long result = 1L;
+        for (int i = 0; i < exponent; i++) {
+            result *= 10;
+        }
+        return result;
+    }
+    
+    private static int getNanosLength(final int nanos, final boolean omitZeroNanos) {
+        if (0 == nanos) {
+            return omitZeroNanos ? 0 : 2;
+        }
+        int result = NANOS_WIDTH;
+        for (int remaining = nanos; 0 == remaining % 10; remaining /= 10) {
+            result--;
+        }
+        return result + 1;
+    }
+    
+    private static void writePadded(final ByteBuf byteBuf, final long value, final int width) {
+        for (int i = getLength(value); i < width; i++) {
+            byteBuf.writeByte('0');
+        }
+        write(byteBuf, value);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.text;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class TextValueEncoderTest {
+    
+    @Test
+    public void assertIsIntegral() {
+        assertTrue(TextValueEncoder.isIntegral(1));
+        assertTrue(TextValueEncoder.isIntegral(1L));
+        assertTrue(TextValueEncoder.isIntegral((short) 1));
+        assertTrue(TextValueEncoder.isIntegral((byte) 1));
+        assertFalse(TextValueEncoder.isIntegral(1.0D));
+        assertFalse(TextValueEncoder.isIntegral(BigDecimal.ONE));
+        assertFalse(TextValueEncoder.isIntegral("1"));
+    }
+    
+    @Test
+    public void assertIsCompactDecimal() {
+        assertTrue(TextValueEncoder.isCompactDecimal(new BigDecimal("123456789012345678")));
+        assertFalse(TextValueEncoder.isCompactDecimal(new BigDecimal("1234567890123456789")));
+        assertFalse(TextValueEncoder.isCompactDecimal(1L));
+    }
+    
+    @Test
+    public void assertIsCompactPlainDecimal() {
+        for (String each : new String[]{"1.5", "0.000001", "1E+3", "0.0000001", "12345678901234567890"}) {
+            BigDecimal decimal = new BigDecimal(each);
+            assertThat(each, TextValueEncoder.isCompactPlainDecimal(decimal), is(TextValueEncoder.isCompactDecimal(decimal) && decimal.toString().equals(decimal.toPlainString())));
+        }
+    }
+    
+    @Test
+    public void assertWriteLong() {
+        for (long each : new long[]{0L, 7L, -7L, 10L, -10L, 1234567890L, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            ByteBuf actual = Unpooled.buffer(1);
+            TextValueEncoder.write(actual, each);
+            assertThat(TextValueEncoder.getLength(each), is(String.valueOf(each).length()));
+            assertThat(actual.toString(StandardCharsets.US_ASCII), is(String.valueOf(each)));
+        }
+    }
+    
+    @Test
+    public void assertWriteTimestamp() {
+        for (String each : new String[]{"2021-06-01 08:09:10.0", "2021-12-31 23:59:59.123456789", "0999-01-02 03:04:05.0005", "2021-06-01 00:00:00.1"}) {
+            Timestamp timestamp = Timestamp.valueOf(each);
+            ByteBuf actual = Unpooled.buffer();
+            TextValueEncoder.write(actual, timestamp, false);
+            assertThat(TextValueEncoder.getLength(timestamp, false), is(timestamp.toString().length()));
+            assertThat(actual.toString(StandardCharsets.US_ASCII), is(timestamp.toString()));
+        }
+    }
+    
+    @Test
+    public void assertWriteTimestampWithOmitZeroNanos() {
+        Timestamp timestamp = Timestamp.valueOf("2021-06-01 08:09:10");
+        ByteBuf actual = Unpooled.buffer();
+        TextValueEncoder.write(actual, timestamp, true);
+        assertThat(TextValueEncoder.getLength(timestamp, true), is(19));
+        assertThat(actual.toString(StandardCharsets.US_ASCII), is("2021-06-01 08:09:10"));
+    }
+    
+    @Test
+    public void assertWriteDate() {
+        for (String each : new String[]{"2021-06-01", "0999-12-31"}) {
+            Date date = Date.valueOf(each);
+            ByteBuf actual = Unpooled.buffer();
+            TextValueEncoder.write(actual, date);
+            assertThat(TextValueEncoder.getLength(date), is(date.toString().length()));
+            assertThat(actual.toString(StandardCharsets.US_ASCII), is(date.toString()));
+        }
+    }
+    
+    @Test
+    public void assertWriteTime() {
+        Time time = Time.valueOf("08:09:10");
+        ByteBuf actual = Unpooled.buffer();
+        TextValueEncoder.write(actual, time);
+        assertThat(TextValueEncoder.getLength(time), is(8));
+        assertThat(actual.toString(StandardCharsets.US_ASCII), is("08:09:10"));
+    }
+    
+    @Test
+    public void assertWriteDecimal() {
+        for (String each : new String[]{"0", "0.00", "0E+3", "1.5", "-1.5", "0.001", "-0.001", "123.456", "1E+3", "-12E+2", "123456789012345678", "0.123456789012345678", "-99999.9"}) {
+            BigDecimal decimal = new BigDecimal(each);
+            ByteBuf actual = Unpooled.buffer();
+            TextValueEncoder.write(actual, decimal);
+            assertThat(each, TextValueEncoder.getLength(decimal), is(decimal.toPlainString().length()));
+            assertThat(actual.toString(StandardCharsets.US_ASCII), is(decimal.toPlainString()));
+        }
+    }
+}
@@ -18,7 +18,11 @@
 package org.apache.shardingsphere.db.protocol.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
 import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.error.CommonErrorCode;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
@@ -29,6 +33,13 @@ import java.util.List;
 
 /**
  * Database packet codec for MySQL.
+ * 
+ * <p>
+ * Payloads of {@code 0xFFFFFF} bytes or more are split into multiple packets when encoding and reassembled when decoding.
+ * Sequence IDs of packets after split packets are shifted with the count of additional packets, until next command is received.
+ * </p>
+ *
+ * @see <a href="https://dev.mysql.com/doc/internals/en/sending-more-than-16mbyte.html">Sending More Than 16Mb</a>
  */
 public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<MySQLPacket> {
     
@@ -36,40 +47,128 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<M
     
     private static final int SEQUENCE_LENGTH = 1;
     
+    private static final int HEADER_LENGTH = PAYLOAD_LENGTH + SEQUENCE_LENGTH;
+    
+    private static final int MAX_PACKET_LENGTH = 0xFFFFFF;
+    
+    private static final AttributeKey<Integer> SEQUENCE_ID_OFFSET_KEY = AttributeKey.valueOf(MySQLPacketCodecEngine.class.getName() + ".sequenceIdOffset");
+    
     @Override
     public boolean isValidHeader(final int readableBytes) {
-        return readableBytes >= PAYLOAD_LENGTH + SEQUENCE_LENGTH;
+        return readableBytes >= HEADER_LENGTH;
     }
     
     @Override
     public void decode(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out, final int readableBytes) {
-        int payloadLength = in.markReaderIndex().readMediumLE();
-        int realPacketLength = payloadLength + PAYLOAD_LENGTH + SEQUENCE_LENGTH;
+        int payloadLength = in.markReaderIndex().readUnsignedMediumLE();
+        int realPacketLength = payloadLength + HEADER_LENGTH;
         if (readableBytes < realPacketLength) {
             in.resetReaderIndex();
             return;
         }
+        if (MAX_PACKET_LENGTH == payloadLength) {
+            in.resetReaderIndex();
+            decodeMultiPackets(context, in, out);
+            return;
+        }
         out.add(in.readRetainedSlice(payloadLength + SEQUENCE_LENGTH));
+        resetSequenceIdOffset(context, 0);
+    }
+    
+    private void decodeMultiPackets(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out) {
+        int packetCount = getCompletedMultiPacketsCount(in);
+        if (0 == packetCount) {
+            return;
+        }
+        CompositeByteBuf result = context.alloc().compositeBuffer(packetCount);
+        result.addComponent(true, in.readRetainedSlice(in.readUnsignedMediumLE() + SEQUENCE_LENGTH));
+        for (int i = 1; i < packetCount; i++) {
+            int payloadLength = in.readUnsignedMediumLE();
+            in.skipBytes(SEQUENCE_LENGTH);
+            result.addComponent(true, in.readRetainedSlice(payloadLength));
+        }
+        out.add(result);
+        resetSequenceIdOffset(context, packetCount - 1);
+    }
+    
+    private int getCompletedMultiPacketsCount(final ByteBuf in) {
+        int result = 0;
+        int index = in.readerIndex();
+        int payloadLength;
+        do {
+            if (in.writerIndex() - index < HEADER_LENGTH) {
+                return 0;
+            }
+            payloadLength = in.getUnsignedMediumLE(index);
+            index += HEADER_LENGTH + payloadLength;
+            if (in.writerIndex() < index) {
+                return 0;
+            }
+            result++;
+        } while (MAX_PACKET_LENGTH == payloadLength);
+        return result;
+    }
+    
+    private void resetSequenceIdOffset(final ChannelHandlerContext context, final int sequenceIdOffset) {
+        Attribute<Integer> attribute = context.channel().attr(SEQUENCE_ID_OFFSET_KEY);
+        if (0 != sequenceIdOffset || null != attribute.get()) {
+            attribute.set(sequenceIdOffset);
+        }
     }
     
     @Override
     public void encode(final ChannelHandlerContext context, final MySQLPacket message, final ByteBuf out) {
-        MySQLPacketPayload payload = new MySQLPacketPayload(context.alloc().buffer());
+        int headerIndex = out.writerIndex();
+        out.writeZero(HEADER_LENGTH);
+        MySQLPacketPayload payload = new MySQLPacketPayload(out);
         try {
             message.write(payload);
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
-            payload.getByteBuf().resetWriterIndex();
+            out.writerIndex(headerIndex + HEADER_LENGTH);
             new MySQLErrPacket(1, CommonErrorCode.UNKNOWN_EXCEPTION, ex.getMessage()).write(payload);
+        }
+        int offset = getSequenceIdOffset(context.channel());
+        int payloadLength = out.writerIndex() - headerIndex - HEADER_LENGTH;
+        if (payloadLength < MAX_PACKET_LENGTH) {
+            out.setMediumLE(headerIndex, payloadLength);
+            out.setByte(headerIndex + PAYLOAD_LENGTH, message.getSequenceId() + offset);
+        } else {
+            context.channel().attr(SEQUENCE_ID_OFFSET_KEY).set(offset + encodeMultiPackets(out, headerIndex, payloadLength, message.getSequenceId() + offset));
+        }
+    }
+    
+    private int encodeMultiPackets(final ByteBuf out, final int headerIndex, final int payloadLength, final int sequenceId) {
+        ByteBuf payload = out.copy(headerIndex + HEADER_LENGTH, payloadLength);
+        try {
+            out.writerIndex(headerIndex);
+            int result = 0;
+            int length;
+            do {
+                length = Math.min(payload.readableBytes(), MAX_PACKET_LENGTH);
+                out.writeMediumLE(length);
+                out.writeByte(sequenceId + result);
+                out.writeBytes(payload, length);
+                result++;
+            } while (MAX_PACKET_LENGTH == length);
+            return result - 1;
         } finally {
-            out.writeMediumLE(payload.getByteBuf().readableBytes());
-            out.writeByte(message.getSequenceId());
-            out.writeBytes(payload.getByteBuf());
-            payload.close();
+            payload.release();
         }
     }
     
+    /**
+     * Get sequence ID offset of channel, which is shifted by split packets.
+     *
+     * @param channel channel
+     * @return sequence ID offset
+     */
+    public static int getSequenceIdOffset(final Channel channel) {
+        Integer result = channel.attr(SEQUENCE_ID_OFFSET_KEY).get();
+        return null == result ? 0 : result;
+    }
+    
     @Override
     public MySQLPacketPayload createPacketPayload(final ByteBuf message) {
         return new MySQLPacketPayload(message);
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.row.DatabaseRowEncoder;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Abstract row encoder for MySQL, which backfills packet header after row written.
+ * 
+ * <p>
+ * Sequence ID is shifted with sequence ID offset of channel.
+ * Once payload of row reaches {@code 0xFFFFFF} bytes, the row and all rows after it are returned as encoded row packets,
+ * so that codec splits payload and shifts sequence IDs of following packets in order.
+ * </p>
+ */
+public abstract class AbstractMySQLRowEncoder implements DatabaseRowEncoder {
+    
+    private static final int PAYLOAD_LENGTH = 3;
+    
+    private static final int SEQUENCE_LENGTH = 1;
+    
+    private static final int HEADER_LENGTH = PAYLOAD_LENGTH + SEQUENCE_LENGTH;
+    
+    private static final int MAX_PACKET_LENGTH = 0xFFFFFF;
+    
+    private int sequenceId;
+    
+    private boolean encodedByCodec;
+    
+    protected AbstractMySQLRowEncoder(final int sequenceId) {
+        this.sequenceId = sequenceId;
+    }
+    
+    @Override
+    public final Optional<DatabasePacket<?>> encode(final ChannelHandlerContext context, final ByteBuf out) throws SQLException {
+        int headerIndex = out.writerIndex();
+        out.writeZero(HEADER_LENGTH);
+        writeRow(new MySQLPacketPayload(out));
+        int payloadLength = out.writerIndex() - headerIndex - HEADER_LENGTH;
+        sequenceId++;
+        if (encodedByCodec || payloadLength >= MAX_PACKET_LENGTH) {
+            encodedByCodec = true;
+            DatabasePacket<?> result = new MySQLEncodedRowPacket(sequenceId, ByteBufUtil.getBytes(out, headerIndex + HEADER_LENGTH, payloadLength));
+            out.writerIndex(headerIndex);
+            return Optional.of(result);
+        }
+        out.setMediumLE(headerIndex, payloadLength);
+        out.setByte(headerIndex + PAYLOAD_LENGTH, sequenceId + MySQLPacketCodecEngine.getSequenceIdOffset(context.channel()));
+        return Optional.empty();
+    }
+    
+    protected abstract void writeRow(MySQLPacketPayload payload) throws SQLException;
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.AbstractMySQLRowEncoder;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.row.RowValueReader;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Binary result set row encoder for MySQL.
+ * 
+ * <p>
+ * Null bitmap is backfilled while values written.
+ * </p>
+ *
+ * @see <a href="https://dev.mysql.com/doc/internals/en/binary-protocol-resultset-row.html">Binary Protocol Resultset Row</a>
+ */
+public final class MySQLBinaryResultSetRowEncoder extends AbstractMySQLRowEncoder {
+    
+    private static final int PACKET_HEADER = 0x00;
+    
+    private static final int NULL_BITMAP_OFFSET = 2;
+    
+    private final MySQLBinaryProtocolValue[] binaryProtocolValues;
+    
+    private final RowValueReader rowValueReader;
+    
+    public MySQLBinaryResultSetRowEncoder(final int sequenceId, final List<MySQLBinaryColumnType> columnTypes, final RowValueReader rowValueReader) {
+        super(sequenceId);
+        binaryProtocolValues = new MySQLBinaryProtocolValue[columnTypes.size()];
+        for (int i = 0; i < binaryProtocolValues.length; i++) {
+            binaryProtocolValues[i] = MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(columnTypes.get(i));
+        }
+        this.rowValueReader = rowValueReader;
+    }
+    
+    @Override
+    protected void writeRow(final MySQLPacketPayload payload) throws SQLException {
+        ByteBuf byteBuf = payload.getByteBuf();
+        payload.writeInt1(PACKET_HEADER);
+        int nullBitmapIndex = byteBuf.writerIndex();
+        byteBuf.writeZero((binaryProtocolValues.length + NULL_BITMAP_OFFSET + 7) / 8);
+        for (int i = 0; i < binaryProtocolValues.length; i++) {
+            Object value = rowValueReader.getValue(i + 1);
+            if (null == value) {
+                int index = nullBitmapIndex + (i + NULL_BITMAP_OFFSET) / 8;
+                byteBuf.setByte(index, byteBuf.getByte(index) | 1 << (i + NULL_BITMAP_OFFSET) % 8);
+            } else {
+                binaryProtocolValues[i].write(payload, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
+
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.AbstractMySQLRowEncoder;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.row.RowValueReader;
+
+import java.sql.SQLException;
+
+/**
+ * Text result set row encoder for MySQL.
+ *
+ * @see <a href="https://dev.mysql.com/doc/internals/en/com-query-response.html#packet-ProtocolText::ResultsetRow">ResultsetRow</a>
+ */
+public final class MySQLTextResultSetRowEncoder extends AbstractMySQLRowEncoder {
+    
+    private final RowValueReader rowValueReader;
+    
+    public MySQLTextResultSetRowEncoder(final int sequenceId, final RowValueReader rowValueReader) {
+        super(sequenceId);
+        this.rowValueReader = rowValueReader;
+    }
+    
+    @Override
+    protected void writeRow(final MySQLPacketPayload payload) throws SQLException {
+        int columnCount = rowValueReader.getColumnCount();
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            MySQLTextResultSetRowPacket.writeValue(payload, rowValueReader.getValue(columnIndex));
+        }
+    }
+}
@@ -21,8 +21,11 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.text.TextValueEncoder;
 
 import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -53,21 +56,32 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
     @Override
     public void write(final MySQLPacketPayload payload) {
         for (Object each : data) {
-            if (null == each) {
-                payload.writeInt1(NULL);
-            } else {
-                if (each instanceof byte[]) {
-                    payload.writeBytesLenenc((byte[]) each);
-                } else if ((each instanceof Timestamp) && (0 == ((Timestamp) each).getNanos())) {
-                    payload.writeStringLenenc(each.toString().split("\\.")[0]);
-                } else if (each instanceof BigDecimal) {
-                    payload.writeStringLenenc(((BigDecimal) each).toPlainString());
-                } else if (each instanceof Boolean) {
-                    payload.writeBytesLenenc((Boolean) each ? new byte[]{1} : new byte[]{0});
-                } else {
-                    payload.writeStringLenenc(each.toString());
-                }
-            }
+            writeValue(payload, each);
+        }
+    }
+    
+    static void writeValue(final MySQLPacketPayload payload, final Object value) {
+        if (null == value) {
+            payload.writeInt1(NULL);
+        } else if (value instanceof byte[]) {
+            payload.writeBytesLenenc((byte[]) value);
+        } else if (value instanceof Timestamp) {
+            payload.writeTimestampStringLenenc((Timestamp) value);
+        } else if (TextValueEncoder.isIntegral(value)) {
+            payload.writeLongStringLenenc(((Number) value).longValue());
+        } else if (TextValueEncoder.isCompactDecimal(value)) {
+            payload.writeDecimalStringLenenc((BigDecimal) value);
+        } else if (value instanceof BigDecimal) {
+            payload.writeStringLenenc(((BigDecimal) value).toPlainString());
+        } else if (value instanceof Date) {
+            payload.writeDateStringLenenc((Date) value);
+        } else if (value instanceof Time) {
+            payload.writeTimeStringLenenc((Time) value);
+        } else if (value instanceof Boolean) {
+            payload.writeInt1(1);
+            payload.writeInt1((Boolean) value ? 1 : 0);
+        } else {
+            payload.writeStringLenenc(value.toString());
         }
     }
 }
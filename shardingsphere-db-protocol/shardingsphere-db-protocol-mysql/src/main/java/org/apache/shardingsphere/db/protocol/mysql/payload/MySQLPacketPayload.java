@@ -22,6 +22,12 @@ import io.netty.buffer.ByteBuf;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.db.protocol.text.TextValueEncoder;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
 
 /**
  * MySQL payload operation for MySQL packet data types.
@@ -208,12 +214,12 @@ public final class MySQLPacketPayload implements PacketPayload {
             byteBuf.writeByte((int) value);
             return;
         }
-        if (value < Math.pow(2, 16)) {
+        if (value < 1 << 16) {
             byteBuf.writeByte(0xfc);
             byteBuf.writeShortLE((int) value);
             return;
         }
-        if (value < Math.pow(2, 24)) {
+        if (value < 1 << 24) {
             byteBuf.writeByte(0xfd);
             byteBuf.writeMediumLE((int) value);
             return;
@@ -277,8 +283,69 @@ public final class MySQLPacketPayload implements PacketPayload {
             byteBuf.writeByte(0);
             return;
         }
-        writeIntLenenc(value.getBytes().length);
-        byteBuf.writeBytes(value.getBytes());
+        byte[] bytes = value.getBytes();
+        writeIntLenenc(bytes.length);
+        byteBuf.writeBytes(bytes);
+    }
+    
+    /**
+     * Write lenenc string of long value to byte buffers.
+     *
+     * @see <a href="https://dev.mysql.com/doc/internals/en/string.html#packet-Protocol::FixedLengthString">FixedLengthString</a>
+     *
+     * @param value long value
+     */
+    public void writeLongStringLenenc(final long value) {
+        writeIntLenenc(TextValueEncoder.getLength(value));
+        TextValueEncoder.write(byteBuf, value);
+    }
+    
+    /**
+     * Write lenenc string of timestamp to byte buffers, fractional seconds are omitted if nanos is zero.
+     *
+     * @see <a href="https://dev.mysql.com/doc/internals/en/string.html#packet-Protocol::FixedLengthString">FixedLengthString</a>
+     *
+     * @param value timestamp
+     */
+    public void writeTimestampStringLenenc(final Timestamp value) {
+        writeIntLenenc(TextValueEncoder.getLength(value, true));
+        TextValueEncoder.write(byteBuf, value, true);
+    }
+    
+    /**
+     * Write lenenc string of date to byte buffers.
+     *
+     * @see <a href="https://dev.mysql.com/doc/internals/en/string.html#packet-Protocol::FixedLengthString">FixedLengthString</a>
+     *
+     * @param value date
+     */
+    public void writeDateStringLenenc(final Date value) {
+        writeIntLenenc(TextValueEncoder.getLength(value));
+        TextValueEncoder.write(byteBuf, value);
+    }
+    
+    /**
+     * Write lenenc string of time to byte buffers.
+     *
+     * @see <a href="https://dev.mysql.com/doc/internals/en/string.html#packet-Protocol::FixedLengthString">FixedLengthString</a>
+     *
+     * @param value time
+     */
+    public void writeTimeStringLenenc(final Time value) {
+        writeIntLenenc(TextValueEncoder.getLength(value));
+        TextValueEncoder.write(byteBuf, value);
+    }
+    
+    /**
+     * Write lenenc string of compact decimal in plain format to byte buffers.
+     *
+     * @see <a href="https://dev.mysql.com/doc/internals/en/string.html#packet-Protocol::FixedLengthString">FixedLengthString</a>
+     *
+     * @param value compact decimal
+     */
+    public void writeDecimalStringLenenc(final BigDecimal value) {
+        writeIntLenenc(TextValueEncoder.getLength(value));
+        TextValueEncoder.write(byteBuf, value);
     }
     
     /**
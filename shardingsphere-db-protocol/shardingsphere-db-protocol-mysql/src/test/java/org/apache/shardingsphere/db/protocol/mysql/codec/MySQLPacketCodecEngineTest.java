@@ -19,8 +19,12 @@ package org.apache.shardingsphere.db.protocol.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentMatchers;
@@ -34,13 +38,15 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class MySQLPacketCodecEngineTest {
     
+    private static final int MAX_PACKET_LENGTH = 0xFFFFFF;
+    
     @Mock
     private ChannelHandlerContext context;
     
@@ -59,50 +65,145 @@ public final class MySQLPacketCodecEngineTest {
     
     @Test
     public void assertDecode() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
         when(byteBuf.markReaderIndex()).thenReturn(byteBuf);
-        when(byteBuf.readMediumLE()).thenReturn(50);
+        when(byteBuf.readUnsignedMediumLE()).thenReturn(50);
         when(byteBuf.readRetainedSlice(51)).thenReturn(byteBuf);
         List<Object> out = new LinkedList<>();
         new MySQLPacketCodecEngine().decode(context, byteBuf, out, 54);
         assertThat(out.size(), is(1));
     }
-
+    
     @Test
     public void assertDecodeWithEmptyPacket() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
         when(byteBuf.markReaderIndex()).thenReturn(byteBuf);
-        when(byteBuf.readMediumLE()).thenReturn(0);
+        when(byteBuf.readUnsignedMediumLE()).thenReturn(0);
         List<Object> out = new LinkedList<>();
         new MySQLPacketCodecEngine().decode(context, byteBuf, out, 4);
         assertThat(out.size(), is(1));
     }
-
+    
     @Test
     public void assertDecodeWithStickyPacket() {
         when(byteBuf.markReaderIndex()).thenReturn(byteBuf);
-        when(byteBuf.readMediumLE()).thenReturn(50);
+        when(byteBuf.readUnsignedMediumLE()).thenReturn(50);
         List<Object> out = new LinkedList<>();
         new MySQLPacketCodecEngine().decode(context, byteBuf, out, 40);
         assertTrue(out.isEmpty());
     }
     
+    @Test
+    public void assertDecodeWithIncompleteMultiPackets() {
+        ByteBuf in = Unpooled.buffer();
+        in.writeMediumLE(MAX_PACKET_LENGTH);
+        in.writeByte(0);
+        in.writeZero(MAX_PACKET_LENGTH);
+        in.writeMediumLE(10);
+        in.writeByte(1);
+        in.writeZero(5);
+        List<Object> out = new LinkedList<>();
+        new MySQLPacketCodecEngine().decode(context, in, out, in.readableBytes());
+        assertTrue(out.isEmpty());
+        assertThat(in.readerIndex(), is(0));
+    }
+    
     @Test
     public void assertEncode() {
-        ByteBufAllocator byteBufAllocator = mock(ByteBufAllocator.class);
-        when(context.alloc()).thenReturn(byteBufAllocator);
-        ByteBuf payloadByteBuf = mock(ByteBuf.class);
-        when(byteBufAllocator.buffer()).thenReturn(payloadByteBuf);
-        when(payloadByteBuf.readableBytes()).thenReturn(50);
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        ByteBuf out = Unpooled.buffer();
+        MySQLPacket actualMessage = mock(MySQLPacket.class);
+        when(actualMessage.getSequenceId()).thenReturn(1);
+        doAnswer(invocation -> ((MySQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeZero(50)).when(actualMessage).write(ArgumentMatchers.any());
+        new MySQLPacketCodecEngine().encode(context, actualMessage, out);
+        assertThat(out.readMediumLE(), is(50));
+        assertThat(out.readUnsignedByte(), is((short) 1));
+        assertThat(out.readableBytes(), is(50));
+    }
+    
+    @Test
+    public void assertEncodeWithException() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        ByteBuf out = Unpooled.buffer();
         MySQLPacket actualMessage = mock(MySQLPacket.class);
         when(actualMessage.getSequenceId()).thenReturn(1);
-        new MySQLPacketCodecEngine().encode(context, actualMessage, byteBuf);
-        verify(actualMessage).write(ArgumentMatchers.any());
-        verify(byteBuf).writeMediumLE(50);
-        verify(byteBuf).writeByte(1);
-        verify(byteBuf).writeBytes(payloadByteBuf);
+        doAnswer(invocation -> {
+            ((MySQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeZero(50);
+            throw new RuntimeException("mock");
+        }).when(actualMessage).write(ArgumentMatchers.any());
+        new MySQLPacketCodecEngine().encode(context, actualMessage, out);
+        int payloadLength = out.readMediumLE();
+        assertThat(out.readUnsignedByte(), is((short) 1));
+        assertThat(out.readableBytes(), is(payloadLength));
+        assertThat(out.readUnsignedByte(), is((short) MySQLErrPacket.HEADER));
+    }
+    
+    @Test
+    public void assertEncodeAndDecodeSmallPackets() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        MySQLPacketCodecEngine codecEngine = new MySQLPacketCodecEngine();
+        ByteBuf buffer = Unpooled.buffer();
+        for (int i = 1; i <= 1000; i++) {
+            codecEngine.encode(context, createPacket(i, createPayload(i)), buffer);
+        }
+        List<Object> out = new LinkedList<>();
+        while (buffer.isReadable()) {
+            codecEngine.decode(context, buffer, out, buffer.readableBytes());
+        }
+        assertThat(out.size(), is(1000));
+        int sequenceId = 1;
+        for (Object each : out) {
+            assertPacket((ByteBuf) each, sequenceId, createPayload(sequenceId));
+            sequenceId++;
+        }
+    }
+    
+    @Test
+    public void assertEncodeAndDecodeLargePacket() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        when(context.channel()).thenReturn(channel);
+        when(context.alloc()).thenReturn(ByteBufAllocator.DEFAULT);
+        MySQLPacketCodecEngine codecEngine = new MySQLPacketCodecEngine();
+        byte[] payload = createPayload(64 * 1024 * 1024);
+        ByteBuf buffer = Unpooled.buffer();
+        codecEngine.encode(context, createPacket(1, payload), buffer);
+        codecEngine.encode(context, createPacket(2, createPayload(10)), buffer);
+        assertThat(buffer.readableBytes(), is(payload.length + 5 * 4 + 10 + 4));
+        assertThat(buffer.getUnsignedByte(buffer.readableBytes() - 10 - 1), is((short) 6));
+        List<Object> out = new LinkedList<>();
+        while (buffer.isReadable()) {
+            codecEngine.decode(context, buffer, out, buffer.readableBytes());
+        }
+        assertThat(out.size(), is(2));
+        assertPacket((ByteBuf) out.get(0), 1, payload);
+        assertPacket((ByteBuf) out.get(1), 6, createPayload(10));
     }
     
     @Test
     public void assertCreatePacketPayload() {
         assertThat(new MySQLPacketCodecEngine().createPacketPayload(byteBuf).getByteBuf(), is(byteBuf));
     }
+    
+    private MySQLPacket createPacket(final int sequenceId, final byte[] payload) {
+        MySQLPacket result = mock(MySQLPacket.class);
+        when(result.getSequenceId()).thenReturn(sequenceId);
+        doAnswer(invocation -> ((MySQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeBytes(payload)).when(result).write(ArgumentMatchers.any());
+        return result;
+    }
+    
+    private byte[] createPayload(final int length) {
+        byte[] result = new byte[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = (byte) i;
+        }
+        return result;
+    }
+    
+    private void assertPacket(final ByteBuf actual, final int expectedSequenceId, final byte[] expectedPayload) {
+        assertThat(actual.readUnsignedByte(), is((short) (expectedSequenceId & 0xFF)));
+        byte[] actualPayload = new byte[actual.readableBytes()];
+        actual.readBytes(actualPayload);
+        assertThat(actualPayload, is(expectedPayload));
+        actual.release();
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary;
+
+import org.junit.Test;
+
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class ConnectionScopeBinaryStatementRegistryTest {
+    
+    private final String sql = "SELECT * FROM tbl WHERE id=?";
+    
+    @Test
+    public void assertRegister() throws SQLException {
+        ConnectionScopeBinaryStatementRegistry statementRegistry = new ConnectionScopeBinaryStatementRegistry(10);
+        assertThat(statementRegistry.register(sql, 1), is(1));
+        assertThat(statementRegistry.register("SELECT * FROM tbl", 0), is(2));
+        MySQLBinaryStatement actual = statementRegistry.getBinaryStatement(1);
+        assertThat(actual.getSql(), is(sql));
+        assertThat(actual.getParameterCount(), is(1));
+    }
+    
+    @Test
+    public void assertRegisterSameSQL() throws SQLException {
+        ConnectionScopeBinaryStatementRegistry statementRegistry = new ConnectionScopeBinaryStatementRegistry(10);
+        assertThat(statementRegistry.register(sql, 1), is(1));
+        assertThat(statementRegistry.register(sql, 1), is(2));
+        assertThat(statementRegistry.closeStatement(1).getSql(), is(sql));
+        assertThat(statementRegistry.getBinaryStatement(2).getSql(), is(sql));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertRegisterWhenMaxStatementCountReached() throws SQLException {
+        ConnectionScopeBinaryStatementRegistry statementRegistry = new ConnectionScopeBinaryStatementRegistry(1);
+        statementRegistry.register(sql, 1);
+        statementRegistry.register("SELECT * FROM tbl", 0);
+    }
+    
+    @Test
+    public void assertRegisterAfterCloseStatementWhenMaxStatementCountReached() throws SQLException {
+        ConnectionScopeBinaryStatementRegistry statementRegistry = new ConnectionScopeBinaryStatementRegistry(1);
+        statementRegistry.register(sql, 1);
+        statementRegistry.closeStatement(1);
+        assertThat(statementRegistry.register(sql, 1), is(2));
+    }
+    
+    @Test
+    public void assertCloseStatement() throws SQLException {
+        ConnectionScopeBinaryStatementRegistry statementRegistry = new ConnectionScopeBinaryStatementRegistry(10);
+        statementRegistry.register(sql, 1);
+        MySQLBinaryStatement actual = statementRegistry.getBinaryStatement(1);
+        assertThat(statementRegistry.closeStatement(1), is(actual));
+        assertNull(statementRegistry.getBinaryStatement(1));
+        assertNull(statementRegistry.closeStatement(1));
+        assertThat(statementRegistry.register(sql, 1), is(2));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.db.protocol.binary.BinaryRow;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.row.RowValueReader;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MySQLBinaryResultSetRowEncoderTest {
+    
+    @Mock
+    private RowValueReader rowValueReader;
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Test
+    public void assertEncode() throws SQLException {
+        List<MySQLBinaryColumnType> columnTypes = Arrays.asList(MySQLBinaryColumnType.MYSQL_TYPE_LONG, MySQLBinaryColumnType.MYSQL_TYPE_VAR_STRING,
+                MySQLBinaryColumnType.MYSQL_TYPE_LONGLONG, MySQLBinaryColumnType.MYSQL_TYPE_VAR_STRING, MySQLBinaryColumnType.MYSQL_TYPE_LONG,
+                MySQLBinaryColumnType.MYSQL_TYPE_LONG, MySQLBinaryColumnType.MYSQL_TYPE_LONG);
+        List<Object> values = Arrays.asList(1, null, 10L, "value", null, null, 2);
+        for (int i = 0; i < values.size(); i++) {
+            when(rowValueReader.getValue(i + 1)).thenReturn(values.get(i));
+        }
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        ByteBuf actual = Unpooled.buffer();
+        assertFalse(new MySQLBinaryResultSetRowEncoder(1, columnTypes, rowValueReader).encode(context, actual).isPresent());
+        Collection<BinaryCell> cells = new LinkedList<>();
+        for (int i = 0; i < values.size(); i++) {
+            cells.add(new BinaryCell(columnTypes.get(i), values.get(i)));
+        }
+        ByteBuf body = Unpooled.buffer();
+        new MySQLBinaryResultSetRowPacket(2, new BinaryRow(cells)).write(new MySQLPacketPayload(body));
+        ByteBuf expected = Unpooled.buffer();
+        expected.writeMediumLE(body.readableBytes());
+        expected.writeByte(2);
+        expected.writeBytes(body);
+        assertThat(ByteBufUtil.getBytes(actual), is(ByteBufUtil.getBytes(expected)));
+    }
+}
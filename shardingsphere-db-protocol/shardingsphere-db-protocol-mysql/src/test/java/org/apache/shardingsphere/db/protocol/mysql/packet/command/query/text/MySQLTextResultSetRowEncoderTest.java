@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLEncodedRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.row.RowValueReader;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MySQLTextResultSetRowEncoderTest {
+    
+    @Mock
+    private RowValueReader rowValueReader;
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Test
+    public void assertEncode() throws SQLException {
+        Object[] values = {"value", null, 1L, new BigDecimal("-10.50"), Date.valueOf("2021-08-01"), Timestamp.valueOf("2021-08-01 10:00:00.123"), true};
+        when(rowValueReader.getColumnCount()).thenReturn(values.length);
+        for (int i = 0; i < values.length; i++) {
+            when(rowValueReader.getValue(i + 1)).thenReturn(values[i]);
+        }
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        ByteBuf actual = Unpooled.buffer();
+        MySQLTextResultSetRowEncoder encoder = new MySQLTextResultSetRowEncoder(1, rowValueReader);
+        assertFalse(encoder.encode(context, actual).isPresent());
+        assertFalse(encoder.encode(context, actual).isPresent());
+        ByteBuf expected = Unpooled.buffer();
+        writePacket(expected, new MySQLTextResultSetRowPacket(2, Arrays.asList(values)));
+        writePacket(expected, new MySQLTextResultSetRowPacket(3, Arrays.asList(values)));
+        assertThat(ByteBufUtil.getBytes(actual), is(ByteBufUtil.getBytes(expected)));
+    }
+    
+    @Test
+    public void assertEncodeWithSequenceIdOffset() throws SQLException {
+        when(rowValueReader.getColumnCount()).thenReturn(1);
+        when(rowValueReader.getValue(1)).thenReturn("value");
+        EmbeddedChannel channel = new EmbeddedChannel();
+        when(context.channel()).thenReturn(channel);
+        MySQLPacketCodecEngine codecEngine = new MySQLPacketCodecEngine();
+        codecEngine.encode(context, new MySQLEncodedRowPacket(1, new byte[0xFFFFFF]), Unpooled.buffer());
+        assertThat(MySQLPacketCodecEngine.getSequenceIdOffset(channel), is(1));
+        ByteBuf actual = Unpooled.buffer();
+        assertFalse(new MySQLTextResultSetRowEncoder(1, rowValueReader).encode(context, actual).isPresent());
+        ByteBuf expected = Unpooled.buffer();
+        writePacket(expected, new MySQLTextResultSetRowPacket(3, Collections.singletonList("value")));
+        assertThat(ByteBufUtil.getBytes(actual), is(ByteBufUtil.getBytes(expected)));
+    }
+    
+    @Test
+    public void assertEncodeLargeRowThroughCodec() throws SQLException {
+        char[] largeValue = new char[0xFFFFFF];
+        Arrays.fill(largeValue, 'a');
+        when(rowValueReader.getColumnCount()).thenReturn(1);
+        when(rowValueReader.getValue(1)).thenReturn(new String(largeValue), "value");
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        ByteBuf rowBuffer = Unpooled.buffer();
+        MySQLTextResultSetRowEncoder encoder = new MySQLTextResultSetRowEncoder(1, rowValueReader);
+        Optional<DatabasePacket<?>> largeRowPacket = encoder.encode(context, rowBuffer);
+        Optional<DatabasePacket<?>> nextRowPacket = encoder.encode(context, rowBuffer);
+        assertTrue(largeRowPacket.isPresent());
+        assertThat(largeRowPacket.get(), instanceOf(MySQLEncodedRowPacket.class));
+        assertTrue(nextRowPacket.isPresent());
+        assertFalse(rowBuffer.isReadable());
+        MySQLPacketCodecEngine codecEngine = new MySQLPacketCodecEngine();
+        ByteBuf actual = Unpooled.buffer();
+        codecEngine.encode(context, (MySQLPacket) largeRowPacket.get(), actual);
+        codecEngine.encode(context, (MySQLPacket) nextRowPacket.get(), actual);
+        assertThat(actual.getUnsignedMediumLE(0), is(0xFFFFFF));
+        assertThat(actual.getUnsignedByte(3), is((short) 2));
+        int secondHeaderIndex = 4 + 0xFFFFFF;
+        assertThat(actual.getUnsignedMediumLE(secondHeaderIndex), is(4));
+        assertThat(actual.getUnsignedByte(secondHeaderIndex + 3), is((short) 3));
+        int nextRowHeaderIndex = secondHeaderIndex + 4 + 4;
+        assertThat(actual.getUnsignedMediumLE(nextRowHeaderIndex), is(6));
+        assertThat(actual.getUnsignedByte(nextRowHeaderIndex + 3), is((short) 4));
+        assertThat(actual.writerIndex(), is(nextRowHeaderIndex + 4 + 6));
+    }
+    
+    private void writePacket(final ByteBuf out, final MySQLTextResultSetRowPacket packet) {
+        ByteBuf body = Unpooled.buffer();
+        packet.write(new MySQLPacketPayload(body));
+        out.writeMediumLE(body.readableBytes());
+        out.writeByte(packet.getSequenceId());
+        out.writeBytes(body);
+    }
+}
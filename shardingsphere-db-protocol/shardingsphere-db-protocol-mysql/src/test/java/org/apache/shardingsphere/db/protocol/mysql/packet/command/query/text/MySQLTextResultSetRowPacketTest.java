@@ -56,12 +56,18 @@ public final class MySQLTextResultSetRowPacketTest {
         actual.write(payload);
         verify(payload).writeInt1(0xfb);
         verify(payload).writeStringLenenc("value");
-        verify(payload).writeStringLenenc("1");
-        if (0 == timestamp.getNanos()) {
-            verify(payload).writeStringLenenc(timestamp.toString().split("\\.")[0]);
-        } else {
-            verify(payload).writeStringLenenc(timestamp.toString());
-        }
+        verify(payload).writeDecimalStringLenenc(BigDecimal.ONE);
+        verify(payload).writeTimestampStringLenenc(timestamp);
+    }
+    
+    @Test
+    public void assertWriteIntegral() {
+        MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(1, Arrays.asList(1, 2L, (short) 3, (byte) 4));
+        actual.write(payload);
+        verify(payload).writeLongStringLenenc(1L);
+        verify(payload).writeLongStringLenenc(2L);
+        verify(payload).writeLongStringLenenc(3L);
+        verify(payload).writeLongStringLenenc(4L);
     }
     
     @Test
@@ -72,7 +78,7 @@ public final class MySQLTextResultSetRowPacketTest {
         actual.write(payload);
         verify(payload).writeInt1(0xfb);
         verify(payload).writeStringLenenc("value");
-        verify(payload).writeStringLenenc("1");
-        verify(payload).writeStringLenenc(timestamp.toString().split("\\.")[0]);
+        verify(payload).writeDecimalStringLenenc(BigDecimal.ONE);
+        verify(payload).writeTimestampStringLenenc(timestamp);
     }
 }
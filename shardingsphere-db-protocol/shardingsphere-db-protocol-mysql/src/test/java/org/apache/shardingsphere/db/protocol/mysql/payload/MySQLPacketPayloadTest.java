@@ -18,11 +18,15 @@
 package org.apache.shardingsphere.db.protocol.mysql.payload;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.times;
@@ -206,6 +210,31 @@ public final class MySQLPacketPayloadTest {
         verify(byteBuf).writeBytes("value".getBytes());
     }
     
+    @Test
+    public void assertWriteLongStringLenenc() {
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLPacketPayload(actual).writeLongStringLenenc(-1234567890123L);
+        assertThat(actual.readUnsignedByte(), is((short) 14));
+        assertThat(actual.toString(StandardCharsets.US_ASCII), is("-1234567890123"));
+    }
+    
+    @Test
+    public void assertWriteTimestampStringLenenc() {
+        Timestamp timestamp = Timestamp.valueOf("2021-06-01 08:09:10.0105");
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLPacketPayload(actual).writeTimestampStringLenenc(timestamp);
+        assertThat(actual.readUnsignedByte(), is((short) timestamp.toString().length()));
+        assertThat(actual.toString(StandardCharsets.US_ASCII), is(timestamp.toString()));
+    }
+    
+    @Test
+    public void assertWriteTimestampStringLenencWithoutNanos() {
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLPacketPayload(actual).writeTimestampStringLenenc(Timestamp.valueOf("2021-06-01 08:09:10"));
+        assertThat(actual.readUnsignedByte(), is((short) 19));
+        assertThat(actual.toString(StandardCharsets.US_ASCII), is("2021-06-01 08:09:10"));
+    }
+    
     @Test
     public void assertReadStringFix() {
         assertThat(new MySQLPacketPayload(byteBuf).readStringFix(0), is(""));
@@ -63,24 +63,30 @@ public final class PostgreSQLPacketCodecEngine implements DatabasePacketCodecEng
     
     @Override
     public void encode(final ChannelHandlerContext context, final PostgreSQLPacket message, final ByteBuf out) {
-        PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(context.alloc().buffer());
+        boolean isIdentifierPacket = message instanceof PostgreSQLIdentifierPacket;
+        if (isIdentifierPacket) {
+            out.writeByte(((PostgreSQLIdentifierPacket) message).getIdentifier().getValue());
+        }
+        int lengthIndex = out.writerIndex();
+        if (isIdentifierPacket) {
+            out.writeZero(PAYLOAD_LENGTH);
+        }
+        int payloadIndex = out.writerIndex();
+        PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(out);
         try {
             message.write(payload);
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
-            payload.getByteBuf().resetWriterIndex();
+            out.writerIndex(payloadIndex);
             // TODO consider what severity to use
             PostgreSQLErrorResponsePacket errorResponsePacket = PostgreSQLErrorResponsePacket.newBuilder(PostgreSQLMessageSeverityLevel.ERROR, PostgreSQLErrorCode.SYSTEM_ERROR, ex.getMessage())
                     .build();
             errorResponsePacket.write(payload);
         } finally {
-            if (message instanceof PostgreSQLIdentifierPacket) {
-                out.writeByte(((PostgreSQLIdentifierPacket) message).getIdentifier().getValue());
-                out.writeInt(payload.getByteBuf().readableBytes() + PAYLOAD_LENGTH);
+            if (isIdentifierPacket) {
+                out.setInt(lengthIndex, out.writerIndex() - lengthIndex);
             }
-            out.writeBytes(payload.getByteBuf());
-            payload.close();
         }
     }
     
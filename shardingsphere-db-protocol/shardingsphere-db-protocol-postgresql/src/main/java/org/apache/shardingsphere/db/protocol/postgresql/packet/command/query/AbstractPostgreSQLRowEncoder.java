@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.row.DatabaseRowEncoder;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Abstract data row encoder for PostgreSQL, which backfills message length after row written.
+ *
+ * @see <a href="https://www.postgresql.org/docs/current/protocol-message-formats.html">DataRow (B)</a>
+ */
+public abstract class AbstractPostgreSQLRowEncoder implements DatabaseRowEncoder {
+    
+    private static final int PAYLOAD_LENGTH = 4;
+    
+    @Override
+    public final Optional<DatabasePacket<?>> encode(final ChannelHandlerContext context, final ByteBuf out) throws SQLException {
+        out.writeByte(PostgreSQLMessagePacketType.DATA_ROW.getValue());
+        int lengthIndex = out.writerIndex();
+        out.writeZero(PAYLOAD_LENGTH);
+        writeRow(new PostgreSQLPacketPayload(out));
+        out.setInt(lengthIndex, out.writerIndex() - lengthIndex);
+        return Optional.empty();
+    }
+    
+    protected abstract void writeRow(PostgreSQLPacketPayload payload) throws SQLException;
+}
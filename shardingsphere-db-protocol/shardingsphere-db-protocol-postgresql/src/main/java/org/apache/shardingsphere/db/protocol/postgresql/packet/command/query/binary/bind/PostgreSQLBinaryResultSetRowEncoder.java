@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind;
+
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.AbstractPostgreSQLRowEncoder;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.protocol.PostgreSQLBinaryProtocolValue;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.protocol.PostgreSQLBinaryProtocolValueFactory;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.row.RowValueReader;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Binary result set row encoder for PostgreSQL.
+ */
+public final class PostgreSQLBinaryResultSetRowEncoder extends AbstractPostgreSQLRowEncoder {
+    
+    private final PostgreSQLBinaryProtocolValue[] binaryProtocolValues;
+    
+    private final RowValueReader rowValueReader;
+    
+    public PostgreSQLBinaryResultSetRowEncoder(final List<PostgreSQLBinaryColumnType> columnTypes, final RowValueReader rowValueReader) {
+        binaryProtocolValues = new PostgreSQLBinaryProtocolValue[columnTypes.size()];
+        for (int i = 0; i < binaryProtocolValues.length; i++) {
+            binaryProtocolValues[i] = PostgreSQLBinaryProtocolValueFactory.getBinaryProtocolValue(columnTypes.get(i));
+        }
+        this.rowValueReader = rowValueReader;
+    }
+    
+    @Override
+    protected void writeRow(final PostgreSQLPacketPayload payload) throws SQLException {
+        payload.writeInt2(binaryProtocolValues.length);
+        for (int i = 0; i < binaryProtocolValues.length; i++) {
+            Object value = rowValueReader.getValue(i + 1);
+            payload.writeInt4(binaryProtocolValues[i].getColumnLength(value));
+            binaryProtocolValues[i].write(payload, value);
+        }
+    }
+}
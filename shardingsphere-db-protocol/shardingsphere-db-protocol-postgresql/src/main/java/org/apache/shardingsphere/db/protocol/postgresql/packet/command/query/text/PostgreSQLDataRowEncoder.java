@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.AbstractPostgreSQLRowEncoder;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.row.RowValueReader;
+
+import java.sql.SQLException;
+
+/**
+ * Data row encoder for PostgreSQL.
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLDataRowEncoder extends AbstractPostgreSQLRowEncoder {
+    
+    private final RowValueReader rowValueReader;
+    
+    @Override
+    protected void writeRow(final PostgreSQLPacketPayload payload) throws SQLException {
+        int columnCount = rowValueReader.getColumnCount();
+        payload.writeInt2(columnCount);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            PostgreSQLDataRowPacket.writeValue(payload, rowValueReader.getValue(columnIndex));
+        }
+    }
+}
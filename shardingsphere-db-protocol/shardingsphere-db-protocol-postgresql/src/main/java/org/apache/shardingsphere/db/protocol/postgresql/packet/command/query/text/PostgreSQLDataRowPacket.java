@@ -23,9 +23,14 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.Postgr
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierTag;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.text.TextValueEncoder;
 
+import java.math.BigDecimal;
+import java.sql.Date;
 import java.sql.SQLException;
 import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
 import java.util.Collection;
 
 /**
@@ -41,24 +46,36 @@ public final class PostgreSQLDataRowPacket implements PostgreSQLIdentifierPacket
     public void write(final PostgreSQLPacketPayload payload) {
         payload.writeInt2(data.size());
         for (Object each : data) {
-            if (null == each) {
-                payload.writeInt4(0xFFFFFFFF);
-            } else {
-                if (each instanceof byte[]) {
-                    payload.writeInt4(((byte[]) each).length);
-                    payload.writeBytes((byte[]) each);
-                } else if (each instanceof SQLXML) {
-                    writeSQLXMLData(payload, each);
-                } else {
-                    String columnData = each.toString();
-                    payload.writeInt4(columnData.getBytes().length);
-                    payload.writeStringEOF(columnData);
-                }
-            }
+            writeValue(payload, each);
         }
     }
     
-    private void writeSQLXMLData(final PostgreSQLPacketPayload payload, final Object data) {
+    static void writeValue(final PostgreSQLPacketPayload payload, final Object value) {
+        if (null == value) {
+            payload.writeInt4(0xFFFFFFFF);
+        } else if (value instanceof byte[]) {
+            payload.writeInt4(((byte[]) value).length);
+            payload.writeBytes((byte[]) value);
+        } else if (value instanceof SQLXML) {
+            writeSQLXMLData(payload, value);
+        } else if (TextValueEncoder.isIntegral(value)) {
+            payload.writeInt4LengthLongText(((Number) value).longValue());
+        } else if (TextValueEncoder.isCompactPlainDecimal(value)) {
+            payload.writeInt4LengthDecimalText((BigDecimal) value);
+        } else if (value instanceof Timestamp) {
+            payload.writeInt4LengthTimestampText((Timestamp) value);
+        } else if (value instanceof Date) {
+            payload.writeInt4LengthDateText((Date) value);
+        } else if (value instanceof Time) {
+            payload.writeInt4LengthTimeText((Time) value);
+        } else {
+            byte[] columnData = value.toString().getBytes();
+            payload.writeInt4(columnData.length);
+            payload.writeBytes(columnData);
+        }
+    }
+    
+    private static void writeSQLXMLData(final PostgreSQLPacketPayload payload, final Object data) {
         try {
             payload.writeInt4(((SQLXML) data).getString().getBytes().length);
             payload.writeStringEOF(((SQLXML) data).getString());
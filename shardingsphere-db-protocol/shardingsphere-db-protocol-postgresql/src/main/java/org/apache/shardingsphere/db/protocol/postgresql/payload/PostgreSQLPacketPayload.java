@@ -21,6 +21,12 @@ import io.netty.buffer.ByteBuf;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.db.protocol.text.TextValueEncoder;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
 
 /**
  * Payload operation for PostgreSQL packet data types.
@@ -114,6 +120,56 @@ public final class PostgreSQLPacketPayload implements PacketPayload {
         byteBuf.writeBytes(value);
     }
     
+    /**
+     * Write text format of long value with 4 byte length prefix to byte buffers.
+     *
+     * @param value long value
+     */
+    public void writeInt4LengthLongText(final long value) {
+        byteBuf.writeInt(TextValueEncoder.getLength(value));
+        TextValueEncoder.write(byteBuf, value);
+    }
+    
+    /**
+     * Write text format of timestamp with 4 byte length prefix to byte buffers.
+     *
+     * @param value timestamp
+     */
+    public void writeInt4LengthTimestampText(final Timestamp value) {
+        byteBuf.writeInt(TextValueEncoder.getLength(value, false));
+        TextValueEncoder.write(byteBuf, value, false);
+    }
+    
+    /**
+     * Write text format of date with 4 byte length prefix to byte buffers.
+     *
+     * @param value date
+     */
+    public void writeInt4LengthDateText(final Date value) {
+        byteBuf.writeInt(TextValueEncoder.getLength(value));
+        TextValueEncoder.write(byteBuf, value);
+    }
+    
+    /**
+     * Write text format of time with 4 byte length prefix to byte buffers.
+     *
+     * @param value time
+     */
+    public void writeInt4LengthTimeText(final Time value) {
+        byteBuf.writeInt(TextValueEncoder.getLength(value));
+        TextValueEncoder.write(byteBuf, value);
+    }
+    
+    /**
+     * Write plain text format of compact decimal with 4 byte length prefix to byte buffers.
+     *
+     * @param value compact decimal
+     */
+    public void writeInt4LengthDecimalText(final BigDecimal value) {
+        byteBuf.writeInt(TextValueEncoder.getLength(value));
+        TextValueEncoder.write(byteBuf, value);
+    }
+    
     /**
      * Bytes before zero.
      *
@@ -18,10 +18,12 @@
 package org.apache.shardingsphere.db.protocol.postgresql.codec;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentMatchers;
@@ -35,8 +37,8 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -78,18 +80,24 @@ public final class PostgreSQLPacketCodecEngineTest {
     
     @Test
     public void assertEncode() {
-        ByteBufAllocator byteBufAllocator = mock(ByteBufAllocator.class);
-        when(context.alloc()).thenReturn(byteBufAllocator);
-        ByteBuf payloadByteBuf = mock(ByteBuf.class);
-        when(byteBufAllocator.buffer()).thenReturn(payloadByteBuf);
-        when(payloadByteBuf.readableBytes()).thenReturn(50);
+        ByteBuf out = Unpooled.buffer();
         PostgreSQLIdentifierPacket actualMessage = mock(PostgreSQLIdentifierPacket.class);
         when(actualMessage.getIdentifier()).thenReturn(PostgreSQLMessagePacketType.AUTHENTICATION_REQUEST);
-        new PostgreSQLPacketCodecEngine().encode(context, actualMessage, byteBuf);
-        verify(actualMessage).write(ArgumentMatchers.any());
-        verify(byteBuf).writeByte(PostgreSQLMessagePacketType.AUTHENTICATION_REQUEST.getValue());
-        verify(byteBuf).writeInt(54);
-        verify(byteBuf).writeBytes(payloadByteBuf);
+        doAnswer(invocation -> ((PostgreSQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeZero(50)).when(actualMessage).write(ArgumentMatchers.any());
+        new PostgreSQLPacketCodecEngine().encode(context, actualMessage, out);
+        assertThat(out.readByte(), is((byte) PostgreSQLMessagePacketType.AUTHENTICATION_REQUEST.getValue()));
+        assertThat(out.readInt(), is(54));
+        assertThat(out.readableBytes(), is(50));
+    }
+    
+    @Test
+    public void assertEncodeWithoutIdentifier() {
+        ByteBuf out = Unpooled.buffer();
+        PostgreSQLPacket actualMessage = mock(PostgreSQLPacket.class);
+        doAnswer(invocation -> ((PostgreSQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeByte('N')).when(actualMessage).write(ArgumentMatchers.any());
+        new PostgreSQLPacketCodecEngine().encode(context, actualMessage, out);
+        assertThat(out.readableBytes(), is(1));
+        assertThat(out.readByte(), is((byte) 'N'));
     }
     
     @Test
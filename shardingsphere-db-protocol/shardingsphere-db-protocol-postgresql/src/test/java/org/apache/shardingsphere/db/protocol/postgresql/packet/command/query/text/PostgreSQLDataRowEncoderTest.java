@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.row.RowValueReader;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PostgreSQLDataRowEncoderTest {
+    
+    @Mock
+    private RowValueReader rowValueReader;
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Test
+    public void assertEncode() throws SQLException {
+        Object[] values = {"value", null, 1, new BigDecimal("0.001"), Time.valueOf("10:00:01"), Timestamp.valueOf("2021-08-01 10:00:00"), new byte[]{'a'}};
+        when(rowValueReader.getColumnCount()).thenReturn(values.length);
+        for (int i = 0; i < values.length; i++) {
+            when(rowValueReader.getValue(i + 1)).thenReturn(values[i]);
+        }
+        ByteBuf actual = Unpooled.buffer();
+        assertFalse(new PostgreSQLDataRowEncoder(rowValueReader).encode(context, actual).isPresent());
+        ByteBuf body = Unpooled.buffer();
+        new PostgreSQLDataRowPacket(Arrays.asList(values)).write(new PostgreSQLPacketPayload(body));
+        ByteBuf expected = Unpooled.buffer();
+        expected.writeByte(PostgreSQLMessagePacketType.DATA_ROW.getValue());
+        expected.writeInt(body.readableBytes() + 4);
+        expected.writeBytes(body);
+        assertThat(ByteBufUtil.getBytes(actual), is(ByteBufUtil.getBytes(expected)));
+    }
+}
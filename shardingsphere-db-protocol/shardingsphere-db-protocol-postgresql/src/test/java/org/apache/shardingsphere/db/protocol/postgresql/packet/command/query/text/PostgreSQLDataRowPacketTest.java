@@ -73,7 +73,14 @@ public final class PostgreSQLDataRowPacketTest {
         assertThat(actual.getData(), is(Collections.singletonList("value")));
         actual.write(payload);
         verify(payload).writeInt4("value".getBytes().length);
-        verify(payload).writeStringEOF("value");
+        verify(payload).writeBytes("value".getBytes());
+    }
+    
+    @Test
+    public void assertWriteWithLong() {
+        PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Collections.singletonList(-123L));
+        actual.write(payload);
+        verify(payload).writeInt4LengthLongText(-123L);
     }
     
     @Test(expected = RuntimeException.class)
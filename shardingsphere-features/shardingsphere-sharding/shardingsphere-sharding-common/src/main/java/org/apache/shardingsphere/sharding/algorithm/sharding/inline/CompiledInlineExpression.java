@@ -0,0 +1,419 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Compiled inline expression.
+ *
+ * <p>
+ * Evaluates the common shapes of inline sharding expressions, such as {@code t_order_${order_id % 16}} or {@code ds_${id.hashCode() % 4}},
+ * without Groovy. The expression is compiled once into an immutable node tree, so one instance can be shared by all threads.
+ * Operands which are not covered by the compiled semantics make {@link #evaluate(String, Object)} return empty,
+ * and caller should fall back to Groovy closure for that value.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledInlineExpression {
+    
+    private static final Object UNSUPPORTED = new Object();
+    
+    private final String[] literals;
+    
+    private final Node[] nodes;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with {@code $}
+     * @return compiled inline expression, empty if expression is out of compilable subset
+     */
+    public static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        List<String> literals = new ArrayList<>();
+        List<Node> nodes = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int start = inlineExpression.indexOf("${", position);
+            String literal = inlineExpression.substring(position, -1 == start ? inlineExpression.length() : start);
+            if (!isPlainLiteral(literal)) {
+                return Optional.empty();
+            }
+            literals.add(literal);
+            if (-1 == start) {
+                break;
+            }
+            int end = inlineExpression.indexOf('}', start);
+            if (-1 == end) {
+                return Optional.empty();
+            }
+            Optional<Node> node = new ExpressionParser(inlineExpression.substring(start + 2, end)).parse();
+            if (!node.isPresent()) {
+                return Optional.empty();
+            }
+            nodes.add(node.get());
+            position = end + 1;
+        }
+        return Optional.of(new CompiledInlineExpression(literals.toArray(new String[0]), nodes.toArray(new Node[0])));
+    }
+    
+    private static boolean isPlainLiteral(final String literal) {
+        return -1 == literal.indexOf('$') && -1 == literal.indexOf('\\') && -1 == literal.indexOf('"');
+    }
+    
+    /**
+     * Evaluate expression with variable.
+     *
+     * @param variableName variable name
+     * @param variableValue variable value
+     * @return evaluated result, empty if variable value is out of compiled semantics
+     */
+    public Optional<String> evaluate(final String variableName, final Object variableValue) {
+        if (0 == nodes.length) {
+            return Optional.of(literals[0]);
+        }
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < nodes.length; i++) {
+            result.append(literals[i]);
+            Object value = nodes[i].evaluate(variableName, variableValue);
+            if (UNSUPPORTED == value || !isFormattable(value)) {
+                return Optional.empty();
+            }
+            result.append(value);
+        }
+        result.append(literals[nodes.length]);
+        return Optional.of(result.toString());
+    }
+    
+    private static boolean isFormattable(final Object value) {
+        return value instanceof String || value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte || value instanceof Character;
+    }
+    
+    private static boolean isConcatenable(final Object value) {
+        return value instanceof String || value instanceof Integer || value instanceof Long;
+    }
+    
+    private static boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    private interface Node {
+        
+        Object evaluate(String variableName, Object variableValue);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ConstantNode implements Node {
+        
+        private final Object value;
+        
+        @Override
+        public Object evaluate(final String variableName, final Object variableValue) {
+            return value;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class VariableNode implements Node {
+        
+        private final String name;
+        
+        @Override
+        public Object evaluate(final String variableName, final Object variableValue) {
+            return name.equals(variableName) ? variableValue : UNSUPPORTED;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class HashCodeNode implements Node {
+        
+        private final Node operand;
+        
+        @Override
+        public Object evaluate(final String variableName, final Object variableValue) {
+            Object value = operand.evaluate(variableName, variableValue);
+            return UNSUPPORTED == value || null == value ? UNSUPPORTED : value.hashCode();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class AbsNode implements Node {
+        
+        private final Node operand;
+        
+        @Override
+        public Object evaluate(final String variableName, final Object variableValue) {
+            Object value = operand.evaluate(variableName, variableValue);
+            if (value instanceof Integer) {
+                return Math.abs((Integer) value);
+            }
+            if (value instanceof Long) {
+                return Math.abs((Long) value);
+            }
+            return UNSUPPORTED;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class NegateNode implements Node {
+        
+        private final Node operand;
+        
+        @Override
+        public Object evaluate(final String variableName, final Object variableValue) {
+            Object value = operand.evaluate(variableName, variableValue);
+            if (value instanceof Integer) {
+                return -(Integer) value;
+            }
+            if (value instanceof Long) {
+                return -(Long) value;
+            }
+            return UNSUPPORTED;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BinaryNode implements Node {
+        
+        private final char operator;
+        
+        private final Node left;
+        
+        private final Node right;
+        
+        @Override
+        public Object evaluate(final String variableName, final Object variableValue) {
+            Object leftValue = left.evaluate(variableName, variableValue);
+            Object rightValue = right.evaluate(variableName, variableValue);
+            if (UNSUPPORTED == leftValue || UNSUPPORTED == rightValue) {
+                return UNSUPPORTED;
+            }
+            if ('+' == operator && (leftValue instanceof String || rightValue instanceof String)) {
+                return isConcatenable(leftValue) && isConcatenable(rightValue) ? leftValue.toString() + rightValue : UNSUPPORTED;
+            }
+            if (isIntegral(leftValue) && isIntegral(rightValue)) {
+                return calculate(((Number) leftValue).intValue(), ((Number) rightValue).intValue());
+            }
+            if ((isIntegral(leftValue) || leftValue instanceof Long) && (isIntegral(rightValue) || rightValue instanceof Long)) {
+                return calculate(((Number) leftValue).longValue(), ((Number) rightValue).longValue());
+            }
+            return UNSUPPORTED;
+        }
+        
+        private Object calculate(final int leftValue, final int rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return 0 == rightValue ? UNSUPPORTED : leftValue % rightValue;
+            }
+        }
+        
+        private Object calculate(final long leftValue, final long rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return 0 == rightValue ? UNSUPPORTED : leftValue % rightValue;
+            }
+        }
+    }
+    
+    /**
+     * Recursive descent parser for the compilable subset of Groovy expressions.
+     *
+     * <pre>
+     * expression := term (('+' | '-') term)*
+     * term       := unary (('*' | '%') unary)*
+     * unary      := '-' unary | postfix
+     * postfix    := primary ('.' ('hashCode' | 'abs') '(' ')')*
+     * primary    := identifier | integer | 'string' | '(' expression ')' | 'Math.abs' '(' expression ')'
+     * </pre>
+     */
+    @RequiredArgsConstructor
+    private static final class ExpressionParser {
+        
+        private final String expression;
+        
+        private int position;
+        
+        Optional<Node> parse() {
+            try {
+                Node result = parseExpression();
+                skipWhitespace();
+                return position == expression.length() ? Optional.of(result) : Optional.empty();
+            } catch (final IllegalStateException | NumberFormatException ignored) {
+                return Optional.empty();
+            }
+        }
+        
+        private Node parseExpression() {
+            Node result = parseTerm();
+            while (peek('+') || peek('-')) {
+                char operator = expression.charAt(position++);
+                result = new BinaryNode(operator, result, parseTerm());
+            }
+            return result;
+        }
+        
+        private Node parseTerm() {
+            Node result = parseUnary();
+            while (peek('*') || peek('%')) {
+                char operator = expression.charAt(position++);
+                result = new BinaryNode(operator, result, parseUnary());
+            }
+            return result;
+        }
+        
+        private Node parseUnary() {
+            if (peek('-')) {
+                position++;
+                return new NegateNode(parseUnary());
+            }
+            return parsePostfix();
+        }
+        
+        private Node parsePostfix() {
+            Node result = parsePrimary();
+            while (peek('.')) {
+                position++;
+                String method = parseIdentifier();
+                expect('(');
+                expect(')');
+                if ("hashCode".equals(method)) {
+                    result = new HashCodeNode(result);
+                } else if ("abs".equals(method)) {
+                    result = new AbsNode(result);
+                } else {
+                    throw new IllegalStateException(method);
+                }
+            }
+            return result;
+        }
+        
+        private Node parsePrimary() {
+            skipWhitespace();
+            if (position >= expression.length()) {
+                throw new IllegalStateException(expression);
+            }
+            char current = expression.charAt(position);
+            if ('(' == current) {
+                position++;
+                Node result = parseExpression();
+                expect(')');
+                return result;
+            }
+            if ('\'' == current) {
+                return new ConstantNode(parseString());
+            }
+            if (Character.isDigit(current)) {
+                return new ConstantNode(parseInteger());
+            }
+            String identifier = parseIdentifier();
+            if ("Math".equals(identifier) && peek('.')) {
+                position++;
+                if (!"abs".equals(parseIdentifier())) {
+                    throw new IllegalStateException(expression);
+                }
+                expect('(');
+                Node result = parseExpression();
+                expect(')');
+                return new AbsNode(result);
+            }
+            if ("null".equals(identifier) || "true".equals(identifier) || "false".equals(identifier) || "it".equals(identifier)) {
+                throw new IllegalStateException(identifier);
+            }
+            return new VariableNode(identifier);
+        }
+        
+        private String parseString() {
+            int end = expression.indexOf('\'', position + 1);
+            if (-1 == end) {
+                throw new IllegalStateException(expression);
+            }
+            String result = expression.substring(position + 1, end);
+            if (-1 != result.indexOf('\\')) {
+                throw new IllegalStateException(result);
+            }
+            position = end + 1;
+            return result;
+        }
+        
+        private Object parseInteger() {
+            int start = position;
+            while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+                position++;
+            }
+            if (position < expression.length() && Character.isLetterOrDigit(expression.charAt(position)) || peekRaw('.') || peekRaw('_')) {
+                throw new IllegalStateException(expression);
+            }
+            if ('0' == expression.charAt(start) && position - start > 1) {
+                throw new IllegalStateException(expression);
+            }
+            long result = Long.parseLong(expression.substring(start, position));
+            return result <= Integer.MAX_VALUE ? (Object) (int) result : (Object) result;
+        }
+        
+        private String parseIdentifier() {
+            skipWhitespace();
+            int start = position;
+            while (position < expression.length() && (Character.isJavaIdentifierPart(expression.charAt(position)) && '$' != expression.charAt(position))) {
+                position++;
+            }
+            if (start == position || !Character.isJavaIdentifierStart(expression.charAt(start))) {
+                throw new IllegalStateException(expression);
+            }
+            return expression.substring(start, position);
+        }
+        
+        private void expect(final char expected) {
+            if (!peek(expected)) {
+                throw new IllegalStateException(expression);
+            }
+            position++;
+        }
+        
+        private boolean peek(final char expected) {
+            skipWhitespace();
+            return peekRaw(expected);
+        }
+        
+        private boolean peekRaw(final char expected) {
+            return position < expression.length() && expected == expression.charAt(position);
+        }
+        
+        private void skipWhitespace() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CompiledInlineExpressionTest {
+    
+    @Test
+    public void assertCompileWithUnsupportedExpressions() {
+        for (String each : Arrays.asList(
+                "t_order_${[0, 1]}", "t_order_${0..1}", "t_order_$id", "t_order_${id / 2}", "t_order_${id.toString()}", "t_order_${null}", "t_order_${99999999999999999999}",
+                "t_order_${id % 010}", "t_order_${id % 0x10}", "t_order_${id % 0b10}", "t_order_${id % 1_0}", "t_order_${id % 10L}")) {
+            assertFalse(each, CompiledInlineExpression.compile(each).isPresent());
+        }
+    }
+    
+    @Test
+    public void assertEvaluateSameAsGroovy() {
+        for (String each : Arrays.asList("t_order", "t_order_${order_id % 16}", "t_order_${order_id}", "ds_${order_id.hashCode() % 4}", "ds_${Math.abs(order_id.hashCode()) % 4}",
+                "t_${(order_id + 1) * 3 % 7}_${order_id - 2}", "t_${'x' + order_id % 2}", "t_${-order_id % 5}", "t_${order_id.abs() % 3}")) {
+            for (Comparable<?> value : Arrays.<Comparable<?>>asList(0, 7, -13, Integer.MAX_VALUE, 123456789012L, -5L, (short) 9, (byte) 3, "abc")) {
+                assertSameAsGroovy(each, value);
+            }
+        }
+    }
+    
+    private void assertSameAsGroovy(final String expression, final Comparable<?> value) {
+        Optional<CompiledInlineExpression> compiled = CompiledInlineExpression.compile(expression);
+        assertTrue(expression, compiled.isPresent());
+        Optional<String> actual = compiled.get().evaluate("order_id", value);
+        if (actual.isPresent()) {
+            assertThat(expression + " with " + value, actual.get(), is(evaluateWithGroovy(expression, value)));
+        }
+    }
+    
+    private String evaluateWithGroovy(final String expression, final Comparable<?> value) {
+        Closure<?> closure = new InlineExpressionParser(expression).evaluateClosure().rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        closure.setProperty("order_id", value);
+        return closure.call().toString();
+    }
+    
+    @Test
+    public void assertEvaluateWithUnsupportedValue() {
+        CompiledInlineExpression compiled = CompiledInlineExpression.compile("t_order_${order_id % 16}").get();
+        assertFalse(compiled.evaluate("order_id", "abc").isPresent());
+        assertFalse(compiled.evaluate("user_id", 1).isPresent());
+        assertThat(compiled.evaluate("order_id", 17L).get(), is("t_order_1"));
+    }
+}
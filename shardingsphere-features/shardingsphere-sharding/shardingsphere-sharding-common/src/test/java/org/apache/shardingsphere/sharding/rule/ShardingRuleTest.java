@@ -21,6 +21,9 @@ import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmC
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.refresher.event.CreateTableEvent;
+import org.apache.shardingsphere.infra.metadata.schema.refresher.event.DropTableEvent;
 import org.apache.shardingsphere.sharding.algorithm.keygen.SnowflakeKeyGenerateAlgorithm;
 import org.apache.shardingsphere.sharding.algorithm.keygen.fixture.IncrementKeyGenerateAlgorithm;
 import org.apache.shardingsphere.sharding.algorithm.sharding.inline.InlineShardingAlgorithm;
@@ -93,6 +96,18 @@ public final class ShardingRuleTest {
         assertFalse(createMaximumShardingRule().findTableRuleByActualTable("table_3").isPresent());
     }
     
+    @Test
+    public void assertCreateAndDropSingleTable() {
+        ShardingRule actual = createMaximumShardingRule();
+        actual.createSingleTable(new CreateTableEvent("ds_0", "single_table", mock(TableMetaData.class)));
+        assertTrue(actual.singleTableRuleExists(Collections.singletonList("single_table")));
+        assertTrue(actual.isSingleTablesInSameDataSource(Collections.singletonList("single_table")));
+        actual.createSingleTable(new CreateTableEvent("ds_0", "logic_table", mock(TableMetaData.class)));
+        assertFalse(actual.singleTableRuleExists(Collections.singletonList("logic_table")));
+        actual.dropSingleTable(new DropTableEvent("single_table"));
+        assertFalse(actual.singleTableRuleExists(Collections.singletonList("single_table")));
+    }
+    
     @Test
     public void assertFindLogicTableByActualTable() {
         assertTrue(createMaximumShardingRule().findLogicTableByActualTable("table_0").isPresent());
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * Calendar value utility for merged values which are already loaded in memory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CalendarValueUtil {
+    
+    /**
+     * Convert value with calendar.
+     * 
+     * <p>
+     * Date and time fields of value in default time zone are interpreted in time zone of calendar, as what JDBC driver does for calendar getters.
+     * </p>
+     * 
+     * @param value value to be converted
+     * @param calendar calendar
+     * @return converted value
+     */
+    public static Object convert(final Object value, final Calendar calendar) {
+        return value instanceof Date && null != calendar ? convert((Date) value, calendar) : value;
+    }
+    
+    private static Date convert(final Date value, final Calendar calendar) {
+        Calendar localCalendar = Calendar.getInstance();
+        localCalendar.setTime(value);
+        Calendar targetCalendar = (Calendar) calendar.clone();
+        targetCalendar.clear();
+        targetCalendar.set(localCalendar.get(Calendar.YEAR), localCalendar.get(Calendar.MONTH), localCalendar.get(Calendar.DAY_OF_MONTH),
+                localCalendar.get(Calendar.HOUR_OF_DAY), localCalendar.get(Calendar.MINUTE), localCalendar.get(Calendar.SECOND));
+        targetCalendar.set(Calendar.MILLISECOND, localCalendar.get(Calendar.MILLISECOND));
+        long millis = targetCalendar.getTimeInMillis();
+        if (value instanceof Timestamp) {
+            Timestamp result = new Timestamp(millis);
+            result.setNanos(((Timestamp) value).getNanos());
+            return result;
+        }
+        if (value instanceof java.sql.Date) {
+            return new java.sql.Date(millis);
+        }
+        if (value instanceof Time) {
+            return new Time(millis);
+        }
+        return new Date(millis);
+    }
+}
@@ -17,15 +17,21 @@
 
 package org.apache.shardingsphere.sharding.merge.dql;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupBySpillableMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.iterator.IteratorStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.PrefetchedQueryResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.LimitDecoratorMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.RowNumberDecoratorMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.TopAndRowNumberDecoratorMergedResult;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
@@ -36,13 +42,21 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.In
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.stream.AbstractStreamQueryResult;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMerger;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * DQL result merger for Sharding.
@@ -50,8 +64,24 @@ import java.util.TreeMap;
 @RequiredArgsConstructor
 public final class ShardingDQLResultMerger implements ResultMerger {
     
+    private static final int PREFETCH_MAX_THREADS = Runtime.getRuntime().availableProcessors() * 2;
+    
+    private static final ExecutorService PREFETCH_EXECUTOR = createPrefetchExecutor();
+    
     private final DatabaseType databaseType;
     
+    private final ConfigurationProperties props;
+    
+    public ShardingDQLResultMerger(final DatabaseType databaseType) {
+        this(databaseType, new ConfigurationProperties(new Properties()));
+    }
+    
+    private static ExecutorService createPrefetchExecutor() {
+        ExecutorService result = new ThreadPoolExecutor(0, PREFETCH_MAX_THREADS, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(), ExecutorThreadFactoryBuilder.build("OrderByPrefetch-%d"));
+        MoreExecutors.addDelayedShutdownHook(result, 60, TimeUnit.SECONDS);
+        return result;
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext<?> sqlStatementContext, final ShardingSphereSchema schema) throws SQLException {
         if (1 == queryResults.size()) {
@@ -82,7 +112,7 @@ public final class ShardingDQLResultMerger implements ResultMerger {
             return getGroupByMergedResult(queryResults, selectStatementContext, columnLabelIndexMap, schema);
         }
         if (isNeedProcessOrderBy(selectStatementContext)) {
-            return new OrderByStreamMergedResult(queryResults, selectStatementContext, schema);
+            return new OrderByStreamMergedResult(prefetchIfNecessary(queryResults), selectStatementContext, schema);
         }
         return new IteratorStreamMergedResult(queryResults);
     }
@@ -105,11 +135,35 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
                                                 final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema) throws SQLException {
-        return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema)
+        if (selectStatementContext.isSameGroupByAndOrderByItems()) {
+            return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema);
+        }
+        long maxMemoryBytes = props.getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_MAX_MEMORY_BYTES);
+        return maxMemoryBytes > 0
+                ? new GroupBySpillableMergedResult(queryResults, selectStatementContext, schema, maxMemoryBytes)
                 : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
     }
     
+    private List<QueryResult> prefetchIfNecessary(final List<QueryResult> queryResults) throws SQLException {
+        int prefetchSize = props.getValue(ConfigurationPropertyKey.ORDER_BY_MERGE_PREFETCH_SIZE);
+        if (prefetchSize <= 0) {
+            return queryResults;
+        }
+        List<QueryResult> result = new ArrayList<>(queryResults.size());
+        for (QueryResult each : queryResults) {
+            result.add(each instanceof AbstractStreamQueryResult ? prefetch(each, prefetchSize) : each);
+        }
+        return result;
+    }
+    
+    private QueryResult prefetch(final QueryResult queryResult, final int prefetchSize) throws SQLException {
+        try {
+            return new PrefetchedQueryResult(queryResult, prefetchSize, PREFETCH_EXECUTOR);
+        } catch (final RejectedExecutionException ex) {
+            return queryResult;
+        }
+    }
+    
     private boolean isNeedProcessOrderBy(final SelectStatementContext selectStatementContext) {
         return !selectStatementContext.getOrderByContext().getItems().isEmpty();
     }
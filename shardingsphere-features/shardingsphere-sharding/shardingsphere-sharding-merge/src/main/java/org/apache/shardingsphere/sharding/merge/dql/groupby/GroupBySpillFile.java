@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Temporary file to spill rows of group by merging.
+ */
+final class GroupBySpillFile implements Closeable {
+    
+    private static final int RESET_INTERVAL = 1024;
+    
+    private final File file;
+    
+    private final ObjectOutputStream outputStream;
+    
+    private ObjectInputStream inputStream;
+    
+    @Getter
+    private int rowCount;
+    
+    GroupBySpillFile() throws IOException {
+        file = File.createTempFile("shardingsphere-group-by-", ".spill");
+        outputStream = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+    }
+    
+    /**
+     * Write row.
+     * 
+     * @param row row to be written
+     * @throws IOException IO exception
+     */
+    void write(final Object[] row) throws IOException {
+        outputStream.writeObject(row);
+        if (0 == ++rowCount % RESET_INTERVAL) {
+            outputStream.reset();
+        }
+    }
+    
+    /**
+     * Finish writing.
+     * 
+     * @return spilled bytes
+     * @throws IOException IO exception
+     */
+    long finishWriting() throws IOException {
+        outputStream.close();
+        return file.length();
+    }
+    
+    /**
+     * Read rows, file will be deleted after opened.
+     * 
+     * @return rows iterator
+     * @throws IOException IO exception
+     */
+    Iterator<Object[]> read() throws IOException {
+        inputStream = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)));
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+        return new RowIterator(inputStream, rowCount);
+    }
+    
+    /**
+     * Read rows as query result.
+     * 
+     * @param metaData query result meta data
+     * @return query result
+     * @throws IOException IO exception
+     */
+    QueryResult readAsQueryResult(final QueryResultMetaData metaData) throws IOException {
+        Iterator<Object[]> rows = read();
+        return new SpilledQueryResult(metaData, new Iterator<MemoryQueryResultDataRow>() {
+            
+            @Override
+            public boolean hasNext() {
+                return rows.hasNext();
+            }
+            
+            @Override
+            public MemoryQueryResultDataRow next() {
+                return new MemoryQueryResultDataRow(Arrays.asList(rows.next()));
+            }
+        });
+    }
+    
+    @Override
+    public void close() throws IOException {
+        try {
+            outputStream.close();
+            if (null != inputStream) {
+                inputStream.close();
+            }
+        } finally {
+            if (file.exists() && !file.delete()) {
+                file.deleteOnExit();
+            }
+        }
+    }
+    
+    private static final class RowIterator implements Iterator<Object[]> {
+        
+        private final ObjectInputStream inputStream;
+        
+        private int remainingRowCount;
+        
+        RowIterator(final ObjectInputStream inputStream, final int rowCount) throws IOException {
+            this.inputStream = inputStream;
+            remainingRowCount = rowCount;
+            if (0 == remainingRowCount) {
+                inputStream.close();
+            }
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return remainingRowCount > 0;
+        }
+        
+        @SneakyThrows({IOException.class, ClassNotFoundException.class})
+        @Override
+        public Object[] next() {
+            if (remainingRowCount <= 0) {
+                throw new NoSuchElementException();
+            }
+            Object[] result = (Object[]) inputStream.readObject();
+            if (0 == --remainingRowCount) {
+                inputStream.close();
+            }
+            return result;
+        }
+    }
+    
+    private static final class SpilledQueryResult extends AbstractMemoryQueryResult {
+        
+        SpilledQueryResult(final QueryResultMetaData metaData, final Iterator<MemoryQueryResultDataRow> rows) {
+            super(metaData, rows);
+        }
+    }
+}
@@ -0,0 +1,387 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.collect.Iterators;
+import com.google.common.hash.Hashing;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.merge.dql.CalendarValueUtil;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Merged result for group by with bounded memory.
+ * 
+ * <p>
+ * Groups are aggregated in memory until estimated bytes of groups reach max memory bytes. 
+ * Rows of other groups are hash partitioned to temporary files and aggregated partition by partition after all query results consumed.
+ * Aggregated groups are sorted into runs, and runs are merged back with external sort.
+ * Spilling is decided once per query from column types: if any column type may hold values which are not serializable, all groups are kept in memory,
+ * so a group is never split between memory and temporary files.
+ * </p>
+ */
+public final class GroupBySpillableMergedResult implements MergedResult {
+    
+    private static final int PARTITION_COUNT = 16;
+    
+    private static final int MAX_SPILL_LEVEL = 4;
+    
+    private static final long GROUP_OVERHEAD_BYTES = 128L;
+    
+    private static final long AGGREGATION_UNIT_BYTES = 64L;
+    
+    private static final long REFERENCE_BYTES = 8L;
+    
+    private static final long VALUE_BYTES = 24L;
+    
+    private static final Collection<Integer> SPILLABLE_COLUMN_TYPES = new HashSet<>(Arrays.asList(Types.NULL, Types.BIT, Types.BOOLEAN, Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT,
+            Types.FLOAT, Types.REAL, Types.DOUBLE, Types.NUMERIC, Types.DECIMAL, Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR, Types.NCHAR, Types.NVARCHAR, Types.LONGNVARCHAR,
+            Types.DATE, Types.TIME, Types.TIMESTAMP, Types.TIME_WITH_TIMEZONE, Types.TIMESTAMP_WITH_TIMEZONE, Types.BINARY, Types.VARBINARY, Types.LONGVARBINARY));
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final long maxMemoryBytes;
+    
+    private final QueryResultMetaData metaData;
+    
+    private final int columnCount;
+    
+    private final boolean spillable;
+    
+    private final Comparator<MemoryQueryResultRow> rowComparator;
+    
+    private final Collection<Iterator<MemoryQueryResultRow>> sortedRuns = new LinkedList<>();
+    
+    private final Collection<GroupBySpillFile> spillFiles = new LinkedList<>();
+    
+    private final PriorityQueue<SortedRunCursor> sortedRunCursors;
+    
+    @Getter
+    private int peakGroupsInMemory;
+    
+    @Getter
+    private long peakMemoryBytes;
+    
+    @Getter
+    private long spilledBytes;
+    
+    private int groupCount;
+    
+    private SortedRunCursor currentCursor;
+    
+    private boolean wasNull;
+    
+    public GroupBySpillableMergedResult(final List<QueryResult> queryResults, 
+                                        final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final long maxMemoryBytes) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.maxMemoryBytes = maxMemoryBytes;
+        metaData = queryResults.isEmpty() ? null : queryResults.get(0).getMetaData();
+        columnCount = null == metaData ? 0 : metaData.getColumnCount();
+        spillable = isSpillable(metaData, columnCount);
+        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() 
+                : GroupByMemoryMergedResult.getValueCaseSensitive(queryResults.get(0), selectStatementContext, schema);
+        rowComparator = new GroupByRowComparator(selectStatementContext, valueCaseSensitive);
+        try {
+            aggregate(queryResults, 0);
+        } catch (final IOException | SQLException ex) {
+            SQLException cause = ex instanceof SQLException ? (SQLException) ex : new SQLException(ex);
+            try {
+                closeSpillFiles();
+            } catch (final SQLException closeException) {
+                cause.addSuppressed(closeException);
+            }
+            throw cause;
+        }
+        if (0 == groupCount) {
+            sortedRuns.add(Collections.singletonList(new MemoryQueryResultRow(GroupByMemoryMergedResult.generateReturnData(selectStatementContext))).iterator());
+        }
+        sortedRunCursors = new PriorityQueue<>(Math.max(1, sortedRuns.size()), (o1, o2) -> rowComparator.compare(o1.getCurrentRow(), o2.getCurrentRow()));
+        for (Iterator<MemoryQueryResultRow> each : sortedRuns) {
+            SortedRunCursor cursor = new SortedRunCursor(each);
+            if (cursor.next()) {
+                sortedRunCursors.offer(cursor);
+            }
+        }
+    }
+    
+    private static boolean isSpillable(final QueryResultMetaData metaData, final int columnCount) throws SQLException {
+        for (int i = 1; i <= columnCount; i++) {
+            if (!SPILLABLE_COLUMN_TYPES.contains(metaData.getColumnType(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private void aggregate(final List<QueryResult> queryResults, final int level) throws SQLException, IOException {
+        GroupBySpillFile[] partitions = new GroupBySpillFile[PARTITION_COUNT];
+        aggregateInMemory(queryResults, level, partitions);
+        for (GroupBySpillFile each : partitions) {
+            if (null != each) {
+                aggregate(Collections.singletonList(each.readAsQueryResult(metaData)), level + 1);
+            }
+        }
+    }
+    
+    private void aggregateInMemory(final List<QueryResult> queryResults, final int level, final GroupBySpillFile[] partitions) throws SQLException, IOException {
+        Map<GroupByValue, GroupByRow> groups = new HashMap<>(1024);
+        long memoryBytes = 0L;
+        boolean spilled = false;
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
+                GroupByRow groupByRow = groups.get(groupByValue);
+                if (null == groupByRow) {
+                    Object[] row = loadRow(each);
+                    if (memoryBytes >= maxMemoryBytes && level < MAX_SPILL_LEVEL && spillable) {
+                        spill(partitions, getPartition(groupByValue, level), row);
+                        spilled = true;
+                        continue;
+                    }
+                    groupByRow = new GroupByRow(row, GroupByMemoryMergedResult.createAggregationUnits(selectStatementContext));
+                    groups.put(groupByValue, groupByRow);
+                    memoryBytes += estimateBytes(groupByRow);
+                    peakGroupsInMemory = Math.max(peakGroupsInMemory, groups.size());
+                    peakMemoryBytes = Math.max(peakMemoryBytes, memoryBytes);
+                }
+                GroupByMemoryMergedResult.aggregate(selectStatementContext, each, groupByRow.getAggregationUnits());
+            }
+        }
+        for (GroupBySpillFile each : partitions) {
+            if (null != each) {
+                spilledBytes += each.finishWriting();
+            }
+        }
+        addSortedRun(groups.values(), 0 == level && !spilled);
+    }
+    
+    private int getPartition(final GroupByValue groupByValue, final int level) {
+        return Math.floorMod(Hashing.murmur3_32(level).hashInt(groupByValue.hashCode()).asInt(), PARTITION_COUNT);
+    }
+    
+    private void spill(final GroupBySpillFile[] partitions, final int partition, final Object[] row) throws IOException {
+        if (null == partitions[partition]) {
+            partitions[partition] = createSpillFile();
+        }
+        partitions[partition].write(row);
+    }
+    
+    private GroupBySpillFile createSpillFile() throws IOException {
+        GroupBySpillFile result = new GroupBySpillFile();
+        spillFiles.add(result);
+        return result;
+    }
+    
+    private Object[] loadRow(final QueryResult queryResult) throws SQLException {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    private long estimateBytes(final GroupByRow groupByRow) {
+        long result = GROUP_OVERHEAD_BYTES + AGGREGATION_UNIT_BYTES * groupByRow.getAggregationUnits().size() + REFERENCE_BYTES * groupByRow.getData().length;
+        for (Object each : groupByRow.getData()) {
+            result += estimateBytes(each);
+        }
+        return result;
+    }
+    
+    private long estimateBytes(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return VALUE_BYTES + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return VALUE_BYTES + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return VALUE_BYTES * 2;
+        }
+        return VALUE_BYTES;
+    }
+    
+    private void addSortedRun(final Collection<GroupByRow> groups, final boolean keepInMemory) throws IOException {
+        if (groups.isEmpty()) {
+            return;
+        }
+        groupCount += groups.size();
+        List<MemoryQueryResultRow> rows = new ArrayList<>(groups.size());
+        for (GroupByRow each : groups) {
+            rows.add(each.toMemoryQueryResultRow(selectStatementContext));
+        }
+        rows.sort(rowComparator);
+        if (keepInMemory || !spillable) {
+            sortedRuns.add(rows.iterator());
+            return;
+        }
+        GroupBySpillFile sortedRunFile = createSpillFile();
+        for (Object[] each : toData(rows)) {
+            sortedRunFile.write(each);
+        }
+        spilledBytes += sortedRunFile.finishWriting();
+        sortedRuns.add(Iterators.transform(sortedRunFile.read(), MemoryQueryResultRow::new));
+    }
+    
+    private List<Object[]> toData(final List<MemoryQueryResultRow> rows) {
+        List<Object[]> result = new ArrayList<>(rows.size());
+        for (MemoryQueryResultRow each : rows) {
+            result.add(toData(each));
+        }
+        return result;
+    }
+    
+    private Object[] toData(final MemoryQueryResultRow row) {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = row.getCell(i + 1);
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean next() {
+        if (null != currentCursor && currentCursor.next()) {
+            sortedRunCursors.offer(currentCursor);
+        }
+        currentCursor = sortedRunCursors.poll();
+        return null != currentCursor;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (Blob.class == type || Clob.class == type || Reader.class == type || InputStream.class == type || SQLXML.class == type) {
+            throw new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName()));
+        }
+        Object result = currentCursor.getCurrentRow().getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = currentCursor.getCurrentRow().getCell(columnIndex);
+        wasNull = null == result;
+        return CalendarValueUtil.convert(result, calendar);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        sortedRunCursors.clear();
+        currentCursor = null;
+        closeSpillFiles();
+    }
+    
+    private void closeSpillFiles() throws SQLException {
+        SQLException ex = null;
+        for (GroupBySpillFile each : spillFiles) {
+            try {
+                each.close();
+            } catch (final IOException cause) {
+                if (null == ex) {
+                    ex = new SQLException(cause);
+                } else {
+                    ex.addSuppressed(cause);
+                }
+            }
+        }
+        spillFiles.clear();
+        if (null != ex) {
+            throw ex;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class GroupByRow {
+        
+        private final Object[] data;
+        
+        private final Map<AggregationProjection, AggregationUnit> aggregationUnits;
+        
+        MemoryQueryResultRow toMemoryQueryResultRow(final SelectStatementContext selectStatementContext) {
+            MemoryQueryResultRow result = new MemoryQueryResultRow(data);
+            for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+                result.setCell(each.getIndex(), aggregationUnits.get(each).getResult());
+            }
+            return result;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SortedRunCursor {
+        
+        private final Iterator<MemoryQueryResultRow> rows;
+        
+        @Getter
+        private MemoryQueryResultRow currentRow;
+        
+        boolean next() {
+            if (rows.hasNext()) {
+                currentRow = rows.next();
+                return true;
+            }
+            return false;
+        }
+    }
+}
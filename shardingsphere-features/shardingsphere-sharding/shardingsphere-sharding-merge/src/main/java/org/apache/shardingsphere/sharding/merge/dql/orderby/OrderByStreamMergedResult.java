@@ -36,6 +36,8 @@ import java.util.Queue;
  */
 public class OrderByStreamMergedResult extends StreamMergedResult {
     
+    private final List<QueryResult> queryResults;
+    
     private final Collection<OrderByItem> orderByItems;
     
     @Getter(AccessLevel.PROTECTED)
@@ -45,6 +47,7 @@ public class OrderByStreamMergedResult extends StreamMergedResult {
     private boolean isFirstNext;
     
     public OrderByStreamMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        this.queryResults = queryResults;
         orderByItems = selectStatementContext.getOrderByContext().getItems();
         orderByValuesQueue = new PriorityQueue<>(queryResults.size());
         orderResultSetsToQueue(queryResults, selectStatementContext, schema);
@@ -80,4 +83,24 @@ public class OrderByStreamMergedResult extends StreamMergedResult {
         setCurrentQueryResult(orderByValuesQueue.peek().getQueryResult());
         return true;
     }
+    
+    @Override
+    public void close() throws SQLException {
+        orderByValuesQueue.clear();
+        SQLException ex = null;
+        for (QueryResult each : queryResults) {
+            try {
+                each.close();
+            } catch (final SQLException closeException) {
+                if (null == ex) {
+                    ex = closeException;
+                } else {
+                    ex.addSuppressed(closeException);
+                }
+            }
+        }
+        if (null != ex) {
+            throw ex;
+        }
+    }
 }
@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.sharding.merge.dql.CalendarValueUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Calendar;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query result which prefetches rows of another query result on executor.
+ * 
+ * <p>
+ * Rows are read into a bounded buffer ahead of consuming, so that fetching rows from many data sources overlaps.
+ * Values are loaded by column type, so that typed and calendar getters behave as the prefetched query result does.
+ * Fetching blocks when buffer is full, and stops when this query result is closed or no longer reachable.
+ * </p>
+ */
+public final class PrefetchedQueryResult implements QueryResult {
+    
+    private static final Object[] END_OF_ROWS = new Object[0];
+    
+    @Getter
+    private final QueryResultMetaData metaData;
+    
+    private final Fetcher fetcher;
+    
+    private final Future<?> fetcherFuture;
+    
+    private Object[] currentRow;
+    
+    private boolean wasNull;
+    
+    public PrefetchedQueryResult(final QueryResult queryResult, final int bufferSize, final ExecutorService executorService) throws SQLException {
+        metaData = queryResult.getMetaData();
+        fetcher = new Fetcher(queryResult, getColumnTypes(metaData), new ArrayBlockingQueue<>(bufferSize), new WeakReference<>(this));
+        fetcherFuture = executorService.submit(fetcher);
+    }
+    
+    private static Class<?>[] getColumnTypes(final QueryResultMetaData metaData) throws SQLException {
+        Class<?>[] result = new Class<?>[metaData.getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = getColumnType(metaData.getColumnType(i + 1));
+        }
+        return result;
+    }
+    
+    private static Class<?> getColumnType(final int sqlType) {
+        switch (sqlType) {
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return BigDecimal.class;
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+                return String.class;
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                return byte[].class;
+            case Types.DATE:
+                return Date.class;
+            case Types.TIME:
+                return Time.class;
+            case Types.TIMESTAMP:
+                return Timestamp.class;
+            case Types.BLOB:
+                return Blob.class;
+            case Types.CLOB:
+                return Clob.class;
+            case Types.ARRAY:
+                return Array.class;
+            default:
+                return Object.class;
+        }
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (END_OF_ROWS != currentRow) {
+            currentRow = fetcher.take();
+        }
+        if (END_OF_ROWS == currentRow) {
+            fetcher.checkFailure();
+            return false;
+        }
+        return true;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (null == currentRow || END_OF_ROWS == currentRow) {
+            throw new SQLException("Current row of prefetched query result is null, query result perhaps end of next.");
+        }
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return CalendarValueUtil.convert(getValue(columnIndex, type), calendar);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        Object value = getValue(columnIndex, Object.class);
+        if (null == value) {
+            return null;
+        }
+        if (value instanceof byte[]) {
+            return new ByteArrayInputStream((byte[]) value);
+        }
+        if (value instanceof Blob) {
+            return ((Blob) value).getBinaryStream();
+        }
+        if (value instanceof Clob) {
+            return ((Clob) value).getAsciiStream();
+        }
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        currentRow = END_OF_ROWS;
+        fetcher.stop();
+        if (!fetcherFuture.cancel(false)) {
+            fetcher.awaitFinished();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Fetcher implements Runnable {
+        
+        private static final long OFFER_TIMEOUT_MILLISECONDS = 100L;
+        
+        private final QueryResult queryResult;
+        
+        private final Class<?>[] columnTypes;
+        
+        private final BlockingQueue<Object[]> buffer;
+        
+        private final WeakReference<PrefetchedQueryResult> consumer;
+        
+        private final CountDownLatch finished = new CountDownLatch(1);
+        
+        private volatile boolean stopped;
+        
+        private volatile SQLException failure;
+        
+        @Override
+        public void run() {
+            try {
+                if (!fetch() && !isAbandoned()) {
+                    failure = new SQLException("Prefetching query result is interrupted");
+                }
+            } catch (final SQLException ex) {
+                failure = ex;
+            } finally {
+                boolean interrupted = Thread.interrupted();
+                put(END_OF_ROWS);
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+                finished.countDown();
+            }
+        }
+        
+        private boolean fetch() throws SQLException {
+            while (!isAbandoned() && queryResult.next()) {
+                if (!put(loadRow())) {
+                    return false;
+                }
+            }
+            return !Thread.currentThread().isInterrupted();
+        }
+        
+        private Object[] loadRow() throws SQLException {
+            Object[] result = new Object[columnTypes.length];
+            for (int i = 0; i < columnTypes.length; i++) {
+                Object value = queryResult.getValue(i + 1, columnTypes[i]);
+                result[i] = queryResult.wasNull() ? null : value;
+            }
+            return result;
+        }
+        
+        private boolean put(final Object[] row) {
+            try {
+                while (!buffer.offer(row, OFFER_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+                    if (isAbandoned()) {
+                        return false;
+                    }
+                }
+                return true;
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        
+        private boolean isAbandoned() {
+            return stopped || null == consumer.get();
+        }
+        
+        private Object[] take() throws SQLException {
+            try {
+                return buffer.take();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Taking prefetched row is interrupted", ex);
+            }
+        }
+        
+        private void checkFailure() throws SQLException {
+            if (null != failure) {
+                throw failure;
+            }
+        }
+        
+        private void stop() {
+            stopped = true;
+            buffer.clear();
+        }
+        
+        private void awaitFinished() throws SQLException {
+            try {
+                finished.await();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Waiting for prefetching query result to stop is interrupted", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.segment.select.groupby.GroupByContext;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByContext;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.ProjectionsContext;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Test;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupBySpillableMergedResultTest {
+    
+    @Test
+    public void assertNextForResultSetsAllEmpty() throws SQLException {
+        GroupBySpillableMergedResult actual = new GroupBySpillableMergedResult(Arrays.asList(createQueryResult(), createQueryResult()), createSelectStatementContext(), null, 1L);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(0));
+        assertThat(actual.getValue(2, Object.class), is(nullValue()));
+        assertFalse(actual.next());
+        assertThat(actual.getSpilledBytes(), is(0L));
+    }
+    
+    @Test
+    public void assertNextWithoutSpill() throws SQLException {
+        GroupBySpillableMergedResult actual = new GroupBySpillableMergedResult(createQueryResults(), createSelectStatementContext(), null, 1024L * 1024L);
+        assertMergedResult(actual);
+        assertThat(actual.getPeakGroupsInMemory(), is(3));
+        assertThat(actual.getSpilledBytes(), is(0L));
+    }
+    
+    @Test
+    public void assertNextWithSpill() throws SQLException {
+        GroupBySpillableMergedResult actual = new GroupBySpillableMergedResult(createQueryResults(), createSelectStatementContext(), null, 1L);
+        assertMergedResult(actual);
+        assertThat(actual.getPeakGroupsInMemory(), is(1));
+        assertTrue(actual.getPeakMemoryBytes() > 0L);
+        assertTrue(actual.getSpilledBytes() > 0L);
+    }
+    
+    @Test
+    public void assertNextWithNotSerializableValues() throws SQLException {
+        Object notSerializableValue = new Object();
+        QueryResult queryResult1 = createQueryResult(6, new Object[]{10, 10, 1, 2, 20, notSerializableValue}, new Object[]{5, 5, 2, 1, 5, notSerializableValue});
+        QueryResult queryResult2 = createQueryResult(6,
+                new Object[]{1, 3, 3, 1, 3, notSerializableValue}, new Object[]{10, 20, 1, 2, 40, notSerializableValue}, new Object[]{5, 10, 2, 1, 10, notSerializableValue});
+        when(queryResult1.getMetaData().getColumnType(6)).thenReturn(Types.JAVA_OBJECT);
+        GroupBySpillableMergedResult actual = new GroupBySpillableMergedResult(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(), null, 1L);
+        assertThat(actual.getPeakGroupsInMemory(), is(3));
+        assertThat(actual.getSpilledBytes(), is(0L));
+        for (int i = 0; i < 3; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(6, Object.class), sameInstance(notSerializableValue));
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithNotSerializableValuesInLaterRowsOfSameGroup() throws SQLException {
+        QueryResult queryResult1 = createQueryResult(6, new Object[]{10, 10, 1, 2, 20, "serializable"}, new Object[]{5, 5, 2, 1, 5, "serializable"});
+        QueryResult queryResult2 = createQueryResult(6,
+                new Object[]{1, 3, 3, 1, 3, new Object()}, new Object[]{10, 20, 1, 2, 40, new Object()}, new Object[]{5, 10, 2, 1, 10, new Object()});
+        when(queryResult1.getMetaData().getColumnType(6)).thenReturn(Types.JAVA_OBJECT);
+        GroupBySpillableMergedResult actual = new GroupBySpillableMergedResult(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(), null, 1L);
+        assertThat(actual.getPeakGroupsInMemory(), is(3));
+        assertThat(actual.getSpilledBytes(), is(0L));
+        assertMergedResult(actual);
+    }
+    
+    @Test
+    public void assertGetCalendarValue() throws SQLException {
+        Timestamp timestamp = Timestamp.valueOf("2021-01-01 10:00:00.123456789");
+        GroupBySpillableMergedResult actual = new GroupBySpillableMergedResult(
+                Collections.singletonList(createQueryResult(6, new Object[]{1, 1, 1, 1, 1, timestamp})), createSelectStatementContext(), null, 1024L);
+        assertTrue(actual.next());
+        Object value = actual.getCalendarValue(6, Timestamp.class, Calendar.getInstance(TimeZone.getTimeZone("UTC")));
+        assertThat(((Timestamp) value).toInstant(), is(Instant.parse("2021-01-01T10:00:00.123456789Z")));
+        assertThat(actual.getCalendarValue(1, Object.class, Calendar.getInstance(TimeZone.getTimeZone("UTC"))), is(new BigDecimal(1)));
+    }
+    
+    @Test
+    public void assertCloseWithSpill() throws SQLException {
+        final int spillFileCount = getSpillFileCount();
+        GroupBySpillableMergedResult actual = new GroupBySpillableMergedResult(createQueryResults(), createSelectStatementContext(), null, 1L);
+        assertTrue(actual.next());
+        actual.close();
+        assertFalse(actual.next());
+        assertThat(getSpillFileCount(), is(spillFileCount));
+    }
+    
+    private int getSpillFileCount() {
+        File[] result = new File(System.getProperty("java.io.tmpdir")).listFiles((dir, name) -> name.startsWith("shardingsphere-group-by-") && name.endsWith(".spill"));
+        return null == result ? 0 : result.length;
+    }
+    
+    private void assertMergedResult(final GroupBySpillableMergedResult actual) throws SQLException {
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(1)));
+        assertThat(actual.getValue(2, Object.class), is(new BigDecimal("3.0000")));
+        assertThat(actual.getValue(3, Object.class), is(3));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(10)));
+        assertThat(actual.getValue(2, Object.class), is(new BigDecimal("7.5000")));
+        assertThat(actual.getValue(3, Object.class), is(2));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(20)));
+        assertThat(actual.getValue(2, Object.class), is(new BigDecimal("15.0000")));
+        assertThat(actual.getValue(3, Object.class), is(1));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(4)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(60)));
+        assertFalse(actual.next());
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        AggregationProjection aggregationProjection1 = new AggregationProjection(AggregationType.COUNT, "(*)", null);
+        aggregationProjection1.setIndex(1);
+        AggregationProjection aggregationProjection2 = new AggregationProjection(AggregationType.AVG, "(num)", null);
+        aggregationProjection2.setIndex(2);
+        AggregationProjection derivedAggregationProjection1 = new AggregationProjection(AggregationType.COUNT, "(num)", "AVG_DERIVED_COUNT_0");
+        derivedAggregationProjection1.setIndex(4);
+        aggregationProjection2.getDerivedAggregationProjections().add(derivedAggregationProjection1);
+        AggregationProjection derivedAggregationProjection2 = new AggregationProjection(AggregationType.SUM, "(num)", "AVG_DERIVED_SUM_0");
+        derivedAggregationProjection2.setIndex(5);
+        aggregationProjection2.getDerivedAggregationProjections().add(derivedAggregationProjection2);
+        ProjectionsContext projectionsContext = new ProjectionsContext(0, 0, false, Arrays.asList(aggregationProjection1, aggregationProjection2));
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        return new SelectStatementContext(selectStatement,
+                new GroupByContext(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC))), 0),
+                new OrderByContext(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, OrderDirection.ASC))), false),
+                projectionsContext, new PaginationContext(null, null, Collections.emptyList()));
+    }
+    
+    private OrderByItem createOrderByItem(final IndexOrderByItemSegment indexOrderByItemSegment) {
+        OrderByItem result = new OrderByItem(indexOrderByItemSegment);
+        result.setIndex(indexOrderByItemSegment.getColumnIndex());
+        return result;
+    }
+    
+    private List<QueryResult> createQueryResults() throws SQLException {
+        QueryResult queryResult1 = createQueryResult(new Object[]{10, 10, 1, 2, 20}, new Object[]{5, 5, 2, 1, 5});
+        QueryResult queryResult2 = createQueryResult(new Object[]{1, 3, 3, 1, 3}, new Object[]{10, 20, 1, 2, 40}, new Object[]{5, 10, 2, 1, 10});
+        return Arrays.asList(queryResult1, queryResult2);
+    }
+    
+    private QueryResult createQueryResult(final Object[]... rows) throws SQLException {
+        return createQueryResult(5, rows);
+    }
+    
+    private QueryResult createQueryResult(final int columnCount, final Object[]... rows) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(columnCount);
+        AtomicInteger rowIndex = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> rowIndex.incrementAndGet() < rows.length);
+        when(result.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> rows[rowIndex.get()][(int) invocation.getArgument(0) - 1]);
+        return result;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.when;
+
+public final class PrefetchedQueryResultTest {
+    
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    public void assertNextWithBufferSmallerThanRows() throws SQLException {
+        QueryResult queryResult = mockQueryResult();
+        when(queryResult.next()).thenReturn(true, true, true, false);
+        when(queryResult.getValue(1, Object.class)).thenReturn(1, 2, 3);
+        when(queryResult.getValue(2, Object.class)).thenReturn("a", "b", "c");
+        PrefetchedQueryResult actual = new PrefetchedQueryResult(queryResult, 1, executorService);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1));
+        assertThat(actual.getValue(2, Object.class), is("a"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(2));
+        assertThat(actual.getValue(2, Object.class), is("b"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(3));
+        assertThat(actual.getValue(2, Object.class), is("c"));
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNextWhenFetchFailed() throws SQLException {
+        QueryResult queryResult = mockQueryResult();
+        when(queryResult.next()).thenReturn(true).thenThrow(new SQLException("fetch failed"));
+        PrefetchedQueryResult actual = new PrefetchedQueryResult(queryResult, 16, executorService);
+        assertTrue(actual.next());
+        actual.next();
+    }
+    
+    @Test
+    public void assertGetValueLoadedByColumnType() throws SQLException {
+        QueryResult queryResult = mockQueryResult();
+        when(queryResult.getMetaData().getColumnType(1)).thenReturn(Types.TIMESTAMP);
+        when(queryResult.getMetaData().getColumnType(2)).thenReturn(Types.VARCHAR);
+        Timestamp timestamp = Timestamp.valueOf("2021-01-01 10:00:00.123456789");
+        when(queryResult.next()).thenReturn(true, false);
+        when(queryResult.getValue(1, Timestamp.class)).thenReturn(timestamp);
+        when(queryResult.getValue(2, String.class)).thenReturn(null);
+        when(queryResult.wasNull()).thenReturn(false, true);
+        PrefetchedQueryResult actual = new PrefetchedQueryResult(queryResult, 16, executorService);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Timestamp.class), is(timestamp));
+        assertFalse(actual.wasNull());
+        Object calendarValue = actual.getCalendarValue(1, Timestamp.class, Calendar.getInstance(TimeZone.getTimeZone("UTC")));
+        assertThat(((Timestamp) calendarValue).toInstant(), is(Instant.parse("2021-01-01T10:00:00.123456789Z")));
+        assertNull(actual.getValue(2, String.class));
+        assertTrue(actual.wasNull());
+        assertFalse(actual.next());
+    }
+    
+    @Test(timeout = 10000L)
+    public void assertCloseStopsFetching() throws SQLException, InterruptedException {
+        QueryResult queryResult = mockQueryResult();
+        when(queryResult.next()).thenReturn(true);
+        when(queryResult.getValue(1, Object.class)).thenReturn(1);
+        PrefetchedQueryResult actual = new PrefetchedQueryResult(queryResult, 1, executorService);
+        assertTrue(actual.next());
+        actual.close();
+        assertFalse(actual.next());
+        int fetchedTimes = mockingDetails(queryResult).getInvocations().size();
+        Thread.sleep(200L);
+        assertThat(mockingDetails(queryResult).getInvocations().size(), is(fetchedTimes));
+    }
+    
+    private QueryResult mockQueryResult() throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(2);
+        return result;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.strategy;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sharding strategy cache.
+ *
+ * <p>
+ * Sharding strategies of table rule are created once for each sharding rule and shared by every routing,
+ * they are discarded together with sharding rule when rule is replaced.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingStrategyCache {
+    
+    private static final Cache<ShardingRule, Map<String, TableShardingStrategies>> CACHE = CacheBuilder.newBuilder().weakKeys().build();
+    
+    /**
+     * Get sharding strategies of table.
+     *
+     * @param shardingRule sharding rule
+     * @param tableRule table rule
+     * @return sharding strategies of table
+     */
+    public static TableShardingStrategies getTableShardingStrategies(final ShardingRule shardingRule, final TableRule tableRule) {
+        Map<String, TableShardingStrategies> tableShardingStrategies = CACHE.getIfPresent(shardingRule);
+        if (null == tableShardingStrategies) {
+            tableShardingStrategies = new ConcurrentHashMap<>();
+            CACHE.put(shardingRule, tableShardingStrategies);
+        }
+        return tableShardingStrategies.computeIfAbsent(tableRule.getLogicTable(), key -> createTableShardingStrategies(shardingRule, tableRule));
+    }
+    
+    private static TableShardingStrategies createTableShardingStrategies(final ShardingRule shardingRule, final TableRule tableRule) {
+        return new TableShardingStrategies(createShardingStrategy(shardingRule, shardingRule.getDatabaseShardingStrategyConfiguration(tableRule)),
+                createShardingStrategy(shardingRule, shardingRule.getTableShardingStrategyConfiguration(tableRule)), shardingRule.findBindingTableRule(tableRule.getLogicTable()).isPresent());
+    }
+    
+    private static ShardingStrategy createShardingStrategy(final ShardingRule shardingRule, final ShardingStrategyConfiguration shardingStrategyConfig) {
+        return null == shardingStrategyConfig ? new NoneShardingStrategy()
+                : ShardingStrategyFactory.newInstance(shardingStrategyConfig, shardingRule.getShardingAlgorithms().get(shardingStrategyConfig.getShardingAlgorithmName()));
+    }
+}
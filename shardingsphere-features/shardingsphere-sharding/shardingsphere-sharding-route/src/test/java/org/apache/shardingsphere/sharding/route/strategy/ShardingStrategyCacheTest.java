@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.strategy;
+
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.route.strategy.fixture.StandardShardingAlgorithmFixture;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.standard.StandardShardingStrategy;
+import org.apache.shardingsphere.sharding.rule.BindingTableRule;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ShardingStrategyCacheTest {
+    
+    @Test
+    public void assertGetTableShardingStrategies() {
+        TableRule tableRule = createTableRule();
+        ShardingRule shardingRule = createShardingRule(tableRule, false);
+        TableShardingStrategies actual = ShardingStrategyCache.getTableShardingStrategies(shardingRule, tableRule);
+        assertThat(actual.getDatabaseShardingStrategy(), instanceOf(StandardShardingStrategy.class));
+        assertThat(actual.getTableShardingStrategy(), instanceOf(NoneShardingStrategy.class));
+        assertFalse(actual.isBindingTable());
+        assertThat(ShardingStrategyCache.getTableShardingStrategies(shardingRule, tableRule), sameInstance(actual));
+    }
+    
+    @Test
+    public void assertGetTableShardingStrategiesWithAnotherShardingRule() {
+        TableRule tableRule = createTableRule();
+        TableShardingStrategies expected = ShardingStrategyCache.getTableShardingStrategies(createShardingRule(tableRule, false), tableRule);
+        TableShardingStrategies actual = ShardingStrategyCache.getTableShardingStrategies(createShardingRule(tableRule, true), tableRule);
+        assertThat(actual, not(sameInstance(expected)));
+        assertTrue(actual.isBindingTable());
+    }
+    
+    private TableRule createTableRule() {
+        TableRule result = mock(TableRule.class);
+        when(result.getLogicTable()).thenReturn("t_order");
+        return result;
+    }
+    
+    private ShardingRule createShardingRule(final TableRule tableRule, final boolean bindingTable) {
+        ShardingRule result = mock(ShardingRule.class);
+        when(result.getDatabaseShardingStrategyConfiguration(tableRule)).thenReturn(new StandardShardingStrategyConfiguration("order_id", "standard_fixture"));
+        when(result.getShardingAlgorithms()).thenReturn(Collections.<String, ShardingAlgorithm>singletonMap("standard_fixture", new StandardShardingAlgorithmFixture()));
+        when(result.findBindingTableRule("t_order")).thenReturn(bindingTable ? Optional.of(mock(BindingTableRule.class)) : Optional.empty());
+        return result;
+    }
+}
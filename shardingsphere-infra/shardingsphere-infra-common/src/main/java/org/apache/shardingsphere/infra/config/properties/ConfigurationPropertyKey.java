@@ -121,7 +121,127 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
     /**
      * Whether enable lock.
      */
-    LOCK_ENABLED("lock-enabled", String.valueOf(false), boolean.class);
+    LOCK_ENABLED("lock-enabled", String.valueOf(false), boolean.class),
+    
+    /**
+     * Initial capacity of SQL statement cache.
+     */
+    SQL_STATEMENT_CACHE_INITIAL_CAPACITY("sql-statement-cache-initial-capacity", String.valueOf(2000), int.class),
+    
+    /**
+     * Maximum size of SQL statement cache.
+     */
+    SQL_STATEMENT_CACHE_MAXIMUM_SIZE("sql-statement-cache-maximum-size", String.valueOf(65535L), long.class),
+    
+    /**
+     * Concurrency level of SQL statement cache.
+     */
+    SQL_STATEMENT_CACHE_CONCURRENCY_LEVEL("sql-statement-cache-concurrency-level", String.valueOf(4), int.class),
+    
+    /**
+     * Whether cache parse result of non-parameterized SQL by literal normalized fingerprint.
+     */
+    SQL_LITERAL_NORMALIZED_CACHE_ENABLED("sql-literal-normalized-cache-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Whether warm up SQL parser with representative SQLs before ShardingSphere-Proxy serving.
+     */
+    PROXY_SQL_PARSER_WARM_UP_ENABLED("proxy-sql-parser-warm-up-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Whether cache rewritten SQLs of DML by SQL template.
+     */
+    EXECUTION_PLAN_CACHE_ENABLED("execution-plan-cache-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Maximum size of execution plan cache for each schema.
+     */
+    EXECUTION_PLAN_CACHE_MAXIMUM_SIZE("execution-plan-cache-maximum-size", String.valueOf(4096L), long.class),
+    
+    /**
+     * Max estimated bytes of groups in memory for group by merging, groups exceed it will be spilled to temporary files.
+     * 
+     * <p>
+     * 0 means unlimited.
+     * </p>
+     */
+    GROUP_BY_MERGE_MAX_MEMORY_BYTES("group-by-merge-max-memory-bytes", String.valueOf(0L), long.class),
+    
+    /**
+     * Rows to be prefetched for each query result in order by stream merging.
+     * 
+     * <p>
+     * 0 means disable prefetching.
+     * </p>
+     */
+    ORDER_BY_MERGE_PREFETCH_SIZE("order-by-merge-prefetch-size", String.valueOf(0), int.class),
+    
+    /**
+     * Proxy frontend executor type, PLATFORM, VIRTUAL or BOUNDED.
+     */
+    PROXY_FRONTEND_EXECUTOR_TYPE("proxy-frontend-executor-type", FrontendExecutorType.PLATFORM.name(), FrontendExecutorType.class),
+    
+    /**
+     * Proxy frontend executor size for BOUNDED executor type.
+     *
+     * <p>
+     * 0 means twice of available processors.
+     * </p>
+     */
+    PROXY_FRONTEND_EXECUTOR_SIZE("proxy-frontend-executor-size", String.valueOf(0), int.class),
+    
+    /**
+     * Whether select connection mode adaptively by observed result rows and connection acquisition time.
+     */
+    ADAPTIVE_CONNECTION_MODE_ENABLED("adaptive-connection-mode-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max average rows of SQL template regarded as small result for adaptive connection mode selection.
+     */
+    ADAPTIVE_CONNECTION_MODE_SMALL_RESULT_ROWS("adaptive-connection-mode-small-result-rows", String.valueOf(1000L), long.class),
+    
+    /**
+     * Min average milliseconds of connection acquisition regarded as connection pool pressure for adaptive connection mode selection.
+     */
+    ADAPTIVE_CONNECTION_MODE_ACQUIRE_PRESSURE_MILLISECONDS("adaptive-connection-mode-acquire-pressure-milliseconds", String.valueOf(10L), long.class),
+    
+    /**
+     * Flush threshold for bytes buffered in frontend channel for ShardingSphere-Proxy.
+     */
+    PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD("proxy-frontend-flush-bytes-threshold", String.valueOf(64 * 1024), long.class),
+    
+    /**
+     * Max milliseconds of records from databases staying unflushed for ShardingSphere-Proxy.
+     */
+    PROXY_FRONTEND_FLUSH_INTERVAL_MILLISECONDS("proxy-frontend-flush-interval-milliseconds", String.valueOf(100), long.class),
+    
+    /**
+     * Maximum size of prepared statements cached for each physical connection of data sources for ShardingSphere-Proxy.
+     *
+     * <p>
+     * 0 means disable prepared statement cache.
+     * </p>
+     */
+    PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE("proxy-backend-prepared-statement-cache-size", String.valueOf(0), int.class),
+    
+    /**
+     * Whether to batch pipelined INSERT messages of PostgreSQL extended query protocol until Sync for ShardingSphere-Proxy.
+     */
+    PROXY_FRONTEND_POSTGRESQL_BATCH_INSERT_ENABLED("proxy-frontend-postgresql-batch-insert-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max rows of each multi-row INSERT which consolidated from rows of batch INSERT before routing.
+     * 
+     * <p>
+     * Rows are also limited by max bind parameters of database. 0 or 1 means disable consolidation.
+     * </p>
+     */
+    BATCH_INSERT_CONSOLIDATION_MAX_ROWS("batch-insert-consolidation-max-rows", String.valueOf(0), int.class),
+    
+    /**
+     * Max estimated bytes of SQL and parameters of each multi-row INSERT which consolidated from batch INSERT.
+     */
+    BATCH_INSERT_CONSOLIDATION_MAX_BYTES("batch-insert-consolidation-max-bytes", String.valueOf(4 * 1024 * 1024), int.class);
     
     private final String key;
     
@@ -49,6 +49,18 @@ public final class TypedPropertyValue {
                 throw new TypedPropertyValueException(key, value);
             }
         }
+        if (key.getType().isEnum()) {
+            try {
+                return createEnumValue(key.getType(), value);
+            } catch (final IllegalArgumentException ex) {
+                throw new TypedPropertyValueException(key, value);
+            }
+        }
         return value;
     }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object createEnumValue(final Class<?> type, final String value) {
+        return Enum.valueOf((Class<? extends Enum>) type, value.trim().toUpperCase());
+    }
 }
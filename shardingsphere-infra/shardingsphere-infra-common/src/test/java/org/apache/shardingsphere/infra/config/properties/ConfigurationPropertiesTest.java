@@ -39,6 +39,24 @@ public final class ConfigurationPropertiesTest {
         props.setProperty(ConfigurationPropertyKey.PROXY_TRANSACTION_TYPE.getKey(), "XA");
         props.setProperty(ConfigurationPropertyKey.PROXY_HINT_ENABLED.getKey(), Boolean.TRUE.toString());
         props.setProperty(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED.getKey(), Boolean.TRUE.toString());
+        props.setProperty(ConfigurationPropertyKey.SQL_STATEMENT_CACHE_MAXIMUM_SIZE.getKey(), "1024");
+        props.setProperty(ConfigurationPropertyKey.SQL_LITERAL_NORMALIZED_CACHE_ENABLED.getKey(), Boolean.TRUE.toString());
+        props.setProperty(ConfigurationPropertyKey.PROXY_SQL_PARSER_WARM_UP_ENABLED.getKey(), Boolean.TRUE.toString());
+        props.setProperty(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_ENABLED.getKey(), Boolean.TRUE.toString());
+        props.setProperty(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_MAXIMUM_SIZE.getKey(), "1024");
+        props.setProperty(ConfigurationPropertyKey.GROUP_BY_MERGE_MAX_MEMORY_BYTES.getKey(), "67108864");
+        props.setProperty(ConfigurationPropertyKey.ORDER_BY_MERGE_PREFETCH_SIZE.getKey(), "64");
+        props.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_TYPE.getKey(), "virtual");
+        props.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE.getKey(), "16");
+        props.setProperty(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED.getKey(), Boolean.TRUE.toString());
+        props.setProperty(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_SMALL_RESULT_ROWS.getKey(), "100");
+        props.setProperty(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ACQUIRE_PRESSURE_MILLISECONDS.getKey(), "5");
+        props.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD.getKey(), "1024");
+        props.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_INTERVAL_MILLISECONDS.getKey(), "10");
+        props.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE.getKey(), "256");
+        props.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_POSTGRESQL_BATCH_INSERT_ENABLED.getKey(), Boolean.TRUE.toString());
+        props.setProperty(ConfigurationPropertyKey.BATCH_INSERT_CONSOLIDATION_MAX_ROWS.getKey(), "1000");
+        props.setProperty(ConfigurationPropertyKey.BATCH_INSERT_CONSOLIDATION_MAX_BYTES.getKey(), "1048576");
         ConfigurationProperties actual = new ConfigurationProperties(props);
         assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
@@ -48,6 +66,24 @@ public final class ConfigurationPropertiesTest {
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_TRANSACTION_TYPE), is("XA"));
         assertTrue(actual.getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED));
         assertTrue(actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_STATEMENT_CACHE_MAXIMUM_SIZE), is(1024L));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_LITERAL_NORMALIZED_CACHE_ENABLED));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.PROXY_SQL_PARSER_WARM_UP_ENABLED));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_MAXIMUM_SIZE), is(1024L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_MAX_MEMORY_BYTES), is(67108864L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.ORDER_BY_MERGE_PREFETCH_SIZE), is(64));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_TYPE), is(FrontendExecutorType.VIRTUAL));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE), is(16));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_SMALL_RESULT_ROWS), is(100L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ACQUIRE_PRESSURE_MILLISECONDS), is(5L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD), is(1024L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_INTERVAL_MILLISECONDS), is(10L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE), is(256));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_POSTGRESQL_BATCH_INSERT_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.BATCH_INSERT_CONSOLIDATION_MAX_ROWS), is(1000));
+        assertThat(actual.getValue(ConfigurationPropertyKey.BATCH_INSERT_CONSOLIDATION_MAX_BYTES), is(1048576));
     }
     
     @Test
@@ -61,5 +97,25 @@ public final class ConfigurationPropertiesTest {
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_TRANSACTION_TYPE), is("LOCAL"));
         assertFalse(actual.getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED));
         assertFalse(actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_STATEMENT_CACHE_INITIAL_CAPACITY), is(2000));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_STATEMENT_CACHE_MAXIMUM_SIZE), is(65535L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_STATEMENT_CACHE_CONCURRENCY_LEVEL), is(4));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.SQL_LITERAL_NORMALIZED_CACHE_ENABLED));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.PROXY_SQL_PARSER_WARM_UP_ENABLED));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_MAXIMUM_SIZE), is(4096L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_MAX_MEMORY_BYTES), is(0L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.ORDER_BY_MERGE_PREFETCH_SIZE), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_TYPE), is(FrontendExecutorType.PLATFORM));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE), is(0));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_SMALL_RESULT_ROWS), is(1000L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ACQUIRE_PRESSURE_MILLISECONDS), is(10L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD), is(65536L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_INTERVAL_MILLISECONDS), is(100L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE), is(0));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_POSTGRESQL_BATCH_INSERT_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.BATCH_INSERT_CONSOLIDATION_MAX_ROWS), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.BATCH_INSERT_CONSOLIDATION_MAX_BYTES), is(4 * 1024 * 1024));
     }
 }
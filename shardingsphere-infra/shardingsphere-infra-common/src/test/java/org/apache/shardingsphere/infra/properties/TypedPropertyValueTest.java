@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.properties;
 
+import org.apache.shardingsphere.infra.properties.fixture.TestTypedPropertyEnum;
 import org.apache.shardingsphere.infra.properties.fixture.TestTypedPropertyKey;
 import org.junit.Test;
 
@@ -60,6 +61,16 @@ public final class TypedPropertyValueTest {
         new TypedPropertyValue(TestTypedPropertyKey.LONG_VALUE, "test");
     }
     
+    @Test
+    public void assertGetEnumValue() throws TypedPropertyValueException {
+        assertThat(new TypedPropertyValue(TestTypedPropertyKey.ENUM_VALUE, "bar").getValue(), is(TestTypedPropertyEnum.BAR));
+    }
+    
+    @Test(expected = TypedPropertyValueException.class)
+    public void assertGetInvalidEnumValue() throws TypedPropertyValueException {
+        new TypedPropertyValue(TestTypedPropertyKey.ENUM_VALUE, "test");
+    }
+    
     @Test
     public void assertGetStringValue() throws TypedPropertyValueException {
         assertThat(new TypedPropertyValue(TestTypedPropertyKey.STRING_VALUE, "new_value").getValue(), is("new_value"));
@@ -37,7 +37,9 @@ public enum TestTypedPropertyKey implements TypedPropertyKey {
     
     LONG_OBJECT_VALUE("Long", "1000", Long.class),
     
-    STRING_VALUE("String", "value", String.class);
+    STRING_VALUE("String", "value", String.class),
+    
+    ENUM_VALUE("enum", "FOO", TestTypedPropertyEnum.class);
     
     private final String key;
     
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Execution plan.
+ *
+ * <p>
+ * Execution plan is the immutable skeleton of a SQL template, which holds rewritten SQL of each route unit.
+ * Rewritten SQLs of the plan take parameters of SQL template without change, so parameters of each execution are spliced into them directly.
+ * The plan caches rewriting only, binding and routing still run for each execution, so results of sharding algorithms are never reused.
+ * </p>
+ */
+public final class ExecutionPlan {
+    
+    private final Map<ExecutionPlanUnitKey, ExecutionPlanUnit> units = new ConcurrentHashMap<>();
+    
+    @Getter
+    private volatile boolean cacheable = true;
+    
+    /**
+     * Find execution units.
+     *
+     * @param routeContext route context
+     * @param parameters parameters of SQL template
+     * @return execution units, empty if rewritten SQL of any route unit is absent
+     */
+    public Optional<Collection<ExecutionUnit>> findExecutionUnits(final RouteContext routeContext, final List<Object> parameters) {
+        Collection<ExecutionUnit> result = new LinkedHashSet<>(routeContext.getRouteUnits().size(), 1);
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            ExecutionPlanUnit unit = units.get(new ExecutionPlanUnitKey(each, routeContext.isSingleRouting()));
+            if (null == unit) {
+                return Optional.empty();
+            }
+            result.add(new ExecutionUnit(unit.getDataSourceName(), new SQLUnit(unit.getSql(), new ArrayList<>(parameters), unit.getTableRouteMappers())));
+        }
+        return Optional.of(result);
+    }
+    
+    /**
+     * Add rewritten SQLs of route units.
+     *
+     * <p>
+     * Rewritten SQLs are added only if every route unit takes placeholder parameters without change,
+     * otherwise the plan is marked as not cacheable because parameters of each execution can not be spliced into it.
+     * </p>
+     *
+     * @param routeContext route context
+     * @param placeholderRewriteResult rewrite result with placeholder parameters
+     * @param placeholderParameters placeholder parameters
+     * @return added or not
+     */
+    public boolean addUnits(final RouteContext routeContext, final RouteSQLRewriteResult placeholderRewriteResult, final List<Object> placeholderParameters) {
+        Map<ExecutionPlanUnitKey, ExecutionPlanUnit> toBeAdded = new HashMap<>(placeholderRewriteResult.getSqlRewriteUnits().size(), 1);
+        for (Entry<RouteUnit, SQLRewriteUnit> entry : placeholderRewriteResult.getSqlRewriteUnits().entrySet()) {
+            if (!isSameParameters(placeholderParameters, entry.getValue().getParameters())) {
+                markNotCacheable();
+                return false;
+            }
+            toBeAdded.put(new ExecutionPlanUnitKey(entry.getKey(), routeContext.isSingleRouting()), new ExecutionPlanUnit(entry.getKey(), entry.getValue().getSql()));
+        }
+        units.putAll(toBeAdded);
+        return true;
+    }
+    
+    private boolean isSameParameters(final List<Object> expected, final List<Object> actual) {
+        if (expected.size() != actual.size()) {
+            return false;
+        }
+        int index = 0;
+        for (Object each : actual) {
+            if (each != expected.get(index++)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Mark execution plan as not cacheable.
+     */
+    public void markNotCacheable() {
+        cacheable = false;
+        units.clear();
+    }
+    
+    @EqualsAndHashCode
+    private static final class ExecutionPlanUnitKey {
+        
+        private final RouteMapper dataSourceMapper;
+        
+        private final List<RouteMapper> tableMappers;
+        
+        private final boolean singleRouting;
+        
+        ExecutionPlanUnitKey(final RouteUnit routeUnit, final boolean singleRouting) {
+            dataSourceMapper = routeUnit.getDataSourceMapper();
+            tableMappers = new ArrayList<>(routeUnit.getTableMappers());
+            this.singleRouting = singleRouting;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class ExecutionPlanUnit {
+        
+        private final String dataSourceName;
+        
+        private final String sql;
+        
+        private final List<RouteMapper> tableRouteMappers;
+        
+        ExecutionPlanUnit(final RouteUnit routeUnit, final String sql) {
+            this(routeUnit.getDataSourceMapper().getActualName(), sql, Collections.unmodifiableList(new ArrayList<>(routeUnit.getTableMappers())));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.eventbus.Subscribe;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.refresher.event.SchemaAlteredEvent;
+
+/**
+ * Execution plan cache.
+ *
+ * <p>
+ * Cache execution plans by SQL template for each meta data.
+ * Plans of schema are invalidated when schema altered, rules changed or resources changed.
+ * </p>
+ */
+public final class ExecutionPlanCache {
+    
+    private static final ExecutionPlanCache INSTANCE = new ExecutionPlanCache();
+    
+    private final Cache<ShardingSphereMetaData, MetaDataExecutionPlans> metaDataExecutionPlans = CacheBuilder.newBuilder().weakKeys().build();
+    
+    private ExecutionPlanCache() {
+        ShardingSphereEventBus.getInstance().register(this);
+    }
+    
+    /**
+     * Get execution plan cache.
+     *
+     * @return execution plan cache
+     */
+    public static ExecutionPlanCache getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get execution plan.
+     *
+     * @param sql SQL template
+     * @param metaData ShardingSphere meta data
+     * @param props configuration properties
+     * @return execution plan
+     */
+    public ExecutionPlan get(final String sql, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
+        Cache<String, ExecutionPlan> executionPlans = getExecutionPlans(metaData, props);
+        ExecutionPlan result = executionPlans.getIfPresent(sql);
+        if (null == result) {
+            result = new ExecutionPlan();
+            executionPlans.put(sql, result);
+        }
+        return result;
+    }
+    
+    private Cache<String, ExecutionPlan> getExecutionPlans(final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
+        MetaDataExecutionPlans result = metaDataExecutionPlans.getIfPresent(metaData);
+        if (null == result || props != result.getProps()) {
+            result = new MetaDataExecutionPlans(props, CacheBuilder.newBuilder().maximumSize(props.<Long>getValue(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_MAXIMUM_SIZE)).build());
+            metaDataExecutionPlans.put(metaData, result);
+        }
+        return result.getExecutionPlans();
+    }
+    
+    /**
+     * Invalidate execution plans of altered schema.
+     *
+     * @param event schema altered event
+     */
+    @Subscribe
+    public void invalidate(final SchemaAlteredEvent event) {
+        invalidate(event.getSchemaName());
+    }
+    
+    /**
+     * Invalidate execution plans of schema.
+     *
+     * @param schemaName schema name
+     */
+    public void invalidate(final String schemaName) {
+        metaDataExecutionPlans.asMap().keySet().removeIf(each -> each.getName().equals(schemaName));
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class MetaDataExecutionPlans {
+        
+        private final ConfigurationProperties props;
+        
+        private final Cache<String, ExecutionPlan> executionPlans;
+    }
+}
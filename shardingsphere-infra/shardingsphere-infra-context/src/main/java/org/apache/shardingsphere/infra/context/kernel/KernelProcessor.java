@@ -22,12 +22,23 @@ import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Kernel processor.
@@ -44,23 +55,65 @@ public final class KernelProcessor {
      */
     public ExecutionContext generateExecutionContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
         RouteContext routeContext = route(logicSQL, metaData, props);
-        SQLRewriteResult rewriteResult = rewrite(logicSQL, metaData, props, routeContext);
-        ExecutionContext result = createExecutionContext(logicSQL, metaData, routeContext, rewriteResult);
+        Collection<ExecutionUnit> executionUnits = isExecutionPlanCacheable(logicSQL, props, routeContext)
+                ? getExecutionUnits(ExecutionPlanCache.getInstance().get(logicSQL.getSql(), metaData, props), logicSQL, metaData, props, routeContext)
+                : ExecutionContextBuilder.build(metaData, rewrite(logicSQL, logicSQL.getParameters(), metaData, props, routeContext), logicSQL.getSqlStatementContext());
+        ExecutionContext result = new ExecutionContext(logicSQL.getSqlStatementContext(), executionUnits, routeContext);
         logSQL(logicSQL, props, result);
         return result;
     }
     
-    private RouteContext route(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
-        return new SQLRouteEngine(metaData.getRuleMetaData().getRules(), props).route(logicSQL, metaData);
+    private boolean isExecutionPlanCacheable(final LogicSQL logicSQL, final ConfigurationProperties props, final RouteContext routeContext) {
+        if (!props.<Boolean>getValue(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_ENABLED) || routeContext.getRouteUnits().isEmpty() || routeContext.isToCalcite()) {
+            return false;
+        }
+        SQLStatement sqlStatement = logicSQL.getSqlStatementContext().getSqlStatement();
+        return sqlStatement instanceof SelectStatement || sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement;
+    }
+    
+    private Collection<ExecutionUnit> getExecutionUnits(final ExecutionPlan executionPlan,
+                                                        final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props, final RouteContext routeContext) {
+        if (executionPlan.isCacheable()) {
+            Optional<Collection<ExecutionUnit>> result = executionPlan.findExecutionUnits(routeContext, logicSQL.getParameters());
+            if (!result.isPresent() && addExecutionPlanUnits(executionPlan, logicSQL, metaData, props, routeContext)) {
+                result = executionPlan.findExecutionUnits(routeContext, logicSQL.getParameters());
+            }
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        return ExecutionContextBuilder.build(metaData, rewrite(logicSQL, logicSQL.getParameters(), metaData, props, routeContext), logicSQL.getSqlStatementContext());
     }
     
-    private SQLRewriteResult rewrite(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props, final RouteContext routeContext) {
-        return new SQLRewriteEntry(
-                metaData.getSchema(), props, metaData.getRuleMetaData().getRules()).rewrite(logicSQL.getSql(), logicSQL.getParameters(), logicSQL.getSqlStatementContext(), routeContext);
+    private boolean addExecutionPlanUnits(final ExecutionPlan executionPlan,
+                                          final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props, final RouteContext routeContext) {
+        List<Object> placeholderParameters = new ArrayList<>(logicSQL.getParameters().size());
+        for (int i = 0; i < logicSQL.getParameters().size(); i++) {
+            placeholderParameters.add(new Object());
+        }
+        SQLRewriteResult placeholderRewriteResult;
+        try {
+            placeholderRewriteResult = rewrite(logicSQL, placeholderParameters, metaData, props, routeContext);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            executionPlan.markNotCacheable();
+            return false;
+        }
+        if (placeholderRewriteResult instanceof RouteSQLRewriteResult) {
+            return executionPlan.addUnits(routeContext, (RouteSQLRewriteResult) placeholderRewriteResult, placeholderParameters);
+        }
+        executionPlan.markNotCacheable();
+        return false;
+    }
+    
+    private RouteContext route(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
+        return new SQLRouteEngine(metaData.getRuleMetaData().getRules(), props).route(logicSQL, metaData);
     }
     
-    private ExecutionContext createExecutionContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final RouteContext routeContext, final SQLRewriteResult rewriteResult) {
-        return new ExecutionContext(logicSQL.getSqlStatementContext(), ExecutionContextBuilder.build(metaData, rewriteResult, logicSQL.getSqlStatementContext()), routeContext);
+    private SQLRewriteResult rewrite(final LogicSQL logicSQL, final List<Object> parameters,
+                                     final ShardingSphereMetaData metaData, final ConfigurationProperties props, final RouteContext routeContext) {
+        return new SQLRewriteEntry(metaData.getSchema(), props, metaData.getRuleMetaData().getRules()).rewrite(logicSQL.getSql(), parameters, logicSQL.getSqlStatementContext(), routeContext);
     }
     
     private void logSQL(final LogicSQL logicSQL, final ConfigurationProperties props, final ExecutionContext executionContext) {
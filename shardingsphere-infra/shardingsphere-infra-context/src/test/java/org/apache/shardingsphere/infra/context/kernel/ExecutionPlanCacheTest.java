@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.refresher.event.SchemaAlteredEvent;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class ExecutionPlanCacheTest {
+    
+    private static final String SQL = "SELECT * FROM tbl WHERE id = ?";
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
+    
+    @Test
+    public void assertGet() {
+        ShardingSphereMetaData metaData = createMetaData("logic_schema");
+        ExecutionPlan expected = ExecutionPlanCache.getInstance().get(SQL, metaData, props);
+        assertThat(ExecutionPlanCache.getInstance().get(SQL, metaData, props), sameInstance(expected));
+        assertThat(ExecutionPlanCache.getInstance().get("SELECT * FROM tbl WHERE name = ?", metaData, props), not(sameInstance(expected)));
+        assertThat(ExecutionPlanCache.getInstance().get(SQL, createMetaData("logic_schema"), props), not(sameInstance(expected)));
+        assertThat(ExecutionPlanCache.getInstance().get(SQL, metaData, new ConfigurationProperties(new Properties())), not(sameInstance(expected)));
+    }
+    
+    @Test
+    public void assertInvalidateBySchemaAlteredEvent() {
+        ShardingSphereMetaData metaData = createMetaData("altered_schema");
+        ShardingSphereMetaData otherMetaData = createMetaData("other_schema");
+        ExecutionPlan expected = ExecutionPlanCache.getInstance().get(SQL, metaData, props);
+        ExecutionPlan otherExpected = ExecutionPlanCache.getInstance().get(SQL, otherMetaData, props);
+        ShardingSphereEventBus.getInstance().post(new SchemaAlteredEvent("altered_schema", metaData.getSchema()));
+        assertThat(ExecutionPlanCache.getInstance().get(SQL, metaData, props), not(sameInstance(expected)));
+        assertThat(ExecutionPlanCache.getInstance().get(SQL, otherMetaData, props), sameInstance(otherExpected));
+    }
+    
+    @Test
+    public void assertInvalidateBySchemaName() {
+        ShardingSphereMetaData metaData = createMetaData("changed_schema");
+        ShardingSphereMetaData otherMetaData = createMetaData("other_schema");
+        ExecutionPlan expected = ExecutionPlanCache.getInstance().get(SQL, metaData, props);
+        ExecutionPlan otherExpected = ExecutionPlanCache.getInstance().get(SQL, otherMetaData, props);
+        ExecutionPlanCache.getInstance().invalidate("changed_schema");
+        assertThat(ExecutionPlanCache.getInstance().get(SQL, metaData, props), not(sameInstance(expected)));
+        assertThat(ExecutionPlanCache.getInstance().get(SQL, otherMetaData, props), sameInstance(otherExpected));
+    }
+    
+    private ShardingSphereMetaData createMetaData(final String name) {
+        return new ShardingSphereMetaData(name, mock(ShardingSphereResource.class), new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.emptyList()), mock(ShardingSphereSchema.class));
+    }
+}
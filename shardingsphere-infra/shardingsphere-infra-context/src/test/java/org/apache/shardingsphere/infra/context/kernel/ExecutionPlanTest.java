@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ExecutionPlanTest {
+    
+    private static final String SQL = "SELECT * FROM tbl_0 WHERE id = ?";
+    
+    private final List<Object> placeholderParameters = Collections.singletonList(new Object());
+    
+    @Test
+    public void assertFindExecutionUnitsWithoutUnits() {
+        assertFalse(new ExecutionPlan().findExecutionUnits(createRouteContext(createRouteUnit("ds_0")), Collections.singletonList(1)).isPresent());
+    }
+    
+    @Test
+    public void assertFindExecutionUnitsWithParametersSpliced() {
+        ExecutionPlan executionPlan = new ExecutionPlan();
+        RouteUnit routeUnit = createRouteUnit("ds_0");
+        assertTrue(executionPlan.addUnits(createRouteContext(routeUnit), createRewriteResult(routeUnit, placeholderParameters), placeholderParameters));
+        assertTrue(executionPlan.isCacheable());
+        RouteUnit equivalentRouteUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), new LinkedHashSet<>(Collections.singletonList(new RouteMapper("tbl", "tbl_0"))));
+        Optional<Collection<ExecutionUnit>> actual = executionPlan.findExecutionUnits(createRouteContext(equivalentRouteUnit), Collections.singletonList(2));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().size(), is(1));
+        ExecutionUnit actualUnit = actual.get().iterator().next();
+        assertThat(actualUnit.getDataSourceName(), is("ds_0"));
+        assertThat(actualUnit.getSqlUnit().getSql(), is(SQL));
+        assertThat(actualUnit.getSqlUnit().getParameters(), is(Collections.<Object>singletonList(2)));
+        assertThat(actualUnit.getSqlUnit().getTableRouteMappers(), is(Collections.singletonList(new RouteMapper("tbl", "tbl_0"))));
+    }
+    
+    @Test
+    public void assertFindExecutionUnitsWithOtherRoutingShape() {
+        ExecutionPlan executionPlan = new ExecutionPlan();
+        RouteUnit routeUnit = createRouteUnit("ds_0");
+        executionPlan.addUnits(createRouteContext(routeUnit), createRewriteResult(routeUnit, placeholderParameters), placeholderParameters);
+        assertFalse(executionPlan.findExecutionUnits(createRouteContext(routeUnit, createRouteUnit("ds_1")), Collections.singletonList(1)).isPresent());
+        assertTrue(executionPlan.isCacheable());
+    }
+    
+    @Test
+    public void assertAddUnitsWithRewrittenParameters() {
+        ExecutionPlan executionPlan = new ExecutionPlan();
+        RouteUnit routeUnit = createRouteUnit("ds_0");
+        assertFalse(executionPlan.addUnits(createRouteContext(routeUnit), createRewriteResult(routeUnit, Collections.singletonList(new Object())), placeholderParameters));
+        assertFalse(executionPlan.isCacheable());
+        assertFalse(executionPlan.findExecutionUnits(createRouteContext(routeUnit), Collections.singletonList(1)).isPresent());
+    }
+    
+    @Test
+    public void assertAddUnitsWithRemovedParameters() {
+        ExecutionPlan executionPlan = new ExecutionPlan();
+        RouteUnit routeUnit = createRouteUnit("ds_0");
+        assertFalse(executionPlan.addUnits(createRouteContext(routeUnit), createRewriteResult(routeUnit, Collections.emptyList()), placeholderParameters));
+        assertFalse(executionPlan.isCacheable());
+    }
+    
+    @Test
+    public void assertMarkNotCacheable() {
+        ExecutionPlan executionPlan = new ExecutionPlan();
+        executionPlan.markNotCacheable();
+        assertFalse(executionPlan.isCacheable());
+    }
+    
+    private RouteUnit createRouteUnit(final String dataSourceName) {
+        return new RouteUnit(new RouteMapper("ds", dataSourceName), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+    }
+    
+    private RouteContext createRouteContext(final RouteUnit... routeUnits) {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().addAll(Arrays.asList(routeUnits));
+        return result;
+    }
+    
+    private RouteSQLRewriteResult createRewriteResult(final RouteUnit routeUnit, final List<Object> parameters) {
+        return new RouteSQLRewriteResult(Collections.singletonMap(routeUnit, new SQLRewriteUnit(SQL, parameters)));
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
 import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
@@ -34,7 +35,10 @@ import java.util.Collections;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -54,6 +58,34 @@ public final class KernelProcessorTest {
         assertThat(actual.getExecutionUnits().size(), is(1));
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertGenerateExecutionContextWithExecutionPlanCache() {
+        SQLStatementContext<SQLStatement> sqlStatementContext = mock(SQLStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(mock(SelectStatement.class));
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData("logic_schema",
+                mock(ShardingSphereResource.class, RETURNS_DEEP_STUBS), new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.emptyList()), mock(ShardingSphereSchema.class));
+        Properties props = createProperties();
+        props.setProperty(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_ENABLED.getKey(), Boolean.TRUE.toString());
+        ConfigurationProperties configurationProperties = new ConfigurationProperties(props);
+        KernelProcessor kernelProcessor = new KernelProcessor();
+        ExecutionContext expected = kernelProcessor.generateExecutionContext(
+                new LogicSQL(sqlStatementContext, "SELECT * FROM tbl WHERE id = ?", Collections.singletonList(1)), metaData, configurationProperties);
+        ExecutionContext actual = kernelProcessor.generateExecutionContext(
+                new LogicSQL(sqlStatementContext, "SELECT * FROM tbl WHERE id = ?", Collections.singletonList(2)), metaData, configurationProperties);
+        ExecutionPlan executionPlan = ExecutionPlanCache.getInstance().get("SELECT * FROM tbl WHERE id = ?", metaData, configurationProperties);
+        assertTrue(executionPlan.isCacheable());
+        assertTrue(executionPlan.findExecutionUnits(actual.getRouteContext(), Collections.singletonList(3)).isPresent());
+        assertThat(actual.getRouteContext(), not(sameInstance(expected.getRouteContext())));
+        assertThat(actual.getExecutionUnits().size(), is(1));
+        ExecutionUnit expectedUnit = expected.getExecutionUnits().iterator().next();
+        ExecutionUnit actualUnit = actual.getExecutionUnits().iterator().next();
+        assertThat(actualUnit, not(sameInstance(expectedUnit)));
+        assertThat(actualUnit.getSqlUnit().getSql(), is(expectedUnit.getSqlUnit().getSql()));
+        assertThat(expectedUnit.getSqlUnit().getParameters(), is(Collections.<Object>singletonList(1)));
+        assertThat(actualUnit.getSqlUnit().getParameters(), is(Collections.<Object>singletonList(2)));
+    }
+    
     private Properties createProperties() {
         Properties result = new Properties();
         result.setProperty(ConfigurationPropertyKey.SQL_SHOW.getKey(), Boolean.TRUE.toString());
@@ -17,7 +17,10 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
@@ -30,9 +33,11 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 /**
@@ -82,6 +87,41 @@ public final class ExecutorEngine implements AutoCloseable {
                 : parallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
     }
     
+    /**
+     * Execute asynchronously.
+     *
+     * <p>
+     * For parallel execution, all execution groups including the first one are submitted to executor service and composed by completion, 
+     * so trunk thread is never blocked by execution. The first execution group is still executed by first callback as trunk thread.
+     * For serial execution, execution groups are executed in trunk thread because of thread bound transaction resources, and the returned future is already completed.
+     * The returned future completes exceptionally with the original {@code SQLException} as cause if execution failed.
+     * </p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param serial whether using multi thread execute or not
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return future of execute result
+     */
+    public <I, O> CompletableFuture<List<O>> executeAsync(final ExecutionGroupContext<I> executionGroupContext,
+                                                          final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback, final boolean serial) {
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        if (!serial) {
+            return parallelExecuteAsync(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
+        }
+        CompletableFuture<List<O>> result = new CompletableFuture<>();
+        try {
+            result.complete(serialExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback));
+        } catch (final SQLException ex) {
+            result.completeExceptionally(ex);
+        }
+        return result;
+    }
+    
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
         List<O> result = new LinkedList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
@@ -97,6 +137,45 @@ public final class ExecutorEngine implements AutoCloseable {
         return getGroupResults(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures);
     }
     
+    private <I, O> CompletableFuture<List<O>> parallelExecuteAsync(final Iterator<ExecutionGroup<I>> executionGroups,
+                                                                   final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) {
+        Map<String, Object> dataMap = new LinkedHashMap<>(ExecutorDataMap.getValue());
+        ExecutionGroup<I> firstInputs = executionGroups.next();
+        ExecutorCallback<I, O> trunkCallback = null == firstCallback ? callback : firstCallback;
+        List<CompletableFuture<Collection<O>>> groupResultFutures = new LinkedList<>();
+        groupResultFutures.add(toCompletableFuture(executorServiceManager.getExecutorService().submit(() -> trunkCallback.execute(firstInputs.getInputs(), true, dataMap))));
+        while (executionGroups.hasNext()) {
+            ExecutionGroup<I> each = executionGroups.next();
+            groupResultFutures.add(toCompletableFuture(executorServiceManager.getExecutorService().submit(() -> callback.execute(each.getInputs(), false, dataMap))));
+        }
+        return CompletableFuture.allOf(groupResultFutures.toArray(new CompletableFuture[0])).thenApply(ignored -> getCompletedGroupResults(groupResultFutures));
+    }
+    
+    private <O> CompletableFuture<O> toCompletableFuture(final ListenableFuture<O> future) {
+        CompletableFuture<O> result = new CompletableFuture<>();
+        Futures.addCallback(future, new FutureCallback<O>() {
+            
+            @Override
+            public void onSuccess(final O value) {
+                result.complete(value);
+            }
+            
+            @Override
+            public void onFailure(final Throwable throwable) {
+                result.completeExceptionally(throwable);
+            }
+        }, MoreExecutors.directExecutor());
+        return result;
+    }
+    
+    private <O> List<O> getCompletedGroupResults(final Collection<CompletableFuture<Collection<O>>> groupResultFutures) {
+        List<O> result = new LinkedList<>();
+        for (CompletableFuture<Collection<O>> each : groupResultFutures) {
+            result.addAll(each.join());
+        }
+        return result;
+    }
+    
     private <I, O> Collection<O> syncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) throws SQLException {
         return callback.execute(executionGroup.getInputs(), true, ExecutorDataMap.getValue());
     }
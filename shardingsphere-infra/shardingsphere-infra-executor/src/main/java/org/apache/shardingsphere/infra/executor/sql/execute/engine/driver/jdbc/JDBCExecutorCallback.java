@@ -25,8 +25,12 @@ import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.JDBCMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
 import org.apache.shardingsphere.infra.executor.sql.hook.SPISQLExecutionHook;
 import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.SQLExecutionStatisticsRegistry;
 import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -83,6 +87,9 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
             SQLUnit sqlUnit = jdbcExecutionUnit.getExecutionUnit().getSqlUnit();
             sqlExecutionHook.start(jdbcExecutionUnit.getExecutionUnit().getDataSourceName(), sqlUnit.getSql(), sqlUnit.getParameters(), dataSourceMetaData, isTrunkThread, dataMap);
             T result = executeSQL(sqlUnit.getSql(), jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode());
+            if (Boolean.TRUE.equals(dataMap.get(SQLExecutionStatisticsRegistry.STATISTICS_REQUIRED_KEY))) {
+                recordExecution(sqlUnit.getSql(), result);
+            }
             sqlExecutionHook.finishSuccess();
             finishReport(dataMap, jdbcExecutionUnit);
             return result;
@@ -110,6 +117,24 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         return result;
     }
     
+    private void recordExecution(final String sql, final T executeResult) {
+        if (executeResult instanceof JDBCStreamQueryResult) {
+            ((JDBCStreamQueryResult) executeResult).setRowCountListener(rowCount -> SQLExecutionStatisticsRegistry.getInstance().recordExecution(sql, rowCount));
+            return;
+        }
+        SQLExecutionStatisticsRegistry.getInstance().recordExecution(sql, getRowCount(executeResult));
+    }
+    
+    private long getRowCount(final T executeResult) {
+        if (executeResult instanceof JDBCMemoryQueryResult) {
+            return ((JDBCMemoryQueryResult) executeResult).getRowCount();
+        }
+        if (executeResult instanceof UpdateResult) {
+            return ((UpdateResult) executeResult).getUpdateCount();
+        }
+        return executeResult instanceof Integer ? (Integer) executeResult : -1L;
+    }
+    
     private void finishReport(final Map<String, Object> dataMap, final SQLExecutionUnit executionUnit) {
         if (dataMap.containsKey(ExecuteProcessConstants.EXECUTE_ID.name())) {
             ExecuteProcessEngine.finish(dataMap.get(ExecuteProcessConstants.EXECUTE_ID.name()).toString(), executionUnit);
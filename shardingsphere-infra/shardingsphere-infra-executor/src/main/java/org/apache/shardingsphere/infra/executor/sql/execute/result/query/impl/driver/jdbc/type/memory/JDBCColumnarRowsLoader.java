@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column.MemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column.MemoryQueryResultColumnFactory;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * JDBC columnar rows loader.
+ * 
+ * <p>
+ * Column types are resolved once per result set, and values are stored in typed columns instead of boxed object per row.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JDBCColumnarRowsLoader {
+    
+    /**
+     * Load rows.
+     * 
+     * @param columnCount column count
+     * @param resultSet result set of JDBC
+     * @return columnar rows
+     * @throws SQLException SQL exception
+     */
+    public static ColumnarRows load(final int columnCount, final ResultSet resultSet) throws SQLException {
+        MemoryQueryResultColumn[] columns = createColumns(columnCount, resultSet.getMetaData());
+        int rowCount = 0;
+        while (resultSet.next()) {
+            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                columns[columnIndex - 1].load(resultSet, columnIndex);
+            }
+            rowCount++;
+        }
+        return new ColumnarRows(columns, rowCount);
+    }
+    
+    private static MemoryQueryResultColumn[] createColumns(final int columnCount, final ResultSetMetaData metaData) throws SQLException {
+        MemoryQueryResultColumn[] result = new MemoryQueryResultColumn[columnCount];
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            result[columnIndex - 1] = MemoryQueryResultColumnFactory.newInstance(metaData, columnIndex);
+        }
+        return result;
+    }
+}
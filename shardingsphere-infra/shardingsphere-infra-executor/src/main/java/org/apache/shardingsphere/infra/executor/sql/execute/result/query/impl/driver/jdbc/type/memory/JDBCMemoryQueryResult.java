@@ -17,18 +17,99 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
 
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column.MemoryQueryResultColumn;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Calendar;
 
 /**
  * JDBC query result for memory loading.
+ * 
+ * <p>
+ * Values are read from typed columns by row index directly, no row object is created for each row.
+ * </p>
  */
-public final class JDBCMemoryQueryResult extends AbstractMemoryQueryResult {
+public final class JDBCMemoryQueryResult implements QueryResult {
+    
+    @Getter
+    private final QueryResultMetaData metaData;
+    
+    private final MemoryQueryResultColumn[] columns;
+    
+    @Getter
+    private final int rowCount;
+    
+    private int currentRowIndex = -1;
+    
+    private boolean lastValueNull;
     
     public JDBCMemoryQueryResult(final ResultSet resultSet) throws SQLException {
-        super(new JDBCQueryResultMetaData(resultSet.getMetaData()), JDBCRowsLoader.load(resultSet.getMetaData().getColumnCount(), resultSet).iterator());
+        this(new JDBCQueryResultMetaData(resultSet.getMetaData()), JDBCColumnarRowsLoader.load(resultSet.getMetaData().getColumnCount(), resultSet));
+    }
+    
+    private JDBCMemoryQueryResult(final QueryResultMetaData metaData, final ColumnarRows rows) {
+        this.metaData = metaData;
+        columns = rows.getColumns();
+        rowCount = rows.getRowCount();
+    }
+    
+    @Override
+    public boolean next() {
+        if (currentRowIndex < rowCount) {
+            currentRowIndex++;
+        }
+        lastValueNull = false;
+        return currentRowIndex < rowCount;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        return getCurrentValue(columnIndex);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getCurrentValue(columnIndex);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        return getInputStream(getCurrentValue(columnIndex));
+    }
+    
+    @SneakyThrows(IOException.class)
+    private InputStream getInputStream(final Object value) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+        objectOutputStream.writeObject(value);
+        objectOutputStream.flush();
+        objectOutputStream.close();
+        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+    }
+    
+    private Object getCurrentValue(final int columnIndex) {
+        MemoryQueryResultColumn column = columns[columnIndex - 1];
+        lastValueNull = column.isNull(currentRowIndex);
+        return lastValueNull ? null : column.getValue(currentRowIndex);
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return currentRowIndex >= rowCount || lastValueNull;
+    }
+    
+    @Override
+    public void close() {
     }
 }
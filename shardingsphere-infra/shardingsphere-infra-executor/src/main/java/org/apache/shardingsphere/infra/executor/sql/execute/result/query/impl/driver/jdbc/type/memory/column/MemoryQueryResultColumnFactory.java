@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Memory query result column factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MemoryQueryResultColumnFactory {
+    
+    static final int INITIAL_CAPACITY = 16;
+    
+    static final int DICTIONARY_CAPACITY = 4096;
+    
+    /**
+     * Create new instance of memory query result column.
+     * 
+     * @param metaData result set meta data
+     * @param columnIndex column index
+     * @return new instance of memory query result column
+     * @throws SQLException SQL exception
+     */
+    public static MemoryQueryResultColumn newInstance(final ResultSetMetaData metaData, final int columnIndex) throws SQLException {
+        switch (metaData.getColumnType(columnIndex)) {
+            case Types.BOOLEAN:
+                return new BooleanMemoryQueryResultColumn();
+            case Types.TINYINT:
+            case Types.SMALLINT:
+                return new IntMemoryQueryResultColumn();
+            case Types.INTEGER:
+                return metaData.isSigned(columnIndex) ? new IntMemoryQueryResultColumn() : new LongMemoryQueryResultColumn();
+            case Types.BIGINT:
+                return metaData.isSigned(columnIndex) ? new LongMemoryQueryResultColumn() : new ObjectMemoryQueryResultColumn((resultSet, index) -> {
+                    BigDecimal bigDecimal = resultSet.getBigDecimal(index);
+                    return null == bigDecimal ? null : bigDecimal.toBigInteger();
+                });
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return new ObjectMemoryQueryResultColumn(ResultSet::getBigDecimal);
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return new DoubleMemoryQueryResultColumn();
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+                return new StringMemoryQueryResultColumn();
+            case Types.DATE:
+                return new ObjectMemoryQueryResultColumn(ResultSet::getDate);
+            case Types.TIME:
+                return new ObjectMemoryQueryResultColumn(ResultSet::getTime);
+            case Types.TIMESTAMP:
+                return new ObjectMemoryQueryResultColumn(ResultSet::getTimestamp);
+            case Types.CLOB:
+                return new ObjectMemoryQueryResultColumn(ResultSet::getClob);
+            case Types.BLOB:
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                return new ObjectMemoryQueryResultColumn(ResultSet::getBlob);
+            case Types.ARRAY:
+                return new ObjectMemoryQueryResultColumn(ResultSet::getArray);
+            default:
+                return new ObjectMemoryQueryResultColumn(ResultSet::getObject);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column;
+
+import lombok.RequiredArgsConstructor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Memory query result column for object values.
+ */
+@RequiredArgsConstructor
+public final class ObjectMemoryQueryResultColumn implements MemoryQueryResultColumn {
+    
+    private final ValueLoader valueLoader;
+    
+    private Object[] values = new Object[MemoryQueryResultColumnFactory.INITIAL_CAPACITY];
+    
+    private int size;
+    
+    @Override
+    public void load(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        Object value = valueLoader.load(resultSet, columnIndex);
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size << 1);
+        }
+        values[size++] = resultSet.wasNull() ? null : value;
+    }
+    
+    @Override
+    public boolean isNull(final int rowIndex) {
+        return null == values[rowIndex];
+    }
+    
+    @Override
+    public Object getValue(final int rowIndex) {
+        return values[rowIndex];
+    }
+    
+    /**
+     * Value loader.
+     */
+    @FunctionalInterface
+    public interface ValueLoader {
+        
+        /**
+         * Load value.
+         * 
+         * @param resultSet result set of JDBC
+         * @param columnIndex column index
+         * @return loaded value
+         * @throws SQLException SQL exception
+         */
+        Object load(ResultSet resultSet, int columnIndex) throws SQLException;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Memory query result column for string values.
+ * 
+ * <p>
+ * Values are dictionary encoded while distinct values are less than dictionary capacity, 
+ * so repeated values of low cardinality column share one string instance.
+ * Column falls back to plain storage if distinct values exceed dictionary capacity.
+ * </p>
+ */
+public final class StringMemoryQueryResultColumn implements MemoryQueryResultColumn {
+    
+    private static final int NULL_CODE = -1;
+    
+    private final int dictionaryCapacity;
+    
+    private Map<String, Integer> dictionary = new HashMap<>();
+    
+    private List<String> dictionaryValues = new ArrayList<>();
+    
+    private int[] codes = new int[MemoryQueryResultColumnFactory.INITIAL_CAPACITY];
+    
+    private String[] values;
+    
+    private int size;
+    
+    public StringMemoryQueryResultColumn() {
+        this(MemoryQueryResultColumnFactory.DICTIONARY_CAPACITY);
+    }
+    
+    public StringMemoryQueryResultColumn(final int dictionaryCapacity) {
+        this.dictionaryCapacity = dictionaryCapacity;
+    }
+    
+    @Override
+    public void load(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        String value = resultSet.getString(columnIndex);
+        if (resultSet.wasNull()) {
+            value = null;
+        }
+        if (null == values && null != value && !dictionary.containsKey(value) && dictionary.size() >= dictionaryCapacity) {
+            decodeDictionary();
+        }
+        if (null == values) {
+            addCode(null == value ? NULL_CODE : dictionary.computeIfAbsent(value, this::addDictionaryValue));
+        } else {
+            addValue(value);
+        }
+    }
+    
+    private int addDictionaryValue(final String value) {
+        dictionaryValues.add(value);
+        return dictionaryValues.size() - 1;
+    }
+    
+    private void addCode(final int code) {
+        if (size == codes.length) {
+            codes = Arrays.copyOf(codes, size << 1);
+        }
+        codes[size++] = code;
+    }
+    
+    private void addValue(final String value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size << 1);
+        }
+        values[size++] = value;
+    }
+    
+    private void decodeDictionary() {
+        values = new String[Math.max(codes.length, MemoryQueryResultColumnFactory.INITIAL_CAPACITY)];
+        for (int i = 0; i < size; i++) {
+            values[i] = NULL_CODE == codes[i] ? null : dictionaryValues.get(codes[i]);
+        }
+        codes = null;
+        dictionary = null;
+        dictionaryValues = null;
+    }
+    
+    /**
+     * Judge whether values are dictionary encoded or not.
+     * 
+     * @return values are dictionary encoded or not
+     */
+    public boolean isDictionaryEncoded() {
+        return null == values;
+    }
+    
+    @Override
+    public boolean isNull(final int rowIndex) {
+        return null == values ? NULL_CODE == codes[rowIndex] : null == values[rowIndex];
+    }
+    
+    /**
+     * Get string value.
+     * 
+     * @param rowIndex row index, start from 0
+     * @return string value, null if value of row is SQL NULL
+     */
+    public String getString(final int rowIndex) {
+        if (null != values) {
+            return values[rowIndex];
+        }
+        return NULL_CODE == codes[rowIndex] ? null : dictionaryValues.get(codes[rowIndex]);
+    }
+    
+    @Override
+    public Object getValue(final int rowIndex) {
+        return getString(rowIndex);
+    }
+}
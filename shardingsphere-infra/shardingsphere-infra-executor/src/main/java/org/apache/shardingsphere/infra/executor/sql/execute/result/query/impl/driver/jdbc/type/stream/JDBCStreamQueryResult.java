@@ -31,6 +31,7 @@ import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
+import java.util.function.LongConsumer;
 
 /**
  * JDBC query result for stream loading.
@@ -39,14 +40,34 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     
     private final ResultSet resultSet;
     
+    private long rowCount;
+    
+    private LongConsumer rowCountListener;
+    
     public JDBCStreamQueryResult(final ResultSet resultSet) throws SQLException {
         super(new JDBCQueryResultMetaData(resultSet.getMetaData()));
         this.resultSet = resultSet;
     }
     
+    /**
+     * Set listener of row count, which will be notified once when result set exhausted.
+     * 
+     * @param rowCountListener listener of row count
+     */
+    public void setRowCountListener(final LongConsumer rowCountListener) {
+        this.rowCountListener = rowCountListener;
+    }
+    
     @Override
     public boolean next() throws SQLException {
-        return resultSet.next();
+        boolean result = resultSet.next();
+        if (result) {
+            rowCount++;
+        } else if (null != rowCountListener) {
+            rowCountListener.accept(rowCount);
+            rowCountListener = null;
+        }
+        return result;
     }
     
     @Override
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+
+/**
+ * Connection mode decision.
+ */
+@RequiredArgsConstructor
+@Getter
+@ToString
+public final class ConnectionModeDecision {
+    
+    public static final double UNKNOWN = -1D;
+    
+    private final ConnectionMode connectionMode;
+    
+    private final int connectionSize;
+    
+    private final double averageRows;
+    
+    private final double averageConnectionAcquireMillis;
+    
+    public ConnectionModeDecision(final int sqlUnitSize, final int connectionSize, final double averageRows, final double averageConnectionAcquireMillis) {
+        this(connectionSize < sqlUnitSize ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY, connectionSize, averageRows, averageConnectionAcquireMillis);
+    }
+}
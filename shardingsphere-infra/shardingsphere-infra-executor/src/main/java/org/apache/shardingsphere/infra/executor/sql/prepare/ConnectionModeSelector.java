@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare;
+
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+
+import java.util.List;
+
+/**
+ * Connection mode selector.
+ */
+public interface ConnectionModeSelector {
+    
+    /**
+     * Select connection mode and connection size for SQL units of one data source.
+     * 
+     * @param dataSourceName data source name
+     * @param sqlUnits SQL units to be executed on the data source
+     * @param maxConnectionsSizePerQuery max connections size per query
+     * @return connection mode decision
+     */
+    ConnectionModeDecision select(String dataSourceName, List<SQLUnit> sqlUnits, int maxConnectionsSizePerQuery);
+    
+    /**
+     * Whether execution statistics and connection acquisition time are required.
+     * 
+     * @return execution statistics and connection acquisition time are required or not
+     */
+    boolean isStatisticsRequired();
+    
+    /**
+     * Callback after connections acquired, only be called if statistics required.
+     * 
+     * @param dataSourceName data source name
+     * @param connectionSize acquired connection size
+     * @param elapsedNanos elapsed nanoseconds for acquiring connections
+     */
+    void onConnectionsAcquired(String dataSourceName, int connectionSize, long elapsedNanos);
+}
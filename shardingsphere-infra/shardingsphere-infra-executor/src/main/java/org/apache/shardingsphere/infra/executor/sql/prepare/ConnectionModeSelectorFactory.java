@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.AdaptiveConnectionModeSelector;
+
+/**
+ * Connection mode selector factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ConnectionModeSelectorFactory {
+    
+    private static final ConnectionModeSelector DEFAULT_SELECTOR = new DefaultConnectionModeSelector();
+    
+    /**
+     * Create new instance of connection mode selector.
+     * 
+     * @param props configuration properties
+     * @return new instance of connection mode selector
+     */
+    public static ConnectionModeSelector newInstance(final ConfigurationProperties props) {
+        return props.<Boolean>getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED) ? new AdaptiveConnectionModeSelector(props) : DEFAULT_SELECTOR;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare;
+
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+
+import java.util.List;
+
+/**
+ * Default connection mode selector.
+ * 
+ * <p>
+ * Use one connection for each SQL unit unless it exceeds max connections size per query.
+ * </p>
+ */
+public final class DefaultConnectionModeSelector implements ConnectionModeSelector {
+    
+    @Override
+    public ConnectionModeDecision select(final String dataSourceName, final List<SQLUnit> sqlUnits, final int maxConnectionsSizePerQuery) {
+        return new ConnectionModeDecision(sqlUnits.size(), getConnectionSize(sqlUnits.size(), maxConnectionsSizePerQuery), ConnectionModeDecision.UNKNOWN, ConnectionModeDecision.UNKNOWN);
+    }
+    
+    /**
+     * Get connection size.
+     * 
+     * @param sqlUnitSize SQL unit size
+     * @param maxConnectionsSizePerQuery max connections size per query
+     * @return connection size
+     */
+    public static int getConnectionSize(final int sqlUnitSize, final int maxConnectionsSizePerQuery) {
+        return Math.max(Math.min(sqlUnitSize, maxConnectionsSizePerQuery), 1);
+    }
+    
+    @Override
+    public boolean isStatisticsRequired() {
+        return false;
+    }
+    
+    @Override
+    public void onConnectionsAcquired(final String dataSourceName, final int connectionSize, final long elapsedNanos) {
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.prepare.ConnectionModeDecision;
+import org.apache.shardingsphere.infra.executor.sql.prepare.ConnectionModeSelector;
+import org.apache.shardingsphere.infra.executor.sql.prepare.DefaultConnectionModeSelector;
+
+import java.util.List;
+
+/**
+ * Adaptive connection mode selector.
+ * 
+ * <p>
+ * Select connection size by observed rows of SQL templates and connection acquisition time of data source.
+ * If connection pool is under pressure, SQL units of small results share one connection by memory loading.
+ * Otherwise, including unknown results, the same as default connection mode selector, so max connections size per query is never exceeded.
+ * </p>
+ */
+public final class AdaptiveConnectionModeSelector implements ConnectionModeSelector {
+    
+    private static final long MIN_SAMPLES = 3L;
+    
+    private final SQLExecutionStatisticsRegistry registry = SQLExecutionStatisticsRegistry.getInstance();
+    
+    private final long smallResultRows;
+    
+    private final long acquirePressureMillis;
+    
+    public AdaptiveConnectionModeSelector(final ConfigurationProperties props) {
+        smallResultRows = props.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_SMALL_RESULT_ROWS);
+        acquirePressureMillis = props.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ACQUIRE_PRESSURE_MILLISECONDS);
+    }
+    
+    @Override
+    public ConnectionModeDecision select(final String dataSourceName, final List<SQLUnit> sqlUnits, final int maxConnectionsSizePerQuery) {
+        int defaultConnectionSize = DefaultConnectionModeSelector.getConnectionSize(sqlUnits.size(), maxConnectionsSizePerQuery);
+        double averageRows = getAverageRows(sqlUnits);
+        double averageConnectionAcquireMillis = registry.getConnectionAcquireMillis(dataSourceName).filter(each -> each.getCount() >= MIN_SAMPLES)
+                .map(MovingAverage::getValue).orElse(ConnectionModeDecision.UNKNOWN);
+        if (ConnectionModeDecision.UNKNOWN == averageRows) {
+            return new ConnectionModeDecision(sqlUnits.size(), defaultConnectionSize, averageRows, averageConnectionAcquireMillis);
+        }
+        if (averageConnectionAcquireMillis >= acquirePressureMillis && averageRows <= smallResultRows) {
+            return new ConnectionModeDecision(sqlUnits.size(), 1, averageRows, averageConnectionAcquireMillis);
+        }
+        return new ConnectionModeDecision(sqlUnits.size(), defaultConnectionSize, averageRows, averageConnectionAcquireMillis);
+    }
+    
+    private double getAverageRows(final List<SQLUnit> sqlUnits) {
+        double totalRows = 0D;
+        int count = 0;
+        for (SQLUnit each : sqlUnits) {
+            MovingAverage rows = registry.register(each.getSql()).getRows();
+            if (rows.getCount() >= MIN_SAMPLES) {
+                totalRows += rows.getValue();
+                count++;
+            }
+        }
+        return 0 == count ? ConnectionModeDecision.UNKNOWN : totalRows / count;
+    }
+    
+    @Override
+    public boolean isStatisticsRequired() {
+        return true;
+    }
+    
+    @Override
+    public void onConnectionsAcquired(final String dataSourceName, final int connectionSize, final long elapsedNanos) {
+        registry.recordConnectionAcquisition(dataSourceName, connectionSize, elapsedNanos);
+    }
+}
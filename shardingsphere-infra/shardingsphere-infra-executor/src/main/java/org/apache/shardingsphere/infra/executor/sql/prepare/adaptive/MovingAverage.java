@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+/**
+ * Exponentially weighted moving average.
+ */
+public final class MovingAverage {
+    
+    private static final double ALPHA = 0.2D;
+    
+    private double value;
+    
+    private long count;
+    
+    /**
+     * Record sample.
+     * 
+     * @param sample sample
+     */
+    public synchronized void record(final double sample) {
+        value = 0 == count ? sample : value + ALPHA * (sample - value);
+        count++;
+    }
+    
+    /**
+     * Get average value.
+     * 
+     * @return average value
+     */
+    public synchronized double getValue() {
+        return value;
+    }
+    
+    /**
+     * Get count of recorded samples.
+     * 
+     * @return count of recorded samples
+     */
+    public synchronized long getCount() {
+        return count;
+    }
+}
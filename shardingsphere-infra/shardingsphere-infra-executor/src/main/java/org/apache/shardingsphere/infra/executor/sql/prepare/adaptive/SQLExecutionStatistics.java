@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import lombok.Getter;
+
+/**
+ * SQL execution statistics of one SQL template.
+ */
+@Getter
+public final class SQLExecutionStatistics {
+    
+    private final MovingAverage rows = new MovingAverage();
+    
+    /**
+     * Record execution.
+     * 
+     * @param rowCount row count of query result or update count, negative means unknown
+     */
+    public void record(final long rowCount) {
+        if (rowCount >= 0) {
+            rows.record(rowCount);
+        }
+    }
+}
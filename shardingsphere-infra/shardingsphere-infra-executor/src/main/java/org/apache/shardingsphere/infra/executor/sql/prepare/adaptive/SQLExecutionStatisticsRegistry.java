@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * SQL execution statistics registry.
+ * 
+ * <p>
+ * Statistics are only recorded for SQL templates registered by adaptive connection mode selector,
+ * so recording is a cache lookup only if adaptive connection mode is disabled.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLExecutionStatisticsRegistry {
+    
+    /**
+     * Key of executor data map, whose value indicates whether execution statistics required by connection mode selector.
+     */
+    public static final String STATISTICS_REQUIRED_KEY = "SQL_EXECUTION_STATISTICS_REQUIRED";
+    
+    private static final long MAXIMUM_TEMPLATE_SIZE = 4096L;
+    
+    private static final SQLExecutionStatisticsRegistry INSTANCE = new SQLExecutionStatisticsRegistry();
+    
+    private final Cache<String, SQLExecutionStatistics> sqlExecutionStatistics = CacheBuilder.newBuilder().maximumSize(MAXIMUM_TEMPLATE_SIZE).build();
+    
+    private final Map<String, MovingAverage> connectionAcquireMillis = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance of SQL execution statistics registry.
+     * 
+     * @return instance of SQL execution statistics registry
+     */
+    public static SQLExecutionStatisticsRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Register SQL template or get registered SQL execution statistics.
+     * 
+     * @param sql SQL template
+     * @return SQL execution statistics
+     */
+    @SneakyThrows(ExecutionException.class)
+    public SQLExecutionStatistics register(final String sql) {
+        return sqlExecutionStatistics.get(sql, SQLExecutionStatistics::new);
+    }
+    
+    /**
+     * Get SQL execution statistics.
+     * 
+     * @param sql SQL template
+     * @return SQL execution statistics
+     */
+    public Optional<SQLExecutionStatistics> getSQLExecutionStatistics(final String sql) {
+        return Optional.ofNullable(sqlExecutionStatistics.getIfPresent(sql));
+    }
+    
+    /**
+     * Record execution of registered SQL template.
+     * 
+     * @param sql SQL template
+     * @param rowCount row count of query result or update count, negative means unknown
+     */
+    public void recordExecution(final String sql, final long rowCount) {
+        SQLExecutionStatistics statistics = sqlExecutionStatistics.getIfPresent(sql);
+        if (null != statistics) {
+            statistics.record(rowCount);
+        }
+    }
+    
+    /**
+     * Record connection acquisition.
+     * 
+     * @param dataSourceName data source name
+     * @param connectionSize acquired connection size
+     * @param elapsedNanos elapsed nanoseconds of acquisition
+     */
+    public void recordConnectionAcquisition(final String dataSourceName, final int connectionSize, final long elapsedNanos) {
+        connectionAcquireMillis.computeIfAbsent(dataSourceName, key -> new MovingAverage()).record(elapsedNanos / 1000000D / Math.max(connectionSize, 1));
+    }
+    
+    /**
+     * Get average connection acquire milliseconds.
+     * 
+     * @param dataSourceName data source name
+     * @return average connection acquire milliseconds
+     */
+    public Optional<MovingAverage> getConnectionAcquireMillis(final String dataSourceName) {
+        return Optional.ofNullable(connectionAcquireMillis.get(dataSourceName));
+    }
+    
+    /**
+     * Clear all statistics.
+     */
+    public void clear() {
+        sqlExecutionStatistics.invalidateAll();
+        connectionAcquireMillis.clear();
+    }
+}
@@ -23,6 +23,8 @@ import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.DriverExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.prepare.AbstractExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.executor.sql.prepare.ConnectionModeSelector;
+import org.apache.shardingsphere.infra.executor.sql.prepare.DefaultConnectionModeSelector;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.infra.spi.typed.TypedSPIRegistry;
@@ -59,7 +61,12 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
     
     public DriverExecutionPrepareEngine(final String type, final int maxConnectionsSizePerQuery, final ExecutorDriverManager<C, ?, ?> executorDriverManager, 
                                         final StorageResourceOption option, final Collection<ShardingSphereRule> rules) {
-        super(maxConnectionsSizePerQuery, rules);
+        this(type, maxConnectionsSizePerQuery, new DefaultConnectionModeSelector(), executorDriverManager, option, rules);
+    }
+    
+    public DriverExecutionPrepareEngine(final String type, final int maxConnectionsSizePerQuery, final ConnectionModeSelector connectionModeSelector,
+                                        final ExecutorDriverManager<C, ?, ?> executorDriverManager, final StorageResourceOption option, final Collection<ShardingSphereRule> rules) {
+        super(maxConnectionsSizePerQuery, connectionModeSelector, rules);
         this.executorDriverManager = executorDriverManager;
         this.option = option;
         sqlExecutionUnitBuilder = TYPE_TO_BUILDER_MAP.computeIfAbsent(type, key -> TypedSPIRegistry.getRegisteredService(SQLExecutionUnitBuilder.class, key, new Properties()));
@@ -68,7 +75,7 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
     @Override
     protected List<ExecutionGroup<T>> group(final String dataSourceName, final List<List<SQLUnit>> sqlUnitGroups, final ConnectionMode connectionMode) throws SQLException {
         List<ExecutionGroup<T>> result = new LinkedList<>();
-        List<C> connections = executorDriverManager.getConnections(dataSourceName, sqlUnitGroups.size(), connectionMode);
+        List<C> connections = getConnections(dataSourceName, sqlUnitGroups.size(), connectionMode);
         int count = 0;
         for (List<SQLUnit> each : sqlUnitGroups) {
             result.add(createExecutionGroup(dataSourceName, each, connections.get(count++), connectionMode));
@@ -76,6 +83,16 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
         return result;
     }
     
+    private List<C> getConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
+        if (!getConnectionModeSelector().isStatisticsRequired()) {
+            return executorDriverManager.getConnections(dataSourceName, connectionSize, connectionMode);
+        }
+        long startTime = System.nanoTime();
+        List<C> result = executorDriverManager.getConnections(dataSourceName, connectionSize, connectionMode);
+        getConnectionModeSelector().onConnectionsAcquired(dataSourceName, connectionSize, System.nanoTime() - startTime);
+        return result;
+    }
+    
     @SuppressWarnings("unchecked")
     private ExecutionGroup<T> createExecutionGroup(final String dataSourceName, final List<SQLUnit> sqlUnits, final C connection, final ConnectionMode connectionMode) throws SQLException {
         List<T> result = new LinkedList<>();
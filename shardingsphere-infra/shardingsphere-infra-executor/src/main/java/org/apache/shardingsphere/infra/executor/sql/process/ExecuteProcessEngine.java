@@ -28,6 +28,7 @@ import org.apache.shardingsphere.infra.executor.sql.process.spi.ExecuteProcessRe
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 
 import java.util.Collection;
+import java.util.Map;
 
 /**
  * Execute process engine.
@@ -84,4 +85,16 @@ public final class ExecuteProcessEngine {
             HANDLERS.iterator().next().report(executionID, ExecuteProcessConstants.EXECUTE_STATUS_DONE);
         }
     }
+    
+    /**
+     * Finish in thread other than the one initialized.
+     *
+     * @param executionID execution ID
+     * @param dataMap executor data map captured in the thread initialized
+     */
+    public static void finish(final String executionID, final Map<String, Object> dataMap) {
+        if (!HANDLERS.isEmpty() && dataMap.containsKey(ExecuteProcessConstants.EXECUTE_ID.name())) {
+            HANDLERS.iterator().next().report(executionID, ExecuteProcessConstants.EXECUTE_STATUS_DONE);
+        }
+    }
 }
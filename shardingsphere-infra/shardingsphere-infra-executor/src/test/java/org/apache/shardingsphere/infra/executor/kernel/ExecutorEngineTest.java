@@ -20,18 +20,27 @@ package org.apache.shardingsphere.infra.executor.kernel;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
 public final class ExecutorEngineTest {
@@ -102,4 +111,68 @@ public final class ExecutorEngineTest {
         latch.countDown();
         assertThat(actual.size(), is(0));
     }
+    
+    @Test
+    public void assertParallelExecuteAsync() throws InterruptedException, ExecutionException {
+        CompletableFuture<List<String>> actual = executorEngine.executeAsync(executionGroupContext, firstCallback, callback, false);
+        assertThat(actual.get().size(), is(4));
+        latch.await();
+    }
+    
+    @Test
+    public void assertParallelExecuteAsyncWithoutBlockingTrunkThread() throws InterruptedException, ExecutionException {
+        CountDownLatch release = new CountDownLatch(1);
+        Collection<Thread> trunkCallbackThreads = new ConcurrentLinkedQueue<>();
+        ExecutorCallback<Object, String> blockingFirstCallback = (inputs, isTrunkThread, dataMap) -> {
+            assertTrue(isTrunkThread);
+            trunkCallbackThreads.add(Thread.currentThread());
+            awaitRelease(release);
+            return Collections.singletonList("first");
+        };
+        ExecutorCallback<Object, String> blockingCallback = (inputs, isTrunkThread, dataMap) -> {
+            awaitRelease(release);
+            return Collections.singletonList("rest");
+        };
+        CompletableFuture<List<String>> actual = executorEngine.executeAsync(executionGroupContext, blockingFirstCallback, blockingCallback, false);
+        assertFalse(actual.isDone());
+        release.countDown();
+        assertThat(actual.get(), is(Arrays.asList("first", "rest")));
+        assertThat(trunkCallbackThreads.size(), is(1));
+        assertThat(trunkCallbackThreads.iterator().next(), not(Thread.currentThread()));
+    }
+    
+    private void awaitRelease(final CountDownLatch release) {
+        try {
+            release.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    @Test
+    public void assertSerialExecuteAsync() throws InterruptedException, ExecutionException {
+        CompletableFuture<List<String>> actual = executorEngine.executeAsync(executionGroupContext, firstCallback, callback, true);
+        assertTrue(actual.isDone());
+        assertThat(actual.get().size(), is(4));
+    }
+    
+    @Test
+    public void assertExecuteAsyncWithFailure() throws InterruptedException {
+        CompletableFuture<List<String>> actual = executorEngine.executeAsync(executionGroupContext, firstCallback, (inputs, isTrunkThread, dataMap) -> {
+            throw new SQLException("TestSQLException");
+        }, false);
+        try {
+            actual.get();
+        } catch (final ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof SQLException);
+            assertThat(ex.getCause().getMessage(), is("TestSQLException"));
+        }
+        assertTrue(actual.isCompletedExceptionally());
+    }
+    
+    @Test
+    public void assertExecuteAsyncWithEmptyExecutionGroup() throws InterruptedException, ExecutionException {
+        CompletableFuture<List<String>> actual = executorEngine.executeAsync(new ExecutionGroupContext<>(new LinkedList<>()), null, callback, false);
+        assertThat(actual.get().size(), is(0));
+    }
 }
@@ -28,6 +28,8 @@ import org.junit.Test;
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -73,4 +75,29 @@ public final class JDBCExecutorTest {
         List<?> actual = jdbcExecutor.execute(new ExecutionGroupContext<>(Collections.emptyList()), null);
         assertThat(actual, is(Collections.emptyList()));
     }
+    
+    @Test
+    public void assertExecuteAsync() throws InterruptedException, ExecutionException {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        when(executorEngine.executeAsync(any(), any(), any(), anyBoolean())).thenReturn(CompletableFuture.completedFuture(Collections.singletonList("test")));
+        JDBCExecutor jdbcExecutor = new JDBCExecutor(executorEngine, false);
+        List<?> actual = jdbcExecutor.executeAsync(new ExecutionGroupContext<>(Collections.emptyList()), null, null).get();
+        assertThat(actual, is(Collections.singletonList("test")));
+    }
+    
+    @Test
+    public void assertExecuteAsyncNotThrownSQLException() throws InterruptedException, ExecutionException {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        CompletableFuture<List<Object>> failedFuture = new CompletableFuture<>();
+        failedFuture.completeExceptionally(new SQLException("TestSQLException"));
+        when(executorEngine.executeAsync(any(), any(), any(), anyBoolean())).thenReturn(failedFuture);
+        JDBCExecutor jdbcExecutor = new JDBCExecutor(executorEngine, false);
+        SQLExecutorExceptionHandler.setExceptionThrown(false);
+        try {
+            List<?> actual = jdbcExecutor.executeAsync(new ExecutionGroupContext<>(Collections.emptyList()), null, null).get();
+            assertThat(actual, is(Collections.emptyList()));
+        } finally {
+            SQLExecutorExceptionHandler.setExceptionThrown(true);
+        }
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column.IntMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column.LongMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column.MemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column.ObjectMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column.StringMemoryQueryResultColumn;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class JDBCColumnarRowsLoaderTest {
+    
+    @Test
+    public void assertLoad() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        ColumnarRows actual = JDBCColumnarRowsLoader.load(4, resultSet);
+        assertThat(actual.getRowCount(), is(2));
+        MemoryQueryResultColumn[] columns = actual.getColumns();
+        assertThat(columns.length, is(4));
+        assertThat(columns[0], instanceOf(IntMemoryQueryResultColumn.class));
+        assertThat(columns[1], instanceOf(LongMemoryQueryResultColumn.class));
+        assertThat(columns[2], instanceOf(StringMemoryQueryResultColumn.class));
+        assertThat(columns[3], instanceOf(ObjectMemoryQueryResultColumn.class));
+        assertThat(columns[0].getValue(0), is((Object) 1));
+        assertThat(columns[0].getValue(1), is((Object) 2));
+        assertThat(columns[1].getValue(0), is((Object) 10L));
+        assertTrue(columns[1].isNull(1));
+        assertNull(columns[1].getValue(1));
+        assertThat(((StringMemoryQueryResultColumn) columns[2]).getString(0), is("foo"));
+        assertThat(((StringMemoryQueryResultColumn) columns[2]).getString(1), is("bar"));
+        assertThat(columns[3].getValue(0), is((Object) new BigDecimal("1.5")));
+        assertTrue(columns[3].isNull(1));
+    }
+    
+    @Test
+    public void assertLoadWithoutRows() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.next()).thenReturn(false);
+        ColumnarRows actual = JDBCColumnarRowsLoader.load(4, resultSet);
+        assertThat(actual.getRowCount(), is(0));
+        assertThat(actual.getColumns().length, is(4));
+    }
+    
+    private ResultSet mockResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, true, false);
+        ResultSetMetaData metaData = mockResultSetMetaData();
+        when(result.getMetaData()).thenReturn(metaData);
+        when(result.getInt(1)).thenReturn(1, 2);
+        when(result.getLong(2)).thenReturn(10L, 0L);
+        when(result.getString(3)).thenReturn("foo", "bar");
+        when(result.getBigDecimal(4)).thenReturn(new BigDecimal("1.5"), null);
+        when(result.wasNull()).thenReturn(false, false, false, false, false, true, false, true);
+        return result;
+    }
+    
+    private ResultSetMetaData mockResultSetMetaData() throws SQLException {
+        ResultSetMetaData result = mock(ResultSetMetaData.class);
+        when(result.getColumnCount()).thenReturn(4);
+        when(result.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(result.isSigned(1)).thenReturn(true);
+        when(result.getColumnType(2)).thenReturn(Types.BIGINT);
+        when(result.isSigned(2)).thenReturn(true);
+        when(result.getColumnType(3)).thenReturn(Types.VARCHAR);
+        when(result.getColumnType(4)).thenReturn(Types.DECIMAL);
+        return result;
+    }
+}
@@ -74,6 +74,7 @@ public final class JDBCMemoryQueryResultTest {
         JDBCMemoryQueryResult actual = new JDBCMemoryQueryResult(resultSet);
         assertTrue(actual.next());
         assertNull(actual.getValue(1, boolean.class));
+        assertTrue(actual.wasNull());
         assertFalse(actual.next());
     }
     
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column;
+
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class IntMemoryQueryResultColumnTest {
+    
+    @Test
+    public void assertLoadMoreThanInitialCapacity() throws SQLException {
+        IntMemoryQueryResultColumn column = new IntMemoryQueryResultColumn();
+        ResultSet resultSet = mock(ResultSet.class);
+        int rowCount = MemoryQueryResultColumnFactory.INITIAL_CAPACITY * 2 + 1;
+        for (int i = 0; i < rowCount; i++) {
+            when(resultSet.getInt(1)).thenReturn(i);
+            when(resultSet.wasNull()).thenReturn(0 == i % 3);
+            column.load(resultSet, 1);
+        }
+        for (int i = 0; i < rowCount; i++) {
+            if (0 == i % 3) {
+                assertTrue(column.isNull(i));
+                assertThat(column.getValue(i), nullValue());
+            } else {
+                assertFalse(column.isNull(i));
+                assertThat(column.getValue(i), is((Object) i));
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column;
+
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class StringMemoryQueryResultColumnTest {
+    
+    @Test
+    public void assertLoadWithDictionary() throws SQLException {
+        StringMemoryQueryResultColumn column = new StringMemoryQueryResultColumn(2);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getString(1)).thenReturn(new String("init"), null, new String("init"), "finished");
+        when(resultSet.wasNull()).thenReturn(false, true, false, false);
+        for (int i = 0; i < 4; i++) {
+            column.load(resultSet, 1);
+        }
+        assertTrue(column.isDictionaryEncoded());
+        assertThat(column.getValue(0), is("init"));
+        assertTrue(column.isNull(1));
+        assertThat(column.getValue(1), nullValue());
+        assertThat(column.getString(2), sameInstance(column.getString(0)));
+        assertThat(column.getValue(3), is("finished"));
+    }
+    
+    @Test
+    public void assertLoadWhenDictionaryOverflow() throws SQLException {
+        StringMemoryQueryResultColumn column = new StringMemoryQueryResultColumn(2);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getString(1)).thenReturn("a", null, "b", "a", "c");
+        when(resultSet.wasNull()).thenReturn(false, true, false, false, false);
+        for (int i = 0; i < 5; i++) {
+            column.load(resultSet, 1);
+        }
+        assertFalse(column.isDictionaryEncoded());
+        assertThat(column.getValue(0), is("a"));
+        assertTrue(column.isNull(1));
+        assertThat(column.getValue(1), nullValue());
+        assertThat(column.getString(2), is("b"));
+        assertThat(column.getValue(3), is("a"));
+        assertThat(column.getValue(4), is("c"));
+    }
+}
@@ -29,6 +29,7 @@ import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -47,6 +48,17 @@ public final class JDBCStreamQueryResultTest {
         assertFalse(queryResult.next());
     }
     
+    @Test
+    public void assertNextWithRowCountListener() throws SQLException {
+        JDBCStreamQueryResult queryResult = new JDBCStreamQueryResult(getResultSet());
+        AtomicLong actual = new AtomicLong(-1L);
+        queryResult.setRowCountListener(actual::set);
+        assertTrue(queryResult.next());
+        assertThat(actual.get(), is(-1L));
+        assertFalse(queryResult.next());
+        assertThat(actual.get(), is(1L));
+    }
+    
     @Test
     public void assertGetValueByBoolean() throws SQLException {
         ResultSet resultSet = mock(ResultSet.class);
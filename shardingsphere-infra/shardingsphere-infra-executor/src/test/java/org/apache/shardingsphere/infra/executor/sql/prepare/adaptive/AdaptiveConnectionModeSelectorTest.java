@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.ConnectionModeDecision;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class AdaptiveConnectionModeSelectorTest {
+    
+    private final AdaptiveConnectionModeSelector selector = new AdaptiveConnectionModeSelector(new ConfigurationProperties(new Properties()));
+    
+    private final List<SQLUnit> sqlUnits = Arrays.asList(new SQLUnit("SELECT * FROM t_order_0", Collections.emptyList()), new SQLUnit("SELECT * FROM t_order_1", Collections.emptyList()),
+            new SQLUnit("SELECT * FROM t_order_2", Collections.emptyList()), new SQLUnit("SELECT * FROM t_order_3", Collections.emptyList()));
+    
+    @After
+    public void tearDown() {
+        SQLExecutionStatisticsRegistry.getInstance().clear();
+    }
+    
+    @Test
+    public void assertIsStatisticsRequired() {
+        assertTrue(selector.isStatisticsRequired());
+    }
+    
+    @Test
+    public void assertSelectWithoutStatistics() {
+        ConnectionModeDecision actual = selector.select("ds_0", sqlUnits, 4);
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.MEMORY_STRICTLY));
+        assertThat(actual.getConnectionSize(), is(4));
+        assertThat(actual.getAverageRows(), is(ConnectionModeDecision.UNKNOWN));
+        assertThat(actual.getAverageConnectionAcquireMillis(), is(ConnectionModeDecision.UNKNOWN));
+        assertThat(selector.select("ds_0", sqlUnits, 2).getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+    }
+    
+    @Test
+    public void assertSelectWithoutPoolPressure() {
+        recordExecutions(10L);
+        recordConnectionAcquisitions(1000000L);
+        ConnectionModeDecision actual = selector.select("ds_0", sqlUnits, 4);
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.MEMORY_STRICTLY));
+        assertThat(actual.getConnectionSize(), is(4));
+        assertThat(actual.getAverageRows(), is(10D));
+        assertThat(actual.getAverageConnectionAcquireMillis(), is(1D));
+    }
+    
+    @Test
+    public void assertSelectUnknownResultWithPoolPressure() {
+        recordConnectionAcquisitions(50000000L);
+        ConnectionModeDecision actual = selector.select("ds_0", sqlUnits, 4);
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.MEMORY_STRICTLY));
+        assertThat(actual.getConnectionSize(), is(4));
+    }
+    
+    @Test
+    public void assertSelectSmallResultWithPoolPressure() {
+        recordExecutions(10L);
+        recordConnectionAcquisitions(50000000L);
+        ConnectionModeDecision actual = selector.select("ds_0", sqlUnits, 4);
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+        assertThat(actual.getConnectionSize(), is(1));
+    }
+    
+    @Test
+    public void assertSelectLargeResultWithPoolPressure() {
+        recordExecutions(100000L);
+        recordConnectionAcquisitions(50000000L);
+        ConnectionModeDecision actual = selector.select("ds_0", sqlUnits, 4);
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.MEMORY_STRICTLY));
+        assertThat(actual.getConnectionSize(), is(4));
+    }
+    
+    @Test
+    public void assertSelectLargeResultWithoutPoolPressure() {
+        recordExecutions(100000L);
+        recordConnectionAcquisitions(1000000L);
+        ConnectionModeDecision actual = selector.select("ds_0", sqlUnits, 2);
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+        assertThat(actual.getConnectionSize(), is(2));
+    }
+    
+    @Test
+    public void assertSelectWithConfiguredThresholds() {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_SMALL_RESULT_ROWS.getKey(), "5");
+        props.setProperty(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ACQUIRE_PRESSURE_MILLISECONDS.getKey(), "100");
+        AdaptiveConnectionModeSelector configuredSelector = new AdaptiveConnectionModeSelector(new ConfigurationProperties(props));
+        recordExecutions(10L);
+        recordConnectionAcquisitions(50000000L);
+        ConnectionModeDecision actual = configuredSelector.select("ds_0", sqlUnits, 2);
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+        assertThat(actual.getConnectionSize(), is(2));
+    }
+    
+    private void recordExecutions(final long rowCount) {
+        for (SQLUnit each : sqlUnits) {
+            SQLExecutionStatisticsRegistry.getInstance().register(each.getSql());
+            for (int i = 0; i < 3; i++) {
+                SQLExecutionStatisticsRegistry.getInstance().recordExecution(each.getSql(), rowCount);
+            }
+        }
+    }
+    
+    private void recordConnectionAcquisitions(final long elapsedNanos) {
+        for (int i = 0; i < 3; i++) {
+            selector.onConnectionsAcquired("ds_0", 1, elapsedNanos);
+        }
+    }
+}
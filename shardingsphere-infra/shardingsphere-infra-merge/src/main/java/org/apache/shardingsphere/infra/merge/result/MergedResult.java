@@ -72,4 +72,12 @@ public interface MergedResult {
      * @throws SQLException SQL Exception
      */
     boolean wasNull() throws SQLException;
+    
+    /**
+     * Close merged result and release resources held by it, such as temporary files and fetching threads.
+     * 
+     * @throws SQLException SQL Exception
+     */
+    default void close() throws SQLException {
+    }
 }
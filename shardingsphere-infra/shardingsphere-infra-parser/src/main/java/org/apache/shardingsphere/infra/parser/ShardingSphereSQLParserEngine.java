@@ -19,8 +19,11 @@ package org.apache.shardingsphere.infra.parser;
 
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.apache.shardingsphere.distsql.parser.api.DistSQLStatementParserEngine;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
@@ -38,6 +41,14 @@ public final class ShardingSphereSQLParserEngine {
         distSQLStatementParserEngine = new DistSQLStatementParserEngine();
     }
     
+    public ShardingSphereSQLParserEngine(final String databaseTypeName, final ConfigurationProperties props) {
+        CacheOption sqlStatementCacheOption = new CacheOption(props.<Integer>getValue(ConfigurationPropertyKey.SQL_STATEMENT_CACHE_INITIAL_CAPACITY),
+                props.<Long>getValue(ConfigurationPropertyKey.SQL_STATEMENT_CACHE_MAXIMUM_SIZE), props.<Integer>getValue(ConfigurationPropertyKey.SQL_STATEMENT_CACHE_CONCURRENCY_LEVEL));
+        sqlStatementParserEngine = SQLStatementParserEngineFactory.getSQLStatementParserEngine(
+                databaseTypeName, sqlStatementCacheOption, props.<Boolean>getValue(ConfigurationPropertyKey.SQL_LITERAL_NORMALIZED_CACHE_ENABLED));
+        distSQLStatementParserEngine = new DistSQLStatementParserEngine();
+    }
+    
     /*
      * To make sure SkyWalking will be available at the next release of ShardingSphere, a new plugin should be provided to SkyWalking project if this API changed.
      *
@@ -38,7 +38,7 @@ public final class SQLStatementCacheBuilder {
      * @return built SQL statement cache
      */
     public static LoadingCache<String, SQLStatement> build(final CacheOption option, final String databaseType) {
-        return CacheBuilder.newBuilder().softValues()
+        return CacheBuilder.newBuilder().softValues().recordStats()
                 .initialCapacity(option.getInitialCapacity()).maximumSize(option.getMaximumSize()).concurrencyLevel(option.getConcurrencyLevel()).build(new SQLStatementCacheLoader(databaseType));
     }
 }
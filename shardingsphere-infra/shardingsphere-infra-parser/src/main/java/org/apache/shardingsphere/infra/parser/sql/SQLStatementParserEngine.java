@@ -17,24 +17,44 @@
 
 package org.apache.shardingsphere.infra.parser.sql;
 
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
 import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheBuilder;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.FastPathSQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.LiteralNormalizedSQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
+import java.util.Properties;
+
 /**
  * SQL statement parser engine.
  */
 public final class SQLStatementParserEngine {
     
+    public static final CacheOption DEFAULT_CACHE_OPTION = new CacheOption(2000, 65535L, 4);
+    
     private final SQLStatementParserExecutor sqlStatementParserExecutor;
     
     private final LoadingCache<String, SQLStatement> sqlStatementCache;
     
+    private final FastPathSQLParserEngine fastPathParserEngine;
+    
+    private final LiteralNormalizedSQLParserEngine literalNormalizedParserEngine;
+    
+    private final SQLVisitorEngine visitorEngine;
+    
     public SQLStatementParserEngine(final String databaseType) {
+        this(databaseType, DEFAULT_CACHE_OPTION, false);
+    }
+    
+    public SQLStatementParserEngine(final String databaseType, final CacheOption sqlStatementCacheOption, final boolean literalNormalizedCacheEnabled) {
         sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType);
-        // TODO use props to configure cache option
-        sqlStatementCache = SQLStatementCacheBuilder.build(new CacheOption(2000, 65535L, 4), databaseType);
+        sqlStatementCache = SQLStatementCacheBuilder.build(sqlStatementCacheOption, databaseType);
+        fastPathParserEngine = new FastPathSQLParserEngine(databaseType);
+        literalNormalizedParserEngine = literalNormalizedCacheEnabled ? new LiteralNormalizedSQLParserEngine(databaseType, sqlStatementCacheOption) : null;
+        visitorEngine = new SQLVisitorEngine(databaseType, "STATEMENT", new Properties());
     }
     
     /**
@@ -45,6 +65,30 @@ public final class SQLStatementParserEngine {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql, final boolean useCache) {
-        return useCache ? sqlStatementCache.getUnchecked(sql) : sqlStatementParserExecutor.parse(sql);
+        if (useCache) {
+            return sqlStatementCache.getUnchecked(sql);
+        }
+        if (null == literalNormalizedParserEngine) {
+            return sqlStatementParserExecutor.parse(sql);
+        }
+        return fastPathParserEngine.parse(sql).orElseGet(() -> visitorEngine.visit(literalNormalizedParserEngine.parse(sql)));
+    }
+    
+    /**
+     * Get statistics of SQL statement cache.
+     *
+     * @return cache statistics
+     */
+    public CacheStats getSQLStatementCacheStats() {
+        return sqlStatementCache.stats();
+    }
+    
+    /**
+     * Get statistics of literal normalized cache.
+     *
+     * @return cache statistics, empty statistics if literal normalized cache is disabled
+     */
+    public CacheStats getLiteralNormalizedCacheStats() {
+        return null == literalNormalizedParserEngine ? new CacheStats(0L, 0L, 0L, 0L, 0L, 0L) : literalNormalizedParserEngine.getCacheStats();
     }
 }
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.parser.sql;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -38,6 +39,20 @@ public final class SQLStatementParserEngineFactory {
      * @return SQL statement parser engine
      */
     public static SQLStatementParserEngine getSQLStatementParserEngine(final String databaseType) {
-        return ENGINES.getOrDefault(databaseType, ENGINES.computeIfAbsent(databaseType, SQLStatementParserEngine::new));
+        return getSQLStatementParserEngine(databaseType, SQLStatementParserEngine.DEFAULT_CACHE_OPTION, false);
+    }
+    
+    /**
+     * Get SQL statement parser engine.
+     *
+     * @param databaseType name of database type
+     * @param sqlStatementCacheOption SQL statement cache option
+     * @param literalNormalizedCacheEnabled whether enable literal normalized cache
+     * @return SQL statement parser engine
+     */
+    public static SQLStatementParserEngine getSQLStatementParserEngine(final String databaseType, final CacheOption sqlStatementCacheOption, final boolean literalNormalizedCacheEnabled) {
+        String key = String.join(":", databaseType, String.valueOf(sqlStatementCacheOption.getInitialCapacity()),
+                String.valueOf(sqlStatementCacheOption.getMaximumSize()), String.valueOf(sqlStatementCacheOption.getConcurrencyLevel()), String.valueOf(literalNormalizedCacheEnabled));
+        return ENGINES.getOrDefault(key, ENGINES.computeIfAbsent(key, unused -> new SQLStatementParserEngine(databaseType, sqlStatementCacheOption, literalNormalizedCacheEnabled)));
     }
 }
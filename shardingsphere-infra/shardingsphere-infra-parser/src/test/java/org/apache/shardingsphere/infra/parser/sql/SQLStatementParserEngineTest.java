@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class SQLStatementParserEngineTest {
+    
+    @Test
+    public void assertParseWithLiteralNormalizedCache() {
+        SQLStatementParserEngine literalNormalizedEngine = new SQLStatementParserEngine("MySQL", new CacheOption(128, 1024L, 4), true);
+        SQLStatementParserEngine engine = new SQLStatementParserEngine("MySQL");
+        Collection<String> sqls = Arrays.asList(
+                "SELECT * FROM t_order WHERE order_id = 1 AND status = 'init'",
+                "SELECT * FROM t_order WHERE order_id = 1000000 AND status = 'finished'",
+                "SELECT order_id, SUM(price) FROM t_order WHERE user_id IN (1, 2, 3) GROUP BY order_id ORDER BY order_id LIMIT 5, 10",
+                "SELECT order_id, SUM(price) FROM t_order WHERE user_id IN (10, 200, 3000) GROUP BY order_id ORDER BY order_id LIMIT 50, 100",
+                "INSERT INTO t_order (order_id, user_id, status) VALUES (1, 10, 'a'), (2, 20, 'b')",
+                "INSERT INTO t_order (order_id, user_id, status) VALUES (1000, 100000, 'insert'), (2000, 200000, 'insert')",
+                "UPDATE t_order SET status = 'finished', price = price + 1.5 WHERE order_id = 10",
+                "UPDATE t_order SET status = 'init', price = price + 10.25 WHERE order_id = 100000",
+                "DELETE FROM t_order WHERE order_id BETWEEN 1 AND 100",
+                "DELETE FROM t_order WHERE order_id BETWEEN 1000 AND 100000");
+        for (String each : sqls) {
+            assertEquals(each, literalNormalizedEngine.parse(each, false), engine.parse(each, false));
+        }
+        assertThat(literalNormalizedEngine.getLiteralNormalizedCacheStats().hitCount(), is(5L));
+        assertThat(literalNormalizedEngine.getLiteralNormalizedCacheStats().missCount(), is(5L));
+    }
+    
+    @Test
+    public void assertParseWithDifferentLiteralTypes() {
+        SQLStatementParserEngine literalNormalizedEngine = new SQLStatementParserEngine("MySQL", new CacheOption(128, 1024L, 4), true);
+        literalNormalizedEngine.parse("SELECT * FROM t_order WHERE order_id = 1", false);
+        literalNormalizedEngine.parse("SELECT * FROM t_order WHERE order_id = '1'", false);
+        assertThat(literalNormalizedEngine.getLiteralNormalizedCacheStats().hitCount(), is(0L));
+    }
+    
+    @Test
+    public void assertParseWithoutLiteralNormalizedCache() {
+        SQLStatementParserEngine engine = new SQLStatementParserEngine("MySQL");
+        engine.parse("SELECT * FROM t_order WHERE order_id = 1", false);
+        assertThat(engine.getLiteralNormalizedCacheStats().requestCount(), is(0L));
+        engine.parse("SELECT * FROM t_order WHERE order_id = ?", true);
+        engine.parse("SELECT * FROM t_order WHERE order_id = ?", true);
+        assertThat(engine.getSQLStatementCacheStats().hitCount(), is(1L));
+    }
+    
+    @Test
+    public void assertParseAfterParsingFailed() {
+        SQLStatementParserEngine engine = new SQLStatementParserEngine("MySQL");
+        String sql = "SELECT * FROM t_order WHERE status = '" + new String(Character.toChars(0x1F600)) + "' AND order_id = 1";
+        SQLStatement expected = engine.parse(sql, false);
+        try {
+            engine.parse("SELECT * FROM WHERE", false);
+            fail("expected SQLParsingException");
+        } catch (final SQLParsingException ignored) {
+        }
+        assertEquals(sql, engine.parse(sql, false), expected);
+    }
+    
+    private void assertEquals(final String sql, final SQLStatement actual, final SQLStatement expected) {
+        assertTrue(sql, isDeepEquals(actual, expected));
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private boolean isDeepEquals(final Object actual, final Object expected) {
+        if (null == actual || null == expected) {
+            return actual == expected;
+        }
+        if (actual.getClass() != expected.getClass()) {
+            return false;
+        }
+        if (actual instanceof CharSequence || actual instanceof Number || actual instanceof Boolean || actual instanceof Character || actual instanceof Enum) {
+            return actual.equals(expected);
+        }
+        if (actual instanceof Optional) {
+            return isDeepEquals(((Optional<?>) actual).orElse(null), ((Optional<?>) expected).orElse(null));
+        }
+        if (actual instanceof Map) {
+            return isDeepEquals(((Map<?, ?>) actual).entrySet(), ((Map<?, ?>) expected).entrySet());
+        }
+        if (actual instanceof Map.Entry) {
+            return isDeepEquals(((Map.Entry<?, ?>) actual).getKey(), ((Map.Entry<?, ?>) expected).getKey())
+                    && isDeepEquals(((Map.Entry<?, ?>) actual).getValue(), ((Map.Entry<?, ?>) expected).getValue());
+        }
+        if (actual instanceof Collection) {
+            return isDeepEquals((Collection<?>) actual, (Collection<?>) expected);
+        }
+        for (Class<?> clazz = actual.getClass(); Object.class != clazz; clazz = clazz.getSuperclass()) {
+            for (Field each : clazz.getDeclaredFields()) {
+                if (Modifier.isStatic(each.getModifiers())) {
+                    continue;
+                }
+                each.setAccessible(true);
+                if (!isDeepEquals(each.get(actual), each.get(expected))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+    
+    private boolean isDeepEquals(final Collection<?> actual, final Collection<?> expected) {
+        if (actual.size() != expected.size()) {
+            return false;
+        }
+        Iterator<?> expectedIterator = expected.iterator();
+        for (Object each : actual) {
+            if (!isDeepEquals(each, expectedIterator.next())) {
+                return false;
+            }
+        }
+        assertFalse(expectedIterator.hasNext());
+        return true;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.InsertStatementHandler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Consolidator to rewrite rows of batch INSERT into multi-row INSERT before routing.
+ * 
+ * <p>
+ * Rows of batch are split by max rows, max estimated bytes and max bind parameters of database, each split is consolidated into one logic multi-row INSERT,
+ * which is routed and rewritten once instead of once per row.
+ * </p>
+ */
+public final class BatchInsertConsolidator {
+    
+    private static final int DEFAULT_PARAMETER_BYTES = 8;
+    
+    private static final Map<String, Integer> MAX_PARAMETERS = new HashMap<>(3, 1);
+    
+    private static final Pattern ON_CONFLICT_PATTERN = Pattern.compile("\\bON\\s+CONFLICT\\b", Pattern.CASE_INSENSITIVE);
+    
+    private final String prefix;
+    
+    private final String valuesSQL;
+    
+    private final String suffix;
+    
+    private final int maxRows;
+    
+    private final int maxBytes;
+    
+    private final int maxParameters;
+    
+    static {
+        MAX_PARAMETERS.put("MySQL", 65535);
+        MAX_PARAMETERS.put("PostgreSQL", 32767);
+        MAX_PARAMETERS.put("SQLServer", 2100);
+    }
+    
+    public BatchInsertConsolidator(final String sql, final InsertStatement insertStatement, final DatabaseType databaseType, final int maxRows, final int maxBytes) {
+        InsertValuesSegment insertValuesSegment = insertStatement.getValues().iterator().next();
+        prefix = sql.substring(0, insertValuesSegment.getStartIndex());
+        valuesSQL = sql.substring(insertValuesSegment.getStartIndex(), insertValuesSegment.getStopIndex() + 1);
+        suffix = sql.substring(insertValuesSegment.getStopIndex() + 1);
+        this.maxRows = maxRows;
+        this.maxBytes = maxBytes;
+        maxParameters = MAX_PARAMETERS.getOrDefault(DatabaseTypeRegistry.getTrunkDatabaseTypeName(databaseType), Integer.MAX_VALUE);
+    }
+    
+    /**
+     * Judge whether SQL statement can be consolidated.
+     * 
+     * <p>
+     * INSERT with ON CONFLICT of PostgreSQL is judged by SQL, because no segment is parsed for it.
+     * </p>
+     * 
+     * @param sql SQL
+     * @param sqlStatement SQL statement
+     * @return can be consolidated or not
+     */
+    public static boolean isConsolidatable(final String sql, final SQLStatement sqlStatement) {
+        if (!(sqlStatement instanceof InsertStatement) || 0 == sqlStatement.getParameterCount()) {
+            return false;
+        }
+        InsertStatement insertStatement = (InsertStatement) sqlStatement;
+        return 1 == insertStatement.getValues().size() && !insertStatement.getInsertSelect().isPresent()
+                && !InsertStatementHandler.getSetAssignmentSegment(insertStatement).isPresent() && !InsertStatementHandler.getOnDuplicateKeyColumnsSegment(insertStatement).isPresent()
+                && !ON_CONFLICT_PATTERN.matcher(sql).find();
+    }
+    
+    /**
+     * Split parameter sets of rows into parameter sets of consolidated statements.
+     *
+     * @param parameterSets parameter sets of rows
+     * @return parameter sets of rows for each consolidated statement
+     */
+    public List<List<List<Object>>> split(final List<List<Object>> parameterSets) {
+        int rowsPerStatement = getRowsPerStatement(parameterSets);
+        List<List<List<Object>>> result = new ArrayList<>(parameterSets.size() / rowsPerStatement + 1);
+        for (int i = 0; i < parameterSets.size(); i += rowsPerStatement) {
+            result.add(parameterSets.subList(i, Math.min(i + rowsPerStatement, parameterSets.size())));
+        }
+        return result;
+    }
+    
+    private int getRowsPerStatement(final List<List<Object>> parameterSets) {
+        int maxRowBytes = 0;
+        for (List<Object> each : parameterSets) {
+            maxRowBytes = Math.max(maxRowBytes, estimateBytes(each));
+        }
+        int rowBytes = valuesSQL.length() + 2 + maxRowBytes;
+        int rowsByBytes = (maxBytes - prefix.length() - suffix.length()) / rowBytes;
+        int rowsByParameters = maxParameters / Math.max(1, parameterSets.get(0).size());
+        return Math.max(1, Math.min(maxRows, Math.min(rowsByBytes, rowsByParameters)));
+    }
+    
+    private int estimateBytes(final List<Object> parameters) {
+        int result = 0;
+        for (Object each : parameters) {
+            if (each instanceof CharSequence) {
+                result += ((CharSequence) each).length();
+            } else if (each instanceof byte[]) {
+                result += ((byte[]) each).length;
+            } else {
+                result += DEFAULT_PARAMETER_BYTES;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get SQL of consolidated statement.
+     *
+     * @param rows rows of consolidated statement
+     * @return SQL of consolidated statement
+     */
+    public String getSQL(final int rows) {
+        StringBuilder result = new StringBuilder(prefix.length() + (valuesSQL.length() + 2) * rows + suffix.length()).append(prefix).append(valuesSQL);
+        for (int i = 1; i < rows; i++) {
+            result.append(", ").append(valuesSQL);
+        }
+        return result.append(suffix).toString();
+    }
+    
+    /**
+     * Get parameters of consolidated statement.
+     *
+     * @param parameterSets parameter sets of rows
+     * @return parameters of consolidated statement
+     */
+    public List<Object> getParameters(final List<List<Object>> parameterSets) {
+        List<Object> result = new ArrayList<>(parameterSets.size() * parameterSets.get(0).size());
+        parameterSets.forEach(result::addAll);
+        return result;
+    }
+    
+    /**
+     * Judge whether bind parameters of any routed and rewritten execution unit exceed the limit of database.
+     * 
+     * @param executionUnits execution units
+     * @return exceed or not
+     */
+    public boolean isMaxParametersExceeded(final Collection<ExecutionUnit> executionUnits) {
+        return executionUnits.stream().anyMatch(each -> each.getSqlUnit().getParameters().size() > maxParameters);
+    }
+}
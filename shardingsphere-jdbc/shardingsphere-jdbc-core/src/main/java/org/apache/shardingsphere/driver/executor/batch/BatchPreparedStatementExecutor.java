@@ -35,8 +35,10 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -58,6 +60,10 @@ public final class BatchPreparedStatementExecutor {
     @Getter
     private final Collection<BatchExecutionUnit> batchExecutionUnits;
     
+    private final Map<BatchExecutionUnit, BatchExecutionUnit> batchExecutionUnitIndexes;
+    
+    private final Map<Integer, Integer> consolidatedBatchRows;
+    
     private int batchCount;
     
     public BatchPreparedStatementExecutor(final MetaDataContexts metaDataContexts, final JDBCExecutor jdbcExecutor) {
@@ -65,6 +71,8 @@ public final class BatchPreparedStatementExecutor {
         this.jdbcExecutor = jdbcExecutor;
         executionGroupContext = new ExecutionGroupContext<>(new LinkedList<>());
         batchExecutionUnits = new LinkedList<>();
+        batchExecutionUnitIndexes = new HashMap<>();
+        consolidatedBatchRows = new HashMap<>();
     }
     
     /**
@@ -82,22 +90,29 @@ public final class BatchPreparedStatementExecutor {
      * @param executionUnits execution units
      */
     public void addBatchForExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        Collection<BatchExecutionUnit> batchExecutionUnits = createBatchExecutionUnits(executionUnits);
-        handleOldBatchExecutionUnits(batchExecutionUnits);
-        handleNewBatchExecutionUnits(batchExecutionUnits);
+        for (ExecutionUnit each : executionUnits) {
+            BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(each);
+            BatchExecutionUnit oldBatchExecutionUnit = batchExecutionUnitIndexes.get(batchExecutionUnit);
+            if (null == oldBatchExecutionUnit) {
+                handleNewBatchExecutionUnit(batchExecutionUnit);
+            } else {
+                reviseBatchExecutionUnit(oldBatchExecutionUnit, batchExecutionUnit);
+            }
+        }
         batchCount++;
     }
     
-    private Collection<BatchExecutionUnit> createBatchExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        return executionUnits.stream().map(BatchExecutionUnit::new).collect(Collectors.toList());
-    }
-    
-    private void handleOldBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.forEach(this::reviseBatchExecutionUnits);
-    }
-    
-    private void reviseBatchExecutionUnits(final BatchExecutionUnit batchExecutionUnit) {
-        batchExecutionUnits.stream().filter(each -> each.equals(batchExecutionUnit)).forEach(each -> reviseBatchExecutionUnit(each, batchExecutionUnit));
+    /**
+     * Add batch for execution units of multi-row INSERT consolidated from several times of JDBC API call addBatch.
+     *
+     * @param executionUnits execution units
+     * @param rows rows of consolidated INSERT
+     */
+    public void addBatchForExecutionUnits(final Collection<ExecutionUnit> executionUnits, final int rows) {
+        if (rows > 1) {
+            consolidatedBatchRows.put(batchCount, rows);
+        }
+        addBatchForExecutionUnits(executionUnits);
     }
     
     private void reviseBatchExecutionUnit(final BatchExecutionUnit oldBatchExecutionUnit, final BatchExecutionUnit newBatchExecutionUnit) {
@@ -105,10 +120,10 @@ public final class BatchPreparedStatementExecutor {
         oldBatchExecutionUnit.mapAddBatchCount(batchCount);
     }
     
-    private void handleNewBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.removeAll(batchExecutionUnits);
-        newExecutionUnits.forEach(each -> each.mapAddBatchCount(batchCount));
-        batchExecutionUnits.addAll(newExecutionUnits);
+    private void handleNewBatchExecutionUnit(final BatchExecutionUnit newBatchExecutionUnit) {
+        newBatchExecutionUnit.mapAddBatchCount(batchCount);
+        batchExecutionUnits.add(newBatchExecutionUnit);
+        batchExecutionUnitIndexes.put(newBatchExecutionUnit, newBatchExecutionUnit);
     }
     
     /**
@@ -138,9 +153,11 @@ public final class BatchPreparedStatementExecutor {
         if (results.isEmpty()) {
             return new int[0];
         }
-        return isNeedAccumulate(
-                metaDataContexts.getDefaultMetaData().getRuleMetaData().getRules().stream().filter(rule -> rule instanceof DataNodeContainedRule).collect(Collectors.toList()), sqlStatementContext)
-                ? accumulate(results) : results.get(0);
+        return splitConsolidatedRows(isNeedAccumulate(getDataNodeContainedRules(), sqlStatementContext) ? accumulate(results) : results.get(0));
+    }
+    
+    private Collection<ShardingSphereRule> getDataNodeContainedRules() {
+        return metaDataContexts.getDefaultMetaData().getRuleMetaData().getRules().stream().filter(rule -> rule instanceof DataNodeContainedRule).collect(Collectors.toList());
     }
     
     private boolean isNeedAccumulate(final Collection<ShardingSphereRule> rules, final SQLStatementContext sqlStatementContext) {
@@ -169,6 +186,28 @@ public final class BatchPreparedStatementExecutor {
         return result;
     }
     
+    private int[] splitConsolidatedRows(final int[] updateCounts) {
+        if (consolidatedBatchRows.isEmpty()) {
+            return updateCounts;
+        }
+        int rows = updateCounts.length;
+        for (int each : consolidatedBatchRows.values()) {
+            rows += each - 1;
+        }
+        int[] result = new int[rows];
+        int index = 0;
+        for (int i = 0; i < updateCounts.length; i++) {
+            Integer consolidatedRows = consolidatedBatchRows.get(i);
+            if (null == consolidatedRows) {
+                result[index++] = updateCounts[i];
+            } else {
+                Arrays.fill(result, index, index + consolidatedRows, consolidatedRows == updateCounts[i] ? 1 : Statement.SUCCESS_NO_INFO);
+                index += consolidatedRows;
+            }
+        }
+        return result;
+    }
+    
     private boolean isSameDataSourceAndSQL(final BatchExecutionUnit batchExecutionUnit, final JDBCExecutionUnit jdbcExecutionUnit) {
         return batchExecutionUnit.getExecutionUnit().getDataSourceName().equals(jdbcExecutionUnit.getExecutionUnit().getDataSourceName())
                 && batchExecutionUnit.getExecutionUnit().getSqlUnit().getSql().equals(jdbcExecutionUnit.getExecutionUnit().getSqlUnit().getSql());
@@ -219,6 +258,8 @@ public final class BatchPreparedStatementExecutor {
         executionGroupContext.getInputGroups().clear();
         batchCount = 0;
         batchExecutionUnits.clear();
+        batchExecutionUnitIndexes.clear();
+        consolidatedBatchRows.clear();
     }
     
     private void closeStatements() throws SQLException {
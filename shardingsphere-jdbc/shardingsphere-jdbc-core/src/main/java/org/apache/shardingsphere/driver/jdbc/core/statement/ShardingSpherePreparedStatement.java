@@ -22,6 +22,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.driver.executor.DriverJDBCExecutor;
 import org.apache.shardingsphere.driver.executor.batch.BatchExecutionUnit;
+import org.apache.shardingsphere.driver.executor.batch.BatchInsertConsolidator;
 import org.apache.shardingsphere.driver.executor.batch.BatchPreparedStatementExecutor;
 import org.apache.shardingsphere.driver.executor.callback.impl.PreparedStatementExecuteQueryCallback;
 import org.apache.shardingsphere.driver.executor.callback.impl.StatementExecuteQueryCallback;
@@ -64,6 +65,7 @@ import org.apache.shardingsphere.infra.executor.sql.optimize.execute.CalciteExec
 import org.apache.shardingsphere.infra.executor.sql.optimize.execute.CalciteJDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.optimize.schema.CalciteLogicSchema;
 import org.apache.shardingsphere.infra.executor.sql.optimize.schema.row.CalciteRowExecutor;
+import org.apache.shardingsphere.infra.executor.sql.prepare.ConnectionModeSelectorFactory;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
@@ -77,6 +79,7 @@ import org.apache.shardingsphere.infra.rule.type.DataNodeContainedRule;
 import org.apache.shardingsphere.infra.rule.type.RawExecutionRule;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.DALStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 
 import java.sql.Connection;
@@ -109,6 +112,8 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private final List<List<Object>> parameterSets;
     
+    private final ShardingSphereSQLParserEngine sqlParserEngine;
+    
     private final SQLStatement sqlStatement;
     
     private final StatementOption statementOption;
@@ -126,6 +131,10 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private final KernelProcessor kernelProcessor;
     
+    private final BatchInsertConsolidator batchInsertConsolidator;
+    
+    private final List<List<Object>> batchInsertParameterSets = new ArrayList<>();
+    
     private ExecutionContext executionContext;
     
     private ResultSet currentResultSet;
@@ -160,8 +169,8 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         this.sql = sql;
         statements = new ArrayList<>();
         parameterSets = new ArrayList<>();
-        ShardingSphereSQLParserEngine sqlParserEngine = new ShardingSphereSQLParserEngine(
-                DatabaseTypeRegistry.getTrunkDatabaseTypeName(metaDataContexts.getDefaultMetaData().getResource().getDatabaseType()));
+        sqlParserEngine = new ShardingSphereSQLParserEngine(
+                DatabaseTypeRegistry.getTrunkDatabaseTypeName(metaDataContexts.getDefaultMetaData().getResource().getDatabaseType()), metaDataContexts.getProps());
         sqlStatement = sqlParserEngine.parse(sql, true);
         parameterMetaData = new ShardingSphereParameterMetaData(sqlStatement);
         statementOption = returnGeneratedKeys ? new StatementOption(true) : new StatementOption(resultSetType, resultSetConcurrency, resultSetHoldability);
@@ -170,6 +179,21 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         driverJDBCExecutor = new DriverJDBCExecutor(metaDataContexts, jdbcExecutor);
         batchPreparedStatementExecutor = new BatchPreparedStatementExecutor(metaDataContexts, jdbcExecutor);
         kernelProcessor = new KernelProcessor();
+        batchInsertConsolidator = createBatchInsertConsolidator();
+    }
+    
+    private BatchInsertConsolidator createBatchInsertConsolidator() {
+        int maxRows = metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.BATCH_INSERT_CONSOLIDATION_MAX_ROWS);
+        if (maxRows < 2 || !BatchInsertConsolidator.isConsolidatable(sql, sqlStatement) || !isNeedAccumulate(((InsertStatement) sqlStatement).getTable().getTableName().getIdentifier().getValue())) {
+            return null;
+        }
+        int maxBytes = metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.BATCH_INSERT_CONSOLIDATION_MAX_BYTES);
+        return new BatchInsertConsolidator(sql, (InsertStatement) sqlStatement, metaDataContexts.getDefaultMetaData().getResource().getDatabaseType(), maxRows, maxBytes);
+    }
+    
+    private boolean isNeedAccumulate(final String tableName) {
+        return metaDataContexts.getDefaultMetaData().getRuleMetaData().getRules().stream().anyMatch(
+            each -> each instanceof DataNodeContainedRule && ((DataNodeContainedRule) each).isNeedAccumulate(Collections.singletonList(tableName)));
     }
     
     @Override
@@ -299,7 +323,8 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     private ExecutionGroupContext<JDBCExecutionUnit> createExecutionGroupContext() throws SQLException {
         int maxConnectionsSizePerQuery = metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
         DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = new DriverExecutionPrepareEngine<>(
-                JDBCDriverType.PREPARED_STATEMENT, maxConnectionsSizePerQuery, connection, statementOption, metaDataContexts.getDefaultMetaData().getRuleMetaData().getRules());
+                JDBCDriverType.PREPARED_STATEMENT, maxConnectionsSizePerQuery, ConnectionModeSelectorFactory.newInstance(metaDataContexts.getProps()),
+                connection, statementOption, metaDataContexts.getDefaultMetaData().getRuleMetaData().getRules());
         return prepareEngine.prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
     }
     
@@ -359,16 +384,19 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     }
     
     private ExecutionContext createExecutionContext() {
-        LogicSQL logicSQL = createLogicSQL();
-        SQLCheckEngine.check(logicSQL.getSqlStatementContext().getSqlStatement(), logicSQL.getParameters(), 
-                metaDataContexts.getDefaultMetaData().getRuleMetaData().getRules(), DefaultSchema.LOGIC_NAME, metaDataContexts.getMetaDataMap(), null);
-        ExecutionContext result = kernelProcessor.generateExecutionContext(logicSQL, metaDataContexts.getDefaultMetaData(), metaDataContexts.getProps());
+        ExecutionContext result = createExecutionContext(sql, sqlStatement, new ArrayList<>(getParameters()));
         findGeneratedKey(result).ifPresent(generatedKey -> generatedValues.addAll(generatedKey.getGeneratedValues()));
         return result;
     }
     
-    private LogicSQL createLogicSQL() {
-        List<Object> parameters = new ArrayList<>(getParameters());
+    private ExecutionContext createExecutionContext(final String sql, final SQLStatement sqlStatement, final List<Object> parameters) {
+        LogicSQL logicSQL = createLogicSQL(sql, sqlStatement, parameters);
+        SQLCheckEngine.check(logicSQL.getSqlStatementContext().getSqlStatement(), logicSQL.getParameters(), 
+                metaDataContexts.getDefaultMetaData().getRuleMetaData().getRules(), DefaultSchema.LOGIC_NAME, metaDataContexts.getMetaDataMap(), null);
+        return kernelProcessor.generateExecutionContext(logicSQL, metaDataContexts.getDefaultMetaData(), metaDataContexts.getProps());
+    }
+    
+    private LogicSQL createLogicSQL(final String sql, final SQLStatement sqlStatement, final List<Object> parameters) {
         ShardingSphereSchema schema = metaDataContexts.getDefaultMetaData().getSchema();
         SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(schema, parameters, sqlStatement);
         return new LogicSQL(sqlStatementContext, sql, parameters);
@@ -425,8 +453,12 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     @Override
     public void addBatch() {
         try {
-            executionContext = createExecutionContext();
-            batchPreparedStatementExecutor.addBatchForExecutionUnits(executionContext.getExecutionUnits());
+            if (null == batchInsertConsolidator) {
+                executionContext = createExecutionContext();
+                batchPreparedStatementExecutor.addBatchForExecutionUnits(executionContext.getExecutionUnits());
+            } else {
+                batchInsertParameterSets.add(new ArrayList<>(getParameters()));
+            }
         } finally {
             currentResultSet = null;
             clearParameters();
@@ -445,6 +477,11 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     }
     
     private void initBatchPreparedStatementExecutor() throws SQLException {
+        if (!batchInsertParameterSets.isEmpty()) {
+            for (List<List<Object>> each : batchInsertConsolidator.split(batchInsertParameterSets)) {
+                addConsolidatedBatch(each);
+            }
+        }
         DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = new DriverExecutionPrepareEngine<>(
                 JDBCDriverType.PREPARED_STATEMENT, metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY),
                 connection, statementOption, metaDataContexts.getDefaultMetaData().getRuleMetaData().getRules());
@@ -453,6 +490,20 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         setBatchParametersForStatements();
     }
     
+    private void addConsolidatedBatch(final List<List<Object>> parameterSets) {
+        String consolidatedSQL = batchInsertConsolidator.getSQL(parameterSets.size());
+        ExecutionContext consolidatedExecutionContext = createExecutionContext(
+                consolidatedSQL, sqlParserEngine.parse(consolidatedSQL, true), batchInsertConsolidator.getParameters(parameterSets));
+        if (parameterSets.size() > 1 && batchInsertConsolidator.isMaxParametersExceeded(consolidatedExecutionContext.getExecutionUnits())) {
+            addConsolidatedBatch(parameterSets.subList(0, parameterSets.size() / 2));
+            addConsolidatedBatch(parameterSets.subList(parameterSets.size() / 2, parameterSets.size()));
+            return;
+        }
+        findGeneratedKey(consolidatedExecutionContext).ifPresent(generatedKey -> generatedValues.addAll(generatedKey.getGeneratedValues()));
+        executionContext = consolidatedExecutionContext;
+        batchPreparedStatementExecutor.addBatchForExecutionUnits(executionContext.getExecutionUnits(), parameterSets.size());
+    }
+    
     private void setBatchParametersForStatements() throws SQLException {
         for (Statement each : batchPreparedStatementExecutor.getStatements()) {
             List<List<Object>> parameterSet = batchPreparedStatementExecutor.getParameterSet(each);
@@ -467,6 +518,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     public void clearBatch() throws SQLException {
         currentResultSet = null;
         batchPreparedStatementExecutor.clear();
+        batchInsertParameterSets.clear();
         clearParameters();
     }
     
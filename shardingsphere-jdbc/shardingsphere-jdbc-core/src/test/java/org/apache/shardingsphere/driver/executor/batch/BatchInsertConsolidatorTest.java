@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.SQLServerDatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class BatchInsertConsolidatorTest {
+    
+    private static final String SQL = "INSERT INTO t_order (order_id, status) VALUES (?, ?)";
+    
+    @Test
+    public void assertIsConsolidatable() {
+        assertTrue(isConsolidatable("MySQL", SQL));
+        assertFalse(isConsolidatable("MySQL", "INSERT INTO t_order (order_id, status) VALUES (1, 'a')"));
+        assertFalse(isConsolidatable("MySQL", "INSERT INTO t_order (order_id, status) VALUES (?, ?), (?, ?)"));
+        assertFalse(isConsolidatable("MySQL", "INSERT INTO t_order SET order_id = ?, status = ?"));
+        assertFalse(isConsolidatable("MySQL", "INSERT INTO t_order (order_id, status) VALUES (?, ?) ON DUPLICATE KEY UPDATE status = ?"));
+        assertFalse(isConsolidatable("MySQL", "INSERT INTO t_order (order_id, status) SELECT order_id, status FROM t_order_bak WHERE order_id = ?"));
+        assertFalse(isConsolidatable("MySQL", "UPDATE t_order SET status = ? WHERE order_id = ?"));
+    }
+    
+    @Test
+    public void assertIsConsolidatableWithOnConflict() {
+        assertTrue(isConsolidatable("PostgreSQL", SQL));
+        assertFalse(isConsolidatable("PostgreSQL", "INSERT INTO t_order (order_id, status) VALUES (?, ?) on  conflict DO NOTHING"));
+        assertFalse(isConsolidatable("PostgreSQL", "INSERT INTO t_order (order_id, status) VALUES (?, ?) ON CONFLICT (order_id) DO UPDATE SET status = EXCLUDED.status"));
+    }
+    
+    @Test
+    public void assertGetSQL() {
+        BatchInsertConsolidator consolidator = new BatchInsertConsolidator(SQL, (InsertStatement) parse("MySQL", SQL), new MySQLDatabaseType(), 100, Integer.MAX_VALUE);
+        assertThat(consolidator.getSQL(1), is(SQL));
+        assertThat(consolidator.getSQL(3), is("INSERT INTO t_order (order_id, status) VALUES (?, ?), (?, ?), (?, ?)"));
+    }
+    
+    @Test
+    public void assertGetSQLWithParenthesesInLiteralAndSuffix() {
+        String sql = "INSERT INTO t_order (order_id, status) VALUES (?, ')(') RETURNING order_id";
+        BatchInsertConsolidator consolidator = new BatchInsertConsolidator(sql, (InsertStatement) parse("PostgreSQL", sql), new PostgreSQLDatabaseType(), 100, Integer.MAX_VALUE);
+        assertThat(consolidator.getSQL(2), is("INSERT INTO t_order (order_id, status) VALUES (?, ')('), (?, ')(') RETURNING order_id"));
+    }
+    
+    @Test
+    public void assertSplitByMaxRows() {
+        BatchInsertConsolidator consolidator = new BatchInsertConsolidator(SQL, (InsertStatement) parse("MySQL", SQL), new MySQLDatabaseType(), 2, Integer.MAX_VALUE);
+        List<List<List<Object>>> actual = consolidator.split(createParameterSets(3));
+        assertThat(actual.size(), is(2));
+        assertThat(consolidator.getParameters(actual.get(0)), is(Arrays.<Object>asList(0, "a", 1, "a")));
+        assertThat(consolidator.getParameters(actual.get(1)), is(Arrays.<Object>asList(2, "a")));
+    }
+    
+    @Test
+    public void assertSplitByMaxBytes() {
+        int maxBytes = SQL.length() + ("(?, ?)".length() + 2 + 9) * 2 - "(?, ?)".length();
+        BatchInsertConsolidator consolidator = new BatchInsertConsolidator(SQL, (InsertStatement) parse("MySQL", SQL), new MySQLDatabaseType(), 100, maxBytes);
+        List<List<List<Object>>> actual = consolidator.split(createParameterSets(4));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(1).size(), is(2));
+    }
+    
+    @Test
+    public void assertSplitByMaxParameters() {
+        BatchInsertConsolidator consolidator = new BatchInsertConsolidator(SQL, (InsertStatement) parse("SQLServer", SQL), new SQLServerDatabaseType(), Integer.MAX_VALUE, Integer.MAX_VALUE);
+        List<List<List<Object>>> actual = consolidator.split(createParameterSets(1051));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).size(), is(1050));
+        assertThat(actual.get(1).size(), is(1));
+    }
+    
+    @Test
+    public void assertIsMaxParametersExceeded() {
+        BatchInsertConsolidator consolidator = new BatchInsertConsolidator(SQL, (InsertStatement) parse("SQLServer", SQL), new SQLServerDatabaseType(), 100, Integer.MAX_VALUE);
+        assertFalse(consolidator.isMaxParametersExceeded(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(SQL, new ArrayList<>(Collections.nCopies(2100, 1)))))));
+        assertTrue(consolidator.isMaxParametersExceeded(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(SQL, new ArrayList<>(Collections.nCopies(2101, 1)))))));
+    }
+    
+    private boolean isConsolidatable(final String databaseTypeName, final String sql) {
+        return BatchInsertConsolidator.isConsolidatable(sql, parse(databaseTypeName, sql));
+    }
+    
+    private SQLStatement parse(final String databaseTypeName, final String sql) {
+        return new ShardingSphereSQLParserEngine(databaseTypeName).parse(sql, false);
+    }
+    
+    private List<List<Object>> createParameterSets(final int rows) {
+        List<List<Object>> result = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            result.add(Arrays.asList(i, "a"));
+        }
+        return result;
+    }
+}
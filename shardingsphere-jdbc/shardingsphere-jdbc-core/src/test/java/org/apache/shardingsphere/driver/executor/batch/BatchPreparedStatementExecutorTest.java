@@ -36,6 +36,7 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -127,6 +128,29 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         verify(preparedStatement2).executeBatch();
     }
     
+    @Test
+    public void assertExecuteBatchForConsolidatedPreparedStatement() throws SQLException {
+        PreparedStatement preparedStatement = getPreparedStatement();
+        when(preparedStatement.executeBatch()).thenReturn(new int[] {2});
+        setConsolidatedExecutionGroups(preparedStatement);
+        assertThat(actual.executeBatch(sqlStatementContext), is(new int[] {1, 1}));
+    }
+    
+    @Test
+    public void assertExecuteBatchForConsolidatedPreparedStatementWithUnexpectedUpdateCount() throws SQLException {
+        PreparedStatement preparedStatement = getPreparedStatement();
+        when(preparedStatement.executeBatch()).thenReturn(new int[] {3});
+        setConsolidatedExecutionGroups(preparedStatement);
+        assertThat(actual.executeBatch(sqlStatementContext), is(new int[] {Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO}));
+    }
+    
+    private void setConsolidatedExecutionGroups(final PreparedStatement preparedStatement) {
+        ExecutionUnit executionUnit = new ExecutionUnit("ds_0", new SQLUnit(SQL, Arrays.asList(1, 2)));
+        actual.addBatchForExecutionUnits(Collections.singletonList(executionUnit), 2);
+        actual.init(new ExecutionGroupContext<>(Collections.singletonList(
+                new ExecutionGroup<>(Collections.singletonList(new JDBCExecutionUnit(executionUnit, ConnectionMode.MEMORY_STRICTLY, preparedStatement))))));
+    }
+    
     private void setExecutionGroups(final List<PreparedStatement> preparedStatements) {
         Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = new LinkedList<>();
         List<JDBCExecutionUnit> executionUnits = new LinkedList<>();
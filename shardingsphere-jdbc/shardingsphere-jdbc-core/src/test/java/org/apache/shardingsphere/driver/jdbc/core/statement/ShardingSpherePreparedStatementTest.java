@@ -20,6 +20,12 @@ package org.apache.shardingsphere.driver.jdbc.core.statement;
 import com.google.common.collect.Lists;
 import org.apache.shardingsphere.driver.jdbc.base.AbstractShardingSphereDataSourceForShardingTest;
 import org.apache.shardingsphere.driver.fixture.ResetIncrementKeyGenerateAlgorithm;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.driver.jdbc.core.datasource.ShardingSphereDataSource;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
+import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.junit.Test;
 
 import java.sql.Connection;
@@ -28,12 +34,15 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
 
 public final class ShardingSpherePreparedStatementTest extends AbstractShardingSphereDataSourceForShardingTest {
     
@@ -41,6 +50,8 @@ public final class ShardingSpherePreparedStatementTest extends AbstractShardingS
     
     private static final String SELECT_FOR_INSERT_MULTI_VALUES_WITH_GENERATE_SHARDING_KEY_SQL = "SELECT name FROM t_user WHERE id=%dL";
     
+    private static final String INSERT_WITH_GENERATE_SHARDING_KEY_SQL = "INSERT INTO t_user (name) VALUES (?)";
+    
     private static final String INSERT_WITH_GENERATE_KEY_SQL = "INSERT INTO t_order_item (item_id, order_id, user_id, status) VALUES (?, ?, ?, ?)";
     
     private static final String INSERT_WITHOUT_GENERATE_KEY_SQL = "INSERT INTO t_order_item (order_id, user_id, status) VALUES (?, ?, ?)";
@@ -211,6 +222,43 @@ public final class ShardingSpherePreparedStatementTest extends AbstractShardingS
         }
     }
     
+    @Test
+    public void assertAddBatchWithBatchInsertConsolidation() throws SQLException {
+        try (
+                Connection connection = getBatchInsertConsolidationConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(INSERT_WITH_GENERATE_SHARDING_KEY_SQL, Statement.RETURN_GENERATED_KEYS);
+                Statement queryStatement = connection.createStatement()) {
+            ResetIncrementKeyGenerateAlgorithm.getCOUNT().set(20);
+            for (int i = 21; i <= 25; i++) {
+                preparedStatement.setString(1, "BATCH" + i);
+                preparedStatement.addBatch();
+            }
+            assertThat(preparedStatement.executeBatch(), is(new int[] {1, 1, 1, 1, 1}));
+            ResultSet generateKeyResultSet = preparedStatement.getGeneratedKeys();
+            for (long i = 21L; i <= 25L; i++) {
+                assertTrue(generateKeyResultSet.next());
+                assertThat(generateKeyResultSet.getLong(1), is(i));
+            }
+            assertFalse(generateKeyResultSet.next());
+            for (long i = 21L; i <= 25L; i++) {
+                try (ResultSet resultSet = queryStatement.executeQuery(String.format(SELECT_FOR_INSERT_MULTI_VALUES_WITH_GENERATE_SHARDING_KEY_SQL, i))) {
+                    assertTrue(resultSet.next());
+                    assertThat(resultSet.getString(1), is("BATCH" + i));
+                    assertFalse(resultSet.next());
+                }
+            }
+        }
+    }
+    
+    private Connection getBatchInsertConsolidationConnection() {
+        ShardingSphereDataSource dataSource = getShardingSphereDataSource();
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.BATCH_INSERT_CONSOLIDATION_MAX_ROWS.getKey(), "2");
+        MetaDataContexts metaDataContexts = spy(dataSource.getMetaDataContexts());
+        doReturn(new ConfigurationProperties(props)).when(metaDataContexts).getProps();
+        return new ShardingSphereConnection(dataSource.getDataSourceMap(), metaDataContexts, dataSource.getTransactionContexts(), TransactionType.LOCAL);
+    }
+    
     @Test
     public void assertAddBatchWithoutGenerateKeyColumn() throws SQLException {
         try (
@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.parameter.TypeUnspecifiedSQLParameter;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.apache.shardingsphere.infra.lock.LockNameUtil;
+import org.apache.shardingsphere.infra.lock.ShardingSphereLock;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.rule.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.rule.type.RawExecutionRule;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.executor.ProxyJDBCExecutor;
+import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.exception.TableLockedException;
+import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Database communication engine for batch execution.
+ * 
+ * <p>
+ * Parameter sets of the same logic SQL are routed and rewritten one by one, then grouped by target data source and rewritten SQL,
+ * each group is sent to storage node as one JDBC batch through the proxy JDBC executor.
+ * </p>
+ */
+public final class BatchDatabaseCommunicationEngine {
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final SQLStatement sqlStatement;
+    
+    private final String sql;
+    
+    private final BackendConnection backendConnection;
+    
+    private final ProxyJDBCExecutor jdbcExecutor;
+    
+    private final KernelProcessor kernelProcessor = new KernelProcessor();
+    
+    public BatchDatabaseCommunicationEngine(final SQLStatement sqlStatement, final String sql, final BackendConnection backendConnection) {
+        metaData = ProxyContext.getInstance().getMetaData(backendConnection.getSchemaName());
+        this.sqlStatement = sqlStatement;
+        this.sql = sql;
+        this.backendConnection = backendConnection;
+        jdbcExecutor = new ProxyJDBCExecutor(JDBCDriverType.PREPARED_STATEMENT, backendConnection,
+                new JDBCExecutor(BackendExecutorContext.getInstance().getExecutorEngine(), backendConnection.isSerialExecute()));
+    }
+    
+    /**
+     * Execute parameter sets as batch.
+     *
+     * @param parameterSets parameter sets
+     * @return response headers of each parameter set, in the order of parameter sets
+     * @throws SQLException SQL exception
+     */
+    public List<ResponseHeader> execute(final List<List<Object>> parameterSets) throws SQLException {
+        if (metaData.getRuleMetaData().getRules().stream().anyMatch(each -> each instanceof RawExecutionRule)) {
+            return executeOneByOne(parameterSets);
+        }
+        ConfigurationProperties props = ProxyContext.getInstance().getMetaDataContexts().getProps();
+        List<ExecutionContext> executionContexts = new ArrayList<>(parameterSets.size());
+        for (List<Object> each : parameterSets) {
+            List<Object> parameters = new ArrayList<>(each);
+            SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(metaData.getSchema(), parameters, sqlStatement);
+            ExecutionContext executionContext = kernelProcessor.generateExecutionContext(new LogicSQL(sqlStatementContext, sql, parameters), metaData, props);
+            if (executionContext.getRouteContext().isToCalcite()) {
+                return executeOneByOne(parameterSets);
+            }
+            executionContexts.add(executionContext);
+        }
+        checkTableLock(executionContexts.get(0).getSqlStatementContext());
+        return executeBatch(executionContexts);
+    }
+    
+    private List<ResponseHeader> executeOneByOne(final List<List<Object>> parameterSets) throws SQLException {
+        List<ResponseHeader> result = new ArrayList<>(parameterSets.size());
+        for (List<Object> each : parameterSets) {
+            result.add(DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(sqlStatement, sql, each, backendConnection).execute());
+        }
+        return result;
+    }
+    
+    private void checkTableLock(final SQLStatementContext<?> sqlStatementContext) {
+        Optional<ShardingSphereLock> lock = ProxyContext.getInstance().getLock();
+        if (!lock.isPresent()) {
+            return;
+        }
+        for (String each : sqlStatementContext.getTablesContext().getTableNames()) {
+            if (lock.get().isLocked(LockNameUtil.getTableLockName(backendConnection.getSchemaName(), each))) {
+                throw new TableLockedException(backendConnection.getSchemaName(), each);
+            }
+        }
+    }
+    
+    private List<ResponseHeader> executeBatch(final List<ExecutionContext> executionContexts) throws SQLException {
+        Map<BatchKey, List<BatchItem>> batches = new LinkedHashMap<>();
+        for (int i = 0; i < executionContexts.size(); i++) {
+            for (ExecutionUnit each : executionContexts.get(i).getExecutionUnits()) {
+                batches.computeIfAbsent(new BatchKey(each.getDataSourceName(), each.getSqlUnit().getSql()), key -> new LinkedList<>()).add(new BatchItem(i, each.getSqlUnit().getParameters()));
+            }
+        }
+        Map<String, List<BatchKey>> dataSourceBatchKeys = new LinkedHashMap<>();
+        for (BatchKey each : batches.keySet()) {
+            dataSourceBatchKeys.computeIfAbsent(each.getDataSourceName(), key -> new LinkedList<>()).add(each);
+        }
+        Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = new LinkedList<>();
+        List<BatchKey> executedBatchKeys = new ArrayList<>(batches.size());
+        for (Entry<String, List<BatchKey>> entry : dataSourceBatchKeys.entrySet()) {
+            Connection connection = backendConnection.getConnections(entry.getKey(), 1, ConnectionMode.CONNECTION_STRICTLY).get(0);
+            List<JDBCExecutionUnit> inputs = new ArrayList<>(entry.getValue().size());
+            for (BatchKey each : entry.getValue()) {
+                inputs.add(createExecutionUnit(each, batches.get(each), connection));
+                executedBatchKeys.add(each);
+            }
+            executionGroups.add(new ExecutionGroup<>(inputs));
+        }
+        SQLStatementContext<?> sqlStatementContext = executionContexts.get(0).getSqlStatementContext();
+        List<int[]> updateCounts = jdbcExecutor.executeBatch(sqlStatementContext, new ExecutionGroupContext<>(executionGroups), SQLExecutorExceptionHandler.isExceptionThrown());
+        if (updateCounts.size() != executedBatchKeys.size()) {
+            throw new SQLException(String.format("Only %d of %d batches have been executed for SQL `%s`", updateCounts.size(), executedBatchKeys.size(), sql));
+        }
+        return createResponseHeaders(executionContexts, batches, executedBatchKeys, updateCounts);
+    }
+    
+    private JDBCExecutionUnit createExecutionUnit(final BatchKey batchKey, final List<BatchItem> batchItems, final Connection connection) throws SQLException {
+        PreparedStatement preparedStatement = backendConnection.createStorageResource(
+                batchKey.getSql(), Collections.emptyList(), connection, ConnectionMode.CONNECTION_STRICTLY, new StatementOption(false));
+        backendConnection.add(preparedStatement);
+        List<Object> parameters = new LinkedList<>();
+        for (BatchItem each : batchItems) {
+            setParameters(preparedStatement, each.getParameters());
+            preparedStatement.addBatch();
+            parameters.addAll(each.getParameters());
+        }
+        return new JDBCExecutionUnit(new ExecutionUnit(batchKey.getDataSourceName(), new SQLUnit(batchKey.getSql(), parameters)), ConnectionMode.CONNECTION_STRICTLY, preparedStatement);
+    }
+    
+    private List<ResponseHeader> createResponseHeaders(final List<ExecutionContext> executionContexts, final Map<BatchKey, List<BatchItem>> batches,
+                                                       final List<BatchKey> executedBatchKeys, final List<int[]> updateCounts) {
+        List<Collection<UpdateResult>> updateResults = new ArrayList<>(executionContexts.size());
+        boolean[] successNoInfo = new boolean[executionContexts.size()];
+        for (int i = 0; i < executionContexts.size(); i++) {
+            updateResults.add(new LinkedList<>());
+        }
+        Iterator<int[]> updateCountsIterator = updateCounts.iterator();
+        for (BatchKey each : executedBatchKeys) {
+            int[] batchUpdateCounts = updateCountsIterator.next();
+            int index = 0;
+            for (BatchItem item : batches.get(each)) {
+                int updateCount = batchUpdateCounts[index++];
+                if (Statement.SUCCESS_NO_INFO == updateCount) {
+                    successNoInfo[item.getIndex()] = true;
+                } else {
+                    updateResults.get(item.getIndex()).add(new UpdateResult(updateCount, 0L));
+                }
+            }
+        }
+        boolean needAccumulate = isNeedAccumulate(executionContexts.get(0).getSqlStatementContext());
+        List<ResponseHeader> result = new ArrayList<>(executionContexts.size());
+        for (int i = 0; i < executionContexts.size(); i++) {
+            Collection<UpdateResult> eachUpdateResults = successNoInfo[i] ? Collections.singletonList(new UpdateResult(getInsertRowCount(executionContexts.get(i)), 0L)) : updateResults.get(i);
+            UpdateResponseHeader responseHeader = new UpdateResponseHeader(sqlStatement, eachUpdateResults);
+            if (needAccumulate) {
+                responseHeader.mergeUpdateCount();
+            }
+            result.add(responseHeader);
+        }
+        return result;
+    }
+    
+    private int getInsertRowCount(final ExecutionContext executionContext) {
+        SQLStatementContext<?> sqlStatementContext = executionContext.getSqlStatementContext();
+        return sqlStatementContext instanceof InsertStatementContext ? ((InsertStatementContext) sqlStatementContext).getInsertValueContexts().size() : 0;
+    }
+    
+    private void setParameters(final PreparedStatement preparedStatement, final List<Object> parameters) throws SQLException {
+        for (int i = 0; i < parameters.size(); i++) {
+            Object parameter = parameters.get(i);
+            if (parameter instanceof TypeUnspecifiedSQLParameter) {
+                preparedStatement.setObject(i + 1, parameter, Types.OTHER);
+            } else {
+                preparedStatement.setObject(i + 1, parameter);
+            }
+        }
+    }
+    
+    private boolean isNeedAccumulate(final SQLStatementContext<?> sqlStatementContext) {
+        Optional<DataNodeContainedRule> dataNodeContainedRule =
+                metaData.getRuleMetaData().getRules().stream().filter(each -> each instanceof DataNodeContainedRule).findFirst().map(rule -> (DataNodeContainedRule) rule);
+        return dataNodeContainedRule.isPresent() && dataNodeContainedRule.get().isNeedAccumulate(sqlStatementContext.getTablesContext().getTableNames());
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    @Getter
+    private static final class BatchKey {
+        
+        private final String dataSourceName;
+        
+        private final String sql;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class BatchItem {
+        
+        private final int index;
+        
+        private final List<Object> parameters;
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.backend.communication;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.row.RowValueReader;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
@@ -43,19 +44,22 @@ import org.apache.shardingsphere.proxy.backend.response.header.query.QueryRespon
 import org.apache.shardingsphere.proxy.backend.response.header.query.impl.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.impl.QueryHeaderBuilder;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 /**
  * Database communication engine.
  */
 @RequiredArgsConstructor
-public final class DatabaseCommunicationEngine {
+public final class DatabaseCommunicationEngine implements RowValueReader {
     
     private final String driverType;
     
@@ -63,6 +67,8 @@ public final class DatabaseCommunicationEngine {
     
     private final LogicSQL logicSQL;
     
+    private final BackendConnection backendConnection;
+    
     private final ProxySQLExecutor proxySQLExecutor;
     
     private final KernelProcessor kernelProcessor;
@@ -77,6 +83,7 @@ public final class DatabaseCommunicationEngine {
         this.driverType = driverType;
         this.metaData = metaData;
         this.logicSQL = logicSQL;
+        this.backendConnection = backendConnection;
         proxySQLExecutor = new ProxySQLExecutor(driverType, backendConnection);
         kernelProcessor = new KernelProcessor();
         proxyLockEngine = new ProxyLockEngine(proxySQLExecutor, new MetadataRefreshEngine(metaData, 
@@ -95,7 +102,50 @@ public final class DatabaseCommunicationEngine {
             return new UpdateResponseHeader(executionContext.getSqlStatementContext().getSqlStatement());
         }
         proxySQLExecutor.checkExecutePrerequisites(executionContext);
-        Collection<ExecuteResult> executeResults = proxyLockEngine.execute(executionContext);
+        return processExecuteResults(executionContext, proxyLockEngine.execute(executionContext));
+    }
+    
+    /**
+     * Execute to database asynchronously.
+     * 
+     * <p>
+     * Only query is executed asynchronously, other statements are executed in current thread because table lock and metadata refreshing are bound to it.
+     * Merged result of query is created once execution completed.
+     * </p>
+     *
+     * @return future of backend response
+     * @throws SQLException SQL exception
+     */
+    public CompletableFuture<ResponseHeader> executeAsync() throws SQLException {
+        ExecutionContext executionContext = kernelProcessor.generateExecutionContext(logicSQL, metaData, ProxyContext.getInstance().getMetaDataContexts().getProps());
+        if (executionContext.getExecutionUnits().isEmpty()) {
+            return CompletableFuture.completedFuture(new UpdateResponseHeader(executionContext.getSqlStatementContext().getSqlStatement()));
+        }
+        proxySQLExecutor.checkExecutePrerequisites(executionContext);
+        if (!(executionContext.getSqlStatementContext().getSqlStatement() instanceof SelectStatement)) {
+            return CompletableFuture.completedFuture(processExecuteResults(executionContext, proxyLockEngine.execute(executionContext)));
+        }
+        CompletableFuture<ResponseHeader> result = new CompletableFuture<>();
+        proxySQLExecutor.executeAsync(executionContext).whenComplete((executeResults, cause) -> completeResponseHeader(result, executionContext, executeResults, cause));
+        return result;
+    }
+    
+    private void completeResponseHeader(final CompletableFuture<ResponseHeader> responseHeader, 
+                                        final ExecutionContext executionContext, final Collection<ExecuteResult> executeResults, final Throwable cause) {
+        if (null != cause) {
+            responseHeader.completeExceptionally(cause instanceof CompletionException ? cause.getCause() : cause);
+            return;
+        }
+        try {
+            responseHeader.complete(processExecuteResults(executionContext, executeResults));
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            responseHeader.completeExceptionally(ex);
+        }
+    }
+    
+    private ResponseHeader processExecuteResults(final ExecutionContext executionContext, final Collection<ExecuteResult> executeResults) throws SQLException {
         ExecuteResult executeResultSample = executeResults.iterator().next();
         return executeResultSample instanceof QueryResult
                 ? processExecuteQuery(executionContext, executeResults.stream().map(each -> (QueryResult) each).collect(Collectors.toList()), (QueryResult) executeResultSample)
@@ -105,11 +155,12 @@ public final class DatabaseCommunicationEngine {
     private QueryResponseHeader processExecuteQuery(final ExecutionContext executionContext, final List<QueryResult> queryResults, final QueryResult queryResultSample) throws SQLException {
         queryHeaders = createQueryHeaders(executionContext, queryResultSample);
         mergedResult = mergeQuery(executionContext.getSqlStatementContext(), queryResults);
+        backendConnection.add(mergedResult);
         return new QueryResponseHeader(queryHeaders);
     }
     
     private List<QueryHeader> createQueryHeaders(final ExecutionContext executionContext, final QueryResult queryResultSample) throws SQLException {
-        int columnCount = getColumnCount(executionContext, queryResultSample);
+        int columnCount = getQueryColumnCount(executionContext, queryResultSample);
         List<QueryHeader> result = new ArrayList<>(columnCount);
         for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
             result.add(createQueryHeader(executionContext, queryResultSample, metaData, columnIndex));
@@ -124,7 +175,7 @@ public final class DatabaseCommunicationEngine {
                 : QueryHeaderBuilder.build(queryResultSample.getMetaData(), metaData, columnIndex);
     }
     
-    private int getColumnCount(final ExecutionContext executionContext, final QueryResult queryResultSample) throws SQLException {
+    private int getQueryColumnCount(final ExecutionContext executionContext, final QueryResult queryResultSample) throws SQLException {
         return hasSelectExpandProjections(executionContext.getSqlStatementContext())
                 ? ((SelectStatementContext) executionContext.getSqlStatementContext()).getProjectionsContext().getExpandProjections().size() : queryResultSample.getMetaData().getColumnCount();
     }
@@ -187,6 +238,30 @@ public final class DatabaseCommunicationEngine {
         return new QueryResponseRow(cells);
     }
     
+    /**
+     * Get row data of text protocol, without wrapping values into query response cells.
+     *
+     * @return row data
+     * @throws SQLException SQL exception
+     */
+    public List<Object> getRowData() throws SQLException {
+        List<Object> result = new ArrayList<>(queryHeaders.size());
+        for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
+            result.add(getValue(columnIndex));
+        }
+        return result;
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return queryHeaders.size();
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex) throws SQLException {
+        return mergedResult.getValue(columnIndex, Object.class);
+    }
+    
     private boolean isBinary() {
         return JDBCDriverType.PREPARED_STATEMENT.equals(driverType);
     }
@@ -36,6 +36,7 @@ import org.apache.shardingsphere.infra.executor.sql.optimize.execute.CalciteExec
 import org.apache.shardingsphere.infra.executor.sql.optimize.execute.CalciteJDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.optimize.schema.CalciteLogicSchema;
 import org.apache.shardingsphere.infra.executor.sql.optimize.schema.row.CalciteRowExecutor;
+import org.apache.shardingsphere.infra.executor.sql.prepare.ConnectionModeSelectorFactory;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.executor.sql.prepare.raw.RawExecutionPrepareEngine;
@@ -59,6 +60,7 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -124,6 +126,34 @@ public final class ProxySQLExecutor {
         return useDriverToExecute(executionContext, rules, maxConnectionsSizePerQuery, isReturnGeneratedKeys, SQLExecutorExceptionHandler.isExceptionThrown());
     }
     
+    /**
+     * Execute SQL asynchronously.
+     *
+     * <p>
+     * Only SQL executed by JDBC driver is executed asynchronously, the returned future of raw execution or execution by Calcite is already completed.
+     * </p>
+     *
+     * @param executionContext execution context
+     * @return future of execute results
+     * @throws SQLException SQL exception
+     */
+    public CompletableFuture<Collection<ExecuteResult>> executeAsync(final ExecutionContext executionContext) throws SQLException {
+        Collection<ShardingSphereRule> rules = ProxyContext.getInstance().getMetaDataContexts().getMetaData(backendConnection.getSchemaName()).getRuleMetaData().getRules();
+        int maxConnectionsSizePerQuery = ProxyContext.getInstance().getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
+        boolean isReturnGeneratedKeys = executionContext.getSqlStatementContext().getSqlStatement() instanceof InsertStatement;
+        if (rules.stream().anyMatch(each -> each instanceof RawExecutionRule) || executionContext.getRouteContext().isToCalcite()) {
+            return CompletableFuture.completedFuture(execute(executionContext, rules, maxConnectionsSizePerQuery, isReturnGeneratedKeys));
+        }
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
+        try {
+            executionGroupContext = createDriverExecutionPrepareEngine(rules, maxConnectionsSizePerQuery, isReturnGeneratedKeys).prepare(
+                    executionContext.getRouteContext(), executionContext.getExecutionUnits());
+        } catch (final SQLException ex) {
+            return CompletableFuture.completedFuture(getSaneExecuteResults(executionContext, ex));
+        }
+        return jdbcExecutor.executeAsync(executionContext.getSqlStatementContext(), executionGroupContext, isReturnGeneratedKeys, SQLExecutorExceptionHandler.isExceptionThrown());
+    }
+    
     private Collection<ExecuteResult> rawExecute(final ExecutionContext executionContext, final Collection<ShardingSphereRule> rules, final int maxConnectionsSizePerQuery) throws SQLException {
         RawExecutionPrepareEngine prepareEngine = new RawExecutionPrepareEngine(maxConnectionsSizePerQuery, rules);
         ExecutionGroupContext<RawSQLExecutionUnit> executionGroupContext;
@@ -154,8 +184,7 @@ public final class ProxySQLExecutor {
     
     private Collection<ExecuteResult> useDriverToExecute(final ExecutionContext executionContext, final Collection<ShardingSphereRule> rules, 
                                                          final int maxConnectionsSizePerQuery, final boolean isReturnGeneratedKeys, final boolean isExceptionThrown) throws SQLException {
-        DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = new DriverExecutionPrepareEngine<>(
-                type, maxConnectionsSizePerQuery, backendConnection, new StatementOption(isReturnGeneratedKeys), rules);
+        DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = createDriverExecutionPrepareEngine(rules, maxConnectionsSizePerQuery, isReturnGeneratedKeys);
         ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
         try {
             executionGroupContext = prepareEngine.prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
@@ -165,6 +194,12 @@ public final class ProxySQLExecutor {
         return jdbcExecutor.execute(executionContext.getSqlStatementContext(), executionGroupContext, isReturnGeneratedKeys, isExceptionThrown);
     }
     
+    private DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> createDriverExecutionPrepareEngine(final Collection<ShardingSphereRule> rules, 
+                                                                                                         final int maxConnectionsSizePerQuery, final boolean isReturnGeneratedKeys) {
+        return new DriverExecutionPrepareEngine<>(type, maxConnectionsSizePerQuery, ConnectionModeSelectorFactory.newInstance(ProxyContext.getInstance().getMetaDataContexts().getProps()),
+                backendConnection, new StatementOption(isReturnGeneratedKeys), rules);
+    }
+    
     private Collection<ExecuteResult> getSaneExecuteResults(final ExecutionContext executionContext, final SQLException originalException) throws SQLException {
         DatabaseType databaseType = ProxyContext.getInstance().getMetaData(backendConnection.getSchemaName()).getResource().getDatabaseType();
         Optional<ExecuteResult> executeResult = JDBCSaneQueryResultEngineFactory.newInstance(databaseType).getSaneQueryResult(executionContext.getSqlStatementContext().getSqlStatement());
@@ -23,12 +23,14 @@ import com.google.common.collect.Multimap;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.db.protocol.parameter.TypeUnspecifiedSQLParameter;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.optimize.execute.CalciteExecutor;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCManager;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.infra.spi.typed.TypedSPIRegistry;
@@ -57,6 +59,8 @@ import java.util.concurrent.CopyOnWriteArrayList;
 @Getter
 public final class BackendConnection implements ExecutorJDBCManager {
     
+    private static final PreparedStatementCache PREPARED_STATEMENT_CACHE = new PreparedStatementCache();
+    
     static {
         ShardingSphereServiceLoader.register(StatementMemoryStrictlyFetchSizeSetter.class);
     }
@@ -78,6 +82,8 @@ public final class BackendConnection implements ExecutorJDBCManager {
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
     
+    private final Collection<MergedResult> cachedMergedResults = new CopyOnWriteArrayList<>();
+    
     private final Collection<ConnectionPostProcessor> connectionPostProcessors = new LinkedList<>();
     
     private final ResourceLock resourceLock = new ResourceLock();
@@ -169,8 +175,7 @@ public final class BackendConnection implements ExecutorJDBCManager {
     @Override
     public PreparedStatement createStorageResource(final String sql, final List<Object> parameters, 
                                                    final Connection connection, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
-        PreparedStatement result = option.isReturnGeneratedKeys()
-                ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql);
+        PreparedStatement result = getPreparedStatement(sql, connection, connectionMode, option.isReturnGeneratedKeys());
         for (int i = 0; i < parameters.size(); i++) {
             Object parameter = parameters.get(i);
             if (parameter instanceof TypeUnspecifiedSQLParameter) {
@@ -185,6 +190,30 @@ public final class BackendConnection implements ExecutorJDBCManager {
         return result;
     }
     
+    private PreparedStatement getPreparedStatement(final String sql, final Connection connection, final ConnectionMode connectionMode, final boolean returnGeneratedKeys) throws SQLException {
+        int preparedStatementCacheSize = ProxyContext.getInstance().getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE);
+        if (preparedStatementCacheSize <= 0) {
+            return prepareStatement(sql, connection, returnGeneratedKeys);
+        }
+        Connection physicalConnection = getPhysicalConnection(connection);
+        Optional<PreparedStatement> cachedPreparedStatement = PREPARED_STATEMENT_CACHE.get(physicalConnection, sql, connectionMode, returnGeneratedKeys);
+        if (cachedPreparedStatement.isPresent()) {
+            cachedPreparedStatement.get().clearParameters();
+            return cachedPreparedStatement.get();
+        }
+        PreparedStatement result = prepareStatement(sql, physicalConnection, returnGeneratedKeys);
+        PREPARED_STATEMENT_CACHE.put(physicalConnection, sql, connectionMode, returnGeneratedKeys, result, preparedStatementCacheSize);
+        return result;
+    }
+    
+    private Connection getPhysicalConnection(final Connection connection) throws SQLException {
+        return connection.isWrapperFor(Connection.class) ? connection.unwrap(Connection.class) : connection;
+    }
+    
+    private PreparedStatement prepareStatement(final String sql, final Connection connection, final boolean returnGeneratedKeys) throws SQLException {
+        return returnGeneratedKeys ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql);
+    }
+    
     private void setFetchSize(final Statement statement) throws SQLException {
         DatabaseType databaseType = ProxyContext.getInstance().getMetaDataContexts().getMetaData(schemaName).getResource().getDatabaseType();
         Optional<StatementMemoryStrictlyFetchSizeSetter> fetchSizeSetter = TypedSPIRegistry.findRegisteredService(
@@ -230,13 +259,34 @@ public final class BackendConnection implements ExecutorJDBCManager {
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Add merged result.
+     *
+     * @param mergedResult merged result to be added
+     */
+    public void add(final MergedResult mergedResult) {
+        cachedMergedResults.add(mergedResult);
+    }
+    
     /**
      * Close result sets.
+     * 
+     * <p>
+     * Merged results are closed before result sets, so that resources held by merged results are released before result sets closed.
+     * </p>
      *
      * @return SQL exception when result sets close
      */
     public synchronized Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
+        for (MergedResult each : cachedMergedResults) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        cachedMergedResults.clear();
         for (ResultSet each : cachedResultSets) {
             try {
                 each.close();
@@ -250,12 +300,19 @@ public final class BackendConnection implements ExecutorJDBCManager {
     
     /**
      * Close statements.
+     * 
+     * <p>
+     * Prepared statements in prepared statement cache will be given back instead of closed, and kept on physical connections after connections closed.
+     * </p>
      *
      * @return SQL exception when statements close
      */
     public synchronized Collection<SQLException> closeStatements() {
         Collection<SQLException> result = new LinkedList<>();
         for (Statement each : cachedStatements) {
+            if (PREPARED_STATEMENT_CACHE.giveBack(each)) {
+                continue;
+            }
             try {
                 each.close();
             } catch (final SQLException ex) {
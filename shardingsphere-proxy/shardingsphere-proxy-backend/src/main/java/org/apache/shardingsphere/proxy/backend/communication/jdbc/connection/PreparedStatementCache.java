@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import com.google.common.eventbus.Subscribe;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.metadata.schema.refresher.event.SchemaAlteredEvent;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Prepared statement cache of physical connections.
+ *
+ * <p>
+ * Prepared statements are prepared on physical connections unwrapped from pooled connections, so that they survive connections given back to pool.
+ * Prepared statements are cached by physical connection, SQL, connection mode and whether return generated keys,
+ * and evicted in least recently used order of each physical connection.
+ * A cached prepared statement is borrowed by one execution until statements of backend connection closed,
+ * cached prepared statements of closed physical connections are discarded, and all cached prepared statements are discarded when any schema altered.
+ * </p>
+ */
+public final class PreparedStatementCache {
+    
+    private static final AtomicLong SCHEMA_VERSION = new AtomicLong();
+    
+    static {
+        ShardingSphereEventBus.getInstance().register(new SchemaAlteredSubscriber());
+    }
+    
+    private final Map<Connection, CachedPreparedStatements> cachedPreparedStatements = new ConcurrentHashMap<>();
+    
+    private final Map<Statement, CachedPreparedStatements> borrowedStatements = new ConcurrentHashMap<>();
+    
+    /**
+     * Get cached prepared statement and borrow it.
+     *
+     * @param physicalConnection physical connection
+     * @param sql SQL
+     * @param connectionMode connection mode
+     * @param returnGeneratedKeys whether return generated keys
+     * @return cached prepared statement
+     */
+    public Optional<PreparedStatement> get(final Connection physicalConnection, final String sql, final ConnectionMode connectionMode, final boolean returnGeneratedKeys) {
+        CachedPreparedStatements preparedStatements = cachedPreparedStatements.get(physicalConnection);
+        if (null == preparedStatements) {
+            return Optional.empty();
+        }
+        Optional<PreparedStatement> result = preparedStatements.borrow(new PreparedStatementCacheKey(sql, connectionMode, returnGeneratedKeys));
+        result.ifPresent(optional -> borrowedStatements.put(optional, preparedStatements));
+        return result;
+    }
+    
+    /**
+     * Put prepared statement into cache as borrowed.
+     * 
+     * <p>
+     * Prepared statement will not be cached if another one with same key is cached.
+     * </p>
+     *
+     * @param physicalConnection physical connection which prepared statement prepared on
+     * @param sql SQL
+     * @param connectionMode connection mode
+     * @param returnGeneratedKeys whether return generated keys
+     * @param preparedStatement prepared statement to be cached
+     * @param maximumSize maximum size of cache for each physical connection
+     */
+    public void put(final Connection physicalConnection, final String sql, final ConnectionMode connectionMode, final boolean returnGeneratedKeys,
+                    final PreparedStatement preparedStatement, final int maximumSize) {
+        CachedPreparedStatements preparedStatements = cachedPreparedStatements.get(physicalConnection);
+        if (null == preparedStatements) {
+            discardClosedConnections();
+            preparedStatements = cachedPreparedStatements.computeIfAbsent(physicalConnection, unused -> new CachedPreparedStatements());
+        }
+        if (preparedStatements.put(new PreparedStatementCacheKey(sql, connectionMode, returnGeneratedKeys), preparedStatement, maximumSize)) {
+            borrowedStatements.put(preparedStatement, preparedStatements);
+        }
+    }
+    
+    /**
+     * Give back statement if it is borrowed from cache.
+     *
+     * @param statement statement
+     * @return whether statement is still cached, statement not cached should be closed
+     */
+    public boolean giveBack(final Statement statement) {
+        CachedPreparedStatements preparedStatements = borrowedStatements.remove(statement);
+        return null != preparedStatements && preparedStatements.giveBack(statement);
+    }
+    
+    /**
+     * Get size of cached prepared statements of physical connection.
+     *
+     * @param physicalConnection physical connection
+     * @return size of cached prepared statements
+     */
+    public int size(final Connection physicalConnection) {
+        CachedPreparedStatements preparedStatements = cachedPreparedStatements.get(physicalConnection);
+        return null == preparedStatements ? 0 : preparedStatements.size();
+    }
+    
+    private void discardClosedConnections() {
+        cachedPreparedStatements.keySet().removeIf(this::isClosed);
+    }
+    
+    private boolean isClosed(final Connection physicalConnection) {
+        try {
+            return physicalConnection.isClosed();
+        } catch (final SQLException ignored) {
+            return true;
+        }
+    }
+    
+    private static final class CachedPreparedStatements {
+        
+        private final Map<PreparedStatementCacheKey, PreparedStatement> preparedStatements = new LinkedHashMap<>(16, 0.75F, true);
+        
+        private final Set<Statement> borrowedStatements = Collections.newSetFromMap(new IdentityHashMap<>());
+        
+        private long schemaVersion = SCHEMA_VERSION.get();
+        
+        private synchronized Optional<PreparedStatement> borrow(final PreparedStatementCacheKey key) {
+            discardIfSchemaAltered();
+            PreparedStatement result = preparedStatements.get(key);
+            if (null == result || !borrowedStatements.add(result)) {
+                return Optional.empty();
+            }
+            return Optional.of(result);
+        }
+        
+        private synchronized boolean put(final PreparedStatementCacheKey key, final PreparedStatement preparedStatement, final int maximumSize) {
+            discardIfSchemaAltered();
+            if (null != preparedStatements.putIfAbsent(key, preparedStatement)) {
+                return false;
+            }
+            borrowedStatements.add(preparedStatement);
+            Iterator<PreparedStatement> iterator = preparedStatements.values().iterator();
+            while (preparedStatements.size() > maximumSize && iterator.hasNext()) {
+                PreparedStatement each = iterator.next();
+                if (!borrowedStatements.contains(each)) {
+                    iterator.remove();
+                    closeQuietly(each);
+                }
+            }
+            return true;
+        }
+        
+        private synchronized boolean giveBack(final Statement statement) {
+            borrowedStatements.remove(statement);
+            return preparedStatements.containsValue(statement);
+        }
+        
+        private synchronized int size() {
+            discardIfSchemaAltered();
+            return preparedStatements.size();
+        }
+        
+        private void discardIfSchemaAltered() {
+            long currentSchemaVersion = SCHEMA_VERSION.get();
+            if (currentSchemaVersion == schemaVersion) {
+                return;
+            }
+            schemaVersion = currentSchemaVersion;
+            Iterator<Entry<PreparedStatementCacheKey, PreparedStatement>> iterator = preparedStatements.entrySet().iterator();
+            while (iterator.hasNext()) {
+                PreparedStatement each = iterator.next().getValue();
+                iterator.remove();
+                if (!borrowedStatements.contains(each)) {
+                    closeQuietly(each);
+                }
+            }
+        }
+        
+        private void closeQuietly(final PreparedStatement preparedStatement) {
+            try {
+                preparedStatement.close();
+            } catch (final SQLException ignored) {
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class PreparedStatementCacheKey {
+        
+        private final String sql;
+        
+        private final ConnectionMode connectionMode;
+        
+        private final boolean returnGeneratedKeys;
+    }
+    
+    private static final class SchemaAlteredSubscriber {
+        
+        /**
+         * Renew schema version to discard cached prepared statements.
+         *
+         * @param event schema altered event
+         */
+        @Subscribe
+        public void renew(final SchemaAlteredEvent event) {
+            SCHEMA_VERSION.incrementAndGet();
+        }
+    }
+}
@@ -22,16 +22,26 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.executor.callback.ProxyJDBCExecutorCallbackFactory;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Proxy JDBC executor.
@@ -70,4 +80,65 @@ public final class ProxyJDBCExecutor {
             ExecuteProcessEngine.clean();
         }
     }
+    
+    /**
+     * Execute asynchronously.
+     *
+     * @param context SQL statement context
+     * @param executionGroupContext execution group context
+     * @param isReturnGeneratedKeys is return generated keys
+     * @param isExceptionThrown is exception thrown
+     * @return future of execute results
+     */
+    public CompletableFuture<Collection<ExecuteResult>> executeAsync(final SQLStatementContext<?> context, final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                                                     final boolean isReturnGeneratedKeys, final boolean isExceptionThrown) {
+        try {
+            DatabaseType databaseType = ProxyContext.getInstance().getMetaDataContexts().getMetaData(backendConnection.getSchemaName()).getResource().getDatabaseType();
+            ExecuteProcessEngine.initialize(context, executionGroupContext);
+            Map<String, Object> dataMap = new LinkedHashMap<>(ExecutorDataMap.getValue());
+            return jdbcExecutor.executeAsync(executionGroupContext,
+                    ProxyJDBCExecutorCallbackFactory.newInstance(type, databaseType, context.getSqlStatement(), backendConnection, isReturnGeneratedKeys, isExceptionThrown, true),
+                    ProxyJDBCExecutorCallbackFactory.newInstance(type, databaseType, context.getSqlStatement(), backendConnection, isReturnGeneratedKeys, isExceptionThrown, false))
+                    .thenApply(executeResults -> {
+                        ExecuteProcessEngine.finish(executionGroupContext.getExecutionID(), dataMap);
+                        return executeResults;
+                    });
+        } finally {
+            ExecuteProcessEngine.clean();
+        }
+    }
+    
+    /**
+     * Execute batch.
+     *
+     * @param context SQL statement context
+     * @param executionGroupContext execution group context, storage resources are prepared statements with batch added
+     * @param isExceptionThrown is exception thrown
+     * @return update counts of each execution unit, in the order of execution groups and their inputs
+     * @throws SQLException SQL exception
+     */
+    public List<int[]> executeBatch(final SQLStatementContext<?> context, final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                    final boolean isExceptionThrown) throws SQLException {
+        try {
+            DatabaseType databaseType = ProxyContext.getInstance().getMetaDataContexts().getMetaData(backendConnection.getSchemaName()).getResource().getDatabaseType();
+            ExecuteProcessEngine.initialize(context, executionGroupContext);
+            List<int[]> result = jdbcExecutor.execute(executionGroupContext, new JDBCExecutorCallback<int[]>(databaseType, context.getSqlStatement(), isExceptionThrown) {
+                
+                @Override
+                protected int[] executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
+                    return statement.executeBatch();
+                }
+                
+                @SuppressWarnings("OptionalContainsCollection")
+                @Override
+                protected Optional<int[]> getSaneResult(final SQLStatement sqlStatement) {
+                    return Optional.empty();
+                }
+            });
+            ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
+            return result;
+        } finally {
+            ExecuteProcessEngine.clean();
+        }
+    }
 }
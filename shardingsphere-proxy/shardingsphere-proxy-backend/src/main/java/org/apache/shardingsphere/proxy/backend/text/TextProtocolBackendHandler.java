@@ -17,11 +17,13 @@
 
 package org.apache.shardingsphere.proxy.backend.text;
 
+import org.apache.shardingsphere.db.protocol.row.RowValueReader;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
 
 /**
  * Text protocol backend handler.
@@ -55,4 +57,13 @@ public interface TextProtocolBackendHandler {
     default Collection<Object> getRowData() throws SQLException {
         return Collections.emptyList();
     }
+    
+    /**
+     * Get row value reader, which reads values of current row without collecting them as row data.
+     *
+     * @return row value reader, empty means row data should be used
+     */
+    default Optional<RowValueReader> getRowValueReader() {
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication;
+
+import org.apache.shardingsphere.infra.binder.segment.insert.values.InsertValueContext;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.context.metadata.impl.StandardMetaDataContexts;
+import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.PostgreSQLStatement;
+import org.apache.shardingsphere.transaction.context.impl.StandardTransactionContexts;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.internal.util.reflection.FieldSetter;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class BatchDatabaseCommunicationEngineTest {
+    
+    private final BackendConnection backendConnection = mock(BackendConnection.class);
+    
+    @Before
+    public void setUp() {
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class, RETURNS_DEEP_STUBS);
+        when(metaData.getResource().getDatabaseType()).thenReturn(new H2DatabaseType());
+        when(metaData.getRuleMetaData().getRules()).thenReturn(Collections.emptyList());
+        ProxyContext.getInstance().init(new StandardMetaDataContexts(Collections.singletonMap("schema", metaData), mock(ShardingSphereRuleMetaData.class), mock(ExecutorEngine.class),
+                new ConfigurationProperties(new Properties())), new StandardTransactionContexts());
+        when(backendConnection.getSchemaName()).thenReturn("schema");
+    }
+    
+    @Test
+    public void assertExecuteGroupedByDataSourceAndSQL() throws SQLException, NoSuchFieldException {
+        BatchDatabaseCommunicationEngine engine = new BatchDatabaseCommunicationEngine(mock(PostgreSQLStatement.class), "INSERT INTO t_order (order_id) VALUES (?)", backendConnection);
+        KernelProcessor kernelProcessor = mock(KernelProcessor.class);
+        when(kernelProcessor.generateExecutionContext(any(), any(), any())).thenReturn(
+                createExecutionContext("ds_0", 1), createExecutionContext("ds_1", 2), createExecutionContext("ds_0", 3));
+        FieldSetter.setField(engine, BatchDatabaseCommunicationEngine.class.getDeclaredField("kernelProcessor"), kernelProcessor);
+        final PreparedStatement preparedStatement0 = mockPreparedStatement("ds_0", new int[]{1, 1});
+        final PreparedStatement preparedStatement1 = mockPreparedStatement("ds_1", new int[]{1});
+        List<ResponseHeader> actual = engine.execute(Arrays.asList(Collections.singletonList(1), Collections.singletonList(2), Collections.singletonList(3)));
+        assertThat(actual.size(), is(3));
+        for (ResponseHeader each : actual) {
+            assertThat(((UpdateResponseHeader) each).getUpdateCount(), is(1L));
+        }
+        verify(preparedStatement0, times(2)).addBatch();
+        verify(preparedStatement0).executeBatch();
+        verify(preparedStatement1).addBatch();
+        verify(preparedStatement1).executeBatch();
+        verify(backendConnection).add(preparedStatement0);
+        verify(backendConnection).add(preparedStatement1);
+    }
+    
+    @Test
+    public void assertExecuteWithSuccessNoInfo() throws SQLException, NoSuchFieldException {
+        BatchDatabaseCommunicationEngine engine = new BatchDatabaseCommunicationEngine(mock(PostgreSQLStatement.class), "INSERT INTO t_order (order_id) VALUES (?)", backendConnection);
+        KernelProcessor kernelProcessor = mock(KernelProcessor.class);
+        ExecutionContext executionContext0 = createInsertExecutionContext("ds_0", 1);
+        ExecutionContext executionContext1 = createInsertExecutionContext("ds_0", 2);
+        when(kernelProcessor.generateExecutionContext(any(), any(), any())).thenReturn(executionContext0, executionContext1);
+        FieldSetter.setField(engine, BatchDatabaseCommunicationEngine.class.getDeclaredField("kernelProcessor"), kernelProcessor);
+        mockPreparedStatement("ds_0", new int[]{Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO});
+        List<ResponseHeader> actual = engine.execute(Arrays.asList(Collections.singletonList(1), Collections.singletonList(2)));
+        assertThat(actual.size(), is(2));
+        for (ResponseHeader each : actual) {
+            assertThat(((UpdateResponseHeader) each).getUpdateCount(), is(1L));
+        }
+    }
+    
+    private ExecutionContext createExecutionContext(final String dataSourceName, final Object parameter) {
+        return createExecutionContext(dataSourceName, parameter, mock(SQLStatementContext.class, RETURNS_DEEP_STUBS));
+    }
+    
+    private ExecutionContext createExecutionContext(final String dataSourceName, final Object parameter, final SQLStatementContext<?> sqlStatementContext) {
+        ExecutionUnit executionUnit = new ExecutionUnit(dataSourceName, new SQLUnit("INSERT INTO t_order_" + dataSourceName + " (order_id) VALUES (?)", Collections.singletonList(parameter)));
+        return new ExecutionContext(sqlStatementContext, executionUnit, new RouteContext());
+    }
+    
+    private ExecutionContext createInsertExecutionContext(final String dataSourceName, final Object parameter) {
+        List<InsertValueContext> insertValueContexts = Collections.singletonList(mock(InsertValueContext.class));
+        InsertStatementContext sqlStatementContext = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getInsertValueContexts()).thenReturn(insertValueContexts);
+        return createExecutionContext(dataSourceName, parameter, sqlStatementContext);
+    }
+    
+    private PreparedStatement mockPreparedStatement(final String dataSourceName, final int[] updateCounts) throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getURL()).thenReturn("jdbc:h2:mem:" + dataSourceName);
+        when(backendConnection.getConnections(dataSourceName, 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection));
+        PreparedStatement result = mock(PreparedStatement.class);
+        when(result.getConnection()).thenReturn(connection);
+        when(result.executeBatch()).thenReturn(updateCounts);
+        when(backendConnection.createStorageResource(eq("INSERT INTO t_order_" + dataSourceName + " (order_id) VALUES (?)"), anyList(), eq(connection), eq(ConnectionMode.CONNECTION_STRICTLY), any()))
+                .thenReturn(result);
+        return result;
+    }
+}
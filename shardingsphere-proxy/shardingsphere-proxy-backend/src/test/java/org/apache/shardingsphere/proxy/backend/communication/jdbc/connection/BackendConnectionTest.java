@@ -20,11 +20,13 @@ package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
 import com.google.common.collect.Multimap;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.metadata.impl.StandardMetaDataContexts;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource.JDBCBackendDataSource;
@@ -44,10 +46,12 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -388,6 +392,73 @@ public final class BackendConnectionTest {
         verify(connection, times(1)).createStatement();
     }
     
+    @Test
+    public void assertCreateStorageResourceWithPreparedStatementCache() throws SQLException {
+        setPreparedStatementCacheSize(16);
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT 1 FROM t_order WHERE order_id = ?")).thenReturn(preparedStatement);
+        PreparedStatement actual = backendConnection.createStorageResource(
+                "SELECT 1 FROM t_order WHERE order_id = ?", Collections.singletonList(1), connection, ConnectionMode.CONNECTION_STRICTLY, new StatementOption(false));
+        assertThat(actual, is(preparedStatement));
+        backendConnection.add(actual);
+        assertTrue(backendConnection.closeStatements().isEmpty());
+        verify(preparedStatement, never()).close();
+        assertThat(backendConnection.createStorageResource(
+                "SELECT 1 FROM t_order WHERE order_id = ?", Collections.singletonList(2), connection, ConnectionMode.CONNECTION_STRICTLY, new StatementOption(false)), is(preparedStatement));
+        verify(connection, times(1)).prepareStatement("SELECT 1 FROM t_order WHERE order_id = ?");
+        verify(preparedStatement).clearParameters();
+        verify(preparedStatement).setObject(1, 2);
+        backendConnection.closeConnections(false);
+        verify(preparedStatement, never()).close();
+    }
+    
+    @Test
+    public void assertCreateStorageResourceWithPreparedStatementCacheAfterConnectionGivenBackToPool() throws SQLException {
+        setPreparedStatementCacheSize(16);
+        Connection physicalConnection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(physicalConnection.prepareStatement("SELECT 1 FROM t_order WHERE order_id = ?")).thenReturn(preparedStatement);
+        Connection pooledConnection = createPooledConnection(physicalConnection);
+        backendConnection.add(backendConnection.createStorageResource(
+                "SELECT 1 FROM t_order WHERE order_id = ?", Collections.singletonList(1), pooledConnection, ConnectionMode.CONNECTION_STRICTLY, new StatementOption(false)));
+        backendConnection.closeStatements();
+        pooledConnection.close();
+        BackendConnection anotherBackendConnection = new BackendConnection(TransactionType.LOCAL);
+        assertThat(anotherBackendConnection.createStorageResource("SELECT 1 FROM t_order WHERE order_id = ?", Collections.singletonList(2),
+                createPooledConnection(physicalConnection), ConnectionMode.CONNECTION_STRICTLY, new StatementOption(false)), is(preparedStatement));
+        verify(physicalConnection, times(1)).prepareStatement("SELECT 1 FROM t_order WHERE order_id = ?");
+        verify(preparedStatement, never()).close();
+    }
+    
+    private Connection createPooledConnection(final Connection physicalConnection) throws SQLException {
+        Connection result = mock(Connection.class);
+        when(result.isWrapperFor(Connection.class)).thenReturn(true);
+        when(result.unwrap(Connection.class)).thenReturn(physicalConnection);
+        return result;
+    }
+    
+    @Test
+    public void assertCreateStorageResourceWithoutPreparedStatementCache() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(preparedStatement);
+        backendConnection.add(backendConnection.createStorageResource("SELECT 1", Collections.emptyList(),
+                connection, ConnectionMode.CONNECTION_STRICTLY, new StatementOption(false)));
+        backendConnection.closeStatements();
+        verify(preparedStatement).close();
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void setPreparedStatementCacheSize(final int preparedStatementCacheSize) {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE.getKey(), String.valueOf(preparedStatementCacheSize));
+        Field field = ProxyContext.getInstance().getClass().getDeclaredField("metaDataContexts");
+        field.setAccessible(true);
+        field.set(ProxyContext.getInstance(), new StandardMetaDataContexts(createMetaDataMap(), mock(ShardingSphereRuleMetaData.class), mock(ExecutorEngine.class),
+                new ConfigurationProperties(props)));
+    }
+    
     @Test
     public void assertGetConnectionsWithoutTransactions() throws SQLException {
         backendConnection.getTransactionStatus().setInTransaction(false);
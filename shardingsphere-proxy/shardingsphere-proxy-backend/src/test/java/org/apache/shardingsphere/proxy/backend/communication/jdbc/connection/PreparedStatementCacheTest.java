@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.refresher.event.SchemaAlteredEvent;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PreparedStatementCacheTest {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE order_id = ?";
+    
+    private final PreparedStatementCache preparedStatementCache = new PreparedStatementCache();
+    
+    private final Connection connection = mock(Connection.class);
+    
+    @Test
+    public void assertGetAfterGiveBack() {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        assertFalse(preparedStatementCache.get(connection, SQL, ConnectionMode.MEMORY_STRICTLY, false).isPresent());
+        preparedStatementCache.put(connection, SQL, ConnectionMode.MEMORY_STRICTLY, false, preparedStatement, 16);
+        assertFalse(preparedStatementCache.get(connection, SQL, ConnectionMode.MEMORY_STRICTLY, false).isPresent());
+        assertTrue(preparedStatementCache.giveBack(preparedStatement));
+        Optional<PreparedStatement> actual = preparedStatementCache.get(connection, SQL, ConnectionMode.MEMORY_STRICTLY, false);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(preparedStatement));
+        assertTrue(preparedStatementCache.giveBack(preparedStatement));
+    }
+    
+    @Test
+    public void assertGetWithDifferentKey() {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        preparedStatementCache.put(connection, SQL, ConnectionMode.MEMORY_STRICTLY, false, preparedStatement, 16);
+        preparedStatementCache.giveBack(preparedStatement);
+        assertFalse(preparedStatementCache.get(mock(Connection.class), SQL, ConnectionMode.MEMORY_STRICTLY, false).isPresent());
+        assertFalse(preparedStatementCache.get(connection, SQL, ConnectionMode.CONNECTION_STRICTLY, false).isPresent());
+        assertFalse(preparedStatementCache.get(connection, SQL, ConnectionMode.MEMORY_STRICTLY, true).isPresent());
+        assertFalse(preparedStatementCache.get(connection, "SELECT 1", ConnectionMode.MEMORY_STRICTLY, false).isPresent());
+    }
+    
+    @Test
+    public void assertPutWhenBorrowedWithSameKey() {
+        PreparedStatement borrowed = mock(PreparedStatement.class);
+        PreparedStatement another = mock(PreparedStatement.class);
+        preparedStatementCache.put(connection, SQL, ConnectionMode.MEMORY_STRICTLY, false, borrowed, 16);
+        preparedStatementCache.put(connection, SQL, ConnectionMode.MEMORY_STRICTLY, false, another, 16);
+        assertTrue(preparedStatementCache.giveBack(borrowed));
+        assertFalse(preparedStatementCache.giveBack(another));
+    }
+    
+    @Test
+    public void assertEvictLeastRecentlyUsed() throws SQLException {
+        PreparedStatement first = mock(PreparedStatement.class);
+        PreparedStatement second = mock(PreparedStatement.class);
+        PreparedStatement third = mock(PreparedStatement.class);
+        preparedStatementCache.put(connection, "SELECT 1", ConnectionMode.MEMORY_STRICTLY, false, first, 2);
+        preparedStatementCache.put(connection, "SELECT 2", ConnectionMode.MEMORY_STRICTLY, false, second, 2);
+        preparedStatementCache.giveBack(first);
+        preparedStatementCache.giveBack(second);
+        preparedStatementCache.get(connection, "SELECT 1", ConnectionMode.MEMORY_STRICTLY, false);
+        preparedStatementCache.giveBack(first);
+        preparedStatementCache.put(connection, "SELECT 3", ConnectionMode.MEMORY_STRICTLY, false, third, 2);
+        assertThat(preparedStatementCache.size(connection), is(2));
+        assertFalse(preparedStatementCache.get(connection, "SELECT 2", ConnectionMode.MEMORY_STRICTLY, false).isPresent());
+        assertTrue(preparedStatementCache.get(connection, "SELECT 1", ConnectionMode.MEMORY_STRICTLY, false).isPresent());
+        verify(second).close();
+    }
+    
+    @Test
+    public void assertNotEvictBorrowed() throws SQLException {
+        PreparedStatement first = mock(PreparedStatement.class);
+        PreparedStatement second = mock(PreparedStatement.class);
+        preparedStatementCache.put(connection, "SELECT 1", ConnectionMode.MEMORY_STRICTLY, false, first, 1);
+        preparedStatementCache.put(connection, "SELECT 2", ConnectionMode.MEMORY_STRICTLY, false, second, 1);
+        assertThat(preparedStatementCache.size(connection), is(2));
+        verify(first, never()).close();
+    }
+    
+    @Test
+    public void assertDiscardWhenSchemaAltered() throws SQLException {
+        PreparedStatement idle = mock(PreparedStatement.class);
+        PreparedStatement borrowed = mock(PreparedStatement.class);
+        preparedStatementCache.put(connection, "SELECT 1", ConnectionMode.MEMORY_STRICTLY, false, idle, 16);
+        preparedStatementCache.giveBack(idle);
+        preparedStatementCache.put(connection, "SELECT 2", ConnectionMode.MEMORY_STRICTLY, false, borrowed, 16);
+        ShardingSphereEventBus.getInstance().post(new SchemaAlteredEvent("foo_schema", new ShardingSphereSchema()));
+        assertFalse(preparedStatementCache.get(connection, "SELECT 1", ConnectionMode.MEMORY_STRICTLY, false).isPresent());
+        assertThat(preparedStatementCache.size(connection), is(0));
+        verify(idle).close();
+        verify(borrowed, never()).close();
+        assertFalse(preparedStatementCache.giveBack(borrowed));
+    }
+    
+    @Test
+    public void assertDiscardClosedConnection() throws SQLException {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        preparedStatementCache.put(connection, SQL, ConnectionMode.MEMORY_STRICTLY, false, preparedStatement, 16);
+        preparedStatementCache.giveBack(preparedStatement);
+        when(connection.isClosed()).thenReturn(true);
+        preparedStatementCache.put(mock(Connection.class), SQL, ConnectionMode.MEMORY_STRICTLY, false, mock(PreparedStatement.class), 16);
+        assertThat(preparedStatementCache.size(connection), is(0));
+        assertFalse(preparedStatementCache.get(connection, SQL, ConnectionMode.MEMORY_STRICTLY, false).isPresent());
+    }
+}
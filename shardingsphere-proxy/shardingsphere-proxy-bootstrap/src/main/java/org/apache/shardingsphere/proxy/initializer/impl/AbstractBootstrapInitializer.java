@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKe
 import org.apache.shardingsphere.infra.context.metadata.MetaDataAwareEventSubscriber;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContextsBuilder;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
 import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
@@ -36,14 +37,17 @@ import org.apache.shardingsphere.proxy.database.DatabaseServerInfo;
 import org.apache.shardingsphere.proxy.frontend.ShardingSphereProxy;
 import org.apache.shardingsphere.proxy.initializer.BootstrapInitializer;
 import org.apache.shardingsphere.scaling.core.config.ServerConfiguration;
+import org.apache.shardingsphere.sql.parser.api.SQLParserWarmUpEngine;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
 import org.apache.shardingsphere.transaction.context.TransactionContexts;
 import org.apache.shardingsphere.transaction.context.impl.StandardTransactionContexts;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -73,6 +77,7 @@ public abstract class AbstractBootstrapInitializer implements BootstrapInitializ
         TransactionContexts transactionContexts = decorateTransactionContexts(createTransactionContexts(metaDataContexts), xaTransactionMangerType);
         ProxyContext.getInstance().init(metaDataContexts, transactionContexts);
         setDatabaseServerInfo();
+        warmUpSQLParser(metaDataContexts);
         initScalingWorker(yamlConfig);
         shardingSphereProxy.start(port);
     }
@@ -127,6 +132,24 @@ public abstract class AbstractBootstrapInitializer implements BootstrapInitializ
         });
     }
     
+    private void warmUpSQLParser(final MetaDataContexts metaDataContexts) {
+        if (!metaDataContexts.getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_SQL_PARSER_WARM_UP_ENABLED)) {
+            return;
+        }
+        Collection<String> databaseTypes = new LinkedHashSet<>();
+        for (String each : metaDataContexts.getAllSchemaNames()) {
+            databaseTypes.add(DatabaseTypeRegistry.getTrunkDatabaseTypeName(metaDataContexts.getMetaData(each).getResource().getDatabaseType()));
+        }
+        for (String each : databaseTypes) {
+            long startTime = System.currentTimeMillis();
+            Collection<String> failedSQLs = new SQLParserWarmUpEngine(each).warmUp();
+            if (!failedSQLs.isEmpty()) {
+                log.warn("Warm up SQL parser of {} failed with SQLs: {}", each, failedSQLs);
+            }
+            log.info("Warm up SQL parser of {} in {} ms", each, System.currentTimeMillis() - startTime);
+        }
+    }
+    
     private Optional<DataSource> findBackendDataSource() {
         for (String each : ProxyContext.getInstance().getAllSchemaNames()) {
             return ProxyContext.getInstance().getMetaData(each).getResource().getDataSources().values().stream().findFirst();
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.frontend.command;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +29,7 @@ import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
 import org.apache.shardingsphere.readwritesplitting.route.engine.impl.PrimaryVisitedManager;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ConnectionStatus;
+import org.apache.shardingsphere.proxy.frontend.command.executor.AsyncCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.exception.ExpectedExceptions;
@@ -37,6 +39,9 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * Command executor task.
@@ -53,6 +58,20 @@ public final class CommandExecutorTask implements Runnable {
     
     private final Object message;
     
+    private final Executor executor;
+    
+    private AsyncCommandExecutor asyncCommandExecutor;
+    
+    private CompletableFuture<Collection<DatabasePacket<?>>> responsePacketsFuture;
+    
+    private QueryCommandExecutor queryCommandExecutor;
+    
+    private QueryDataWriter queryDataWriter;
+    
+    private int headerPackagesCount;
+    
+    private boolean suspended;
+    
     /**
      * To make sure SkyWalking will be available at the next release of ShardingSphere,
      * a new plugin should be provided to SkyWalking project if this API changed.
@@ -61,6 +80,12 @@ public final class CommandExecutorTask implements Runnable {
      */
     @Override
     public void run() {
+        if (!PendingCommands.get(context.channel()).deferIfPending(this)) {
+            execute();
+        }
+    }
+    
+    private void execute() {
         boolean isNeedFlush = false;
         try (PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message)) {
             ConnectionStatus connectionStatus = backendConnection.getConnectionStatus();
@@ -74,34 +99,153 @@ public final class CommandExecutorTask implements Runnable {
             // CHECKSTYLE:ON
             processException(ex);
         } finally {
-            Collection<SQLException> exceptions = closeExecutionResources();
-            if (isNeedFlush) {
-                context.flush();
+            if (!suspended) {
+                complete(isNeedFlush);
             }
-            if (!backendConnection.getTransactionStatus().isInConnectionHeldTransaction()) {
-                exceptions.addAll(backendConnection.closeConnections(false));
+        }
+        if (suspended) {
+            if (null == responsePacketsFuture) {
+                suspend();
+            } else {
+                awaitResponsePackets();
+            }
+        }
+    }
+    
+    private void awaitResponsePackets() {
+        PrimaryVisitedManager.clear();
+        PendingCommands pendingCommands = PendingCommands.get(context.channel());
+        pendingCommands.suspend(this::resumeResponsePackets, executor);
+        responsePacketsFuture.whenComplete((responsePackets, cause) -> pendingCommands.resume());
+    }
+    
+    private void resumeResponsePackets() {
+        suspended = false;
+        boolean isNeedFlush = false;
+        CompletableFuture<Collection<DatabasePacket<?>>> completedFuture = responsePacketsFuture;
+        responsePacketsFuture = null;
+        try {
+            isNeedFlush = writeResponsePackets(asyncCommandExecutor, getResponsePackets(completedFuture));
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            processException(ex);
+        } finally {
+            if (!suspended) {
+                complete(isNeedFlush);
+            }
+        }
+        if (suspended) {
+            suspend();
+        } else {
+            executeDeferredTasks();
+        }
+    }
+    
+    private Collection<DatabasePacket<?>> getResponsePackets(final CompletableFuture<Collection<DatabasePacket<?>>> future) throws SQLException {
+        try {
+            return future.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
             }
-            processClosedExceptions(exceptions);
+            throw ex;
+        }
+    }
+    
+    private void suspend() {
+        PendingCommands pendingCommands = PendingCommands.get(context.channel());
+        pendingCommands.suspend(this::resume, executor);
+        Channel channel = context.channel();
+        if (channel.isWritable() || !channel.isActive()) {
+            pendingCommands.resume();
+        }
+    }
+    
+    private void resume() {
+        suspended = false;
+        try {
+            queryDataWriter.resume();
+            suspended = !writeQueryData();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            processException(ex);
+        } finally {
+            if (!suspended) {
+                complete(true);
+            }
+        }
+        if (suspended) {
+            suspend();
+        } else {
+            executeDeferredTasks();
         }
     }
     
+    private void executeDeferredTasks() {
+        PendingCommands pendingCommands = PendingCommands.get(context.channel());
+        Optional<CommandExecutorTask> task = pendingCommands.pollDeferred();
+        while (task.isPresent()) {
+            task.get().execute();
+            if (task.get().suspended) {
+                return;
+            }
+            task = pendingCommands.pollDeferred();
+        }
+    }
+    
+    private void complete(final boolean isNeedFlush) {
+        Collection<SQLException> exceptions = closeExecutionResources();
+        if (isNeedFlush) {
+            context.flush();
+        }
+        if (!backendConnection.getTransactionStatus().isInConnectionHeldTransaction()) {
+            exceptions.addAll(backendConnection.closeConnections(false));
+        }
+        processClosedExceptions(exceptions);
+    }
+    
     private boolean executeCommand(final ChannelHandlerContext context, final PacketPayload payload, final BackendConnection backendConnection) throws SQLException {
         CommandExecuteEngine commandExecuteEngine = databaseProtocolFrontendEngine.getCommandExecuteEngine();
         CommandPacketType type = commandExecuteEngine.getCommandPacketType(payload);
         CommandPacket commandPacket = commandExecuteEngine.getCommandPacket(payload, type, backendConnection);
         CommandExecutor commandExecutor = commandExecuteEngine.getCommandExecutor(type, commandPacket, backendConnection);
-        Collection<DatabasePacket<?>> responsePackets = commandExecutor.execute();
+        if (!(commandExecutor instanceof AsyncCommandExecutor)) {
+            return writeResponsePackets(commandExecutor, commandExecutor.execute());
+        }
+        CompletableFuture<Collection<DatabasePacket<?>>> future = ((AsyncCommandExecutor) commandExecutor).executeAsync();
+        if (future.isDone()) {
+            return writeResponsePackets(commandExecutor, getResponsePackets(future));
+        }
+        asyncCommandExecutor = (AsyncCommandExecutor) commandExecutor;
+        responsePacketsFuture = future;
+        suspended = true;
+        return false;
+    }
+    
+    private boolean writeResponsePackets(final CommandExecutor commandExecutor, final Collection<DatabasePacket<?>> responsePackets) throws SQLException {
         if (responsePackets.isEmpty()) {
             return false;
         }
         responsePackets.forEach(context::write);
         if (commandExecutor instanceof QueryCommandExecutor) {
-            commandExecuteEngine.writeQueryData(context, backendConnection, (QueryCommandExecutor) commandExecutor, responsePackets.size());
+            queryCommandExecutor = (QueryCommandExecutor) commandExecutor;
+            queryDataWriter = new QueryDataWriter(context);
+            headerPackagesCount = responsePackets.size();
+            suspended = !writeQueryData();
             return true;
         }
         return databaseProtocolFrontendEngine.getFrontendContext().isFlushForPerCommandPacket();
     }
     
+    private boolean writeQueryData() throws SQLException {
+        return databaseProtocolFrontendEngine.getCommandExecuteEngine().writeQueryData(context, backendConnection, queryCommandExecutor, queryDataWriter, headerPackagesCount);
+    }
+    
     private void processException(final Exception cause) {
         if (!ExpectedExceptions.isExpected(cause.getClass())) {
             log.error("Exception occur: ", cause);
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.Channel;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
+
+import java.util.LinkedList;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+/**
+ * Pending commands of a connection.
+ * 
+ * <p>
+ * Once writing query data is suspended by unwritable channel, the command is pending until channel becomes writable or inactive,
+ * and commands received in the meantime are deferred until the pending command and commands deferred ahead are finished, so that responses are written in order of commands.
+ * </p>
+ */
+public final class PendingCommands {
+    
+    private static final AttributeKey<PendingCommands> PENDING_COMMANDS_KEY = AttributeKey.valueOf(PendingCommands.class.getName());
+    
+    private final Queue<CommandExecutorTask> deferredTasks = new LinkedList<>();
+    
+    private boolean pending;
+    
+    private Runnable suspendedContinuation;
+    
+    private Executor suspendedExecutor;
+    
+    /**
+     * Get pending commands of channel.
+     *
+     * @param channel channel
+     * @return pending commands
+     */
+    public static PendingCommands get(final Channel channel) {
+        Attribute<PendingCommands> attribute = channel.attr(PENDING_COMMANDS_KEY);
+        PendingCommands result = attribute.get();
+        if (null == result) {
+            PendingCommands pendingCommands = new PendingCommands();
+            result = attribute.setIfAbsent(pendingCommands);
+            return null == result ? pendingCommands : result;
+        }
+        return result;
+    }
+    
+    /**
+     * Defer command executor task if any command is pending.
+     *
+     * @param task command executor task
+     * @return deferred or not
+     */
+    public synchronized boolean deferIfPending(final CommandExecutorTask task) {
+        if (pending) {
+            deferredTasks.offer(task);
+        }
+        return pending;
+    }
+    
+    /**
+     * Suspend command until {@link #resume()}.
+     *
+     * @param continuation continuation of command
+     * @param executor executor to run continuation
+     */
+    public synchronized void suspend(final Runnable continuation, final Executor executor) {
+        pending = true;
+        suspendedContinuation = continuation;
+        suspendedExecutor = executor;
+    }
+    
+    /**
+     * Resume suspended command on its executor.
+     */
+    public void resume() {
+        Runnable continuation;
+        Executor executor;
+        synchronized (this) {
+            continuation = suspendedContinuation;
+            executor = suspendedExecutor;
+            suspendedContinuation = null;
+            suspendedExecutor = null;
+        }
+        if (null != continuation) {
+            executor.execute(continuation);
+        }
+    }
+    
+    /**
+     * Poll next deferred command executor task, and stop pending once no task deferred.
+     *
+     * @return next deferred command executor task
+     */
+    public synchronized Optional<CommandExecutorTask> pollDeferred() {
+        CommandExecutorTask result = deferredTasks.poll();
+        if (null == result) {
+            pending = false;
+        }
+        return Optional.ofNullable(result);
+    }
+}
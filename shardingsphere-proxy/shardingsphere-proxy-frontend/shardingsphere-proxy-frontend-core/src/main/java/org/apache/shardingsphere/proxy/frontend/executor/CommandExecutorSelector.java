@@ -21,7 +21,7 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
 
 /**
  * Command executor selector.
@@ -30,16 +30,20 @@ import java.util.concurrent.ExecutorService;
 public final class CommandExecutorSelector {
     
     /**
-     * Get executor service.
+     * Get executor.
+     * 
+     * <p>
+     * Connection thread executor is used for every connection if connection threads are virtual threads.
+     * </p>
      *
      * @param isOccupyThreadForPerConnection is occupy thread for per connection or not
      * @param supportHint is support hint
      * @param transactionType transaction type
      * @param connectionId connection ID
-     * @return executor service
+     * @return executor
      */
-    public static ExecutorService getExecutorService(final boolean isOccupyThreadForPerConnection, final boolean supportHint, final TransactionType transactionType, final int connectionId) {
-        return isOccupyThreadForPerConnection || supportHint || TransactionType.isDistributedTransaction(transactionType)
-                ? ConnectionThreadExecutorGroup.getInstance().get(connectionId) : UserExecutorGroup.getInstance().getExecutorService();
+    public static Executor getExecutor(final boolean isOccupyThreadForPerConnection, final boolean supportHint, final TransactionType transactionType, final int connectionId) {
+        return isOccupyThreadForPerConnection || supportHint || TransactionType.isDistributedTransaction(transactionType) || ConnectionThreadExecutorGroup.getInstance().isVirtualThread()
+                ? ConnectionThreadExecutorGroup.getInstance().get(connectionId) : UserExecutorGroup.getInstance().getExecutor(connectionId);
     }
 }
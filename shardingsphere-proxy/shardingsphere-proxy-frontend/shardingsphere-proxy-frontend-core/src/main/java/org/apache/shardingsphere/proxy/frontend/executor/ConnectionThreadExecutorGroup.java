@@ -17,13 +17,17 @@
 
 package org.apache.shardingsphere.proxy.frontend.executor;
 
-import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.config.properties.FrontendExecutorType;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -32,15 +36,33 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * Manage the thread for each backend connection invoking.
  * This ensure XA transaction framework processed by current thread id.
+ * Threads are virtual threads if frontend executor type is {@code VIRTUAL} and JVM supports virtual threads.
  * </p>
  */
-@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ConnectionThreadExecutorGroup {
     
+    private static final String VIRTUAL_THREAD_NAME_PREFIX = "ShardingSphere-Connection-";
+    
     private static final ConnectionThreadExecutorGroup INSTANCE = new ConnectionThreadExecutorGroup();
     
     private final Map<Integer, ExecutorService> executorServices = new ConcurrentHashMap<>();
     
+    @Getter
+    private final boolean virtualThread;
+    
+    private final ThreadFactory threadFactory;
+    
+    private ConnectionThreadExecutorGroup() {
+        this(ProxyContext.getInstance().getMetaDataContexts().getProps().getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_TYPE));
+    }
+    
+    ConnectionThreadExecutorGroup(final FrontendExecutorType executorType) {
+        Optional<ThreadFactory> virtualThreadFactory = FrontendExecutorType.VIRTUAL == executorType
+                ? VirtualThreadFactoryBuilder.build(VIRTUAL_THREAD_NAME_PREFIX) : Optional.empty();
+        virtualThread = virtualThreadFactory.isPresent();
+        threadFactory = virtualThreadFactory.orElseGet(Executors::defaultThreadFactory);
+    }
+    
     /**
      * Get connection thread executor group.
      *
@@ -56,7 +78,7 @@ public final class ConnectionThreadExecutorGroup {
      * @param connectionId connection id
      */
     public void register(final int connectionId) {
-        executorServices.put(connectionId, Executors.newSingleThreadExecutor());
+        executorServices.put(connectionId, Executors.newSingleThreadExecutor(threadFactory));
     }
     
     /**
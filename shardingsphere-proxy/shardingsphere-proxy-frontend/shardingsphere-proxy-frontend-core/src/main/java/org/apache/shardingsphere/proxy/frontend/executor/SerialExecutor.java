@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Executor which executes tasks one by one in submitted order on a shared executor.
+ * 
+ * <p>
+ * Only one task is handed to shared executor at a time, so that a busy connection does not hold a thread of shared executor between its commands.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class SerialExecutor implements Executor {
+    
+    private final Executor executor;
+    
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicBoolean running = new AtomicBoolean();
+    
+    @Override
+    public void execute(final Runnable task) {
+        tasks.offer(task);
+        schedule();
+    }
+    
+    private void schedule() {
+        if (tasks.isEmpty() || !running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::runNext);
+        } catch (final RejectedExecutionException ex) {
+            running.set(false);
+            throw ex;
+        }
+    }
+    
+    private void runNext() {
+        try {
+            Runnable task = tasks.poll();
+            if (null != task) {
+                task.run();
+            }
+        } finally {
+            running.set(false);
+            schedule();
+        }
+    }
+}
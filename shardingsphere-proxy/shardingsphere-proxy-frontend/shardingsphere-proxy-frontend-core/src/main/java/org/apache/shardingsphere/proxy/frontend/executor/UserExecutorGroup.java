@@ -18,24 +18,59 @@
 package org.apache.shardingsphere.proxy.frontend.executor;
 
 import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.config.properties.FrontendExecutorType;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
 
 /**
  * User executor group.
+ * 
+ * <p>
+ * Executor service is a bounded work stealing pool if frontend executor type is {@code BOUNDED}, commands of a connection are executed on it in order.
+ * </p>
  */
 public final class UserExecutorGroup {
     
     private static final String NAME_FORMAT = "Command-%d";
     
-    private static final UserExecutorGroup INSTANCE = new UserExecutorGroup();
+    private static final UserExecutorGroup INSTANCE = new UserExecutorGroup(ProxyContext.getInstance().getMetaDataContexts().getProps());
     
     @Getter
     private final ListeningExecutorService executorService;
     
-    private UserExecutorGroup() {
-        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT);
-        executorService = executorServiceManager.getExecutorService();
+    private final boolean bounded;
+    
+    private final Map<Integer, Executor> connectionExecutors = new ConcurrentHashMap<>();
+    
+    private UserExecutorGroup(final ConfigurationProperties props) {
+        this(props.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_TYPE), props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE));
+    }
+    
+    UserExecutorGroup(final FrontendExecutorType executorType, final int executorSize) {
+        bounded = FrontendExecutorType.BOUNDED == executorType;
+        executorService = bounded ? createWorkStealingExecutorService(executorSize > 0 ? executorSize : Runtime.getRuntime().availableProcessors() * 2)
+                : new ExecutorServiceManager(0, NAME_FORMAT).getExecutorService();
+    }
+    
+    private static ListeningExecutorService createWorkStealingExecutorService(final int parallelism) {
+        ForkJoinPool result = new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(String.format("ShardingSphere-" + NAME_FORMAT, thread.getPoolIndex()));
+            return thread;
+        }, null, true);
+        MoreExecutors.addDelayedShutdownHook(result, 60, TimeUnit.SECONDS);
+        return MoreExecutors.listeningDecorator(result);
     }
     
     /**
@@ -46,4 +81,23 @@ public final class UserExecutorGroup {
     public static UserExecutorGroup getInstance() {
         return INSTANCE;
     }
+    
+    /**
+     * Get executor of connection.
+     * 
+     * @param connectionId connection ID
+     * @return executor which executes commands of connection in order if frontend executor type is {@code BOUNDED}, otherwise shared executor service
+     */
+    public Executor getExecutor(final int connectionId) {
+        return bounded ? connectionExecutors.computeIfAbsent(connectionId, key -> new SerialExecutor(executorService)) : executorService;
+    }
+    
+    /**
+     * Unregister connection.
+     * 
+     * @param connectionId connection ID
+     */
+    public void unregister(final int connectionId) {
+        connectionExecutors.remove(connectionId);
+    }
 }
@@ -27,7 +27,9 @@ import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKe
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationResult;
+import org.apache.shardingsphere.proxy.frontend.command.PendingCommands;
 import org.apache.shardingsphere.proxy.frontend.executor.ConnectionThreadExecutorGroup;
+import org.apache.shardingsphere.proxy.frontend.executor.UserExecutorGroup;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.proxy.frontend.state.ProxyStateContext;
 import org.apache.shardingsphere.readwritesplitting.route.engine.impl.PrimaryVisitedManager;
@@ -88,6 +90,7 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @Override
     public void channelInactive(final ChannelHandlerContext context) {
         context.fireChannelInactive();
+        PendingCommands.get(context.channel()).resume();
         closeAllResources();
     }
     
@@ -98,6 +101,7 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
         backendConnection.closeConnections(true);
         backendConnection.closeCalciteExecutor();
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(backendConnection.getConnectionId());
+        UserExecutorGroup.getInstance().unregister(backendConnection.getConnectionId());
         databaseProtocolFrontendEngine.release(backendConnection);
     }
     
@@ -105,6 +109,7 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     public void channelWritabilityChanged(final ChannelHandlerContext context) {
         if (context.channel().isWritable()) {
             backendConnection.getResourceLock().doNotify();
+            PendingCommands.get(context.channel()).resume();
         }
     }
 }
@@ -18,7 +18,10 @@
 package org.apache.shardingsphere.proxy.frontend.command;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.embedded.EmbeddedChannel;
 import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacketType;
@@ -26,6 +29,7 @@ import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ConnectionStatus;
+import org.apache.shardingsphere.proxy.frontend.command.executor.AsyncCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.context.FrontendContext;
@@ -37,11 +41,19 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -84,6 +96,9 @@ public final class CommandExecutorTaskTest {
     @Mock
     private CommandExecutor commandExecutor;
     
+    @Mock
+    private AsyncCommandExecutor asyncCommandExecutor;
+    
     @Mock
     private DatabasePacket databasePacket;
     
@@ -92,6 +107,7 @@ public final class CommandExecutorTaskTest {
     
     @Test
     public void assertRunNeedFlushByFalse() throws SQLException {
+        when(handlerContext.channel()).thenReturn(new EmbeddedChannel());
         when(queryCommandExecutor.execute()).thenReturn(Collections.emptyList());
         when(executeEngine.getCommandPacket(eq(payload), eq(commandPacketType), eq(backendConnection))).thenReturn(commandPacket);
         when(executeEngine.getCommandExecutor(eq(commandPacketType), eq(commandPacket), eq(backendConnection))).thenReturn(queryCommandExecutor);
@@ -104,7 +120,7 @@ public final class CommandExecutorTaskTest {
         when(backendConnection.closeStatements()).thenReturn(Collections.emptyList());
         when(backendConnection.closeConnections(false)).thenReturn(Collections.emptyList());
         when(backendConnection.closeCalciteExecutor()).thenReturn(Collections.emptyList());
-        CommandExecutorTask actual = new CommandExecutorTask(engine, backendConnection, handlerContext, message);
+        CommandExecutorTask actual = new CommandExecutorTask(engine, backendConnection, handlerContext, message, Runnable::run);
         actual.run();
         verify(connectionStatus).waitUntilConnectionRelease();
         verify(connectionStatus).switchToUsing();
@@ -112,6 +128,7 @@ public final class CommandExecutorTaskTest {
     
     @Test
     public void assertRunNeedFlushByTrue() throws SQLException {
+        when(handlerContext.channel()).thenReturn(new EmbeddedChannel());
         when(queryCommandExecutor.execute()).thenReturn(Collections.singletonList(databasePacket));
         when(executeEngine.getCommandPacket(eq(payload), eq(commandPacketType), eq(backendConnection))).thenReturn(commandPacket);
         when(executeEngine.getCommandExecutor(eq(commandPacketType), eq(commandPacket), eq(backendConnection))).thenReturn(queryCommandExecutor);
@@ -124,17 +141,51 @@ public final class CommandExecutorTaskTest {
         when(backendConnection.closeStatements()).thenReturn(Collections.emptyList());
         when(backendConnection.closeConnections(false)).thenReturn(Collections.emptyList());
         when(backendConnection.closeCalciteExecutor()).thenReturn(Collections.emptyList());
-        CommandExecutorTask actual = new CommandExecutorTask(engine, backendConnection, handlerContext, message);
+        when(executeEngine.writeQueryData(eq(handlerContext), eq(backendConnection), eq(queryCommandExecutor), any(QueryDataWriter.class), eq(1))).thenReturn(true);
+        CommandExecutorTask actual = new CommandExecutorTask(engine, backendConnection, handlerContext, message, Runnable::run);
         actual.run();
         verify(connectionStatus).waitUntilConnectionRelease();
         verify(connectionStatus).switchToUsing();
         verify(handlerContext).write(databasePacket);
         verify(handlerContext).flush();
-        verify(executeEngine).writeQueryData(handlerContext, backendConnection, queryCommandExecutor, 1);
+        verify(executeEngine).writeQueryData(eq(handlerContext), eq(backendConnection), eq(queryCommandExecutor), any(QueryDataWriter.class), eq(1));
+    }
+    
+    @Test
+    public void assertRunWithSuspendedQueryData() throws SQLException {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        channel.config().setWriteBufferWaterMark(new WriteBufferWaterMark(1, 2));
+        channel.write(Unpooled.wrappedBuffer(new byte[8]));
+        when(handlerContext.channel()).thenReturn(channel);
+        when(queryCommandExecutor.execute()).thenReturn(Collections.singletonList(databasePacket));
+        when(executeEngine.getCommandPacket(eq(payload), eq(commandPacketType), eq(backendConnection))).thenReturn(commandPacket);
+        when(executeEngine.getCommandExecutor(eq(commandPacketType), eq(commandPacket), eq(backendConnection))).thenReturn(queryCommandExecutor);
+        when(executeEngine.getCommandPacketType(eq(payload))).thenReturn(commandPacketType);
+        when(executeEngine.writeQueryData(eq(handlerContext), eq(backendConnection), eq(queryCommandExecutor), any(QueryDataWriter.class), eq(1))).thenReturn(false, true, true);
+        when(engine.getCommandExecuteEngine()).thenReturn(executeEngine);
+        when(backendConnection.getConnectionStatus()).thenReturn(connectionStatus);
+        when(codecEngine.createPacketPayload(eq(message))).thenReturn(payload);
+        when(engine.getCodecEngine()).thenReturn(codecEngine);
+        when(backendConnection.closeResultSets()).thenReturn(Collections.emptyList());
+        when(backendConnection.closeStatements()).thenReturn(Collections.emptyList());
+        when(backendConnection.closeConnections(false)).thenReturn(Collections.emptyList());
+        when(backendConnection.closeCalciteExecutor()).thenReturn(Collections.emptyList());
+        new CommandExecutorTask(engine, backendConnection, handlerContext, message, Runnable::run).run();
+        new CommandExecutorTask(engine, backendConnection, handlerContext, message, Runnable::run).run();
+        verify(codecEngine).createPacketPayload(message);
+        verify(backendConnection, never()).closeResultSets();
+        channel.flush();
+        assertTrue(channel.isWritable());
+        PendingCommands.get(channel).resume();
+        verify(codecEngine, times(2)).createPacketPayload(message);
+        verify(executeEngine, times(3)).writeQueryData(eq(handlerContext), eq(backendConnection), eq(queryCommandExecutor), any(QueryDataWriter.class), eq(1));
+        verify(backendConnection, times(2)).closeResultSets();
+        assertFalse(PendingCommands.get(channel).deferIfPending(mock(CommandExecutorTask.class)));
     }
     
     @Test
     public void assertRunByCommandExecutor() throws SQLException {
+        when(handlerContext.channel()).thenReturn(new EmbeddedChannel());
         when(frontendContext.isFlushForPerCommandPacket()).thenReturn(true);
         when(engine.getFrontendContext()).thenReturn(frontendContext);
         when(commandExecutor.execute()).thenReturn(Collections.singletonList(databasePacket));
@@ -149,7 +200,7 @@ public final class CommandExecutorTaskTest {
         when(backendConnection.closeStatements()).thenReturn(Collections.emptyList());
         when(backendConnection.closeConnections(false)).thenReturn(Collections.emptyList());
         when(backendConnection.closeCalciteExecutor()).thenReturn(Collections.emptyList());
-        CommandExecutorTask actual = new CommandExecutorTask(engine, backendConnection, handlerContext, message);
+        CommandExecutorTask actual = new CommandExecutorTask(engine, backendConnection, handlerContext, message, Runnable::run);
         actual.run();
         verify(connectionStatus).waitUntilConnectionRelease();
         verify(connectionStatus).switchToUsing();
@@ -157,8 +208,65 @@ public final class CommandExecutorTaskTest {
         verify(handlerContext).flush();
     }
     
+    @Test
+    public void assertRunByAsyncCommandExecutor() throws SQLException {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        when(handlerContext.channel()).thenReturn(channel);
+        when(frontendContext.isFlushForPerCommandPacket()).thenReturn(true);
+        when(engine.getFrontendContext()).thenReturn(frontendContext);
+        CompletableFuture<Collection<DatabasePacket<?>>> responsePackets = new CompletableFuture<>();
+        when(asyncCommandExecutor.executeAsync()).thenReturn(responsePackets);
+        when(executeEngine.getCommandPacket(eq(payload), eq(commandPacketType), eq(backendConnection))).thenReturn(commandPacket);
+        when(executeEngine.getCommandExecutor(eq(commandPacketType), eq(commandPacket), eq(backendConnection))).thenReturn(asyncCommandExecutor);
+        when(executeEngine.getCommandPacketType(eq(payload))).thenReturn(commandPacketType);
+        when(engine.getCommandExecuteEngine()).thenReturn(executeEngine);
+        when(backendConnection.getConnectionStatus()).thenReturn(connectionStatus);
+        when(codecEngine.createPacketPayload(eq(message))).thenReturn(payload);
+        when(engine.getCodecEngine()).thenReturn(codecEngine);
+        when(backendConnection.closeResultSets()).thenReturn(Collections.emptyList());
+        when(backendConnection.closeStatements()).thenReturn(Collections.emptyList());
+        when(backendConnection.closeConnections(false)).thenReturn(Collections.emptyList());
+        when(backendConnection.closeCalciteExecutor()).thenReturn(Collections.emptyList());
+        new CommandExecutorTask(engine, backendConnection, handlerContext, message, Runnable::run).run();
+        verify(asyncCommandExecutor, never()).execute();
+        verify(handlerContext, never()).write(databasePacket);
+        verify(backendConnection, never()).closeResultSets();
+        responsePackets.complete(Collections.singletonList(databasePacket));
+        verify(handlerContext).write(databasePacket);
+        verify(handlerContext).flush();
+        verify(backendConnection).closeResultSets();
+        verify(backendConnection).closeConnections(false);
+        assertFalse(PendingCommands.get(channel).deferIfPending(mock(CommandExecutorTask.class)));
+    }
+    
+    @Test
+    public void assertRunByAsyncCommandExecutorWithError() throws SQLException {
+        when(handlerContext.channel()).thenReturn(new EmbeddedChannel());
+        CompletableFuture<Collection<DatabasePacket<?>>> responsePackets = new CompletableFuture<>();
+        when(asyncCommandExecutor.executeAsync()).thenReturn(responsePackets);
+        when(executeEngine.getCommandPacket(eq(payload), eq(commandPacketType), eq(backendConnection))).thenReturn(commandPacket);
+        when(executeEngine.getCommandExecutor(eq(commandPacketType), eq(commandPacket), eq(backendConnection))).thenReturn(asyncCommandExecutor);
+        when(executeEngine.getCommandPacketType(eq(payload))).thenReturn(commandPacketType);
+        SQLException mockException = new SQLException("mock");
+        when(executeEngine.getErrorPacket(mockException)).thenReturn(databasePacket);
+        when(executeEngine.getOtherPacket(backendConnection)).thenReturn(Optional.empty());
+        when(engine.getCommandExecuteEngine()).thenReturn(executeEngine);
+        when(backendConnection.getConnectionStatus()).thenReturn(connectionStatus);
+        when(codecEngine.createPacketPayload(eq(message))).thenReturn(payload);
+        when(engine.getCodecEngine()).thenReturn(codecEngine);
+        when(backendConnection.closeResultSets()).thenReturn(Collections.emptyList());
+        when(backendConnection.closeStatements()).thenReturn(Collections.emptyList());
+        when(backendConnection.closeConnections(false)).thenReturn(Collections.emptyList());
+        when(backendConnection.closeCalciteExecutor()).thenReturn(Collections.emptyList());
+        new CommandExecutorTask(engine, backendConnection, handlerContext, message, Runnable::run).run();
+        responsePackets.completeExceptionally(mockException);
+        verify(handlerContext).writeAndFlush(databasePacket);
+        verify(backendConnection).closeResultSets();
+    }
+    
     @Test
     public void assertRunWithError() {
+        when(handlerContext.channel()).thenReturn(new EmbeddedChannel());
         RuntimeException mockException = new RuntimeException("mock");
         when(backendConnection.getConnectionStatus()).thenThrow(mockException);
         when(codecEngine.createPacketPayload(message)).thenReturn(payload);
@@ -170,7 +278,7 @@ public final class CommandExecutorTaskTest {
         when(backendConnection.closeStatements()).thenReturn(Collections.emptyList());
         when(backendConnection.closeConnections(false)).thenReturn(Collections.emptyList());
         when(backendConnection.closeCalciteExecutor()).thenReturn(Collections.emptyList());
-        CommandExecutorTask actual = new CommandExecutorTask(engine, backendConnection, handlerContext, message);
+        CommandExecutorTask actual = new CommandExecutorTask(engine, backendConnection, handlerContext, message, Runnable::run);
         actual.run();
         verify(handlerContext, atLeast(2)).writeAndFlush(databasePacket);
     }
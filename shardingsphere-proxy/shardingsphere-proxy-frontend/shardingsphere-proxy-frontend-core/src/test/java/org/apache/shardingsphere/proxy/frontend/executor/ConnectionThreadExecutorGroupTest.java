@@ -17,10 +17,17 @@
 
 package org.apache.shardingsphere.proxy.frontend.executor;
 
+import org.apache.shardingsphere.infra.config.properties.FrontendExecutorType;
 import org.junit.Test;
 
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class ConnectionThreadExecutorGroupTest {
     
@@ -39,4 +46,35 @@ public final class ConnectionThreadExecutorGroupTest {
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
         assertNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
     }
+    
+    @Test
+    public void assertRegisterWithVirtualExecutorType() throws InterruptedException, ExecutionException, ReflectiveOperationException {
+        ConnectionThreadExecutorGroup actual = new ConnectionThreadExecutorGroup(FrontendExecutorType.VIRTUAL);
+        boolean virtualThreadSupported = isVirtualThreadSupported();
+        assertThat(actual.isVirtualThread(), is(virtualThreadSupported));
+        int connectionId = 3;
+        actual.register(connectionId);
+        Thread firstThread = actual.get(connectionId).submit(Thread::currentThread).get();
+        Thread secondThread = actual.get(connectionId).submit(Thread::currentThread).get();
+        assertThat(secondThread, is(firstThread));
+        if (virtualThreadSupported) {
+            assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(firstThread));
+        }
+        actual.unregisterAndAwaitTermination(connectionId);
+        assertNull(actual.get(connectionId));
+    }
+    
+    @Test
+    public void assertRegisterWithPlatformExecutorType() {
+        assertFalse(new ConnectionThreadExecutorGroup(FrontendExecutorType.PLATFORM).isVirtualThread());
+    }
+    
+    private boolean isVirtualThreadSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (final NoSuchMethodException ignored) {
+            return false;
+        }
+    }
 }
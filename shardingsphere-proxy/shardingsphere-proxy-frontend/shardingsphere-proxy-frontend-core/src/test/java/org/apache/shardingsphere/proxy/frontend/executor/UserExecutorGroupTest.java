@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import org.apache.shardingsphere.infra.config.properties.FrontendExecutorType;
+import org.junit.Test;
+
+import java.util.concurrent.Executor;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class UserExecutorGroupTest {
+    
+    @Test
+    public void assertGetExecutorWithPlatformExecutorType() {
+        UserExecutorGroup actual = new UserExecutorGroup(FrontendExecutorType.PLATFORM, 0);
+        assertThat(actual.getExecutor(1), sameInstance(actual.getExecutorService()));
+    }
+    
+    @Test
+    public void assertGetExecutorWithBoundedExecutorType() {
+        UserExecutorGroup actual = new UserExecutorGroup(FrontendExecutorType.BOUNDED, 2);
+        assertThat(actual.getExecutor(1), instanceOf(SerialExecutor.class));
+        assertThat(actual.getExecutor(1), sameInstance(actual.getExecutor(1)));
+        assertThat(actual.getExecutor(1), not(sameInstance(actual.getExecutor(2))));
+        actual.getExecutorService().shutdown();
+    }
+    
+    @Test
+    public void assertUnregister() {
+        UserExecutorGroup actual = new UserExecutorGroup(FrontendExecutorType.BOUNDED, 2);
+        Executor executor = actual.getExecutor(1);
+        actual.unregister(1);
+        assertThat(actual.getExecutor(1), not(sameInstance(executor)));
+        actual.getExecutorService().shutdown();
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.authority.api.config.AuthorityRuleConfiguration
 import org.apache.shardingsphere.authority.rule.AuthorityRule;
 import org.apache.shardingsphere.authority.rule.builder.AuthorityRuleBuilder;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConnectionPhase;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakePacket;
@@ -37,6 +38,7 @@ import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
 import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationResult;
 import org.apache.shardingsphere.proxy.frontend.connection.ConnectionIdGenerator;
@@ -58,6 +60,7 @@ import java.util.Map;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -99,13 +102,24 @@ public final class MySQLFrontendEngineTest {
     
     @Test
     public void assertHandshake() {
-        assertTrue(mysqlFrontendEngine.getAuthenticationEngine().handshake(context) > 0);
+        int connectionId = mysqlFrontendEngine.getAuthenticationEngine().handshake(context);
+        assertTrue(connectionId > 0);
         verify(context).writeAndFlush(isA(MySQLHandshakePacket.class));
     }
     
+    @Test
+    public void assertRelease() {
+        BackendConnection backendConnection = mock(BackendConnection.class);
+        when(backendConnection.getConnectionId()).thenReturn(1);
+        MySQLBinaryStatementRegistry.getInstance().register(1);
+        mysqlFrontendEngine.release(backendConnection);
+        assertNull(MySQLBinaryStatementRegistry.getInstance().get(1));
+    }
+    
     @Test
     public void assertAuthWhenLoginSuccess() {
-        setConnectionPhase(MySQLConnectionPhase.AUTH_PHASE_FAST_PATH);
+        int connectionId = mysqlFrontendEngine.getAuthenticationEngine().handshake(context);
+        MySQLBinaryStatementRegistry.getInstance().unregister(connectionId);
         initProxyContext(new ShardingSphereUser("root", "", ""));
         when(payload.readStringNul()).thenReturn("root");
         when(payload.readStringNulByBytes()).thenReturn("root".getBytes());
@@ -115,12 +129,14 @@ public final class MySQLFrontendEngineTest {
         assertThat(actual.getUsername(), is("root"));
         assertNull(actual.getDatabase());
         assertTrue(actual.isFinished());
+        assertNotNull(MySQLBinaryStatementRegistry.getInstance().get(connectionId));
         verify(context).writeAndFlush(isA(MySQLOKPacket.class));
     }
     
     @Test
     public void assertAuthWhenLoginFailure() {
-        setConnectionPhase(MySQLConnectionPhase.AUTH_PHASE_FAST_PATH);
+        int connectionId = mysqlFrontendEngine.getAuthenticationEngine().handshake(context);
+        MySQLBinaryStatementRegistry.getInstance().unregister(connectionId);
         initProxyContext(new ShardingSphereUser("root", "error", ""));
         when(payload.readStringNul()).thenReturn("root");
         when(payload.readStringNulByBytes()).thenReturn("root".getBytes());
@@ -130,6 +146,7 @@ public final class MySQLFrontendEngineTest {
         assertThat(actual.getUsername(), is("root"));
         assertNull(actual.getDatabase());
         assertTrue(actual.isFinished());
+        assertNull(MySQLBinaryStatementRegistry.getInstance().get(connectionId));
         verify(context).writeAndFlush(isA(MySQLErrPacket.class));
     }
     
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.close;
+
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.close.MySQLComStmtClosePacket;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MySQLComStmtCloseExecutorTest {
+    
+    @Mock
+    private MySQLComStmtClosePacket packet;
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @Test
+    public void assertExecute() throws SQLException {
+        MySQLBinaryStatementRegistry.getInstance().register(1);
+        int statementId = MySQLBinaryStatementRegistry.getInstance().get(1).register("SELECT * FROM t_order WHERE order_id = ?", 1);
+        when(backendConnection.getConnectionId()).thenReturn(1);
+        when(packet.getStatementId()).thenReturn(statementId);
+        assertNotNull(MySQLBinaryStatementRegistry.getInstance().get(1).getBinaryStatement(statementId));
+        assertTrue(new MySQLComStmtCloseExecutor(packet, backendConnection).execute().isEmpty());
+        assertNull(MySQLBinaryStatementRegistry.getInstance().get(1).getBinaryStatement(statementId));
+    }
+    
+    @Test
+    public void assertExecuteWithUnregisteredConnection() {
+        when(backendConnection.getConnectionId()).thenReturn(2);
+        MySQLBinaryStatementRegistry.getInstance().unregister(2);
+        assertTrue(new MySQLComStmtCloseExecutor(packet, backendConnection).execute().isEmpty());
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLBindCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.proxy.backend.communication.BatchDatabaseCommunicationEngine;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.PostgreSQLCommand;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * PostgreSQL connection context.
+ * 
+ * <p>
+ * Hold bind messages which are pipelined before sync, they are executed as batches and responded in order when flushed.
+ * </p>
+ */
+public final class PostgreSQLConnectionContext {
+    
+    private final List<PendingBind> pendingBinds = new LinkedList<>();
+    
+    /**
+     * Add pending bind.
+     *
+     * @param sqlStatement SQL statement of bind
+     * @param bindPacket bind packet
+     */
+    public void addPendingBind(final SQLStatement sqlStatement, final PostgreSQLComBindPacket bindPacket) {
+        pendingBinds.add(new PendingBind(sqlStatement, bindPacket.getSql(), bindPacket.getParameters()));
+    }
+    
+    /**
+     * Get pending binds count.
+     *
+     * @return pending binds count
+     */
+    public int getPendingBindsCount() {
+        return pendingBinds.size();
+    }
+    
+    /**
+     * Execute pending binds.
+     * 
+     * <p>
+     * Consecutive binds of the same SQL are executed as one batch, bind complete and command complete packets are responded for each bind in order.
+     * </p>
+     *
+     * @param backendConnection backend connection
+     * @return response packets of pending binds
+     * @throws SQLException SQL exception
+     */
+    public Collection<DatabasePacket<?>> executePendingBinds(final BackendConnection backendConnection) throws SQLException {
+        Collection<DatabasePacket<?>> result = new LinkedList<>();
+        try {
+            while (!pendingBinds.isEmpty()) {
+                List<PendingBind> batch = pollBatch();
+                SQLStatement sqlStatement = batch.get(0).getSqlStatement();
+                List<List<Object>> parameterSets = new ArrayList<>(batch.size());
+                batch.forEach(each -> parameterSets.add(each.getParameters()));
+                for (ResponseHeader each : new BatchDatabaseCommunicationEngine(sqlStatement, batch.get(0).getSql(), backendConnection).execute(parameterSets)) {
+                    result.add(new PostgreSQLBindCompletePacket());
+                    result.add(new PostgreSQLCommandCompletePacket(new PostgreSQLCommand(sqlStatement).getSQLCommand(), ((UpdateResponseHeader) each).getUpdateCount()));
+                }
+            }
+        } finally {
+            pendingBinds.clear();
+        }
+        return result;
+    }
+    
+    private List<PendingBind> pollBatch() {
+        List<PendingBind> result = new LinkedList<>();
+        String sql = pendingBinds.get(0).getSql();
+        while (!pendingBinds.isEmpty() && sql.equals(pendingBinds.get(0).getSql())) {
+            result.add(pendingBinds.remove(0));
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class PendingBind {
+        
+        private final SQLStatement sqlStatement;
+        
+        private final String sql;
+        
+        private final List<Object> parameters;
+    }
+}
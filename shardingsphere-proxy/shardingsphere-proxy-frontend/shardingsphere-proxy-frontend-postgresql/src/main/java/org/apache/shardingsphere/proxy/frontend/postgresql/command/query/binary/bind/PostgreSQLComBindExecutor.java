@@ -25,11 +25,15 @@ import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLBinar
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLColumnDescription;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLRowDescriptionPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLBinaryResultSetRowEncoder;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLBinaryResultSetRowPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLBindCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text.PostgreSQLDataRowEncoder;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text.PostgreSQLDataRowPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.db.protocol.row.DatabaseRowEncoder;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
 import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngine;
@@ -46,12 +50,16 @@ import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandler;
 import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandlerFactory;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.PostgreSQLCommand;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.TCLStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLInsertStatement;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
@@ -62,8 +70,14 @@ import java.util.stream.Collectors;
  */
 public final class PostgreSQLComBindExecutor implements QueryCommandExecutor {
     
+    private final PostgreSQLConnectionContext connectionContext;
+    
     private final PostgreSQLComBindPacket packet;
     
+    private final BackendConnection backendConnection;
+    
+    private final SQLStatement batchSQLStatement;
+    
     private final DatabaseCommunicationEngine databaseCommunicationEngine;
     
     private final TextProtocolBackendHandler textProtocolBackendHandler;
@@ -71,16 +85,29 @@ public final class PostgreSQLComBindExecutor implements QueryCommandExecutor {
     @Getter
     private volatile ResponseType responseType;
     
-    public PostgreSQLComBindExecutor(final PostgreSQLComBindPacket packet, final BackendConnection backendConnection) throws SQLException {
+    private List<PostgreSQLBinaryColumnType> binaryColumnTypes;
+    
+    public PostgreSQLComBindExecutor(final PostgreSQLConnectionContext connectionContext, final PostgreSQLComBindPacket packet, final BackendConnection backendConnection) throws SQLException {
+        this.connectionContext = connectionContext;
         this.packet = packet;
+        this.backendConnection = backendConnection;
         if (null == packet.getSql()) {
+            batchSQLStatement = null;
             databaseCommunicationEngine = null;
             textProtocolBackendHandler = null;
             return;
         }
         ShardingSphereSQLParserEngine sqlStatementParserEngine = new ShardingSphereSQLParserEngine(DatabaseTypeRegistry.getTrunkDatabaseTypeName(
-                ProxyContext.getInstance().getMetaDataContexts().getMetaData(backendConnection.getSchemaName()).getResource().getDatabaseType()));
+                ProxyContext.getInstance().getMetaDataContexts().getMetaData(backendConnection.getSchemaName()).getResource().getDatabaseType()),
+                ProxyContext.getInstance().getMetaDataContexts().getProps());
         SQLStatement sqlStatement = sqlStatementParserEngine.parse(packet.getSql(), true);
+        if (isBatchInsert(sqlStatement)) {
+            batchSQLStatement = sqlStatement;
+            databaseCommunicationEngine = null;
+            textProtocolBackendHandler = null;
+            return;
+        }
+        batchSQLStatement = null;
         if (sqlStatement instanceof TCLStatement) {
             textProtocolBackendHandler = TextProtocolBackendHandlerFactory.newInstance(DatabaseTypeRegistry.getActualDatabaseType("PostgreSQL"), packet.getSql(), backendConnection);
             databaseCommunicationEngine = null;
@@ -90,14 +117,31 @@ public final class PostgreSQLComBindExecutor implements QueryCommandExecutor {
         databaseCommunicationEngine = DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(sqlStatement, packet.getSql(), packet.getParameters(), backendConnection);
     }
     
+    private boolean isBatchInsert(final SQLStatement sqlStatement) {
+        return sqlStatement instanceof InsertStatement && !isReturning((InsertStatement) sqlStatement)
+                && ProxyContext.getInstance().getMetaDataContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_POSTGRESQL_BATCH_INSERT_ENABLED);
+    }
+    
+    private boolean isReturning(final InsertStatement insertStatement) {
+        return insertStatement instanceof PostgreSQLInsertStatement && ((PostgreSQLInsertStatement) insertStatement).isReturning();
+    }
+    
     @Override
     public Collection<DatabasePacket<?>> execute() throws SQLException {
-        List<DatabasePacket<?>> result = new LinkedList<>();
+        if (null != batchSQLStatement) {
+            connectionContext.addPendingBind(batchSQLStatement, packet);
+            return Collections.emptyList();
+        }
+        List<DatabasePacket<?>> result = new LinkedList<>(connectionContext.executePendingBinds(backendConnection));
         result.add(new PostgreSQLBindCompletePacket());
         if (null == databaseCommunicationEngine && null == textProtocolBackendHandler) {
             return result;
         }
         ResponseHeader responseHeader = null != databaseCommunicationEngine ? databaseCommunicationEngine.execute() : textProtocolBackendHandler.execute();
+        if (responseHeader instanceof QueryResponseHeader && packet.isBinaryRowData()) {
+            binaryColumnTypes = ((QueryResponseHeader) responseHeader).getQueryHeaders().stream()
+                    .map(each -> PostgreSQLBinaryColumnType.valueOfJDBCType(each.getColumnType())).collect(Collectors.toList());
+        }
         if (responseHeader instanceof QueryResponseHeader) {
             createQueryPacket((QueryResponseHeader) responseHeader).ifPresent(result::add);
         }
@@ -141,6 +185,17 @@ public final class PostgreSQLComBindExecutor implements QueryCommandExecutor {
         return packet.isBinaryRowData() ? new PostgreSQLBinaryResultSetRowPacket(createBinaryRow(queryResponseRow)) : new PostgreSQLDataRowPacket(queryResponseRow.getData());
     }
     
+    @Override
+    public Optional<DatabaseRowEncoder> getQueryRowEncoder() {
+        if (null == databaseCommunicationEngine) {
+            return Optional.empty();
+        }
+        if (packet.isBinaryRowData()) {
+            return Optional.of(new PostgreSQLBinaryResultSetRowEncoder(binaryColumnTypes, databaseCommunicationEngine));
+        }
+        return Optional.of(new PostgreSQLDataRowEncoder(databaseCommunicationEngine));
+    }
+    
     private BinaryRow createBinaryRow(final QueryResponseRow queryResponseRow) {
         return new BinaryRow(queryResponseRow.getCells().stream().map(
             each -> new BinaryCell(PostgreSQLBinaryColumnType.valueOfJDBCType(((BinaryQueryResponseCell) each).getJdbcType()), each.getData())).collect(Collectors.toList()));
@@ -28,10 +28,12 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.bin
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLErrorResponsePacket;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
 
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 
 /**
  * Command close executor for PostgreSQL.
@@ -39,17 +41,22 @@ import java.util.Collections;
 @RequiredArgsConstructor
 public final class PostgreSQLComCloseExecutor implements CommandExecutor {
     
+    private final PostgreSQLConnectionContext connectionContext;
+    
     private final PostgreSQLComClosePacket packet;
     
     private final BackendConnection backendConnection;
     
     @Override
     public Collection<DatabasePacket<?>> execute() throws SQLException {
+        Collection<DatabasePacket<?>> result = new LinkedList<>(connectionContext.executePendingBinds(backendConnection));
         switch (packet.getType()) {
             case PREPARED_STATEMENT:
-                return closePreparedStatement();
+                result.addAll(closePreparedStatement());
+                return result;
             case PORTAL:
-                return closePortal();
+                result.addAll(closePortal());
+                return result;
             default:
                 throw new UnsupportedOperationException(packet.getType().name());
         }
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command;
+
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLBindCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.context.metadata.impl.StandardMetaDataContexts;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PostgreSQLConnectionContextTest {
+    
+    private static final String ORDER_SQL = "INSERT INTO t_order (order_id) VALUES (?)";
+    
+    private static final String ORDER_ITEM_SQL = "INSERT INTO t_order_item (item_id) VALUES (?)";
+    
+    @Test
+    public void assertAddPendingBind() {
+        PostgreSQLConnectionContext connectionContext = new PostgreSQLConnectionContext();
+        connectionContext.addPendingBind(mock(InsertStatement.class), mock(PostgreSQLComBindPacket.class));
+        connectionContext.addPendingBind(mock(InsertStatement.class), mock(PostgreSQLComBindPacket.class));
+        assertThat(connectionContext.getPendingBindsCount(), is(2));
+    }
+    
+    @Test
+    public void assertExecuteWithoutPendingBinds() throws SQLException {
+        assertTrue(new PostgreSQLConnectionContext().executePendingBinds(mock(BackendConnection.class)).isEmpty());
+    }
+    
+    @Test
+    public void assertExecutePendingBindsOfMultipleSQLsInOrder() throws SQLException, ReflectiveOperationException {
+        initProxyContext();
+        BackendConnection backendConnection = mock(BackendConnection.class);
+        when(backendConnection.getSchemaName()).thenReturn("schema");
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getURL()).thenReturn("jdbc:postgresql://127.0.0.1:5432/ds");
+        when(backendConnection.getConnections("ds", 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection));
+        PreparedStatement orderStatement0 = mockPreparedStatement(connection, new int[]{1, 2});
+        PreparedStatement orderItemStatement = mockPreparedStatement(connection, new int[]{3});
+        PreparedStatement orderStatement1 = mockPreparedStatement(connection, new int[]{4});
+        when(backendConnection.createStorageResource(eq(ORDER_SQL), anyList(), eq(connection), eq(ConnectionMode.CONNECTION_STRICTLY), any())).thenReturn(orderStatement0, orderStatement1);
+        when(backendConnection.createStorageResource(eq(ORDER_ITEM_SQL), anyList(), eq(connection), eq(ConnectionMode.CONNECTION_STRICTLY), any())).thenReturn(orderItemStatement);
+        PostgreSQLConnectionContext connectionContext = new PostgreSQLConnectionContext();
+        addPendingBind(connectionContext, ORDER_SQL, 1);
+        addPendingBind(connectionContext, ORDER_SQL, 2);
+        addPendingBind(connectionContext, ORDER_ITEM_SQL, 3);
+        addPendingBind(connectionContext, ORDER_SQL, 4);
+        Iterator<DatabasePacket<?>> actual = connectionContext.executePendingBinds(backendConnection).iterator();
+        for (int i = 1; i <= 4; i++) {
+            assertThat(actual.next(), instanceOf(PostgreSQLBindCompletePacket.class));
+            assertCommandComplete(actual.next(), "INSERT 0 " + i);
+        }
+        assertThat(connectionContext.getPendingBindsCount(), is(0));
+        InOrder inOrder = inOrder(orderStatement0, orderItemStatement, orderStatement1);
+        inOrder.verify(orderStatement0).setObject(1, 1);
+        inOrder.verify(orderStatement0).setObject(1, 2);
+        inOrder.verify(orderStatement0).executeBatch();
+        inOrder.verify(orderItemStatement).setObject(1, 3);
+        inOrder.verify(orderItemStatement).executeBatch();
+        inOrder.verify(orderStatement1).setObject(1, 4);
+        inOrder.verify(orderStatement1).executeBatch();
+    }
+    
+    private void initProxyContext() throws ReflectiveOperationException {
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class, RETURNS_DEEP_STUBS);
+        when(metaData.getResource().getDatabaseType()).thenReturn(new PostgreSQLDatabaseType());
+        when(metaData.getResource().getDataSources()).thenReturn(Collections.singletonMap("ds", mock(DataSource.class)));
+        when(metaData.getRuleMetaData().getRules()).thenReturn(Collections.emptyList());
+        when(metaData.getSchema()).thenReturn(new ShardingSphereSchema());
+        Field metaDataContexts = ProxyContext.getInstance().getClass().getDeclaredField("metaDataContexts");
+        metaDataContexts.setAccessible(true);
+        metaDataContexts.set(ProxyContext.getInstance(), new StandardMetaDataContexts(Collections.singletonMap("schema", metaData),
+                mock(ShardingSphereRuleMetaData.class), mock(ExecutorEngine.class), new ConfigurationProperties(new Properties())));
+    }
+    
+    private PreparedStatement mockPreparedStatement(final Connection connection, final int[] updateCounts) throws SQLException {
+        PreparedStatement result = mock(PreparedStatement.class);
+        when(result.getConnection()).thenReturn(connection);
+        when(result.executeBatch()).thenReturn(updateCounts);
+        return result;
+    }
+    
+    private void addPendingBind(final PostgreSQLConnectionContext connectionContext, final String sql, final Object parameter) {
+        SQLStatement sqlStatement = new ShardingSphereSQLParserEngine("PostgreSQL", new ConfigurationProperties(new Properties())).parse(sql, true);
+        PostgreSQLComBindPacket bindPacket = mock(PostgreSQLComBindPacket.class);
+        when(bindPacket.getSql()).thenReturn(sql);
+        when(bindPacket.getParameters()).thenReturn(Collections.singletonList(parameter));
+        connectionContext.addPendingBind(sqlStatement, bindPacket);
+    }
+    
+    private void assertCommandComplete(final DatabasePacket<?> actual, final String expectedCommandTag) {
+        assertThat(actual, instanceOf(PostgreSQLCommandCompletePacket.class));
+        PostgreSQLPacketPayload payload = mock(PostgreSQLPacketPayload.class);
+        ((PostgreSQLCommandCompletePacket) actual).write(payload);
+        verify(payload).writeStringNul(expectedCommandTag);
+    }
+}
@@ -82,12 +82,19 @@ public interface CommandExecuteEngine {
     
     /**
      * Write query data.
+     * 
+     * <p>
+     * If writing is suspended by unwritable channel, it should be resumed by calling this method again with the same query data writer.
+     * </p>
      *
      * @param context channel handler context
      * @param backendConnection backend connection
      * @param queryCommandExecutor query command executor
+     * @param queryDataWriter query data writer
      * @param headerPackagesCount count of header packages
+     * @return false if writing is suspended by unwritable channel, otherwise true
      * @throws SQLException SQL exception
      */
-    void writeQueryData(ChannelHandlerContext context, BackendConnection backendConnection, QueryCommandExecutor queryCommandExecutor, int headerPackagesCount) throws SQLException;
+    boolean writeQueryData(ChannelHandlerContext context, BackendConnection backendConnection,
+                           QueryCommandExecutor queryCommandExecutor, QueryDataWriter queryDataWriter, int headerPackagesCount) throws SQLException;
 }
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.concurrent.ScheduledFuture;
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.row.DatabaseRowEncoder;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query data writer.
+ * 
+ * <p>
+ * Query data is flushed once count of unflushed records or bytes buffered in channel reaches its threshold,
+ * and records staying unflushed longer than flush interval are flushed by a task scheduled on event loop of channel.
+ * Writing is suspended once channel becomes unwritable without occupying current thread, and should be resumed after {@code channelWritabilityChanged} or {@code channelInactive}.
+ * </p>
+ */
+public final class QueryDataWriter {
+    
+    private final ChannelHandlerContext context;
+    
+    private final int flushThreshold;
+    
+    private final long flushBytesThreshold;
+    
+    private final long flushIntervalNanos;
+    
+    private Optional<DatabaseRowEncoder> rowEncoder;
+    
+    @Getter
+    private int writtenRowCount;
+    
+    private int unflushedCount;
+    
+    private long firstUnflushedNanos;
+    
+    private ScheduledFuture<?> scheduledFlush;
+    
+    private long suspendedNanos;
+    
+    public QueryDataWriter(final ChannelHandlerContext context) {
+        this.context = context;
+        ConfigurationProperties props = ProxyContext.getInstance().getMetaDataContexts().getProps();
+        flushThreshold = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        flushBytesThreshold = props.<Long>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD);
+        flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(props.<Long>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_INTERVAL_MILLISECONDS));
+    }
+    
+    /**
+     * Write rows of query command executor until all rows written, or channel becomes unwritable or inactive.
+     *
+     * @param queryCommandExecutor query command executor
+     * @return false if writing is suspended by unwritable channel, otherwise true
+     * @throws SQLException SQL exception
+     */
+    public boolean writeRows(final QueryCommandExecutor queryCommandExecutor) throws SQLException {
+        Channel channel = context.channel();
+        while (channel.isActive()) {
+            if (!channel.isWritable()) {
+                flush();
+                suspend();
+                return false;
+            }
+            if (!queryCommandExecutor.next()) {
+                return true;
+            }
+            writeRow(queryCommandExecutor);
+        }
+        return true;
+    }
+    
+    private void writeRow(final QueryCommandExecutor queryCommandExecutor) throws SQLException {
+        if (null == rowEncoder) {
+            rowEncoder = queryCommandExecutor.getQueryRowEncoder();
+        }
+        if (rowEncoder.isPresent()) {
+            write(rowEncoder.get());
+        } else {
+            write(queryCommandExecutor.getQueryRowPacket());
+        }
+        writtenRowCount++;
+    }
+    
+    /**
+     * Suspend writing.
+     */
+    public void suspend() {
+        suspendedNanos = System.nanoTime();
+    }
+    
+    /**
+     * Resume writing.
+     *
+     * @return milliseconds of writing suspended
+     */
+    public long resume() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - suspendedNanos);
+    }
+    
+    /**
+     * Write query data, and flush if any flush threshold is reached.
+     *
+     * @param packet packet of query data
+     */
+    public void write(final DatabasePacket<?> packet) {
+        context.write(packet);
+        onWritten();
+    }
+    
+    /**
+     * Write query data encoded by row encoder, and flush if any flush threshold is reached.
+     * 
+     * <p>
+     * Row returned as packet by row encoder is written through codec.
+     * </p>
+     *
+     * @param rowEncoder row encoder of query data
+     * @throws SQLException SQL exception
+     */
+    public void write(final DatabaseRowEncoder rowEncoder) throws SQLException {
+        ByteBuf byteBuf = context.alloc().ioBuffer();
+        Optional<DatabasePacket<?>> packet;
+        try {
+            packet = rowEncoder.encode(context, byteBuf);
+        } catch (final SQLException ex) {
+            byteBuf.release();
+            throw ex;
+        }
+        if (packet.isPresent()) {
+            byteBuf.release();
+            context.write(packet.get());
+        } else {
+            context.write(byteBuf);
+        }
+        onWritten();
+    }
+    
+    private void onWritten() {
+        if (0 == unflushedCount++) {
+            firstUnflushedNanos = System.nanoTime();
+            scheduledFlush = context.executor().schedule(this::flushByInterval, flushIntervalNanos, TimeUnit.NANOSECONDS);
+        }
+        if (unflushedCount >= flushThreshold || getBufferedBytes() >= flushBytesThreshold || System.nanoTime() - firstUnflushedNanos >= flushIntervalNanos) {
+            flush();
+        }
+    }
+    
+    /**
+     * Flush.
+     *
+     * @return bytes buffered in channel before flushing
+     */
+    public long flush() {
+        if (null != scheduledFlush) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        long result = getBufferedBytes();
+        context.flush();
+        unflushedCount = 0;
+        return result;
+    }
+    
+    private void flushByInterval() {
+        context.flush();
+    }
+    
+    private long getBufferedBytes() {
+        Channel channel = context.channel();
+        long highWaterMark = channel.config().getWriteBufferHighWaterMark();
+        return channel.isWritable() ? highWaterMark - channel.bytesBeforeUnwritable() : highWaterMark;
+    }
+}
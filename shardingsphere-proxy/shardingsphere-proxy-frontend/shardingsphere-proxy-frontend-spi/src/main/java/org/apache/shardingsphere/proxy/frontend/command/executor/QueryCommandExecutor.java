@@ -18,8 +18,10 @@
 package org.apache.shardingsphere.proxy.frontend.command.executor;
 
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.row.DatabaseRowEncoder;
 
 import java.sql.SQLException;
+import java.util.Optional;
 
 /**
  * Query command executor.
@@ -48,4 +50,13 @@ public interface QueryCommandExecutor extends CommandExecutor {
      * @throws SQLException SQL exception
      */
     DatabasePacket<?> getQueryRowPacket() throws SQLException;
+    
+    /**
+     * Get query row encoder, which encodes current row into byte buffer directly instead of creating query row packet.
+     *
+     * @return query row encoder, empty means query row packet should be used
+     */
+    default Optional<DatabaseRowEncoder> getQueryRowEncoder() {
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.MessageToByteEncoder;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.db.protocol.row.DatabaseRowEncoder;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class QueryDataWriterTest {
+    
+    @Test
+    public void assertFlushByCount() {
+        EmbeddedChannel channel = createChannel(1);
+        QueryDataWriter queryDataWriter = new QueryDataWriter(channel.pipeline().lastContext());
+        for (int i = 0; i < 127; i++) {
+            queryDataWriter.write(new FixturePacket());
+        }
+        assertTrue(channel.outboundMessages().isEmpty());
+        queryDataWriter.write(new FixturePacket());
+        assertThat(channel.outboundMessages().size(), is(128));
+    }
+    
+    @Test
+    public void assertFlushByBufferedBytes() {
+        EmbeddedChannel channel = createChannel(64 * 1024);
+        channel.config().setWriteBufferWaterMark(new WriteBufferWaterMark(1024 * 1024, 2 * 1024 * 1024));
+        QueryDataWriter queryDataWriter = new QueryDataWriter(channel.pipeline().lastContext());
+        queryDataWriter.write(new FixturePacket());
+        assertThat(channel.outboundMessages().size(), is(1));
+    }
+    
+    @Test
+    public void assertFlushByInterval() throws InterruptedException {
+        EmbeddedChannel channel = createChannel(1);
+        QueryDataWriter queryDataWriter = new QueryDataWriter(channel.pipeline().lastContext());
+        queryDataWriter.write(new FixturePacket());
+        assertTrue(channel.outboundMessages().isEmpty());
+        Thread.sleep(150L);
+        queryDataWriter.write(new FixturePacket());
+        assertThat(channel.outboundMessages().size(), is(2));
+    }
+    
+    @Test
+    public void assertFlushByScheduledInterval() throws InterruptedException {
+        EmbeddedChannel channel = createChannel(1);
+        QueryDataWriter queryDataWriter = new QueryDataWriter(channel.pipeline().lastContext());
+        queryDataWriter.write(new FixturePacket());
+        channel.runScheduledPendingTasks();
+        assertTrue(channel.outboundMessages().isEmpty());
+        Thread.sleep(150L);
+        channel.runScheduledPendingTasks();
+        assertThat(channel.outboundMessages().size(), is(1));
+    }
+    
+    @Test
+    public void assertWriteRowsSuspendedByUnwritableChannel() throws SQLException {
+        EmbeddedChannel channel = createChannel(8);
+        channel.config().setWriteBufferWaterMark(new WriteBufferWaterMark(1, 2));
+        QueryCommandExecutor queryCommandExecutor = mock(QueryCommandExecutor.class);
+        when(queryCommandExecutor.getQueryRowEncoder()).thenReturn(Optional.empty());
+        when(queryCommandExecutor.next()).thenReturn(true, true, false);
+        doReturn(new FixturePacket()).when(queryCommandExecutor).getQueryRowPacket();
+        QueryDataWriter queryDataWriter = new QueryDataWriter(channel.pipeline().lastContext());
+        assertFalse(queryDataWriter.writeRows(queryCommandExecutor));
+        assertThat(queryDataWriter.getWrittenRowCount(), is(1));
+        assertThat(channel.outboundMessages().size(), is(1));
+        assertFalse(queryDataWriter.writeRows(queryCommandExecutor));
+        assertTrue(queryDataWriter.writeRows(queryCommandExecutor));
+        assertThat(queryDataWriter.getWrittenRowCount(), is(2));
+        assertThat(channel.outboundMessages().size(), is(2));
+    }
+    
+    @Test
+    public void assertWriteRowsWithRowEncoder() throws SQLException {
+        EmbeddedChannel channel = createChannel(1);
+        QueryCommandExecutor queryCommandExecutor = mock(QueryCommandExecutor.class);
+        DatabaseRowEncoder rowEncoder = (context, out) -> {
+            out.writeByte(1);
+            return Optional.empty();
+        };
+        when(queryCommandExecutor.getQueryRowEncoder()).thenReturn(Optional.of(rowEncoder));
+        when(queryCommandExecutor.next()).thenReturn(true, false);
+        QueryDataWriter queryDataWriter = new QueryDataWriter(channel.pipeline().lastContext());
+        assertTrue(queryDataWriter.writeRows(queryCommandExecutor));
+        queryDataWriter.flush();
+        assertThat(((ByteBuf) channel.readOutbound()).readByte(), is((byte) 1));
+        verify(queryCommandExecutor, never()).getQueryRowPacket();
+    }
+    
+    @Test
+    public void assertWriteRowsWithRowEncoderReturningPacket() throws SQLException {
+        EmbeddedChannel channel = createChannel(3);
+        QueryCommandExecutor queryCommandExecutor = mock(QueryCommandExecutor.class);
+        DatabaseRowEncoder rowEncoder = (context, out) -> {
+            out.writeByte(1);
+            return Optional.of(new FixturePacket());
+        };
+        when(queryCommandExecutor.getQueryRowEncoder()).thenReturn(Optional.of(rowEncoder));
+        when(queryCommandExecutor.next()).thenReturn(true, false);
+        QueryDataWriter queryDataWriter = new QueryDataWriter(channel.pipeline().lastContext());
+        assertTrue(queryDataWriter.writeRows(queryCommandExecutor));
+        queryDataWriter.flush();
+        assertThat(((ByteBuf) channel.readOutbound()).readableBytes(), is(3));
+        assertTrue(channel.outboundMessages().isEmpty());
+    }
+    
+    @Test
+    public void assertWriteRowsWithInactiveChannel() throws SQLException {
+        EmbeddedChannel channel = createChannel(1);
+        QueryDataWriter queryDataWriter = new QueryDataWriter(channel.pipeline().lastContext());
+        channel.close();
+        QueryCommandExecutor queryCommandExecutor = mock(QueryCommandExecutor.class);
+        assertTrue(queryDataWriter.writeRows(queryCommandExecutor));
+        verify(queryCommandExecutor, never()).next();
+    }
+    
+    private EmbeddedChannel createChannel(final int packetLength) {
+        return new EmbeddedChannel(new MessageToByteEncoder<FixturePacket>() {
+            
+            @Override
+            protected void encode(final ChannelHandlerContext context, final FixturePacket message, final ByteBuf out) {
+                out.writeZero(packetLength);
+            }
+        }, new ChannelInboundHandlerAdapter());
+    }
+    
+    private static final class FixturePacket implements DatabasePacket<PacketPayload> {
+        
+        @Override
+        public void write(final PacketPayload payload) {
+        }
+    }
+}
@@ -77,6 +77,10 @@ public final class HttpServerHandler extends SimpleChannelInboundHandler<FullHtt
             stopJob(context, requestPath);
             return;
         }
+        if (requestPath.startsWith("/scaling/job/check-progress/")) {
+            getCheckProgress(context, requestPath);
+            return;
+        }
         if (requestPath.contains("/scaling/job/check/")) {
             checkJob(context, requestPath);
             return;
@@ -123,6 +127,10 @@ public final class HttpServerHandler extends SimpleChannelInboundHandler<FullHtt
         }
     }
     
+    private void getCheckProgress(final ChannelHandlerContext context, final String requestPath) {
+        response(ResponseContentUtil.build(scalingAPI.getDataConsistencyCheckProgress(getJobId(requestPath))), context, HttpResponseStatus.OK);
+    }
+    
     private void resetJob(final ChannelHandlerContext context, final String requestPath) {
         try {
             scalingAPI.reset(getJobId(requestPath));
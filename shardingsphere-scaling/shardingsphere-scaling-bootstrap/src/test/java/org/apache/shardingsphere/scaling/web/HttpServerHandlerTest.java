@@ -34,6 +34,7 @@ import org.apache.shardingsphere.scaling.core.api.JobInfo;
 import org.apache.shardingsphere.scaling.core.api.ScalingAPI;
 import org.apache.shardingsphere.scaling.core.config.JobConfiguration;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
+import org.apache.shardingsphere.scaling.core.job.check.consistency.DataConsistencyCheckProgress;
 import org.apache.shardingsphere.scaling.core.job.check.consistency.DataConsistencyCheckResult;
 import org.apache.shardingsphere.scaling.core.job.progress.JobProgress;
 import org.apache.shardingsphere.scaling.core.util.ReflectionUtil;
@@ -46,6 +47,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -122,6 +124,15 @@ public final class HttpServerHandlerTest {
         assertTrue(responseContent.isSuccess());
     }
     
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertGetDataConsistencyCheckProgress() {
+        when(scalingAPI.getDataConsistencyCheckProgress(1L)).thenReturn(Collections.singletonMap("t_order", new DataConsistencyCheckProgress(2)));
+        ResponseContent<?> responseContent = execute("/scaling/job/check-progress/1");
+        Map<String, Map<String, Object>> map = (Map<String, Map<String, Object>>) responseContent.getModel();
+        assertThat(map.get("t_order").get("totalChunkCount"), is(2.0));
+    }
+    
     @Test
     public void assertResetTargetTable() {
         ResponseContent<?> responseContent = execute("/scaling/job/reset/1");
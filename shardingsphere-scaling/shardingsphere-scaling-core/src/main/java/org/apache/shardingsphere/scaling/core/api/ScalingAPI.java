@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.scaling.core.api;
 
 import org.apache.shardingsphere.scaling.core.config.JobConfiguration;
+import org.apache.shardingsphere.scaling.core.job.check.consistency.DataConsistencyCheckProgress;
 import org.apache.shardingsphere.scaling.core.job.check.consistency.DataConsistencyCheckResult;
 import org.apache.shardingsphere.scaling.core.job.progress.JobProgress;
 
@@ -83,6 +84,14 @@ public interface ScalingAPI {
      */
     Map<String, DataConsistencyCheckResult> dataConsistencyCheck(long jobId);
     
+    /**
+     * Get data consistency check progress of running check.
+     *
+     * @param jobId job id
+     * @return each logic table check progress, empty if no check is running
+     */
+    Map<String, DataConsistencyCheckProgress> getDataConsistencyCheckProgress(long jobId);
+    
     /**
      * Reset scaling job.
      *
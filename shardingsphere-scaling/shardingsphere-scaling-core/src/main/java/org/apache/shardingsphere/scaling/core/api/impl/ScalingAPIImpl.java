@@ -29,6 +29,7 @@ import org.apache.shardingsphere.scaling.core.config.JobConfiguration;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
 import org.apache.shardingsphere.scaling.core.job.ScalingJob;
 import org.apache.shardingsphere.scaling.core.job.check.EnvironmentCheckerFactory;
+import org.apache.shardingsphere.scaling.core.job.check.consistency.DataConsistencyCheckProgress;
 import org.apache.shardingsphere.scaling.core.job.check.consistency.DataConsistencyCheckResult;
 import org.apache.shardingsphere.scaling.core.job.check.consistency.DataConsistencyChecker;
 import org.apache.shardingsphere.scaling.core.job.environment.ScalingEnvironmentManager;
@@ -38,10 +39,12 @@ import org.apache.shardingsphere.scaling.core.util.JobConfigurationUtil;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -50,6 +53,8 @@ public final class ScalingAPIImpl implements ScalingAPI {
     
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     
+    private final Map<Long, DataConsistencyChecker> dataConsistencyCheckers = new ConcurrentHashMap<>();
+    
     @Override
     public List<JobInfo> list() {
         return ScalingAPIFactory.getJobStatisticsAPI().getAllJobsBriefInfo().stream()
@@ -115,6 +120,7 @@ public final class ScalingAPIImpl implements ScalingAPI {
         log.info("Remove scaling job {}", jobId);
         ScalingAPIFactory.getJobOperateAPI().remove(String.valueOf(jobId), null);
         ScalingAPIFactory.getGovernanceRepositoryAPI().deleteJob(jobId);
+        dataConsistencyCheckers.remove(jobId);
     }
     
     @Override
@@ -126,13 +132,24 @@ public final class ScalingAPIImpl implements ScalingAPI {
     @Override
     public Map<String, DataConsistencyCheckResult> dataConsistencyCheck(final long jobId) {
         DataConsistencyChecker dataConsistencyChecker = EnvironmentCheckerFactory.newInstance(new JobContext(getJobConfig(jobId)));
-        Map<String, DataConsistencyCheckResult> result = dataConsistencyChecker.countCheck();
-        if (result.values().stream().allMatch(DataConsistencyCheckResult::isCountValid)) {
-            Map<String, Boolean> dataCheckResult = dataConsistencyChecker.dataCheck();
-            result.forEach((key, value) -> value.setDataValid(dataCheckResult.getOrDefault(key, false)));
+        dataConsistencyCheckers.put(jobId, dataConsistencyChecker);
+        try {
+            Map<String, DataConsistencyCheckResult> result = dataConsistencyChecker.countCheck();
+            if (result.values().stream().allMatch(DataConsistencyCheckResult::isCountValid)) {
+                Map<String, Boolean> dataCheckResult = dataConsistencyChecker.dataCheck();
+                result.forEach((key, value) -> value.setDataValid(dataCheckResult.getOrDefault(key, false)));
+            }
+            log.info("Scaling job {} data consistency checker result {}, progress {}", jobId, result, dataConsistencyChecker.getDataCheckProgress());
+            return result;
+        } finally {
+            dataConsistencyCheckers.remove(jobId, dataConsistencyChecker);
         }
-        log.info("Scaling job {} data consistency checker result {}", jobId, result);
-        return result;
+    }
+    
+    @Override
+    public Map<String, DataConsistencyCheckProgress> getDataConsistencyCheckProgress(final long jobId) {
+        DataConsistencyChecker dataConsistencyChecker = dataConsistencyCheckers.get(jobId);
+        return null == dataConsistencyChecker ? Collections.emptyMap() : dataConsistencyChecker.getDataCheckProgress();
     }
     
     @Override
@@ -0,0 +1,277 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.common.channel.distribution;
+
+import com.google.common.base.Preconditions;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.scaling.core.common.channel.AckCallback;
+import org.apache.shardingsphere.scaling.core.common.channel.Channel;
+import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
+import org.apache.shardingsphere.scaling.core.common.record.FinishedRecord;
+import org.apache.shardingsphere.scaling.core.common.record.PlaceholderRecord;
+import org.apache.shardingsphere.scaling.core.common.record.Record;
+import org.apache.shardingsphere.scaling.core.config.ScalingContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Ring buffer distribution channel.
+ *
+ * <p>
+ * Single producer publishes records into ring buffer by sequence, and each consumer thread scans the published sequences and fetches records distributed to it.
+ * Each consumer keeps its acknowledged sequence, records before minimum acknowledged sequence of all consumers are acknowledged in push order.
+ * Producer blocks while ring buffer is full and consumers block while no new record is published, waiters are signalled only when they are waiting.
+ * </p>
+ */
+@Slf4j
+public final class RingBufferDistributionChannel implements Channel {
+    
+    private static final int AUTO_ACK_CONSUMER = -1;
+    
+    private static final int BROADCAST_CONSUMER = -2;
+    
+    private final int consumerNumber;
+    
+    private final AckCallback ackCallback;
+    
+    private final int indexMask;
+    
+    private final Record[] records;
+    
+    private final int[] recordConsumers;
+    
+    private final AtomicLong publishedSequence = new AtomicLong();
+    
+    private final AtomicLong acknowledgedSequence = new AtomicLong();
+    
+    private final AtomicLongArray consumerAcknowledgedSequences;
+    
+    private final long[] consumerFetchedSequences;
+    
+    private final boolean[] consumerPendingBatches;
+    
+    private final AtomicInteger consumerIndexGenerator = new AtomicInteger();
+    
+    private final ThreadLocal<Integer> consumerIndex = ThreadLocal.withInitial(this::assignConsumerIndex);
+    
+    private final AtomicBoolean acknowledging = new AtomicBoolean();
+    
+    private final Lock lock = new ReentrantLock();
+    
+    private final Condition publishedCondition = lock.newCondition();
+    
+    private final Condition acknowledgedCondition = lock.newCondition();
+    
+    private final AtomicInteger waitingConsumerCount = new AtomicInteger();
+    
+    private volatile boolean producerWaiting;
+    
+    private long nextSequence;
+    
+    public RingBufferDistributionChannel(final int consumerNumber, final AckCallback ackCallback) {
+        this.consumerNumber = consumerNumber;
+        this.ackCallback = ackCallback;
+        int capacity = getCapacity(ScalingContext.getInstance().getServerConfig().getBlockQueueSize() * consumerNumber);
+        indexMask = capacity - 1;
+        records = new Record[capacity];
+        recordConsumers = new int[capacity];
+        consumerAcknowledgedSequences = new AtomicLongArray(consumerNumber);
+        consumerFetchedSequences = new long[consumerNumber];
+        consumerPendingBatches = new boolean[consumerNumber];
+    }
+    
+    private static int getCapacity(final int minCapacity) {
+        return minCapacity <= 1 ? 1 : Integer.highestOneBit(minCapacity - 1) << 1;
+    }
+    
+    private int assignConsumerIndex() {
+        int result = consumerIndexGenerator.getAndIncrement();
+        Preconditions.checkState(result < consumerNumber, "Consumer threads are more than consumer number %s.", consumerNumber);
+        return result;
+    }
+    
+    @Override
+    public void pushRecord(final Record record) throws InterruptedException {
+        int consumer = getConsumer(record);
+        if (nextSequence - acknowledgedSequence.get() >= records.length) {
+            awaitAcknowledged();
+        }
+        int index = (int) (nextSequence & indexMask);
+        records[index] = record;
+        recordConsumers[index] = consumer;
+        publishedSequence.set(++nextSequence);
+        if (0 < waitingConsumerCount.get()) {
+            signalAll(publishedCondition);
+        }
+    }
+    
+    private void awaitAcknowledged() throws InterruptedException {
+        lock.lockInterruptibly();
+        producerWaiting = true;
+        try {
+            while (nextSequence - acknowledgedSequence.get() >= records.length) {
+                acknowledgedCondition.await();
+            }
+        } finally {
+            producerWaiting = false;
+            lock.unlock();
+        }
+    }
+    
+    private void signalAll(final Condition condition) {
+        lock.lock();
+        try {
+            condition.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private int getConsumer(final Record record) {
+        if (FinishedRecord.class.equals(record.getClass())) {
+            return BROADCAST_CONSUMER;
+        }
+        if (DataRecord.class.equals(record.getClass())) {
+            return Math.abs(record.hashCode() % consumerNumber);
+        }
+        if (PlaceholderRecord.class.equals(record.getClass())) {
+            return AUTO_ACK_CONSUMER;
+        }
+        throw new RuntimeException("Not Support Record Type");
+    }
+    
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final int timeout) {
+        int consumer = consumerIndex.get();
+        List<Record> result = new ArrayList<>(batchSize);
+        long sequence = consumerFetchedSequences[consumer];
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeout);
+        while (true) {
+            long published = publishedSequence.get();
+            for (; sequence < published && result.size() < batchSize; sequence++) {
+                int index = (int) (sequence & indexMask);
+                if (consumer == recordConsumers[index] || BROADCAST_CONSUMER == recordConsumers[index]) {
+                    result.add(records[index]);
+                }
+            }
+            if (result.isEmpty() && !consumerPendingBatches[consumer]) {
+                acknowledge(consumer, sequence);
+            }
+            long remainingNanos = deadline - System.nanoTime();
+            if (result.size() >= batchSize || isFinished(result) || remainingNanos <= 0 || !awaitPublished(sequence, remainingNanos)) {
+                break;
+            }
+        }
+        consumerFetchedSequences[consumer] = sequence;
+        consumerPendingBatches[consumer] = consumerPendingBatches[consumer] || !result.isEmpty();
+        return result;
+    }
+    
+    private boolean awaitPublished(final long sequence, final long nanos) {
+        lock.lock();
+        waitingConsumerCount.incrementAndGet();
+        try {
+            if (publishedSequence.get() <= sequence) {
+                publishedCondition.awaitNanos(nanos);
+            }
+            return true;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            waitingConsumerCount.decrementAndGet();
+            lock.unlock();
+        }
+    }
+    
+    private boolean isFinished(final List<Record> fetchedRecords) {
+        return !fetchedRecords.isEmpty() && FinishedRecord.class.equals(fetchedRecords.get(fetchedRecords.size() - 1).getClass());
+    }
+    
+    @Override
+    public void ack() {
+        int consumer = consumerIndex.get();
+        consumerPendingBatches[consumer] = false;
+        acknowledge(consumer, consumerFetchedSequences[consumer]);
+    }
+    
+    private void acknowledge(final int consumer, final long sequence) {
+        if (sequence <= consumerAcknowledgedSequences.get(consumer)) {
+            return;
+        }
+        consumerAcknowledgedSequences.set(consumer, sequence);
+        do {
+            if (!acknowledging.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                acknowledgeRecords();
+            } finally {
+                acknowledging.set(false);
+            }
+        } while (getMinimumAcknowledgedSequence() > acknowledgedSequence.get());
+    }
+    
+    private void acknowledgeRecords() {
+        long fromSequence = acknowledgedSequence.get();
+        long toSequence = getMinimumAcknowledgedSequence();
+        if (toSequence <= fromSequence) {
+            return;
+        }
+        List<Record> result = new ArrayList<>((int) (toSequence - fromSequence));
+        for (long i = fromSequence; i < toSequence; i++) {
+            int index = (int) (i & indexMask);
+            result.add(records[index]);
+            records[index] = null;
+        }
+        acknowledgedSequence.set(toSequence);
+        if (producerWaiting) {
+            signalAll(acknowledgedCondition);
+        }
+        try {
+            ackCallback.onAck(result);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.error("ring buffer distribution channel ack failed.", ex);
+        }
+    }
+    
+    private long getMinimumAcknowledgedSequence() {
+        long result = Long.MAX_VALUE;
+        for (int i = 0; i < consumerNumber; i++) {
+            result = Math.min(result, consumerAcknowledgedSequences.get(i));
+        }
+        return result;
+    }
+    
+    @Override
+    public void close() {
+        Arrays.fill(records, null);
+    }
+}
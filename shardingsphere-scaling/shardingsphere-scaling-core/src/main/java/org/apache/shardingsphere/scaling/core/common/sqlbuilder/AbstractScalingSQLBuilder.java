@@ -62,6 +62,14 @@ public abstract class AbstractScalingSQLBuilder implements ScalingSQLBuilder {
      */
     protected abstract String getRightIdentifierQuoteString();
     
+    /**
+     * Build row hash expression, whose value should be integer.
+     *
+     * @param columnNames column names
+     * @return row hash expression
+     */
+    protected abstract String buildRowHashExpression(List<String> columnNames);
+    
     /**
      * Add left and right identifier quote string.
      *
@@ -74,11 +82,24 @@ public abstract class AbstractScalingSQLBuilder implements ScalingSQLBuilder {
     
     @Override
     public String buildInsertSQL(final DataRecord dataRecord) {
+        return buildInsertSQL(dataRecord, 1);
+    }
+    
+    @Override
+    public String buildInsertSQL(final DataRecord dataRecord, final int rowCount) {
         String sqlCacheKey = INSERT_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName();
         if (!sqlCacheMap.containsKey(sqlCacheKey)) {
             sqlCacheMap.put(sqlCacheKey, buildInsertSQLInternal(dataRecord.getTableName(), dataRecord.getColumns()));
         }
-        return sqlCacheMap.get(sqlCacheKey);
+        if (1 == rowCount) {
+            return sqlCacheMap.get(sqlCacheKey);
+        }
+        String rowHolder = buildRowHolder(dataRecord.getColumnCount());
+        StringBuilder result = new StringBuilder(sqlCacheMap.get(sqlCacheKey));
+        for (int i = 1; i < rowCount; i++) {
+            result.append(',').append(rowHolder);
+        }
+        return result.toString();
     }
     
     private String buildInsertSQLInternal(final String tableName, final List<Column> columns) {
@@ -93,6 +114,15 @@ public abstract class AbstractScalingSQLBuilder implements ScalingSQLBuilder {
         return String.format("INSERT INTO %s(%s) VALUES(%s)", quote(tableName), columnsLiteral, holder);
     }
     
+    private String buildRowHolder(final int columnCount) {
+        StringBuilder result = new StringBuilder("(");
+        for (int i = 0; i < columnCount; i++) {
+            result.append("?,");
+        }
+        result.setLength(result.length() - 1);
+        return result.append(')').toString();
+    }
+    
     @Override
     public String buildUpdateSQL(final DataRecord dataRecord, final Collection<Column> conditionColumns) {
         String sqlCacheKey = UPDATE_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName();
@@ -124,6 +154,23 @@ public abstract class AbstractScalingSQLBuilder implements ScalingSQLBuilder {
         return sqlCacheMap.get(sqlCacheKey);
     }
     
+    @Override
+    public String buildDeleteSQL(final DataRecord dataRecord, final Collection<Column> conditionColumns, final int rowCount) {
+        if (1 == rowCount) {
+            return buildDeleteSQL(dataRecord, conditionColumns);
+        }
+        if (1 == conditionColumns.size()) {
+            return String.format("DELETE FROM %s WHERE %s IN %s", quote(dataRecord.getTableName()), quote(conditionColumns.iterator().next().getName()), buildRowHolder(rowCount));
+        }
+        String whereSQL = buildWhereSQL(conditionColumns);
+        StringBuilder where = new StringBuilder();
+        for (int i = 0; i < rowCount; i++) {
+            where.append('(').append(whereSQL).append(") OR ");
+        }
+        where.setLength(where.length() - 4);
+        return String.format("DELETE FROM %s WHERE %s", quote(dataRecord.getTableName()), where);
+    }
+    
     @Override
     public String buildTruncateSQL(final String tableName) {
         return String.format("TRUNCATE TABLE %s", quote(tableName));
@@ -156,4 +203,73 @@ public abstract class AbstractScalingSQLBuilder implements ScalingSQLBuilder {
     public String buildSplitByPrimaryKeyRangeSQL(final String tableName, final String primaryKey) {
         return String.format("SELECT MAX(%s) FROM (SELECT %s FROM %s WHERE %s>=? limit ?) t", quote(primaryKey), quote(primaryKey), quote(tableName), quote(primaryKey));
     }
+    
+    @Override
+    public String buildInventoryDumpSQL(final String tableName, final String primaryKey, final boolean firstQuery) {
+        return String.format("SELECT * FROM %s WHERE %s%s? AND %s<=? ORDER BY %s ASC LIMIT ?", quote(tableName), quote(primaryKey), firstQuery ? ">=" : ">", quote(primaryKey), quote(primaryKey));
+    }
+    
+    @Override
+    public String buildInventoryDumpSQL(final String tableName, final List<String> primaryKeys, final boolean hasBeginValues, final boolean hasEndValues) {
+        StringBuilder result = new StringBuilder(String.format("SELECT * FROM %s", quote(tableName)));
+        if (hasBeginValues || hasEndValues) {
+            result.append(" WHERE ");
+        }
+        if (hasBeginValues) {
+            result.append(buildTupleCondition(primaryKeys, ">", ">"));
+        }
+        if (hasBeginValues && hasEndValues) {
+            result.append(" AND ");
+        }
+        if (hasEndValues) {
+            result.append(buildTupleCondition(primaryKeys, "<", "<="));
+        }
+        return result.append(String.format(" ORDER BY %s LIMIT ?", buildOrderBy(primaryKeys))).toString();
+    }
+    
+    @Override
+    public String buildSplitByPrimaryKeyTupleSQL(final String tableName, final List<String> primaryKeys, final boolean hasBeginValues) {
+        StringBuilder columns = new StringBuilder();
+        for (String each : primaryKeys) {
+            columns.append(quote(each)).append(",");
+        }
+        columns.setLength(columns.length() - 1);
+        String where = hasBeginValues ? String.format(" WHERE %s", buildTupleCondition(primaryKeys, ">", ">")) : "";
+        return String.format("SELECT %s FROM %s%s ORDER BY %s LIMIT 2 OFFSET ?", columns, quote(tableName), where, buildOrderBy(primaryKeys));
+    }
+    
+    @Override
+    public String buildPrimaryKeyRangeSQL(final String tableName, final String primaryKey) {
+        return String.format("SELECT MIN(%s), MAX(%s), COUNT(*) FROM %s", quote(primaryKey), quote(primaryKey), quote(tableName));
+    }
+    
+    @Override
+    public String buildChunkChecksumSQL(final String tableName, final List<String> columnNames, final String primaryKey) {
+        String result = String.format("SELECT COUNT(*), SUM(%s) FROM %s", buildRowHashExpression(columnNames), quote(tableName));
+        return null == primaryKey ? result : String.format("%s WHERE %s>=? AND %s<=?", result, quote(primaryKey), quote(primaryKey));
+    }
+    
+    private String buildTupleCondition(final List<String> primaryKeys, final String operator, final String lastOperator) {
+        StringBuilder result = new StringBuilder("(");
+        for (int i = 0; i < primaryKeys.size(); i++) {
+            if (i > 0) {
+                result.append(" OR ");
+            }
+            result.append("(");
+            for (int j = 0; j < i; j++) {
+                result.append(quote(primaryKeys.get(j))).append("=? AND ");
+            }
+            result.append(quote(primaryKeys.get(i))).append(i == primaryKeys.size() - 1 ? lastOperator : operator).append("?)");
+        }
+        return result.append(")").toString();
+    }
+    
+    private String buildOrderBy(final List<String> primaryKeys) {
+        StringBuilder result = new StringBuilder();
+        for (String each : primaryKeys) {
+            result.append(quote(each)).append(" ASC,");
+        }
+        result.setLength(result.length() - 1);
+        return result.toString();
+    }
 }
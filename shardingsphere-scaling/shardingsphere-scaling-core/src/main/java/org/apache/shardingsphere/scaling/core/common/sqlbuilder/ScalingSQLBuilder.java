@@ -21,6 +21,7 @@ import org.apache.shardingsphere.scaling.core.common.record.Column;
 import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Scaling SQL builder.
@@ -35,6 +36,15 @@ public interface ScalingSQLBuilder {
      */
     String buildInsertSQL(DataRecord dataRecord);
     
+    /**
+     * Build multi-row insert SQL.
+     *
+     * @param dataRecord data record of first row
+     * @param rowCount row count
+     * @return insert SQL
+     */
+    String buildInsertSQL(DataRecord dataRecord, int rowCount);
+    
     /**
      * Build update SQL.
      *
@@ -53,6 +63,16 @@ public interface ScalingSQLBuilder {
      */
     String buildDeleteSQL(DataRecord dataRecord, Collection<Column> conditionColumns);
     
+    /**
+     * Build multi-row delete SQL.
+     *
+     * @param dataRecord data record of first row
+     * @param conditionColumns condition columns
+     * @param rowCount row count
+     * @return delete SQL
+     */
+    String buildDeleteSQL(DataRecord dataRecord, Collection<Column> conditionColumns, int rowCount);
+    
     /**
      * Build truncate SQL.
      *
@@ -85,4 +105,54 @@ public interface ScalingSQLBuilder {
      * @return split SQL
      */
     String buildSplitByPrimaryKeyRangeSQL(String tableName, String primaryKey);
+    
+    /**
+     * Build inventory dump SQL, which reads one page of primary key range ordered by primary key.
+     *
+     * @param tableName table name
+     * @param primaryKey primary key
+     * @param firstQuery first query or not, begin value is included by first query and excluded by following queries
+     * @return inventory dump SQL
+     */
+    String buildInventoryDumpSQL(String tableName, String primaryKey, boolean firstQuery);
+    
+    /**
+     * Build inventory dump SQL, which reads one page of primary key tuple range ordered by primary key columns.
+     *
+     * @param tableName table name
+     * @param primaryKeys primary key columns
+     * @param hasBeginValues has begin values or not, begin values are excluded
+     * @param hasEndValues has end values or not, end values are included
+     * @return inventory dump SQL
+     */
+    String buildInventoryDumpSQL(String tableName, List<String> primaryKeys, boolean hasBeginValues, boolean hasEndValues);
+    
+    /**
+     * Build split by primary key tuple SQL, which samples next boundary tuple and the tuple after it.
+     *
+     * @param tableName table name
+     * @param primaryKeys primary key columns
+     * @param hasBeginValues has begin values or not, begin values are excluded
+     * @return split SQL
+     */
+    String buildSplitByPrimaryKeyTupleSQL(String tableName, List<String> primaryKeys, boolean hasBeginValues);
+    
+    /**
+     * Build primary key range SQL, which queries min value, max value of primary key and row count.
+     *
+     * @param tableName table name
+     * @param primaryKey primary key
+     * @return primary key range SQL
+     */
+    String buildPrimaryKeyRangeSQL(String tableName, String primaryKey);
+    
+    /**
+     * Build chunk checksum SQL, which queries row count and sum of row hash values in primary key range.
+     *
+     * @param tableName table name
+     * @param columnNames column names
+     * @param primaryKey primary key, null means whole table
+     * @return chunk checksum SQL
+     */
+    String buildChunkChecksumSQL(String tableName, List<String> columnNames, String primaryKey);
 }
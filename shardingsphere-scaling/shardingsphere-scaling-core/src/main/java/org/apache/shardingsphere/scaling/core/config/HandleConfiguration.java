@@ -43,6 +43,16 @@ public final class HandleConfiguration {
     
     private int shardingSize = 1000 * 10000;
     
+    /**
+     * Max concurrent readers of inventory data per table, primary key range of table is split by value if it has fewer ranges than this.
+     */
+    private int inventoryConcurrency = 1;
+    
+    /**
+     * Max rows of each page which inventory dumper reads by primary key.
+     */
+    private int inventoryBatchSize = 1000;
+    
     private boolean running = true;
     
     private String databaseType;
@@ -33,6 +33,8 @@ public final class InventoryDumperConfiguration extends DumperConfiguration {
     
     private Integer shardingItem;
     
+    private int batchSize = 1000;
+    
     public InventoryDumperConfiguration(final DumperConfiguration dumperConfig) {
         setDataSourceName(dumperConfig.getDataSourceName());
         setDataSourceConfig(dumperConfig.getDataSourceConfig());
@@ -31,19 +31,26 @@ import org.apache.shardingsphere.scaling.core.common.record.Column;
 import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.common.record.FinishedRecord;
 import org.apache.shardingsphere.scaling.core.common.record.Record;
+import org.apache.shardingsphere.scaling.core.common.sqlbuilder.ScalingSQLBuilder;
+import org.apache.shardingsphere.scaling.core.common.sqlbuilder.ScalingSQLBuilderFactory;
 import org.apache.shardingsphere.scaling.core.config.InventoryDumperConfiguration;
 import org.apache.shardingsphere.scaling.core.config.datasource.StandardJDBCDataSourceConfiguration;
 import org.apache.shardingsphere.scaling.core.executor.AbstractScalingExecutor;
 import org.apache.shardingsphere.scaling.core.job.position.FinishedPosition;
 import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
+import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyTuplePosition;
 import org.apache.shardingsphere.scaling.core.job.position.ScalingPosition;
+import org.apache.shardingsphere.scaling.core.util.JDBCUtil;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Abstract JDBC dumper implement.
@@ -83,18 +90,16 @@ public abstract class AbstractInventoryDumper extends AbstractScalingExecutor im
     
     private void dump() {
         try (Connection conn = dataSourceManager.getDataSource(inventoryDumperConfig.getDataSourceConfig()).getConnection()) {
-            String sql = String.format("SELECT * FROM %s %s", inventoryDumperConfig.getTableName(), getWhereCondition(inventoryDumperConfig.getPrimaryKey(), inventoryDumperConfig.getPosition()));
-            PreparedStatement ps = createPreparedStatement(conn, sql);
-            ResultSet rs = ps.executeQuery();
-            ResultSetMetaData metaData = rs.getMetaData();
-            while (isRunning() && rs.next()) {
-                DataRecord record = new DataRecord(newPosition(rs), metaData.getColumnCount());
-                record.setType(ScalingConstant.INSERT);
-                record.setTableName(inventoryDumperConfig.getTableNameMap().get(inventoryDumperConfig.getTableName()));
-                for (int i = 1; i <= metaData.getColumnCount(); i++) {
-                    record.addColumn(new Column(metaData.getColumnName(i), readValue(rs, i), true, tableMetaData.isPrimaryKey(i - 1)));
-                }
-                pushRecord(record);
+            boolean autoCommit = conn.getAutoCommit();
+            if (inventoryDumperConfig.getPosition() instanceof PrimaryKeyTuplePosition) {
+                dumpByPrimaryKeyTuple(conn, (PrimaryKeyTuplePosition) inventoryDumperConfig.getPosition());
+            } else if (null != inventoryDumperConfig.getPrimaryKey() && inventoryDumperConfig.getPosition() instanceof PrimaryKeyPosition) {
+                dumpByPrimaryKeyRange(conn);
+            } else if (!(inventoryDumperConfig.getPosition() instanceof FinishedPosition)) {
+                dumpAll(conn);
+            }
+            if (autoCommit != conn.getAutoCommit()) {
+                conn.setAutoCommit(autoCommit);
             }
             pushRecord(new FinishedRecord(new FinishedPosition()));
         } catch (final SQLException ex) {
@@ -106,19 +111,94 @@ public abstract class AbstractInventoryDumper extends AbstractScalingExecutor im
         }
     }
     
-    private String getWhereCondition(final String primaryKey, final ScalingPosition<?> position) {
-        if (null == primaryKey || null == position) {
-            return "";
+    private void dumpAll(final Connection conn) throws SQLException {
+        try (PreparedStatement ps = createPreparedStatement(conn, String.format("SELECT * FROM %s", inventoryDumperConfig.getTableName()));
+             ResultSet rs = ps.executeQuery()) {
+            ResultSetMetaData metaData = rs.getMetaData();
+            while (isRunning() && rs.next()) {
+                pushRecord(newDataRecord(rs, metaData, new PlaceholderPosition()));
+            }
+        }
+        commitPage(conn);
+    }
+    
+    private void dumpByPrimaryKeyRange(final Connection conn) throws SQLException {
+        ScalingSQLBuilder sqlBuilder = ScalingSQLBuilderFactory.newInstance(inventoryDumperConfig.getDataSourceConfig().getDatabaseType().getName());
+        PrimaryKeyPosition position = (PrimaryKeyPosition) inventoryDumperConfig.getPosition();
+        long beginValue = position.getBeginValue();
+        boolean firstQuery = true;
+        while (isRunning()) {
+            int rowCount = 0;
+            try (PreparedStatement ps = createPreparedStatement(conn, sqlBuilder.buildInventoryDumpSQL(inventoryDumperConfig.getTableName(), inventoryDumperConfig.getPrimaryKey(), firstQuery))) {
+                ps.setLong(1, beginValue);
+                ps.setLong(2, position.getEndValue());
+                ps.setInt(3, inventoryDumperConfig.getBatchSize());
+                try (ResultSet rs = ps.executeQuery()) {
+                    ResultSetMetaData metaData = rs.getMetaData();
+                    while (isRunning() && rs.next()) {
+                        beginValue = rs.getLong(inventoryDumperConfig.getPrimaryKey());
+                        pushRecord(newDataRecord(rs, metaData, new PrimaryKeyPosition(beginValue, position.getEndValue())));
+                        rowCount++;
+                    }
+                }
+            }
+            commitPage(conn);
+            if (rowCount < inventoryDumperConfig.getBatchSize()) {
+                return;
+            }
+            firstQuery = false;
+        }
+    }
+    
+    private void dumpByPrimaryKeyTuple(final Connection conn, final PrimaryKeyTuplePosition position) throws SQLException {
+        ScalingSQLBuilder sqlBuilder = ScalingSQLBuilderFactory.newInstance(inventoryDumperConfig.getDataSourceConfig().getDatabaseType().getName());
+        List<String> primaryKeys = tableMetaData.getPrimaryKeyColumns();
+        List<Integer> dataTypes = primaryKeys.stream().map(each -> tableMetaData.getColumnMetaData(tableMetaData.findColumnIndex(each)).getDataType()).collect(Collectors.toList());
+        List<String> beginValues = position.getBeginValues();
+        while (isRunning()) {
+            int rowCount = 0;
+            String sql = sqlBuilder.buildInventoryDumpSQL(inventoryDumperConfig.getTableName(), primaryKeys, null != beginValues, null != position.getEndValues());
+            try (PreparedStatement ps = createPreparedStatement(conn, sql)) {
+                int parameterIndex = JDBCUtil.setTupleParameters(ps, 1, beginValues, dataTypes);
+                ps.setInt(JDBCUtil.setTupleParameters(ps, parameterIndex, position.getEndValues(), dataTypes), inventoryDumperConfig.getBatchSize());
+                try (ResultSet rs = ps.executeQuery()) {
+                    ResultSetMetaData metaData = rs.getMetaData();
+                    while (isRunning() && rs.next()) {
+                        beginValues = getPrimaryKeyValues(rs, primaryKeys);
+                        pushRecord(newDataRecord(rs, metaData, new PrimaryKeyTuplePosition(beginValues, position.getEndValues())));
+                        rowCount++;
+                    }
+                }
+            }
+            commitPage(conn);
+            if (rowCount < inventoryDumperConfig.getBatchSize()) {
+                return;
+            }
+        }
+    }
+    
+    private void commitPage(final Connection conn) throws SQLException {
+        if (!conn.getAutoCommit()) {
+            conn.commit();
+        }
+    }
+    
+    private List<String> getPrimaryKeyValues(final ResultSet rs, final List<String> primaryKeys) throws SQLException {
+        List<String> result = new ArrayList<>(primaryKeys.size());
+        for (String each : primaryKeys) {
+            result.add(rs.getString(each));
         }
-        PrimaryKeyPosition primaryKeyPosition = (PrimaryKeyPosition) position;
-        return String.format("WHERE %s BETWEEN %d AND %d", primaryKey, primaryKeyPosition.getBeginValue(), primaryKeyPosition.getEndValue());
+        return result;
     }
     
-    private ScalingPosition<?> newPosition(final ResultSet rs) throws SQLException {
-        if (null == inventoryDumperConfig.getPrimaryKey()) {
-            return new PlaceholderPosition();
+    private DataRecord newDataRecord(final ResultSet rs, final ResultSetMetaData metaData, final ScalingPosition<?> position) throws SQLException {
+        DataRecord result = new DataRecord(position, metaData.getColumnCount());
+        result.setType(ScalingConstant.INSERT);
+        result.setTableName(inventoryDumperConfig.getTableNameMap().get(inventoryDumperConfig.getTableName()));
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            result.addColumn(new Column(metaData.getColumnName(i), readValue(rs, i), true, tableMetaData.isPrimaryKey(i - 1)));
         }
-        return new PrimaryKeyPosition(rs.getLong(inventoryDumperConfig.getPrimaryKey()), ((PrimaryKeyPosition) inventoryDumperConfig.getPosition()).getEndValue());
+        return result;
     }
     
     protected abstract PreparedStatement createPreparedStatement(Connection connection, String sql) throws SQLException;
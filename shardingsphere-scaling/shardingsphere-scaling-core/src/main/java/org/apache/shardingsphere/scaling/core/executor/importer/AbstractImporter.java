@@ -35,13 +35,17 @@ import org.apache.shardingsphere.scaling.core.config.ImporterConfiguration;
 import org.apache.shardingsphere.scaling.core.executor.AbstractScalingExecutor;
 import org.apache.shardingsphere.scaling.core.util.ThreadUtil;
 
-import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -52,6 +56,12 @@ public abstract class AbstractImporter extends AbstractScalingExecutor implement
     
     private static final DataRecordMerger MERGER = new DataRecordMerger();
     
+    private static final int MAX_PARAMETER_COUNT = Short.MAX_VALUE;
+    
+    private static final long MAX_STATEMENT_BYTES = 4 * 1024 * 1024;
+    
+    private static final int DEFAULT_VALUE_BYTES = 8;
+    
     private final ImporterConfiguration importerConfig;
     
     private final DataSourceManager dataSourceManager;
@@ -61,6 +71,8 @@ public abstract class AbstractImporter extends AbstractScalingExecutor implement
     @Setter
     private Channel channel;
     
+    private Connection connection;
+    
     protected AbstractImporter(final ImporterConfiguration importerConfig, final DataSourceManager dataSourceManager) {
         this.importerConfig = importerConfig;
         this.dataSourceManager = dataSourceManager;
@@ -83,66 +95,71 @@ public abstract class AbstractImporter extends AbstractScalingExecutor implement
     
     @Override
     public final void write() {
-        while (isRunning()) {
-            List<Record> records = channel.fetchRecords(1024, 3);
-            if (null != records && !records.isEmpty()) {
-                flush(dataSourceManager.getDataSource(importerConfig.getDataSourceConfig()), records);
-                if (FinishedRecord.class.equals(records.get(records.size() - 1).getClass())) {
-                    channel.ack();
-                    break;
+        try {
+            while (isRunning()) {
+                List<Record> records = channel.fetchRecords(1024, 3);
+                if (null != records && !records.isEmpty()) {
+                    flush(records);
+                    if (FinishedRecord.class.equals(records.get(records.size() - 1).getClass())) {
+                        channel.ack();
+                        break;
+                    }
                 }
+                channel.ack();
             }
-            channel.ack();
+        } finally {
+            closeConnection();
         }
     }
     
-    private void flush(final DataSource dataSource, final List<Record> buffer) {
+    private void flush(final List<Record> buffer) {
         List<GroupedDataRecord> groupedDataRecords = MERGER.group(buffer.stream()
                 .filter(each -> each instanceof DataRecord)
                 .map(each -> (DataRecord) each)
                 .collect(Collectors.toList()));
         groupedDataRecords.forEach(each -> {
             if (CollectionUtils.isNotEmpty(each.getDeleteDataRecords())) {
-                flushInternal(dataSource, each.getDeleteDataRecords());
+                flushInternal(each.getDeleteDataRecords());
             }
             if (CollectionUtils.isNotEmpty(each.getInsertDataRecords())) {
-                flushInternal(dataSource, each.getInsertDataRecords());
+                flushInternal(each.getInsertDataRecords());
             }
             if (CollectionUtils.isNotEmpty(each.getUpdateDataRecords())) {
-                flushInternal(dataSource, each.getUpdateDataRecords());
+                flushInternal(each.getUpdateDataRecords());
             }
         });
     }
     
-    private void flushInternal(final DataSource dataSource, final List<DataRecord> buffer) {
-        boolean success = tryFlush(dataSource, buffer);
+    private void flushInternal(final List<DataRecord> buffer) {
+        boolean success = tryFlush(buffer);
         if (isRunning() && !success) {
             throw new ScalingTaskExecuteException("write failed.");
         }
     }
     
-    private boolean tryFlush(final DataSource dataSource, final List<DataRecord> buffer) {
+    private boolean tryFlush(final List<DataRecord> buffer) {
         for (int i = 0; isRunning() && i <= importerConfig.getRetryTimes(); i++) {
             try {
-                doFlush(dataSource, buffer);
+                doFlush(buffer);
                 return true;
             } catch (final SQLException ex) {
                 log.error("flush failed {}/{} times.", i, importerConfig.getRetryTimes(), ex);
+                closeConnection();
                 ThreadUtil.sleep(Math.min(5 * 60 * 1000L, 1000 << i));
             }
         }
         return false;
     }
     
-    private void doFlush(final DataSource dataSource, final List<DataRecord> buffer) throws SQLException {
-        try (Connection connection = dataSource.getConnection()) {
-            connection.setAutoCommit(false);
+    private void doFlush(final List<DataRecord> buffer) throws SQLException {
+        Connection connection = getConnection();
+        try {
             switch (buffer.get(0).getType()) {
                 case ScalingConstant.INSERT:
                     executeBatchInsert(connection, buffer);
                     break;
                 case ScalingConstant.UPDATE:
-                    executeUpdate(connection, buffer);
+                    executeBatchUpdate(connection, buffer);
                     break;
                 case ScalingConstant.DELETE:
                     executeBatchDelete(connection, buffer);
@@ -151,58 +168,155 @@ public abstract class AbstractImporter extends AbstractScalingExecutor implement
                     break;
             }
             connection.commit();
+        } catch (final SQLException ex) {
+            try {
+                connection.rollback();
+            } catch (final SQLException rollbackEx) {
+                ex.addSuppressed(rollbackEx);
+            }
+            throw ex;
+        }
+    }
+    
+    private Connection getConnection() throws SQLException {
+        if (null == connection || connection.isClosed()) {
+            connection = dataSourceManager.getDataSource(importerConfig.getDataSourceConfig()).getConnection();
+            connection.setAutoCommit(false);
+        }
+        return connection;
+    }
+    
+    private void closeConnection() {
+        if (null == connection) {
+            return;
         }
+        try {
+            connection.close();
+        } catch (final SQLException ex) {
+            log.warn("close connection failed.", ex);
+        }
+        connection = null;
     }
     
     private void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
-        String insertSql = scalingSqlBuilder.buildInsertSQL(dataRecords.get(0));
+        for (List<DataRecord> each : partition(dataRecords, this::getColumns)) {
+            executeMultiRowInsert(connection, each);
+        }
+    }
+    
+    private void executeMultiRowInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        String insertSql = scalingSqlBuilder.buildInsertSQL(dataRecords.get(0), dataRecords.size());
         try (PreparedStatement ps = connection.prepareStatement(insertSql)) {
             ps.setQueryTimeout(30);
+            int parameterIndex = 1;
             for (DataRecord each : dataRecords) {
                 for (int i = 0; i < each.getColumnCount(); i++) {
-                    ps.setObject(i + 1, each.getColumn(i).getValue());
+                    ps.setObject(parameterIndex++, each.getColumn(i).getValue());
                 }
-                ps.addBatch();
             }
-            ps.executeBatch();
+            ps.executeUpdate();
         }
     }
     
-    private void executeUpdate(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+    private void executeBatchUpdate(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        Map<String, List<DataRecord>> sqlDataRecords = new LinkedHashMap<>();
         for (DataRecord each : dataRecords) {
-            executeUpdate(connection, each);
+            List<Column> conditionColumns = RecordUtil.extractConditionColumns(each, importerConfig.getShardingColumnsMap().get(each.getTableName()));
+            sqlDataRecords.computeIfAbsent(scalingSqlBuilder.buildUpdateSQL(each, conditionColumns), key -> new LinkedList<>()).add(each);
+        }
+        for (Entry<String, List<DataRecord>> entry : sqlDataRecords.entrySet()) {
+            executeBatchUpdate(connection, entry.getKey(), entry.getValue());
         }
     }
     
-    private void executeUpdate(final Connection connection, final DataRecord record) throws SQLException {
-        List<Column> conditionColumns = RecordUtil.extractConditionColumns(record, importerConfig.getShardingColumnsMap().get(record.getTableName()));
-        List<Column> updatedColumns = RecordUtil.extractUpdatedColumns(record);
-        String updateSql = scalingSqlBuilder.buildUpdateSQL(record, conditionColumns);
+    private void executeBatchUpdate(final Connection connection, final String updateSql, final List<DataRecord> dataRecords) throws SQLException {
         try (PreparedStatement ps = connection.prepareStatement(updateSql)) {
-            for (int i = 0; i < updatedColumns.size(); i++) {
-                ps.setObject(i + 1, updatedColumns.get(i).getValue());
-            }
-            for (int i = 0; i < conditionColumns.size(); i++) {
-                Column keyColumn = conditionColumns.get(i);
-                ps.setObject(updatedColumns.size() + i + 1, (keyColumn.isPrimaryKey() && keyColumn.isUpdated()) ? keyColumn.getOldValue() : keyColumn.getValue());
+            ps.setQueryTimeout(30);
+            for (DataRecord each : dataRecords) {
+                List<Column> conditionColumns = RecordUtil.extractConditionColumns(each, importerConfig.getShardingColumnsMap().get(each.getTableName()));
+                List<Column> updatedColumns = RecordUtil.extractUpdatedColumns(each);
+                for (int i = 0; i < updatedColumns.size(); i++) {
+                    ps.setObject(i + 1, updatedColumns.get(i).getValue());
+                }
+                for (int i = 0; i < conditionColumns.size(); i++) {
+                    Column keyColumn = conditionColumns.get(i);
+                    ps.setObject(updatedColumns.size() + i + 1, (keyColumn.isPrimaryKey() && keyColumn.isUpdated()) ? keyColumn.getOldValue() : keyColumn.getValue());
+                }
+                ps.addBatch();
             }
-            ps.execute();
+            ps.executeBatch();
         }
     }
     
     private void executeBatchDelete(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
         List<Column> conditionColumns = RecordUtil.extractConditionColumns(dataRecords.get(0), importerConfig.getShardingColumnsMap().get(dataRecords.get(0).getTableName()));
-        String deleteSQL = scalingSqlBuilder.buildDeleteSQL(dataRecords.get(0), conditionColumns);
+        for (List<DataRecord> each : partition(dataRecords, this::getConditionColumns)) {
+            executeMultiRowDelete(connection, each, conditionColumns);
+        }
+    }
+    
+    private void executeMultiRowDelete(final Connection connection, final List<DataRecord> dataRecords, final List<Column> firstConditionColumns) throws SQLException {
+        String deleteSQL = scalingSqlBuilder.buildDeleteSQL(dataRecords.get(0), firstConditionColumns, dataRecords.size());
         try (PreparedStatement ps = connection.prepareStatement(deleteSQL)) {
             ps.setQueryTimeout(30);
+            int parameterIndex = 1;
             for (DataRecord each : dataRecords) {
-                conditionColumns = RecordUtil.extractConditionColumns(each, importerConfig.getShardingColumnsMap().get(each.getTableName()));
-                for (int i = 0; i < conditionColumns.size(); i++) {
-                    ps.setObject(i + 1, conditionColumns.get(i).getValue());
+                for (Column column : getConditionColumns(each)) {
+                    ps.setObject(parameterIndex++, column.getValue());
                 }
-                ps.addBatch();
             }
-            ps.executeBatch();
+            ps.executeUpdate();
+        }
+    }
+    
+    private List<Column> getColumns(final DataRecord dataRecord) {
+        List<Column> result = new ArrayList<>(dataRecord.getColumnCount());
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            result.add(dataRecord.getColumn(i));
+        }
+        return result;
+    }
+    
+    private List<Column> getConditionColumns(final DataRecord dataRecord) {
+        return RecordUtil.extractConditionColumns(dataRecord, importerConfig.getShardingColumnsMap().get(dataRecord.getTableName()));
+    }
+    
+    private List<List<DataRecord>> partition(final List<DataRecord> dataRecords, final Function<DataRecord, List<Column>> parameterColumnsFunction) {
+        List<List<DataRecord>> result = new LinkedList<>();
+        List<DataRecord> partition = new LinkedList<>();
+        int parameterCount = 0;
+        long bytes = 0;
+        for (DataRecord each : dataRecords) {
+            List<Column> parameterColumns = parameterColumnsFunction.apply(each);
+            long rowBytes = estimateBytes(parameterColumns);
+            if (!partition.isEmpty() && (parameterCount + parameterColumns.size() > MAX_PARAMETER_COUNT || bytes + rowBytes > MAX_STATEMENT_BYTES)) {
+                result.add(partition);
+                partition = new LinkedList<>();
+                parameterCount = 0;
+                bytes = 0;
+            }
+            partition.add(each);
+            parameterCount += parameterColumns.size();
+            bytes += rowBytes;
+        }
+        if (!partition.isEmpty()) {
+            result.add(partition);
+        }
+        return result;
+    }
+    
+    private long estimateBytes(final List<Column> columns) {
+        long result = 0;
+        for (Column each : columns) {
+            Object value = each.getValue();
+            if (value instanceof CharSequence) {
+                result += ((CharSequence) value).length() * 3L;
+            } else if (value instanceof byte[]) {
+                result += ((byte[]) value).length * 2L;
+            } else {
+                result += DEFAULT_VALUE_BYTES;
+            }
         }
+        return result;
     }
 }
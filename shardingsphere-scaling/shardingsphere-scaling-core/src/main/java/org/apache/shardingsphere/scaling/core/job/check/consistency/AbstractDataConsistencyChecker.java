@@ -17,35 +17,86 @@
 
 package org.apache.shardingsphere.scaling.core.job.check.consistency;
 
+import com.google.common.base.Splitter;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.yaml.config.YamlRuleConfiguration;
 import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceFactory;
 import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceWrapper;
+import org.apache.shardingsphere.scaling.core.common.datasource.MetaDataManager;
 import org.apache.shardingsphere.scaling.core.common.exception.DataCheckFailException;
 import org.apache.shardingsphere.scaling.core.common.sqlbuilder.ScalingSQLBuilder;
+import org.apache.shardingsphere.scaling.core.config.TaskConfiguration;
+import org.apache.shardingsphere.scaling.core.config.datasource.ScalingDataSourceConfiguration;
+import org.apache.shardingsphere.scaling.core.config.datasource.ShardingSphereJDBCDataSourceConfiguration;
+import org.apache.shardingsphere.scaling.core.config.yaml.ShardingRuleConfigurationSwapper;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
+import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
+import org.apache.shardingsphere.scaling.core.util.JDBCUtil;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingAutoTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ComplexShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Abstract data consistency checker.
+ *
+ * <p>
+ * Data check compares row count and sum of row hash values of source and target in primary key chunks,
+ * mismatched chunks are bisected to find out the differing primary key ranges.
+ * Checksums of source which rejects range predicate of primary key are summed up from actual tables of dumpers.
+ * </p>
  */
 @RequiredArgsConstructor
 @Getter
 @Slf4j
 public abstract class AbstractDataConsistencyChecker implements DataConsistencyChecker {
     
+    private static final String THREAD_NAME_FORMAT = "Scaling-check-%d";
+    
+    private static final int CHUNK_ROW_COUNT = 10000;
+    
+    private static final int MAX_MISMATCHED_RANGE_COUNT = 100;
+    
+    private static final String ALLOW_RANGE_QUERY_KEY = "allow-range-query-with-inline-sharding";
+    
+    private static final Collection<String> INLINE_ALGORITHM_TYPES = Arrays.asList("INLINE", "COMPLEX_INLINE");
+    
     private final DataSourceFactory dataSourceFactory = new DataSourceFactory();
     
+    private final Map<String, DataConsistencyCheckProgress> dataCheckProgress = new ConcurrentHashMap<>();
+    
     private final JobContext jobContext;
     
     @Override
@@ -77,6 +128,217 @@ public abstract class AbstractDataConsistencyChecker implements DataConsistencyC
         }
     }
     
+    @Override
+    public Map<String, Boolean> dataCheck() {
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        ExecutorService executorService = Executors.newFixedThreadPool(jobContext.getJobConfig().getHandleConfig().getConcurrency() * 2, ExecutorThreadFactoryBuilder.build(THREAD_NAME_FORMAT));
+        try (DataSourceWrapper sourceDataSource = getSourceDataSource();
+             DataSourceWrapper targetDataSource = getTargetDataSource()) {
+            for (Entry<String, TableMetaData> entry : getLogicTableMetaData().entrySet()) {
+                result.put(entry.getKey(), checkTableData(executorService, sourceDataSource, targetDataSource, entry.getKey(), entry.getValue()));
+            }
+        } catch (final SQLException ex) {
+            throw new DataCheckFailException("data check failed.", ex);
+        } finally {
+            executorService.shutdownNow();
+        }
+        return result;
+    }
+    
+    private Map<String, TableMetaData> getLogicTableMetaData() {
+        Map<String, TableMetaData> result = new LinkedHashMap<>();
+        for (TaskConfiguration each : jobContext.getTaskConfigs()) {
+            try (DataSourceWrapper dataSource = dataSourceFactory.newInstance(each.getDumperConfig().getDataSourceConfig())) {
+                MetaDataManager metaDataManager = new MetaDataManager(dataSource);
+                for (Entry<String, String> entry : each.getDumperConfig().getTableNameMap().entrySet()) {
+                    if (!result.containsKey(entry.getValue())) {
+                        result.put(entry.getValue(), getTableMetaData(metaDataManager, entry.getKey()));
+                    }
+                }
+            } catch (final SQLException ex) {
+                throw new DataCheckFailException("get table meta data failed.", ex);
+            }
+        }
+        return result;
+    }
+    
+    private TableMetaData getTableMetaData(final MetaDataManager metaDataManager, final String actualTableName) {
+        TableMetaData result = metaDataManager.getTableMetaData(actualTableName);
+        if (null == result) {
+            throw new DataCheckFailException(String.format("can not get meta data of table %s.", actualTableName), null);
+        }
+        return result;
+    }
+    
+    private boolean checkTableData(final ExecutorService executorService, final DataSource sourceDataSource, final DataSource targetDataSource,
+                                   final String logicTableName, final TableMetaData tableMetaData) throws SQLException {
+        List<String> columnNames = new ArrayList<>(tableMetaData.getColumns().keySet());
+        String primaryKey = getChunkPrimaryKey(tableMetaData);
+        if (null == primaryKey || !isPrimaryKeyRangeSupported(jobContext.getJobConfig().getRuleConfig().getTarget().unwrap(), logicTableName, primaryKey)) {
+            ChunkChecker chunkChecker = new ChunkChecker(Collections.singletonList(createChecksumQuery(sourceDataSource, logicTableName, columnNames, null)),
+                    Collections.singletonList(createChecksumQuery(targetDataSource, logicTableName, columnNames, null)), executorService);
+            return checkTableData(chunkChecker, logicTableName, Collections.singletonList(null));
+        }
+        Collection<ChecksumQuery> targetChecksumQueries = Collections.singletonList(createChecksumQuery(targetDataSource, logicTableName, columnNames, primaryKey));
+        if (isPrimaryKeyRangeSupported(jobContext.getJobConfig().getRuleConfig().getSource().unwrap(), logicTableName, primaryKey)) {
+            Collection<ChecksumQuery> sourceChecksumQueries = Collections.singletonList(createChecksumQuery(sourceDataSource, logicTableName, columnNames, primaryKey));
+            return checkTableData(new ChunkChecker(sourceChecksumQueries, targetChecksumQueries, executorService), logicTableName, splitChunks(sourceChecksumQueries));
+        }
+        Collection<DataSourceWrapper> actualDataSources = new LinkedList<>();
+        try {
+            Collection<ChecksumQuery> sourceChecksumQueries = createActualChecksumQueries(actualDataSources, logicTableName, columnNames, primaryKey);
+            return checkTableData(new ChunkChecker(sourceChecksumQueries, targetChecksumQueries, executorService), logicTableName, splitChunks(sourceChecksumQueries));
+        } finally {
+            for (DataSourceWrapper each : actualDataSources) {
+                each.close();
+            }
+        }
+    }
+    
+    private boolean checkTableData(final ChunkChecker chunkChecker, final String logicTableName, final List<PrimaryKeyPosition> chunks) {
+        DataConsistencyCheckProgress progress = new DataConsistencyCheckProgress(chunks.size());
+        dataCheckProgress.put(logicTableName, progress);
+        List<ChunkCheck> chunkChecks = chunks.stream().map(chunkChecker::submit).collect(Collectors.toList());
+        boolean result = true;
+        for (ChunkCheck each : chunkChecks) {
+            if (!each.isMatched()) {
+                result = false;
+                chunkChecker.bisect(each.chunk, progress);
+            }
+            progress.finishChunk();
+        }
+        if (!result) {
+            log.warn("table {} data check failed, mismatched primary key ranges {}", logicTableName, progress.getMismatchedRanges());
+        }
+        return result;
+    }
+    
+    private Collection<ChecksumQuery> createActualChecksumQueries(final Collection<DataSourceWrapper> actualDataSources, final String logicTableName,
+                                                                  final List<String> columnNames, final String primaryKey) {
+        Collection<ChecksumQuery> result = new LinkedList<>();
+        for (TaskConfiguration each : jobContext.getTaskConfigs()) {
+            List<String> actualTableNames = each.getDumperConfig().getTableNameMap().entrySet().stream()
+                    .filter(entry -> entry.getValue().equals(logicTableName)).map(Entry::getKey).collect(Collectors.toList());
+            if (actualTableNames.isEmpty()) {
+                continue;
+            }
+            DataSourceWrapper dataSource = dataSourceFactory.newInstance(each.getDumperConfig().getDataSourceConfig());
+            actualDataSources.add(dataSource);
+            for (String actualTableName : actualTableNames) {
+                result.add(createChecksumQuery(dataSource, actualTableName, columnNames, primaryKey));
+            }
+        }
+        return result;
+    }
+    
+    private ChecksumQuery createChecksumQuery(final DataSource dataSource, final String tableName, final List<String> columnNames, final String primaryKey) {
+        String primaryKeyRangeSQL = null == primaryKey ? null : getSqlBuilder().buildPrimaryKeyRangeSQL(tableName, primaryKey);
+        return new ChecksumQuery(dataSource, getSqlBuilder().buildChunkChecksumSQL(tableName, columnNames, primaryKey), primaryKeyRangeSQL);
+    }
+    
+    private String getChunkPrimaryKey(final TableMetaData tableMetaData) {
+        List<String> primaryKeys = tableMetaData.getPrimaryKeyColumns();
+        if (1 != primaryKeys.size()) {
+            return null;
+        }
+        int dataType = tableMetaData.getColumnMetaData(tableMetaData.findColumnIndex(primaryKeys.get(0))).getDataType();
+        return JDBCUtil.isIntegerType(dataType) ? primaryKeys.get(0) : null;
+    }
+    
+    /**
+     * Judge whether data source supports range predicate of primary key.
+     *
+     * <p>
+     * Inline sharding algorithms reject range predicate of sharding column unless {@code allow-range-query-with-inline-sharding} is enabled.
+     * Source which rejects it is checked by actual tables of dumpers instead, and target which rejects it is checked by whole table.
+     * </p>
+     *
+     * @param dataSourceConfig data source configuration
+     * @param logicTableName logic table name
+     * @param primaryKey primary key
+     * @return supported or not
+     */
+    protected boolean isPrimaryKeyRangeSupported(final ScalingDataSourceConfiguration dataSourceConfig, final String logicTableName, final String primaryKey) {
+        if (!(dataSourceConfig instanceof ShardingSphereJDBCDataSourceConfiguration)) {
+            return true;
+        }
+        Collection<YamlRuleConfiguration> yamlRuleConfigs = ((ShardingSphereJDBCDataSourceConfiguration) dataSourceConfig).getRootRuleConfigs().getRules();
+        ShardingRuleConfiguration shardingRuleConfig = ShardingRuleConfigurationSwapper.findAndConvertShardingRuleConfiguration(yamlRuleConfigs);
+        return getShardingStrategies(shardingRuleConfig, logicTableName).stream().noneMatch(each -> isRangeQueryRejected(shardingRuleConfig, each, primaryKey));
+    }
+    
+    private Collection<ShardingStrategyConfiguration> getShardingStrategies(final ShardingRuleConfiguration shardingRuleConfig, final String logicTableName) {
+        Collection<ShardingStrategyConfiguration> result = new LinkedList<>();
+        for (ShardingTableRuleConfiguration each : shardingRuleConfig.getTables()) {
+            if (each.getLogicTable().equalsIgnoreCase(logicTableName)) {
+                result.add(null == each.getDatabaseShardingStrategy() ? shardingRuleConfig.getDefaultDatabaseShardingStrategy() : each.getDatabaseShardingStrategy());
+                result.add(null == each.getTableShardingStrategy() ? shardingRuleConfig.getDefaultTableShardingStrategy() : each.getTableShardingStrategy());
+            }
+        }
+        for (ShardingAutoTableRuleConfiguration each : shardingRuleConfig.getAutoTables()) {
+            if (each.getLogicTable().equalsIgnoreCase(logicTableName)) {
+                result.add(each.getShardingStrategy());
+            }
+        }
+        result.removeIf(Objects::isNull);
+        return result;
+    }
+    
+    private boolean isRangeQueryRejected(final ShardingRuleConfiguration shardingRuleConfig, final ShardingStrategyConfiguration shardingStrategyConfig, final String primaryKey) {
+        ShardingSphereAlgorithmConfiguration algorithmConfig = shardingRuleConfig.getShardingAlgorithms().get(shardingStrategyConfig.getShardingAlgorithmName());
+        if (null == algorithmConfig || !INLINE_ALGORITHM_TYPES.contains(algorithmConfig.getType().toUpperCase())
+                || Boolean.parseBoolean(algorithmConfig.getProps().getOrDefault(ALLOW_RANGE_QUERY_KEY, Boolean.FALSE.toString()).toString())) {
+            return false;
+        }
+        return getShardingColumns(shardingStrategyConfig).stream().anyMatch(primaryKey::equalsIgnoreCase);
+    }
+    
+    private Collection<String> getShardingColumns(final ShardingStrategyConfiguration shardingStrategyConfig) {
+        if (shardingStrategyConfig instanceof StandardShardingStrategyConfiguration) {
+            return Collections.singletonList(((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn());
+        }
+        if (shardingStrategyConfig instanceof ComplexShardingStrategyConfiguration) {
+            return Splitter.on(',').trimResults().splitToList(((ComplexShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumns());
+        }
+        return Collections.emptyList();
+    }
+    
+    private List<PrimaryKeyPosition> splitChunks(final Collection<ChecksumQuery> checksumQueries) {
+        long minValue = Long.MAX_VALUE;
+        long maxValue = Long.MIN_VALUE;
+        long rowCount = 0L;
+        for (ChecksumQuery each : checksumQueries) {
+            try (Connection connection = each.dataSource.getConnection();
+                 PreparedStatement preparedStatement = connection.prepareStatement(each.primaryKeyRangeSQL);
+                 ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                if (0L == resultSet.getLong(3)) {
+                    continue;
+                }
+                minValue = Math.min(minValue, resultSet.getLong(1));
+                maxValue = Math.max(maxValue, resultSet.getLong(2));
+                rowCount += resultSet.getLong(3);
+            } catch (final SQLException ex) {
+                throw new DataCheckFailException(String.format("execute %s failed.", each.primaryKeyRangeSQL), ex);
+            }
+        }
+        return 0L == rowCount ? splitChunks(0L, 0L, 0L) : splitChunks(minValue, maxValue, rowCount);
+    }
+    
+    private List<PrimaryKeyPosition> splitChunks(final long minValue, final long maxValue, final long rowCount) {
+        int chunkCount = (int) Math.max(1L, (rowCount + CHUNK_ROW_COUNT - 1) / CHUNK_ROW_COUNT);
+        long step = Math.max(1L, maxValue / chunkCount - minValue / chunkCount + 1);
+        List<PrimaryKeyPosition> result = new ArrayList<>(chunkCount);
+        long beginValue = Long.MIN_VALUE;
+        for (int i = 1; i < chunkCount; i++) {
+            long endValue = minValue + step * i - 1;
+            result.add(new PrimaryKeyPosition(beginValue, endValue));
+            beginValue = endValue + 1;
+        }
+        result.add(new PrimaryKeyPosition(beginValue, Long.MAX_VALUE));
+        return result;
+    }
+    
     protected DataSourceWrapper getSourceDataSource() {
         return dataSourceFactory.newInstance(jobContext.getJobConfig().getRuleConfig().getSource().unwrap());
     }
@@ -86,4 +348,111 @@ public abstract class AbstractDataConsistencyChecker implements DataConsistencyC
     }
     
     protected abstract ScalingSQLBuilder getSqlBuilder();
+    
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class ChecksumQuery {
+        
+        private final DataSource dataSource;
+        
+        private final String checksumSQL;
+        
+        private final String primaryKeyRangeSQL;
+    }
+    
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class ChunkChecker {
+        
+        private final Collection<ChecksumQuery> sourceChecksumQueries;
+        
+        private final Collection<ChecksumQuery> targetChecksumQueries;
+        
+        private final ExecutorService executorService;
+        
+        private ChunkCheck submit(final PrimaryKeyPosition chunk) {
+            return new ChunkCheck(chunk, executorService.submit(() -> checksum(sourceChecksumQueries, chunk)), executorService.submit(() -> checksum(targetChecksumQueries, chunk)));
+        }
+        
+        private void bisect(final PrimaryKeyPosition chunk, final DataConsistencyCheckProgress progress) {
+            if (progress.getMismatchedRanges().size() >= MAX_MISMATCHED_RANGE_COUNT) {
+                return;
+            }
+            if (null == chunk || chunk.getBeginValue() == chunk.getEndValue()) {
+                progress.addMismatchedRange(null == chunk ? "" : chunk.toString());
+                return;
+            }
+            long middleValue = (chunk.getBeginValue() & chunk.getEndValue()) + ((chunk.getBeginValue() ^ chunk.getEndValue()) >> 1);
+            ChunkCheck lowerChunkCheck = submit(new PrimaryKeyPosition(chunk.getBeginValue(), middleValue));
+            ChunkCheck upperChunkCheck = submit(new PrimaryKeyPosition(middleValue + 1, chunk.getEndValue()));
+            if (!lowerChunkCheck.isMatched()) {
+                bisect(lowerChunkCheck.chunk, progress);
+            }
+            if (!upperChunkCheck.isMatched()) {
+                bisect(upperChunkCheck.chunk, progress);
+            }
+        }
+        
+        private Checksum checksum(final Collection<ChecksumQuery> checksumQueries, final PrimaryKeyPosition chunk) {
+            long rowCount = 0L;
+            long hashSum = 0L;
+            for (ChecksumQuery each : checksumQueries) {
+                Checksum checksum = checksum(each, chunk);
+                rowCount += checksum.rowCount;
+                hashSum += checksum.hashSum;
+            }
+            return new Checksum(rowCount, hashSum);
+        }
+        
+        private Checksum checksum(final ChecksumQuery checksumQuery, final PrimaryKeyPosition chunk) {
+            try (Connection connection = checksumQuery.dataSource.getConnection();
+                 PreparedStatement preparedStatement = connection.prepareStatement(checksumQuery.checksumSQL)) {
+                if (null != chunk) {
+                    preparedStatement.setLong(1, chunk.getBeginValue());
+                    preparedStatement.setLong(2, chunk.getEndValue());
+                }
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    resultSet.next();
+                    return new Checksum(resultSet.getLong(1), resultSet.getLong(2));
+                }
+            } catch (final SQLException ex) {
+                throw new DataCheckFailException(String.format("execute %s failed.", checksumQuery.checksumSQL), ex);
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class ChunkCheck {
+        
+        private final PrimaryKeyPosition chunk;
+        
+        private final Future<Checksum> sourceChecksum;
+        
+        private final Future<Checksum> targetChecksum;
+        
+        private boolean isMatched() {
+            return getChecksum(sourceChecksum).equals(getChecksum(targetChecksum));
+        }
+        
+        private Checksum getChecksum(final Future<Checksum> checksum) {
+            try {
+                return checksum.get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new DataCheckFailException("data check interrupted.", ex);
+            } catch (final ExecutionException ex) {
+                if (ex.getCause() instanceof DataCheckFailException) {
+                    throw (DataCheckFailException) ex.getCause();
+                }
+                throw new DataCheckFailException("data check failed.", ex.getCause());
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    @EqualsAndHashCode
+    private static final class Checksum {
+        
+        private final long rowCount;
+        
+        private final long hashSum;
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.job.check.consistency;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Collection;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Data consistency check progress of one table.
+ */
+@RequiredArgsConstructor
+@Getter
+@ToString
+public final class DataConsistencyCheckProgress {
+    
+    private final int totalChunkCount;
+    
+    private volatile int checkedChunkCount;
+    
+    private final Collection<String> mismatchedRanges = new CopyOnWriteArrayList<>();
+    
+    /**
+     * Finish checking one chunk.
+     */
+    public void finishChunk() {
+        checkedChunkCount++;
+    }
+    
+    /**
+     * Add mismatched primary key range.
+     *
+     * @param mismatchedRange mismatched primary key range
+     */
+    public void addMismatchedRange(final String mismatchedRange) {
+        mismatchedRanges.add(mismatchedRange);
+    }
+}
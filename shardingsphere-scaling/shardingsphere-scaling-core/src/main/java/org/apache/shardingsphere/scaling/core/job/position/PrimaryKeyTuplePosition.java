@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.job.position;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Use tuple of primary key values as position, for composite, string and UUID primary keys which can not be split by integer range.
+ *
+ * <p>
+ * Begin values are excluded and end values are included, null means unbounded.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class PrimaryKeyTuplePosition implements ScalingPosition<PrimaryKeyTuplePosition> {
+    
+    private static final String BOUND_SEPARATOR = ";";
+    
+    private static final String VALUE_SEPARATOR = ",";
+    
+    private final List<String> beginValues;
+    
+    private final List<String> endValues;
+    
+    /**
+     * Judge whether string data is primary key tuple position.
+     *
+     * @param data string data
+     * @return is primary key tuple position or not
+     */
+    public static boolean isPrimaryKeyTuplePosition(final String data) {
+        return data.contains(BOUND_SEPARATOR);
+    }
+    
+    /**
+     * Init by string data.
+     *
+     * @param data string data
+     * @return primary key tuple position
+     */
+    public static PrimaryKeyTuplePosition init(final String data) {
+        String[] array = data.split(BOUND_SEPARATOR, -1);
+        Preconditions.checkArgument(2 == array.length, "Unknown primary key tuple position: " + data);
+        return new PrimaryKeyTuplePosition(decode(array[0]), decode(array[1]));
+    }
+    
+    @SneakyThrows(UnsupportedEncodingException.class)
+    private static List<String> decode(final String bound) {
+        if (bound.isEmpty()) {
+            return null;
+        }
+        Preconditions.checkArgument(bound.startsWith("[") && bound.endsWith("]"), "Unknown primary key tuple: " + bound);
+        List<String> result = new ArrayList<>();
+        for (String each : bound.substring(1, bound.length() - 1).split(VALUE_SEPARATOR, -1)) {
+            result.add(URLDecoder.decode(each, StandardCharsets.UTF_8.name()));
+        }
+        return result;
+    }
+    
+    @SneakyThrows(UnsupportedEncodingException.class)
+    private static String encode(final List<String> values) {
+        if (null == values) {
+            return "";
+        }
+        StringBuilder result = new StringBuilder("[");
+        for (String each : values) {
+            result.append(URLEncoder.encode(each, StandardCharsets.UTF_8.name())).append(VALUE_SEPARATOR);
+        }
+        result.setLength(result.length() - 1);
+        return result.append("]").toString();
+    }
+    
+    @Override
+    public int compareTo(final PrimaryKeyTuplePosition position) {
+        if (null == position) {
+            return 1;
+        }
+        if (null == beginValues) {
+            return null == position.beginValues ? 0 : -1;
+        }
+        if (null == position.beginValues) {
+            return 1;
+        }
+        for (int i = 0; i < Math.min(beginValues.size(), position.beginValues.size()); i++) {
+            int result = beginValues.get(i).compareTo(position.beginValues.get(i));
+            if (0 != result) {
+                return result;
+            }
+        }
+        return Integer.compare(beginValues.size(), position.beginValues.size());
+    }
+    
+    @Override
+    public String toString() {
+        return encode(beginValues) + BOUND_SEPARATOR + encode(endValues);
+    }
+}
@@ -23,27 +23,33 @@ import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.common.datasource.MetaDataManager;
 import org.apache.shardingsphere.scaling.core.common.exception.PrepareFailedException;
+import org.apache.shardingsphere.scaling.core.common.sqlbuilder.ScalingSQLBuilder;
 import org.apache.shardingsphere.scaling.core.common.sqlbuilder.ScalingSQLBuilderFactory;
 import org.apache.shardingsphere.scaling.core.config.DumperConfiguration;
+import org.apache.shardingsphere.scaling.core.config.HandleConfiguration;
 import org.apache.shardingsphere.scaling.core.config.InventoryDumperConfiguration;
 import org.apache.shardingsphere.scaling.core.config.TaskConfiguration;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
 import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
+import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyTuplePosition;
 import org.apache.shardingsphere.scaling.core.job.position.ScalingPosition;
 import org.apache.shardingsphere.scaling.core.job.task.ScalingTaskFactory;
 import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryTask;
+import org.apache.shardingsphere.scaling.core.util.JDBCUtil;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Types;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Inventory data task splitter.
@@ -72,18 +78,19 @@ public final class InventoryTaskSplitter {
         Collection<InventoryDumperConfiguration> result = new LinkedList<>();
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
         MetaDataManager metaDataManager = new MetaDataManager(dataSource);
-        for (InventoryDumperConfiguration each : splitByTable(dumperConfig)) {
+        for (InventoryDumperConfiguration each : splitByTable(jobContext, dumperConfig)) {
             result.addAll(splitByPrimaryKey(jobContext, dataSource, metaDataManager, each));
         }
         return result;
     }
     
-    private Collection<InventoryDumperConfiguration> splitByTable(final DumperConfiguration dumperConfig) {
+    private Collection<InventoryDumperConfiguration> splitByTable(final JobContext jobContext, final DumperConfiguration dumperConfig) {
         Collection<InventoryDumperConfiguration> result = new LinkedList<>();
         dumperConfig.getTableNameMap().forEach((key, value) -> {
             InventoryDumperConfiguration inventoryDumperConfig = new InventoryDumperConfiguration(dumperConfig);
             inventoryDumperConfig.setTableName(key);
             inventoryDumperConfig.setPosition(new PlaceholderPosition());
+            inventoryDumperConfig.setBatchSize(jobContext.getJobConfig().getHandleConfig().getInventoryBatchSize());
             result.add(inventoryDumperConfig);
         });
         return result;
@@ -100,6 +107,7 @@ public final class InventoryTaskSplitter {
             splitDumperConfig.setShardingItem(i++);
             splitDumperConfig.setTableName(dumperConfig.getTableName());
             splitDumperConfig.setPrimaryKey(dumperConfig.getPrimaryKey());
+            splitDumperConfig.setBatchSize(dumperConfig.getBatchSize());
             result.add(splitDumperConfig);
         }
         return result;
@@ -107,19 +115,24 @@ public final class InventoryTaskSplitter {
     
     private Collection<ScalingPosition<?>> getInventoryPositions(
             final JobContext jobContext, final InventoryDumperConfiguration dumperConfig, final DataSource dataSource, final MetaDataManager metaDataManager) {
+        TableMetaData tableMetaData = metaDataManager.getTableMetaData(dumperConfig.getTableName());
+        boolean splittable = isSplittable(tableMetaData, dumperConfig.getTableName());
+        if (splittable && isSpiltByPrimaryKeyRange(tableMetaData)) {
+            dumperConfig.setPrimaryKey(tableMetaData.getPrimaryKeyColumns().get(0));
+        }
         if (null != jobContext.getInitProgress()) {
             return jobContext.getInitProgress().getInventoryPosition(dumperConfig.getTableName()).values();
         }
-        if (isSpiltByPrimaryKeyRange(metaDataManager, dumperConfig.getTableName())) {
-            String primaryKey = metaDataManager.getTableMetaData(dumperConfig.getTableName()).getPrimaryKeyColumns().get(0);
-            dumperConfig.setPrimaryKey(primaryKey);
+        if (null != dumperConfig.getPrimaryKey()) {
             return getPositionByPrimaryKeyRange(jobContext, dataSource, dumperConfig);
         }
+        if (splittable) {
+            return getPositionByPrimaryKeyTuple(jobContext, dataSource, dumperConfig.getTableName(), tableMetaData);
+        }
         return Lists.newArrayList(new PlaceholderPosition());
     }
     
-    private boolean isSpiltByPrimaryKeyRange(final MetaDataManager metaDataManager, final String tableName) {
-        TableMetaData tableMetaData = metaDataManager.getTableMetaData(tableName);
+    private boolean isSplittable(final TableMetaData tableMetaData, final String tableName) {
         if (null == tableMetaData) {
             log.warn("Can't split range for table {}, reason: can not get table metadata ", tableName);
             return false;
@@ -129,24 +142,26 @@ public final class InventoryTaskSplitter {
             log.warn("Can't split range for table {}, reason: no primary key", tableName);
             return false;
         }
-        if (primaryKeys.size() > 1) {
-            log.warn("Can't split range for table {}, reason: primary key is union primary", tableName);
-            return false;
-        }
-        int index = tableMetaData.findColumnIndex(primaryKeys.get(0));
-        if (isNotIntegerPrimary(tableMetaData.getColumnMetaData(index).getDataType())) {
-            log.warn("Can't split range for table {}, reason: primary key is not integer number", tableName);
-            return false;
+        for (String each : primaryKeys) {
+            if (!JDBCUtil.isTupleSupportedType(getDataType(tableMetaData, each))) {
+                log.warn("Can't split range for table {}, reason: type of primary key column {} is not supported", tableName, each);
+                return false;
+            }
         }
         return true;
     }
     
-    private boolean isNotIntegerPrimary(final int columnType) {
-        return Types.INTEGER != columnType && Types.BIGINT != columnType && Types.SMALLINT != columnType && Types.TINYINT != columnType;
+    private boolean isSpiltByPrimaryKeyRange(final TableMetaData tableMetaData) {
+        List<String> primaryKeys = tableMetaData.getPrimaryKeyColumns();
+        return 1 == primaryKeys.size() && JDBCUtil.isIntegerType(getDataType(tableMetaData, primaryKeys.get(0)));
+    }
+    
+    private int getDataType(final TableMetaData tableMetaData, final String columnName) {
+        return tableMetaData.getColumnMetaData(tableMetaData.findColumnIndex(columnName)).getDataType();
     }
     
     private Collection<ScalingPosition<?>> getPositionByPrimaryKeyRange(final JobContext jobContext, final DataSource dataSource, final InventoryDumperConfiguration dumperConfig) {
-        Collection<ScalingPosition<?>> result = new ArrayList<>();
+        List<PrimaryKeyPosition> result = new ArrayList<>();
         String sql = ScalingSQLBuilderFactory.newInstance(jobContext.getJobConfig().getHandleConfig().getDatabaseType())
                 .buildSplitByPrimaryKeyRangeSQL(dumperConfig.getTableName(), dumperConfig.getPrimaryKey());
         try (Connection connection = dataSource.getConnection();
@@ -162,12 +177,100 @@ public final class InventoryTaskSplitter {
                         break;
                     }
                     result.add(new PrimaryKeyPosition(beginId, endId));
+                    if (Long.MAX_VALUE == endId) {
+                        break;
+                    }
                     beginId = endId + 1;
                 }
             }
         } catch (final SQLException ex) {
             throw new PrepareFailedException(String.format("Split task for table %s by primary key %s error", dumperConfig.getTableName(), dumperConfig.getPrimaryKey()), ex);
         }
+        return splitByConcurrency(result, jobContext.getJobConfig().getHandleConfig().getInventoryConcurrency());
+    }
+    
+    private Collection<ScalingPosition<?>> splitByConcurrency(final List<PrimaryKeyPosition> positions, final int concurrency) {
+        if (positions.isEmpty() || positions.size() >= concurrency) {
+            return new ArrayList<>(positions);
+        }
+        int splitCount = (concurrency + positions.size() - 1) / positions.size();
+        Collection<ScalingPosition<?>> result = new ArrayList<>(positions.size() * splitCount);
+        for (PrimaryKeyPosition each : positions) {
+            long step = getStep(each, splitCount);
+            long beginValue = each.getBeginValue();
+            long endValue;
+            do {
+                endValue = getEndValue(beginValue, step, each.getEndValue());
+                result.add(new PrimaryKeyPosition(beginValue, endValue));
+                beginValue = endValue + 1;
+            } while (endValue < each.getEndValue());
+        }
         return result;
     }
+    
+    private long getStep(final PrimaryKeyPosition position, final int splitCount) {
+        try {
+            return Math.subtractExact(position.getEndValue(), position.getBeginValue()) / splitCount + 1;
+        } catch (final ArithmeticException ignored) {
+            return position.getEndValue() / splitCount - position.getBeginValue() / splitCount;
+        }
+    }
+    
+    private long getEndValue(final long beginValue, final long step, final long maxEndValue) {
+        try {
+            return Math.min(Math.addExact(beginValue, step - 1), maxEndValue);
+        } catch (final ArithmeticException ignored) {
+            return maxEndValue;
+        }
+    }
+    
+    private Collection<ScalingPosition<?>> getPositionByPrimaryKeyTuple(final JobContext jobContext, final DataSource dataSource, final String tableName, final TableMetaData tableMetaData) {
+        HandleConfiguration handleConfig = jobContext.getJobConfig().getHandleConfig();
+        ScalingSQLBuilder sqlBuilder = ScalingSQLBuilderFactory.newInstance(handleConfig.getDatabaseType());
+        List<String> primaryKeys = tableMetaData.getPrimaryKeyColumns();
+        List<Integer> dataTypes = primaryKeys.stream().map(each -> getDataType(tableMetaData, each)).collect(Collectors.toList());
+        Collection<ScalingPosition<?>> result = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            long step = getPrimaryKeyTupleStep(connection, sqlBuilder, tableName, handleConfig);
+            List<String> beginValues = null;
+            Optional<List<String>> endValues;
+            do {
+                endValues = getNextPrimaryKeyTuple(connection, sqlBuilder.buildSplitByPrimaryKeyTupleSQL(tableName, primaryKeys, null != beginValues), beginValues, dataTypes, step);
+                result.add(new PrimaryKeyTuplePosition(beginValues, endValues.orElse(null)));
+                beginValues = endValues.orElse(null);
+            } while (endValues.isPresent());
+        } catch (final SQLException ex) {
+            throw new PrepareFailedException(String.format("Split task for table %s by primary key %s error", tableName, primaryKeys), ex);
+        }
+        return result;
+    }
+    
+    private long getPrimaryKeyTupleStep(final Connection connection, final ScalingSQLBuilder sqlBuilder, final String tableName, final HandleConfiguration handleConfig) throws SQLException {
+        if (handleConfig.getInventoryConcurrency() <= 1) {
+            return handleConfig.getShardingSize();
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sqlBuilder.buildCountSQL(tableName))) {
+            rs.next();
+            long rowsPerReader = (rs.getLong(1) + handleConfig.getInventoryConcurrency() - 1) / handleConfig.getInventoryConcurrency();
+            return Math.max(1L, Math.min(handleConfig.getShardingSize(), rowsPerReader));
+        }
+    }
+    
+    private Optional<List<String>> getNextPrimaryKeyTuple(
+            final Connection connection, final String sql, final List<String> beginValues, final List<Integer> dataTypes, final long step) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setLong(JDBCUtil.setTupleParameters(ps, 1, beginValues, dataTypes), step - 1);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) {
+                    return Optional.empty();
+                }
+                List<String> result = new ArrayList<>(dataTypes.size());
+                for (int i = 1; i <= dataTypes.size(); i++) {
+                    result.add(rs.getString(i));
+                }
+                return rs.next() ? Optional.of(result) : Optional.empty();
+            }
+        }
+    }
 }
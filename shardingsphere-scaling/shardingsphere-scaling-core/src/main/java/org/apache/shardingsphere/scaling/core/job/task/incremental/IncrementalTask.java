@@ -19,7 +19,7 @@ package org.apache.shardingsphere.scaling.core.job.task.incremental;
 
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.shardingsphere.scaling.core.common.channel.distribution.DistributionChannel;
+import org.apache.shardingsphere.scaling.core.common.channel.distribution.RingBufferDistributionChannel;
 import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.common.exception.ScalingTaskExecuteException;
 import org.apache.shardingsphere.scaling.core.common.record.Record;
@@ -92,7 +92,7 @@ public final class IncrementalTask extends AbstractScalingExecutor implements Sc
     }
     
     private void instanceChannel(final Collection<Importer> importers) {
-        DistributionChannel channel = new DistributionChannel(importers.size(), records -> {
+        RingBufferDistributionChannel channel = new RingBufferDistributionChannel(importers.size(), records -> {
             Record lastHandledRecord = records.get(records.size() - 1);
             if (!(lastHandledRecord.getPosition() instanceof PlaceholderPosition)) {
                 progress = new IncrementalTaskProgress(lastHandledRecord.getPosition(),
@@ -25,6 +25,11 @@ import org.apache.shardingsphere.scaling.core.config.datasource.ScalingDataSourc
 import org.apache.shardingsphere.scaling.core.config.datasource.ShardingSphereJDBCDataSourceConfiguration;
 import org.apache.shardingsphere.scaling.core.config.datasource.StandardJDBCDataSourceConfiguration;
 
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -93,4 +98,82 @@ public final class JDBCUtil {
         Preconditions.checkNotNull(result, "url or jdbcUrl is required.");
         return result.toString();
     }
+    
+    /**
+     * Set parameters of primary key tuple condition, whose parameters are expanded as {@code (k1) OR (k1, k2) OR ...}.
+     *
+     * @param preparedStatement prepared statement
+     * @param parameterIndex first parameter index
+     * @param values tuple values, null means no condition
+     * @param dataTypes SQL types of tuple columns
+     * @return next parameter index
+     * @throws SQLException SQL exception
+     */
+    public static int setTupleParameters(final PreparedStatement preparedStatement, final int parameterIndex, final List<String> values, final List<Integer> dataTypes) throws SQLException {
+        if (null == values) {
+            return parameterIndex;
+        }
+        int result = parameterIndex;
+        for (int i = 0; i < values.size(); i++) {
+            for (int j = 0; j <= i; j++) {
+                setTupleParameter(preparedStatement, result++, values.get(j), dataTypes.get(j));
+            }
+        }
+        return result;
+    }
+    
+    private static void setTupleParameter(final PreparedStatement preparedStatement, final int parameterIndex, final String value, final int dataType) throws SQLException {
+        switch (dataType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                preparedStatement.setLong(parameterIndex, Long.parseLong(value));
+                return;
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                preparedStatement.setBigDecimal(parameterIndex, new BigDecimal(value));
+                return;
+            case Types.OTHER:
+                preparedStatement.setObject(parameterIndex, value, Types.OTHER);
+                return;
+            default:
+                preparedStatement.setString(parameterIndex, value);
+        }
+    }
+    
+    /**
+     * Judge whether SQL type is integer type.
+     *
+     * @param dataType SQL type
+     * @return is integer type or not
+     */
+    public static boolean isIntegerType(final int dataType) {
+        return Types.INTEGER == dataType || Types.BIGINT == dataType || Types.SMALLINT == dataType || Types.TINYINT == dataType;
+    }
+    
+    /**
+     * Judge whether SQL type can be used as primary key tuple column.
+     *
+     * @param dataType SQL type
+     * @return can be used or not
+     */
+    public static boolean isTupleSupportedType(final int dataType) {
+        switch (dataType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.OTHER:
+                return true;
+            default:
+                return false;
+        }
+    }
 }
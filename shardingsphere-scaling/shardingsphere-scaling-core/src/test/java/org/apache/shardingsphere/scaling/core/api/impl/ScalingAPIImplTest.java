@@ -118,8 +118,9 @@ public final class ScalingAPIImplTest {
         Map<String, DataConsistencyCheckResult> checkResultMap = scalingAPI.dataConsistencyCheck(jobId.get());
         assertThat(checkResultMap.size(), is(1));
         assertTrue(checkResultMap.get("t_order").isCountValid());
-        assertFalse(checkResultMap.get("t_order").isDataValid());
+        assertTrue(checkResultMap.get("t_order").isDataValid());
         assertThat(checkResultMap.get("t_order").getTargetCount(), is(2L));
+        assertTrue(scalingAPI.getDataConsistencyCheckProgress(jobId.get()).isEmpty());
     }
     
     @Test
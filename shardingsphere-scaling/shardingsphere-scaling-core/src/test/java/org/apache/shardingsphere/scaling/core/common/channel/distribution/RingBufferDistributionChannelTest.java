@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.common.channel.distribution;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
+import org.apache.shardingsphere.scaling.core.common.record.FinishedRecord;
+import org.apache.shardingsphere.scaling.core.common.record.PlaceholderRecord;
+import org.apache.shardingsphere.scaling.core.common.record.Record;
+import org.apache.shardingsphere.scaling.core.config.ScalingContext;
+import org.apache.shardingsphere.scaling.core.config.ServerConfiguration;
+import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
+import org.apache.shardingsphere.scaling.core.job.position.ScalingPosition;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RingBufferDistributionChannelTest {
+    
+    @Before
+    public void setUp() {
+        ScalingContext.getInstance().init(new ServerConfiguration());
+    }
+    
+    @Test
+    public void assertAckCallbackResultSortable() {
+        Record[] records = mockRecords();
+        List<Integer> ackIds = new LinkedList<>();
+        for (List<Record> each : execute(records)) {
+            each.forEach(record -> ackIds.add(((IntPosition) record.getPosition()).getId()));
+        }
+        assertThat(ackIds.size(), is(records.length));
+        for (int i = 0; i < ackIds.size(); i++) {
+            assertThat(ackIds.get(i), is(i + 1));
+        }
+    }
+    
+    @Test
+    public void assertBroadcastFinishedRecord() {
+        List<List<Record>> ackBatches = execute(new FinishedRecord(new PlaceholderPosition()));
+        assertThat(ackBatches.size(), is(1));
+        assertThat(ackBatches.get(0).size(), is(1));
+    }
+    
+    @Test
+    public void assertAckAfterFetchedBatch() throws InterruptedException {
+        List<Record> ackRecords = new LinkedList<>();
+        RingBufferDistributionChannel channel = new RingBufferDistributionChannel(1, ackRecords::addAll);
+        for (int i = 1; i <= 3; i++) {
+            channel.pushRecord(new DataRecord(new IntPosition(i), 0));
+        }
+        assertThat(channel.fetchRecords(2, 0).size(), is(2));
+        assertTrue(ackRecords.isEmpty());
+        channel.ack();
+        assertThat(ackRecords.size(), is(2));
+        assertThat(channel.fetchRecords(2, 0).size(), is(1));
+        channel.ack();
+        assertThat(ackRecords.size(), is(3));
+        channel.close();
+    }
+    
+    @Test
+    public void assertAckPlaceholderRecordWithoutFetchedRecords() throws InterruptedException {
+        List<Record> ackRecords = new LinkedList<>();
+        RingBufferDistributionChannel channel = new RingBufferDistributionChannel(1, ackRecords::addAll);
+        channel.pushRecord(new PlaceholderRecord(new IntPosition(1)));
+        assertTrue(channel.fetchRecords(100, 0).isEmpty());
+        assertThat(ackRecords.size(), is(1));
+        channel.close();
+    }
+    
+    @Test(timeout = 10000L)
+    public void assertFetchRecordsWaitUntilPublished() throws InterruptedException {
+        RingBufferDistributionChannel channel = new RingBufferDistributionChannel(1, ackRecords -> { });
+        Thread producer = new Thread(() -> pushRecord(channel, new DataRecord(new IntPosition(1), 0)));
+        producer.start();
+        assertThat(channel.fetchRecords(1, 5).size(), is(1));
+        producer.join();
+        channel.close();
+    }
+    
+    @Test(timeout = 10000L)
+    public void assertPushRecordWaitUntilAcknowledged() throws InterruptedException {
+        ServerConfiguration serverConfig = ScalingContext.getInstance().getServerConfig();
+        int blockQueueSize = serverConfig.getBlockQueueSize();
+        serverConfig.setBlockQueueSize(1);
+        List<Record> ackRecords = new CopyOnWriteArrayList<>();
+        RingBufferDistributionChannel channel;
+        try {
+            channel = new RingBufferDistributionChannel(1, ackRecords::addAll);
+        } finally {
+            serverConfig.setBlockQueueSize(blockQueueSize);
+        }
+        channel.pushRecord(new DataRecord(new IntPosition(1), 0));
+        Thread producer = new Thread(() -> pushRecord(channel, new DataRecord(new IntPosition(2), 0)));
+        producer.start();
+        assertThat(channel.fetchRecords(1, 0).size(), is(1));
+        channel.ack();
+        producer.join();
+        assertThat(channel.fetchRecords(1, 5).size(), is(1));
+        channel.ack();
+        assertThat(ackRecords.size(), is(2));
+        channel.close();
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void pushRecord(final RingBufferDistributionChannel channel, final Record record) {
+        channel.pushRecord(record);
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private List<List<Record>> execute(final Record... records) {
+        List<List<Record>> result = new CopyOnWriteArrayList<>();
+        CountDownLatch countDownLatch = new CountDownLatch(records.length);
+        RingBufferDistributionChannel channel = new RingBufferDistributionChannel(2, ackRecords -> {
+            result.add(new ArrayList<>(ackRecords));
+            ackRecords.forEach(each -> countDownLatch.countDown());
+        });
+        List<Thread> consumers = fetchWithMultiThreading(channel);
+        try {
+            for (Record record : records) {
+                channel.pushRecord(record);
+            }
+            assertTrue(countDownLatch.await(10L, TimeUnit.SECONDS));
+        } finally {
+            consumers.forEach(Thread::interrupt);
+            channel.close();
+        }
+        return result;
+    }
+    
+    private List<Thread> fetchWithMultiThreading(final RingBufferDistributionChannel channel) {
+        List<Thread> result = new ArrayList<>(2);
+        for (int i = 0; i < 2; i++) {
+            Thread thread = new Thread(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    channel.fetchRecords(100, 1);
+                    channel.ack();
+                }
+            });
+            thread.setDaemon(true);
+            thread.start();
+            result.add(thread);
+        }
+        return result;
+    }
+    
+    private Record[] mockRecords() {
+        Record[] result = new Record[100];
+        Random random = new Random();
+        for (int i = 1; i <= result.length; i++) {
+            if (random.nextBoolean()) {
+                result[i - 1] = new DataRecord(new IntPosition(i), 0);
+            } else {
+                result[i - 1] = new PlaceholderRecord(new IntPosition(i));
+            }
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class IntPosition implements ScalingPosition<IntPosition> {
+        
+        private final int id;
+        
+        @Override
+        public int compareTo(final IntPosition position) {
+            return id - position.id;
+        }
+    }
+}
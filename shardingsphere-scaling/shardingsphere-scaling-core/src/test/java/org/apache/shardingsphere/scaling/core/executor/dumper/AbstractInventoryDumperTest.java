@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.executor.dumper;
+
+import org.apache.shardingsphere.scaling.core.common.channel.Channel;
+import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManager;
+import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
+import org.apache.shardingsphere.scaling.core.common.record.FinishedRecord;
+import org.apache.shardingsphere.scaling.core.common.record.Record;
+import org.apache.shardingsphere.scaling.core.config.InventoryDumperConfiguration;
+import org.apache.shardingsphere.scaling.core.config.TaskConfiguration;
+import org.apache.shardingsphere.scaling.core.fixture.FixtureInventoryDumper;
+import org.apache.shardingsphere.scaling.core.job.JobContext;
+import org.apache.shardingsphere.scaling.core.job.position.FinishedPosition;
+import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
+import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyTuplePosition;
+import org.apache.shardingsphere.scaling.core.util.ResourceUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public final class AbstractInventoryDumperTest {
+    
+    private final DataSourceManager dataSourceManager = new DataSourceManager();
+    
+    private InventoryDumperConfiguration inventoryDumperConfig;
+    
+    @Before
+    public void setUp() throws SQLException {
+        TaskConfiguration taskConfig = new JobContext(ResourceUtil.mockJobConfig()).getTaskConfigs().iterator().next();
+        inventoryDumperConfig = new InventoryDumperConfiguration(taskConfig.getDumperConfig());
+        inventoryDumperConfig.setTableName("t_order");
+        inventoryDumperConfig.setPrimaryKey("id");
+        initTableData(dataSourceManager.getDataSource(inventoryDumperConfig.getDataSourceConfig()));
+    }
+    
+    @After
+    public void tearDown() {
+        dataSourceManager.close();
+    }
+    
+    @Test
+    public void assertDumpByPrimaryKeyRangeWithPartialLastPage() throws InterruptedException {
+        inventoryDumperConfig.setPosition(new PrimaryKeyPosition(2, 9));
+        inventoryDumperConfig.setBatchSize(3);
+        List<Record> actual = dump();
+        assertThat(actual.size(), is(10));
+        for (int i = 0; i < 8; i++) {
+            assertThat(actual.get(i), instanceOf(DataRecord.class));
+            assertThat(((PrimaryKeyPosition) actual.get(i).getPosition()).getBeginValue(), is(i + 2L));
+            assertThat(((PrimaryKeyPosition) actual.get(i).getPosition()).getEndValue(), is(9L));
+        }
+        assertThat(actual.get(8).getPosition(), instanceOf(FinishedPosition.class));
+        assertThat(actual.get(9), instanceOf(FinishedRecord.class));
+    }
+    
+    @Test
+    public void assertDumpByPrimaryKeyRangeWithFullLastPage() throws InterruptedException {
+        inventoryDumperConfig.setPosition(new PrimaryKeyPosition(1, 10));
+        inventoryDumperConfig.setBatchSize(5);
+        List<Record> actual = dump();
+        assertThat(actual.size(), is(12));
+        assertThat(((PrimaryKeyPosition) actual.get(9).getPosition()).getBeginValue(), is(10L));
+        assertThat(actual.get(10).getPosition(), instanceOf(FinishedPosition.class));
+    }
+    
+    @Test
+    public void assertDumpByPrimaryKeyTuple() throws InterruptedException {
+        inventoryDumperConfig.setPosition(new PrimaryKeyTuplePosition(Collections.singletonList("2"), Collections.singletonList("9")));
+        inventoryDumperConfig.setBatchSize(3);
+        List<Record> actual = dump();
+        assertThat(actual.size(), is(9));
+        assertThat(((PrimaryKeyTuplePosition) actual.get(0).getPosition()).getBeginValues(), is(Collections.singletonList("3")));
+        assertThat(((PrimaryKeyTuplePosition) actual.get(6).getPosition()).getBeginValues(), is(Collections.singletonList("9")));
+        assertThat(((PrimaryKeyTuplePosition) actual.get(6).getPosition()).getEndValues(), is(Collections.singletonList("9")));
+    }
+    
+    @Test
+    public void assertDumpByUnionPrimaryKeyTuple() throws SQLException, InterruptedException {
+        try (Connection connection = dataSourceManager.getDataSource(inventoryDumperConfig.getDataSourceConfig()).getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order_item");
+            statement.execute("CREATE TABLE t_order_item (order_id INT, item_id VARCHAR(12), PRIMARY KEY (order_id, item_id))");
+            statement.execute("INSERT INTO t_order_item (order_id, item_id) VALUES (1, 'a'), (1, 'b'), (2, 'a'), (2, 'b'), (2, 'c'), (3, 'a')");
+        }
+        inventoryDumperConfig.setTableName("t_order_item");
+        inventoryDumperConfig.setPrimaryKey(null);
+        inventoryDumperConfig.setPosition(new PrimaryKeyTuplePosition(Arrays.asList("1", "a"), Arrays.asList("2", "b")));
+        inventoryDumperConfig.setBatchSize(2);
+        List<Record> actual = dump();
+        assertThat(actual.size(), is(5));
+        assertThat(((PrimaryKeyTuplePosition) actual.get(0).getPosition()).getBeginValues(), is(Arrays.asList("1", "b")));
+        assertThat(((PrimaryKeyTuplePosition) actual.get(1).getPosition()).getBeginValues(), is(Arrays.asList("2", "a")));
+        assertThat(((PrimaryKeyTuplePosition) actual.get(2).getPosition()).getBeginValues(), is(Arrays.asList("2", "b")));
+    }
+    
+    @Test
+    public void assertDumpWithFinishedPosition() throws InterruptedException {
+        inventoryDumperConfig.setPosition(new FinishedPosition());
+        List<Record> actual = dump();
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getPosition(), instanceOf(FinishedPosition.class));
+    }
+    
+    private List<Record> dump() throws InterruptedException {
+        Channel channel = mock(Channel.class);
+        InventoryDumper dumper = new FixtureInventoryDumper(inventoryDumperConfig, dataSourceManager);
+        dumper.setChannel(channel);
+        dumper.start();
+        ArgumentCaptor<Record> captor = ArgumentCaptor.forClass(Record.class);
+        verify(channel, atLeastOnce()).pushRecord(captor.capture());
+        return captor.getAllValues();
+    }
+    
+    private void initTableData(final DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (id INT PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = 1; i <= 10; i++) {
+                statement.execute(String.format("INSERT INTO t_order (id, user_id) VALUES (%d, 'x')", i));
+            }
+        }
+    }
+}
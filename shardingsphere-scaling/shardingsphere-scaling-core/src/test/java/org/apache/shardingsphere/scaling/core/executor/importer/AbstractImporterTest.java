@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.scaling.core.executor.importer;
 
+import com.google.common.base.Strings;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import org.apache.shardingsphere.scaling.core.common.channel.Channel;
@@ -47,8 +48,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -59,6 +63,8 @@ public final class AbstractImporterTest {
     
     private static final String INSERT_SQL = "INSERT INTO test_table (id,user,status) VALUES(?,?,?)";
     
+    private static final String MULTI_ROW_INSERT_SQL = "INSERT INTO test_table (id,user,status) VALUES(?,?,?),(?,?,?)";
+    
     private static final String DELETE_SQL = "DELETE FROM test_table WHERE id = ? and user = ?";
     
     private static final String UPDATE_SQL = "UPDATE test_table SET user = ?,status = ? WHERE id = ? and user = ?";
@@ -103,26 +109,77 @@ public final class AbstractImporterTest {
     @Test
     public void assertWriteInsertDataRecord() throws SQLException {
         DataRecord insertRecord = getDataRecord("INSERT");
-        when(scalingSqlBuilder.buildInsertSQL(insertRecord)).thenReturn(INSERT_SQL);
+        when(scalingSqlBuilder.buildInsertSQL(insertRecord, 1)).thenReturn(INSERT_SQL);
         when(connection.prepareStatement(INSERT_SQL)).thenReturn(preparedStatement);
         when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(mockRecords(insertRecord));
         jdbcImporter.run();
         verify(preparedStatement).setObject(1, 1);
         verify(preparedStatement).setObject(2, 10);
         verify(preparedStatement).setObject(3, "INSERT");
-        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeUpdate();
+    }
+    
+    @Test
+    public void assertWriteMultiRowInsertDataRecords() throws SQLException {
+        when(scalingSqlBuilder.buildInsertSQL(any(DataRecord.class), eq(2))).thenReturn(MULTI_ROW_INSERT_SQL);
+        when(connection.prepareStatement(MULTI_ROW_INSERT_SQL)).thenReturn(preparedStatement);
+        List<Record> records = new LinkedList<>();
+        records.add(getDataRecord("INSERT"));
+        records.add(getDataRecord("INSERT", 2));
+        records.add(new FinishedRecord(new PlaceholderPosition()));
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(records);
+        jdbcImporter.run();
+        verify(preparedStatement, times(6)).setObject(anyInt(), any());
+        verify(preparedStatement).setObject(2, 10);
+        verify(preparedStatement).setObject(5, 10);
+        verify(preparedStatement).executeUpdate();
+    }
+    
+    @Test
+    public void assertWriteMultiRowInsertDataRecordsSplitByStatementBytes() throws SQLException {
+        when(scalingSqlBuilder.buildInsertSQL(any(DataRecord.class), eq(1))).thenReturn(INSERT_SQL);
+        when(connection.prepareStatement(INSERT_SQL)).thenReturn(preparedStatement);
+        String largeStatus = Strings.repeat("x", 1024 * 1024);
+        List<Record> records = new LinkedList<>();
+        records.add(getDataRecord("INSERT", 1, largeStatus));
+        records.add(getDataRecord("INSERT", 2, largeStatus));
+        records.add(new FinishedRecord(new PlaceholderPosition()));
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(records);
+        jdbcImporter.run();
+        verify(scalingSqlBuilder, times(2)).buildInsertSQL(any(DataRecord.class), eq(1));
+        verify(preparedStatement, times(2)).setObject(3, largeStatus);
+        verify(preparedStatement, times(2)).executeUpdate();
+    }
+    
+    @Test
+    public void assertWriteWithSameConnection() throws SQLException {
+        DataRecord insertRecord = getDataRecord("INSERT");
+        DataRecord updateRecord = getDataRecord("UPDATE", 2);
+        when(scalingSqlBuilder.buildInsertSQL(insertRecord, 1)).thenReturn(INSERT_SQL);
+        when(scalingSqlBuilder.buildUpdateSQL(updateRecord, mockConditionColumns(updateRecord))).thenReturn(UPDATE_SQL);
+        when(connection.prepareStatement(INSERT_SQL)).thenReturn(preparedStatement);
+        when(connection.prepareStatement(UPDATE_SQL)).thenReturn(preparedStatement);
+        List<Record> records = new LinkedList<>();
+        records.add(insertRecord);
+        records.add(updateRecord);
+        records.add(new FinishedRecord(new PlaceholderPosition()));
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(records);
+        jdbcImporter.run();
+        verify(dataSource).getConnection();
+        verify(connection, times(2)).commit();
+        verify(connection).close();
     }
     
     @Test
     public void assertDeleteDataRecord() throws SQLException {
         DataRecord deleteRecord = getDataRecord("DELETE");
-        when(scalingSqlBuilder.buildDeleteSQL(deleteRecord, mockConditionColumns(deleteRecord))).thenReturn(DELETE_SQL);
+        when(scalingSqlBuilder.buildDeleteSQL(deleteRecord, mockConditionColumns(deleteRecord), 1)).thenReturn(DELETE_SQL);
         when(connection.prepareStatement(DELETE_SQL)).thenReturn(preparedStatement);
         when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(mockRecords(deleteRecord));
         jdbcImporter.run();
         verify(preparedStatement).setObject(1, 1);
         verify(preparedStatement).setObject(2, 10);
-        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeUpdate();
     }
     
     @Test
@@ -136,7 +193,8 @@ public final class AbstractImporterTest {
         verify(preparedStatement).setObject(2, "UPDATE");
         verify(preparedStatement).setObject(3, 1);
         verify(preparedStatement).setObject(4, 10);
-        verify(preparedStatement).execute();
+        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeBatch();
     }
     
     @Test
@@ -152,7 +210,8 @@ public final class AbstractImporterTest {
         inOrder.verify(preparedStatement).setObject(3, "UPDATE");
         inOrder.verify(preparedStatement).setObject(4, 1);
         inOrder.verify(preparedStatement).setObject(5, 10);
-        inOrder.verify(preparedStatement).execute();
+        inOrder.verify(preparedStatement).addBatch();
+        inOrder.verify(preparedStatement).executeBatch();
     }
     
     private DataRecord getUpdatePrimaryKeyDataRecord() {
@@ -177,12 +236,20 @@ public final class AbstractImporterTest {
     }
     
     private DataRecord getDataRecord(final String recordType) {
+        return getDataRecord(recordType, 1);
+    }
+    
+    private DataRecord getDataRecord(final String recordType, final int id) {
+        return getDataRecord(recordType, id, recordType);
+    }
+    
+    private DataRecord getDataRecord(final String recordType, final int id, final String status) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 3);
         result.setTableName(TABLE_NAME);
         result.setType(recordType);
-        result.addColumn(new Column("id", 1, false, true));
+        result.addColumn(new Column("id", id, false, true));
         result.addColumn(new Column("user", 10, true, false));
-        result.addColumn(new Column("status", recordType, true, false));
+        result.addColumn(new Column("status", status, true, false));
         return result;
     }
     
@@ -27,7 +27,9 @@ import org.apache.shardingsphere.scaling.core.fixture.FixtureSQLBuilder;
 import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -42,6 +44,12 @@ public final class AbstractSqlBuilderTest {
         assertThat(actual, is("INSERT INTO `t1`(`id`,`sc`,`c1`,`c2`,`c3`) VALUES(?,?,?,?,?)"));
     }
     
+    @Test
+    public void assertBuildMultiRowInsertSQL() {
+        String actual = scalingSqlBuilder.buildInsertSQL(mockDataRecord("t1"), 3);
+        assertThat(actual, is("INSERT INTO `t1`(`id`,`sc`,`c1`,`c2`,`c3`) VALUES(?,?,?,?,?),(?,?,?,?,?),(?,?,?,?,?)"));
+    }
+    
     @Test
     public void assertBuildUpdateSQLWithPrimaryKey() {
         String actual = scalingSqlBuilder.buildUpdateSQL(mockDataRecord("t2"), RecordUtil.extractPrimaryColumns(mockDataRecord("t2")));
@@ -68,6 +76,53 @@ public final class AbstractSqlBuilderTest {
         assertThat(actual, is("DELETE FROM `t3` WHERE `id` = ? and `sc` = ?"));
     }
     
+    @Test
+    public void assertBuildMultiRowDeleteSQLWithPrimaryKey() {
+        String actual = scalingSqlBuilder.buildDeleteSQL(mockDataRecord("t3"), RecordUtil.extractPrimaryColumns(mockDataRecord("t3")), 3);
+        assertThat(actual, is("DELETE FROM `t3` WHERE `id` IN (?,?,?)"));
+    }
+    
+    @Test
+    public void assertBuildMultiRowDeleteSQLWithConditionColumns() {
+        DataRecord dataRecord = mockDataRecord("t3");
+        String actual = scalingSqlBuilder.buildDeleteSQL(dataRecord, mockConditionColumns(dataRecord), 2);
+        assertThat(actual, is("DELETE FROM `t3` WHERE (`id` = ? and `sc` = ?) OR (`id` = ? and `sc` = ?)"));
+    }
+    
+    @Test
+    public void assertBuildInventoryDumpSQL() {
+        assertThat(scalingSqlBuilder.buildInventoryDumpSQL("t_order", "order_id", true), is("SELECT * FROM `t_order` WHERE `order_id`>=? AND `order_id`<=? ORDER BY `order_id` ASC LIMIT ?"));
+        assertThat(scalingSqlBuilder.buildInventoryDumpSQL("t_order", "order_id", false), is("SELECT * FROM `t_order` WHERE `order_id`>? AND `order_id`<=? ORDER BY `order_id` ASC LIMIT ?"));
+    }
+    
+    @Test
+    public void assertBuildInventoryDumpSQLWithPrimaryKeyTuple() {
+        assertThat(scalingSqlBuilder.buildInventoryDumpSQL("t_order", Arrays.asList("order_id", "user_id"), true, true),
+                is("SELECT * FROM `t_order` WHERE ((`order_id`>?) OR (`order_id`=? AND `user_id`>?)) AND ((`order_id`<?) OR (`order_id`=? AND `user_id`<=?))"
+                        + " ORDER BY `order_id` ASC,`user_id` ASC LIMIT ?"));
+        assertThat(scalingSqlBuilder.buildInventoryDumpSQL("t_order", Collections.singletonList("order_id"), false, false), is("SELECT * FROM `t_order` ORDER BY `order_id` ASC LIMIT ?"));
+    }
+    
+    @Test
+    public void assertBuildSplitByPrimaryKeyTupleSQL() {
+        assertThat(scalingSqlBuilder.buildSplitByPrimaryKeyTupleSQL("t_order", Arrays.asList("order_id", "user_id"), true),
+                is("SELECT `order_id`,`user_id` FROM `t_order` WHERE ((`order_id`>?) OR (`order_id`=? AND `user_id`>?)) ORDER BY `order_id` ASC,`user_id` ASC LIMIT 2 OFFSET ?"));
+        assertThat(scalingSqlBuilder.buildSplitByPrimaryKeyTupleSQL("t_order", Collections.singletonList("order_id"), false),
+                is("SELECT `order_id` FROM `t_order` ORDER BY `order_id` ASC LIMIT 2 OFFSET ?"));
+    }
+    
+    @Test
+    public void assertBuildPrimaryKeyRangeSQL() {
+        assertThat(scalingSqlBuilder.buildPrimaryKeyRangeSQL("t_order", "order_id"), is("SELECT MIN(`order_id`), MAX(`order_id`), COUNT(*) FROM `t_order`"));
+    }
+    
+    @Test
+    public void assertBuildChunkChecksumSQL() {
+        assertThat(scalingSqlBuilder.buildChunkChecksumSQL("t_order", Arrays.asList("order_id", "user_id"), "order_id"),
+                is("SELECT COUNT(*), SUM(ORA_HASH(CONCAT(`order_id`,'#',`user_id`,'#'))) FROM `t_order` WHERE `order_id`>=? AND `order_id`<=?"));
+        assertThat(scalingSqlBuilder.buildChunkChecksumSQL("t_order", Collections.singletonList("order_id"), null), is("SELECT COUNT(*), SUM(ORA_HASH(CONCAT(`order_id`,'#'))) FROM `t_order`"));
+    }
+    
     private Collection<Column> mockConditionColumns(final DataRecord dataRecord) {
         return RecordUtil.extractConditionColumns(dataRecord, Sets.newHashSet("sc"));
     }
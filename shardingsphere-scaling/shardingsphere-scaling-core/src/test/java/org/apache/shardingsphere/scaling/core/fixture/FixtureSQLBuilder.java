@@ -19,6 +19,7 @@ package org.apache.shardingsphere.scaling.core.fixture;
 
 import org.apache.shardingsphere.scaling.core.common.sqlbuilder.AbstractScalingSQLBuilder;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -37,4 +38,14 @@ public final class FixtureSQLBuilder extends AbstractScalingSQLBuilder {
     protected String getRightIdentifierQuoteString() {
         return "`";
     }
+    
+    @Override
+    protected String buildRowHashExpression(final List<String> columnNames) {
+        StringBuilder columns = new StringBuilder();
+        for (String each : columnNames) {
+            columns.append(quote(each)).append(",'#',");
+        }
+        columns.setLength(columns.length() - 1);
+        return String.format("ORA_HASH(CONCAT(%s))", columns);
+    }
 }
@@ -21,6 +21,7 @@ import lombok.SneakyThrows;
 import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.config.datasource.ScalingDataSourceConfiguration;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
+import org.apache.shardingsphere.scaling.core.job.check.consistency.DataConsistencyCheckProgress;
 import org.apache.shardingsphere.scaling.core.job.check.consistency.DataConsistencyCheckResult;
 import org.apache.shardingsphere.scaling.core.job.check.consistency.DataConsistencyChecker;
 import org.apache.shardingsphere.scaling.core.util.ResourceUtil;
@@ -30,9 +31,11 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collections;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -49,6 +52,82 @@ public final class AbstractDataConsistencyCheckerTest {
         assertThat(resultMap.get("t_order").getSourceCount(), is(resultMap.get("t_order").getTargetCount()));
     }
     
+    @Test
+    public void assertDataCheck() {
+        JobContext jobContext = new JobContext(ResourceUtil.mockJobConfig());
+        DataConsistencyChecker dataConsistencyChecker = EnvironmentCheckerFactory.newInstance(jobContext);
+        initTableData(jobContext.getTaskConfigs().get(0).getDumperConfig().getDataSourceConfig());
+        initTableData(jobContext.getTaskConfigs().get(0).getImporterConfig().getDataSourceConfig());
+        Map<String, Boolean> resultMap = dataConsistencyChecker.dataCheck();
+        assertTrue(resultMap.get("t_order"));
+        DataConsistencyCheckProgress progress = dataConsistencyChecker.getDataCheckProgress().get("t_order");
+        assertThat(progress.getCheckedChunkCount(), is(progress.getTotalChunkCount()));
+        assertTrue(progress.getMismatchedRanges().isEmpty());
+    }
+    
+    @Test
+    public void assertDataCheckWithMismatchedRows() {
+        JobContext jobContext = new JobContext(ResourceUtil.mockJobConfig());
+        initTableDataWithPrimaryKeyId(jobContext.getTaskConfigs().get(0).getDumperConfig().getDataSourceConfig());
+        initTableDataWithPrimaryKeyId(jobContext.getTaskConfigs().get(0).getImporterConfig().getDataSourceConfig());
+        executeUpdate(jobContext.getTaskConfigs().get(0).getImporterConfig().getDataSourceConfig(), "UPDATE t_order SET user_id = 'zzz' WHERE id = 999");
+        DataConsistencyChecker dataConsistencyChecker = EnvironmentCheckerFactory.newInstance(jobContext);
+        Map<String, Boolean> resultMap = dataConsistencyChecker.dataCheck();
+        assertFalse(resultMap.get("t_order"));
+        assertThat(dataConsistencyChecker.getDataCheckProgress().get("t_order").getMismatchedRanges(), is(Collections.singletonList("999,999")));
+    }
+    
+    @Test
+    public void assertDataCheckWithMismatchedRowsAndShardingColumnPrimaryKey() {
+        JobContext jobContext = new JobContext(ResourceUtil.mockJobConfig());
+        initTableData(jobContext.getTaskConfigs().get(0).getDumperConfig().getDataSourceConfig());
+        initTableData(jobContext.getTaskConfigs().get(0).getImporterConfig().getDataSourceConfig());
+        executeUpdate(jobContext.getTaskConfigs().get(0).getImporterConfig().getDataSourceConfig(), "UPDATE t_order SET user_id = 'zzz' WHERE order_id = 999");
+        DataConsistencyChecker dataConsistencyChecker = EnvironmentCheckerFactory.newInstance(jobContext);
+        Map<String, Boolean> resultMap = dataConsistencyChecker.dataCheck();
+        assertFalse(resultMap.get("t_order"));
+        assertThat(dataConsistencyChecker.getDataCheckProgress().get("t_order").getMismatchedRanges(), is(Collections.singletonList("999,999")));
+    }
+    
+    @Test
+    public void assertDataCheckWithMismatchedRowsAndShardingColumnPrimaryKeyOfTarget() {
+        JobContext jobContext = new JobContext(ResourceUtil.mockInlineShardingSphereJdbcTargetJobConfig());
+        initTableData(jobContext.getTaskConfigs().get(0).getDumperConfig().getDataSourceConfig());
+        initTableData(jobContext.getTaskConfigs().get(0).getImporterConfig().getDataSourceConfig());
+        executeUpdate(jobContext.getTaskConfigs().get(0).getImporterConfig().getDataSourceConfig(), "UPDATE t_order SET user_id = 'zzz' WHERE order_id = 999");
+        DataConsistencyChecker dataConsistencyChecker = EnvironmentCheckerFactory.newInstance(jobContext);
+        Map<String, Boolean> resultMap = dataConsistencyChecker.dataCheck();
+        assertFalse(resultMap.get("t_order"));
+        assertThat(dataConsistencyChecker.getDataCheckProgress().get("t_order").getMismatchedRanges(), is(Collections.singletonList("")));
+    }
+    
+    @Test
+    public void assertDataCheckWithTooManyMismatchedRows() {
+        JobContext jobContext = new JobContext(ResourceUtil.mockJobConfig());
+        initTableDataWithPrimaryKeyId(jobContext.getTaskConfigs().get(0).getDumperConfig().getDataSourceConfig());
+        initTableDataWithPrimaryKeyId(jobContext.getTaskConfigs().get(0).getImporterConfig().getDataSourceConfig());
+        executeUpdate(jobContext.getTaskConfigs().get(0).getDumperConfig().getDataSourceConfig(), "INSERT INTO t_order (id, user_id) SELECT x + 1000, 'xxx' FROM SYSTEM_RANGE(1, 150)");
+        DataConsistencyChecker dataConsistencyChecker = EnvironmentCheckerFactory.newInstance(jobContext);
+        Map<String, Boolean> resultMap = dataConsistencyChecker.dataCheck();
+        assertFalse(resultMap.get("t_order"));
+        assertThat(dataConsistencyChecker.getDataCheckProgress().get("t_order").getMismatchedRanges().size(), is(100));
+    }
+    
+    private void initTableDataWithPrimaryKeyId(final ScalingDataSourceConfiguration dataSourceConfig) {
+        executeUpdate(dataSourceConfig, "DROP TABLE IF EXISTS t_order");
+        executeUpdate(dataSourceConfig, "CREATE TABLE t_order (id INT PRIMARY KEY, user_id VARCHAR(12))");
+        executeUpdate(dataSourceConfig, "INSERT INTO t_order (id, user_id) VALUES (1, 'xxx'), (999, 'yyy')");
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private void executeUpdate(final ScalingDataSourceConfiguration dataSourceConfig, final String sql) {
+        DataSource dataSource = new DataSourceManager().getDataSource(dataSourceConfig);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+    
     @SneakyThrows(SQLException.class)
     private void initTableData(final ScalingDataSourceConfiguration dataSourceConfig) {
         DataSource dataSource = new DataSourceManager().getDataSource(dataSourceConfig);
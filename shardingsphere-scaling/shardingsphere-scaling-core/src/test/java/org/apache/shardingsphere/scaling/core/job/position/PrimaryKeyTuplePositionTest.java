@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.job.position;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class PrimaryKeyTuplePositionTest {
+    
+    @Test
+    public void assertCompareTo() {
+        PrimaryKeyTuplePosition position1 = new PrimaryKeyTuplePosition(null, Arrays.asList("1", "a"));
+        PrimaryKeyTuplePosition position2 = new PrimaryKeyTuplePosition(Arrays.asList("1", "a"), Arrays.asList("1", "c"));
+        PrimaryKeyTuplePosition position3 = new PrimaryKeyTuplePosition(Arrays.asList("1", "c"), null);
+        assertThat(position1.compareTo(null), is(1));
+        assertTrue(position1.compareTo(position2) < 0);
+        assertTrue(position3.compareTo(position2) > 0);
+    }
+    
+    @Test
+    public void assertInit() {
+        PrimaryKeyTuplePosition position = PrimaryKeyTuplePosition.init("[1,a%2Cb%3B];");
+        assertThat(position.getBeginValues(), is(Arrays.asList("1", "a,b;")));
+        assertNull(position.getEndValues());
+    }
+    
+    @Test
+    public void assertToString() {
+        assertThat(new PrimaryKeyTuplePosition(Collections.singletonList("[x]"), Arrays.asList("2", "")).toString(), is("[%5Bx%5D];[2,]"));
+        assertThat(new PrimaryKeyTuplePosition(null, null).toString(), is(";"));
+    }
+    
+    @Test
+    public void assertIsPrimaryKeyTuplePosition() {
+        assertTrue(PrimaryKeyTuplePosition.isPrimaryKeyTuplePosition(";[1]"));
+        assertFalse(PrimaryKeyTuplePosition.isPrimaryKeyTuplePosition("1,100"));
+    }
+}
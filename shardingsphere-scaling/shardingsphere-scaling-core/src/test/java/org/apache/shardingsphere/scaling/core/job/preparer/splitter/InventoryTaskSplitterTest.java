@@ -22,6 +22,7 @@ import org.apache.shardingsphere.scaling.core.config.DumperConfiguration;
 import org.apache.shardingsphere.scaling.core.config.TaskConfiguration;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
 import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
+import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyTuplePosition;
 import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryTask;
 import org.apache.shardingsphere.scaling.core.util.ResourceUtil;
 import org.junit.After;
@@ -32,10 +33,15 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.IntFunction;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
 public final class InventoryTaskSplitterTest {
@@ -66,6 +72,28 @@ public final class InventoryTaskSplitterTest {
         assertThat(((PrimaryKeyPosition) actual.get(9).getProgress().getPosition()).getEndValue(), is(100L));
     }
     
+    @Test
+    public void assertSplitInventoryDataWithIntPrimaryAndConcurrency() throws SQLException {
+        taskConfig.getHandleConfig().setInventoryConcurrency(4);
+        initIntPrimaryEnvironment(taskConfig.getDumperConfig());
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext, taskConfig, dataSourceManager);
+        assertThat(actual.size(), is(4));
+        assertThat(((PrimaryKeyPosition) actual.get(0).getProgress().getPosition()).getBeginValue(), is(0L));
+        assertThat(((PrimaryKeyPosition) actual.get(0).getProgress().getPosition()).getEndValue(), is(25L));
+        assertThat(((PrimaryKeyPosition) actual.get(3).getProgress().getPosition()).getBeginValue(), is(78L));
+        assertThat(((PrimaryKeyPosition) actual.get(3).getProgress().getPosition()).getEndValue(), is(100L));
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithMaxLongPrimaryAndConcurrency() throws SQLException {
+        taskConfig.getHandleConfig().setInventoryConcurrency(4);
+        initTableData(taskConfig.getDumperConfig(), "CREATE TABLE t_order (id BIGINT PRIMARY KEY, user_id VARCHAR(12))", 2, i -> String.format("(%d, 'x')", 1 == i ? 1L : Long.MAX_VALUE));
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext, taskConfig, dataSourceManager);
+        assertThat(actual.size(), is(4));
+        assertThat(((PrimaryKeyPosition) actual.get(0).getProgress().getPosition()).getBeginValue(), is(0L));
+        assertThat(((PrimaryKeyPosition) actual.get(3).getProgress().getPosition()).getEndValue(), is(Long.MAX_VALUE));
+    }
+    
     @Test
     public void assertSplitInventoryDataWithCharPrimary() throws SQLException {
         initCharPrimaryEnvironment(taskConfig.getDumperConfig());
@@ -74,6 +102,45 @@ public final class InventoryTaskSplitterTest {
         assertThat(actual.size(), is(1));
     }
     
+    @Test
+    public void assertSplitInventoryDataWithCharPrimaryAndShardingSize() throws SQLException {
+        taskConfig.getHandleConfig().setShardingSize(10);
+        initTableData(taskConfig.getDumperConfig(), "CREATE TABLE t_order (id VARCHAR(12) PRIMARY KEY, user_id VARCHAR(12))", 100, i -> String.format("('k%03d', 'x')", i));
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext, taskConfig, dataSourceManager);
+        assertThat(actual.size(), is(10));
+        PrimaryKeyTuplePosition first = (PrimaryKeyTuplePosition) actual.get(0).getProgress().getPosition();
+        assertNull(first.getBeginValues());
+        assertThat(first.getEndValues(), is(Collections.singletonList("k010")));
+        PrimaryKeyTuplePosition last = (PrimaryKeyTuplePosition) actual.get(9).getProgress().getPosition();
+        assertThat(last.getBeginValues(), is(Collections.singletonList("k090")));
+        assertNull(last.getEndValues());
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithUUIDPrimaryAndConcurrency() throws SQLException {
+        taskConfig.getHandleConfig().setInventoryConcurrency(4);
+        initTableData(taskConfig.getDumperConfig(), "CREATE TABLE t_order (id VARCHAR(36) PRIMARY KEY, user_id VARCHAR(12))", 40, i -> String.format("('%s', 'x')", UUID.randomUUID()));
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext, taskConfig, dataSourceManager);
+        assertThat(actual.size(), is(4));
+        for (int i = 1; i < actual.size(); i++) {
+            PrimaryKeyTuplePosition previous = (PrimaryKeyTuplePosition) actual.get(i - 1).getProgress().getPosition();
+            PrimaryKeyTuplePosition current = (PrimaryKeyTuplePosition) actual.get(i).getProgress().getPosition();
+            assertThat(current.getBeginValues(), is(previous.getEndValues()));
+        }
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithUnionPrimaryAndShardingSize() throws SQLException {
+        taskConfig.getHandleConfig().setShardingSize(5);
+        initTableData(taskConfig.getDumperConfig(),
+                "CREATE TABLE t_order (id INT, user_id VARCHAR(12), PRIMARY KEY (id, user_id))", 20, i -> String.format("(%d, '%s')", (i + 1) / 2, 0 == i % 2 ? "b" : "a"));
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext, taskConfig, dataSourceManager);
+        assertThat(actual.size(), is(4));
+        PrimaryKeyTuplePosition second = (PrimaryKeyTuplePosition) actual.get(1).getProgress().getPosition();
+        assertThat(second.getBeginValues(), is(Arrays.asList("3", "a")));
+        assertThat(second.getEndValues(), is(Arrays.asList("5", "b")));
+    }
+    
     @Test
     public void assertSplitInventoryDataWithUnionPrimary() throws SQLException {
         initUnionPrimaryEnvironment(taskConfig.getDumperConfig());
@@ -107,6 +174,18 @@ public final class InventoryTaskSplitterTest {
         }
     }
     
+    private void initTableData(final DumperConfiguration dumperConfig, final String createTableSQL, final int rowCount, final IntFunction<String> rowValues) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute(createTableSQL);
+            for (int i = 1; i <= rowCount; i++) {
+                statement.execute(String.format("INSERT INTO t_order (id, user_id) VALUES %s", rowValues.apply(i)));
+            }
+        }
+    }
+    
     private void initCharPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
         try (Connection connection = dataSource.getConnection();
@@ -70,6 +70,20 @@ public final class ResourceUtil {
         return result;
     }
     
+    /**
+     * Mock ShardingSphere-JDBC with inline sharding primary key as target job configuration.
+     *
+     * @return ShardingSphere-JDBC with inline sharding primary key as target job configuration
+     */
+    public static JobConfiguration mockInlineShardingSphereJdbcTargetJobConfig() {
+        JobConfiguration result = new JobConfiguration();
+        RuleConfiguration ruleConfig = new RuleConfiguration();
+        ruleConfig.setSource(new ShardingSphereJDBCDataSourceConfiguration(readFileToString("/config_sharding_sphere_jdbc_source.yaml")).wrap());
+        ruleConfig.setTarget(new ShardingSphereJDBCDataSourceConfiguration(readFileToString("/config_sharding_sphere_jdbc_inline_target.yaml")).wrap());
+        result.setRuleConfig(ruleConfig);
+        return result;
+    }
+    
     @SneakyThrows(IOException.class)
     private static String readFileToString(final String fileName) {
         try (InputStream in = ResourceUtil.class.getResourceAsStream(fileName)) {
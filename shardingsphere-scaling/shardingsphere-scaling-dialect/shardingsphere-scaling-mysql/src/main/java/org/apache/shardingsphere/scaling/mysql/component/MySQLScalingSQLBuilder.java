@@ -21,6 +21,7 @@ import org.apache.shardingsphere.scaling.core.common.record.Column;
 import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.common.sqlbuilder.AbstractScalingSQLBuilder;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -44,8 +45,8 @@ public final class MySQLScalingSQLBuilder extends AbstractScalingSQLBuilder {
     }
     
     @Override
-    public String buildInsertSQL(final DataRecord dataRecord) {
-        return super.buildInsertSQL(dataRecord) + buildDuplicateUpdateSQL(dataRecord);
+    public String buildInsertSQL(final DataRecord dataRecord, final int rowCount) {
+        return super.buildInsertSQL(dataRecord, rowCount) + buildDuplicateUpdateSQL(dataRecord);
     }
     
     private String buildDuplicateUpdateSQL(final DataRecord dataRecord) {
@@ -67,14 +68,15 @@ public final class MySQLScalingSQLBuilder extends AbstractScalingSQLBuilder {
                 && shardingColumnsMap.get(tableName).contains(columnName);
     }
     
-    /**
-     * Build select sum crc32 SQL.
-     *
-     * @param tableName table Name
-     * @param column column
-     * @return select sum crc32 SQL
-     */
-    public String buildSumCrc32SQL(final String tableName, final String column) {
-        return String.format("SELECT SUM(CRC32(%s)) from %s", quote(column), quote(tableName));
+    @Override
+    protected String buildRowHashExpression(final List<String> columnNames) {
+        StringBuilder values = new StringBuilder();
+        StringBuilder nullFlags = new StringBuilder();
+        for (String each : columnNames) {
+            values.append(quote(each)).append(",");
+            nullFlags.append("ISNULL(").append(quote(each)).append("),");
+        }
+        nullFlags.setLength(nullFlags.length() - 1);
+        return String.format("CRC32(CONCAT_WS('#',%sCONCAT(%s)))", values, nullFlags);
     }
 }
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -46,9 +47,15 @@ public final class MySQLScalingSQLBuilderTest {
     }
     
     @Test
-    public void assertBuildSumCrc32SQL() {
-        String actual = sqlBuilder.buildSumCrc32SQL("t2", "id");
-        assertThat(actual, is("SELECT SUM(CRC32(`id`)) from `t2`"));
+    public void assertBuildMultiRowInsertSQL() {
+        String actual = sqlBuilder.buildInsertSQL(mockDataRecord("t2"), 2);
+        assertThat(actual, is("INSERT INTO `t2`(`id`,`sc`,`c1`,`c2`,`c3`) VALUES(?,?,?,?,?),(?,?,?,?,?) ON DUPLICATE KEY UPDATE `c1`=VALUES(`c1`),`c2`=VALUES(`c2`),`c3`=VALUES(`c3`)"));
+    }
+    
+    @Test
+    public void assertBuildChunkChecksumSQL() {
+        String actual = sqlBuilder.buildChunkChecksumSQL("t2", Arrays.asList("id", "c1"), "id");
+        assertThat(actual, is("SELECT COUNT(*), SUM(CRC32(CONCAT_WS('#',`id`,`c1`,CONCAT(ISNULL(`id`),ISNULL(`c1`))))) FROM `t2` WHERE `id`>=? AND `id`<=?"));
     }
     
     private DataRecord mockDataRecord(final String tableName) {
@@ -37,8 +37,9 @@ public final class PostgreSQLInventoryDumper extends AbstractInventoryDumper {
     
     @Override
     protected PreparedStatement createPreparedStatement(final Connection connection, final String sql) throws SQLException {
+        connection.setAutoCommit(false);
         PreparedStatement result = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
-        result.setFetchSize(1);
+        result.setFetchSize(getInventoryDumperConfig().getBatchSize());
         return result;
     }
 }
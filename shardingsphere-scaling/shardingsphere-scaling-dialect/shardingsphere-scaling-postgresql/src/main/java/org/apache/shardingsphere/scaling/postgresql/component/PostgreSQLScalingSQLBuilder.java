@@ -22,6 +22,7 @@ import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.common.record.RecordUtil;
 import org.apache.shardingsphere.scaling.core.common.sqlbuilder.AbstractScalingSQLBuilder;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -45,8 +46,18 @@ public final class PostgreSQLScalingSQLBuilder extends AbstractScalingSQLBuilder
     }
     
     @Override
-    public String buildInsertSQL(final DataRecord dataRecord) {
-        return super.buildInsertSQL(dataRecord) + buildConflictSQL(dataRecord);
+    protected String buildRowHashExpression(final List<String> columnNames) {
+        StringBuilder columns = new StringBuilder();
+        for (String each : columnNames) {
+            columns.append(quote(each)).append(",");
+        }
+        columns.setLength(columns.length() - 1);
+        return String.format("('x' || SUBSTR(MD5(CAST(ROW(%s) AS TEXT)), 1, 8))::BIT(32)::INT", columns);
+    }
+    
+    @Override
+    public String buildInsertSQL(final DataRecord dataRecord, final int rowCount) {
+        return super.buildInsertSQL(dataRecord, rowCount) + buildConflictSQL(dataRecord);
     }
     
     private String buildConflictSQL(final DataRecord dataRecord) {
@@ -55,7 +66,23 @@ public final class PostgreSQLScalingSQLBuilder extends AbstractScalingSQLBuilder
             result.append(each.getName()).append(",");
         }
         result.setLength(result.length() - 1);
-        result.append(") DO NOTHING");
-        return result.toString();
+        result.append(")");
+        StringBuilder updateSQL = new StringBuilder();
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            Column column = dataRecord.getColumn(i);
+            if (column.isPrimaryKey() || isShardingColumn(getShardingColumnsMap(), dataRecord.getTableName(), column.getName())) {
+                continue;
+            }
+            updateSQL.append(quote(column.getName())).append("=EXCLUDED.").append(quote(column.getName())).append(",");
+        }
+        if (0 == updateSQL.length()) {
+            return result.append(" DO NOTHING").toString();
+        }
+        updateSQL.setLength(updateSQL.length() - 1);
+        return result.append(" DO UPDATE SET ").append(updateSQL).toString();
+    }
+    
+    private boolean isShardingColumn(final Map<String, Set<String>> shardingColumnsMap, final String tableName, final String columnName) {
+        return shardingColumnsMap.containsKey(tableName) && shardingColumnsMap.get(tableName).contains(columnName);
     }
 }
@@ -44,7 +44,7 @@ public final class PostgreSQLImporterTest {
     @Test
     public void assertCreateSQLBuilder() {
         String insertSQL = new PostgreSQLImporter(importerConfig, dataSourceManager).createSQLBuilder(Maps.newHashMap()).buildInsertSQL(mockDataRecord());
-        assertThat(insertSQL, is("INSERT INTO \"t_order\"(\"id\",\"name\") VALUES(?,?) ON CONFLICT (id) DO NOTHING"));
+        assertThat(insertSQL, is("INSERT INTO \"t_order\"(\"id\",\"name\") VALUES(?,?) ON CONFLICT (id) DO UPDATE SET \"name\"=EXCLUDED.\"name\""));
     }
     
     private DataRecord mockDataRecord() {
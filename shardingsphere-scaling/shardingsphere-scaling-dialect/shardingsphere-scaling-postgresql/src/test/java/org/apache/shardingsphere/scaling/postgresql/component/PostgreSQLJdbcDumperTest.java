@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.scaling.postgresql.component;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.scaling.core.common.channel.Channel;
 import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.config.DumperConfiguration;
 import org.apache.shardingsphere.scaling.core.config.InventoryDumperConfiguration;
@@ -30,9 +31,14 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 public final class PostgreSQLJdbcDumperTest {
     
@@ -70,7 +76,24 @@ public final class PostgreSQLJdbcDumperTest {
         DataSource dataSource = dataSourceManager.getDataSource(mockDumperConfiguration().getDataSourceConfig());
         try (Connection connection = dataSource.getConnection();
              PreparedStatement preparedStatement = jdbcDumper.createPreparedStatement(connection, "SELECT * FROM t_order")) {
-            assertThat(preparedStatement.getFetchSize(), is(1));
+            assertThat(preparedStatement.getFetchSize(), is(1000));
+        }
+    }
+    
+    @Test
+    public void assertDumpCommitAndRestoreAutoCommit() throws SQLException {
+        InventoryDumperConfiguration inventoryDumperConfig = mockInventoryDumperConfiguration();
+        inventoryDumperConfig.setTableNameMap(Collections.singletonMap("t_order", "t_order"));
+        DataSourceManager spyDataSourceManager = spy(dataSourceManager);
+        PostgreSQLInventoryDumper dumper = new PostgreSQLInventoryDumper(inventoryDumperConfig, spyDataSourceManager);
+        DataSource dataSource = spy(dataSourceManager.getDataSource(inventoryDumperConfig.getDataSourceConfig()));
+        try (Connection connection = spy(dataSource.getConnection())) {
+            doReturn(connection).when(dataSource).getConnection();
+            doReturn(dataSource).when(spyDataSourceManager).getDataSource(inventoryDumperConfig.getDataSourceConfig());
+            dumper.setChannel(mock(Channel.class));
+            dumper.start();
+            verify(connection).commit();
+            verify(connection).setAutoCommit(true);
         }
     }
     
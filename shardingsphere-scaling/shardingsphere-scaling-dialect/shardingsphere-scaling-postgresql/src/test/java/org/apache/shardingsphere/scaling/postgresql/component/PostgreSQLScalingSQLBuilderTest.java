@@ -24,6 +24,8 @@ import org.apache.shardingsphere.scaling.postgresql.wal.WalPosition;
 import org.junit.Test;
 import org.postgresql.replication.LogSequenceNumber;
 
+import java.util.Arrays;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -32,7 +34,28 @@ public final class PostgreSQLScalingSQLBuilderTest {
     @Test
     public void assertBuildInsertSQL() {
         String actual = new PostgreSQLScalingSQLBuilder(Maps.newHashMap()).buildInsertSQL(mockDataRecord());
-        assertThat(actual, is("INSERT INTO \"t_order\"(\"id\",\"name\") VALUES(?,?) ON CONFLICT (id) DO NOTHING"));
+        assertThat(actual, is("INSERT INTO \"t_order\"(\"id\",\"name\") VALUES(?,?) ON CONFLICT (id) DO UPDATE SET \"name\"=EXCLUDED.\"name\""));
+    }
+    
+    @Test
+    public void assertBuildMultiRowInsertSQL() {
+        String actual = new PostgreSQLScalingSQLBuilder(Maps.newHashMap()).buildInsertSQL(mockDataRecord(), 2);
+        assertThat(actual, is("INSERT INTO \"t_order\"(\"id\",\"name\") VALUES(?,?),(?,?) ON CONFLICT (id) DO UPDATE SET \"name\"=EXCLUDED.\"name\""));
+    }
+    
+    @Test
+    public void assertBuildInsertSQLWithPrimaryKeyColumnsOnly() {
+        DataRecord dataRecord = new DataRecord(new WalPosition(LogSequenceNumber.valueOf(100L)), 1);
+        dataRecord.setTableName("t_order");
+        dataRecord.addColumn(new Column("id", 1, true, true));
+        String actual = new PostgreSQLScalingSQLBuilder(Maps.newHashMap()).buildInsertSQL(dataRecord);
+        assertThat(actual, is("INSERT INTO \"t_order\"(\"id\") VALUES(?) ON CONFLICT (id) DO NOTHING"));
+    }
+    
+    @Test
+    public void assertBuildChunkChecksumSQL() {
+        String actual = new PostgreSQLScalingSQLBuilder(Maps.newHashMap()).buildChunkChecksumSQL("t_order", Arrays.asList("id", "name"), "id");
+        assertThat(actual, is("SELECT COUNT(*), SUM(('x' || SUBSTR(MD5(CAST(ROW(\"id\",\"name\") AS TEXT)), 1, 8))::BIT(32)::INT) FROM \"t_order\" WHERE \"id\">=? AND \"id\"<=?"));
     }
     
     private DataRecord mockDataRecord() {
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql.parser;
+
+import org.apache.shardingsphere.sql.parser.core.fastpath.FastPathSQLDialect;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.SetAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLDeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLUpdateStatement;
+
+import java.util.List;
+
+/**
+ * Fast path SQL dialect for MySQL.
+ */
+public final class MySQLFastPathSQLDialect implements FastPathSQLDialect {
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+    
+    @Override
+    public MySQLSelectStatement newSelectStatement() {
+        return new MySQLSelectStatement();
+    }
+    
+    @Override
+    public MySQLInsertStatement newInsertStatement() {
+        return new MySQLInsertStatement();
+    }
+    
+    @Override
+    public MySQLUpdateStatement newUpdateStatement() {
+        return new MySQLUpdateStatement();
+    }
+    
+    @Override
+    public MySQLDeleteStatement newDeleteStatement() {
+        return new MySQLDeleteStatement();
+    }
+    
+    @Override
+    public InsertColumnsSegment createInsertColumnsSegment(final int leftParenthesisIndex, final int rightParenthesisIndex, final List<ColumnSegment> columns) {
+        return new InsertColumnsSegment(leftParenthesisIndex, rightParenthesisIndex, columns);
+    }
+    
+    @Override
+    public SetAssignmentSegment createSetAssignmentSegment(final int setKeywordStartIndex, final List<AssignmentSegment> assignments) {
+        return new SetAssignmentSegment(setKeywordStartIndex, assignments.get(assignments.size() - 1).getStopIndex(), assignments);
+    }
+}
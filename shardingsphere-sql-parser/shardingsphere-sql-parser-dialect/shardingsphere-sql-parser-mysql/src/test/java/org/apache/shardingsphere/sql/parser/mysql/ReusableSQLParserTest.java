@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.apache.shardingsphere.sql.parser.core.parser.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.core.parser.ReusableSQLParser;
+import org.apache.shardingsphere.sql.parser.mysql.parser.MySQLParser;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class ReusableSQLParserTest {
+    
+    @Test
+    public void assertAcquireSameParserInSameThread() {
+        ReusableSQLParser expected;
+        try (ReusableSQLParser actual = ReusableSQLParser.acquire("MySQL", "SELECT * FROM t_order")) {
+            assertThat(actual.getSQLParser(), instanceOf(MySQLParser.class));
+            expected = actual;
+        }
+        try (ReusableSQLParser actual = ReusableSQLParser.acquire("MySQL", "SELECT * FROM t_order_item")) {
+            assertThat(actual, sameInstance(expected));
+        }
+    }
+    
+    @Test
+    public void assertAcquireDisposableParserWhenNested() {
+        try (ReusableSQLParser outer = ReusableSQLParser.acquire("MySQL", "SELECT * FROM t_order")) {
+            try (ReusableSQLParser inner = ReusableSQLParser.acquire("MySQL", "SELECT * FROM t_order_item")) {
+                assertThat(inner, not(sameInstance(outer)));
+            }
+        }
+    }
+    
+    @Test
+    public void assertParseAfterRebound() {
+        try (ReusableSQLParser parser = ReusableSQLParser.acquire("MySQL", "SELECT * FROM t_order")) {
+            assertThat(getText(parser), is("SELECT * FROM t_order"));
+        }
+        try (ReusableSQLParser parser = ReusableSQLParser.acquire("MySQL", "DELETE FROM t_order_item WHERE item_id = 1")) {
+            assertThat(getText(parser), is("DELETE FROM t_order_item WHERE item_id = 1"));
+        }
+    }
+    
+    private String getText(final ReusableSQLParser parser) {
+        ParserRuleContext rootNode = (ParserRuleContext) ((ParseASTNode) parser.getSQLParser().parse()).getRootNode();
+        return rootNode.getStart().getInputStream().toString();
+    }
+}
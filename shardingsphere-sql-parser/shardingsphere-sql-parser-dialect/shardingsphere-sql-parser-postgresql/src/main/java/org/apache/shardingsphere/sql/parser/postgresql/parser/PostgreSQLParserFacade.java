@@ -21,11 +21,29 @@ import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 import org.apache.shardingsphere.sql.parser.spi.SQLParserFacade;
 
+import java.util.Arrays;
+import java.util.Collection;
+
 /**
  * SQL parser facade for PostgreSQL.
  */
 public final class PostgreSQLParserFacade implements SQLParserFacade {
     
+    private static final Collection<String> WARM_UP_SQLS = Arrays.asList(
+            "SELECT * FROM t_order WHERE order_id = ?",
+            "SELECT order_id, user_id, status FROM t_order WHERE user_id = ? AND order_id IN (?, ?, ?)",
+            "SELECT o.order_id, i.item_id FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id WHERE o.user_id = ? AND o.status = 'init' ORDER BY o.order_id DESC",
+            "SELECT user_id, COUNT(*) AS cnt, SUM(price) AS total FROM t_order WHERE order_id BETWEEN ? AND ? GROUP BY user_id HAVING COUNT(*) > 1 ORDER BY user_id",
+            "SELECT DISTINCT status FROM t_order WHERE order_id IN (SELECT order_id FROM t_order_item WHERE item_id > ?)",
+            "SELECT * FROM \"t_order\" WHERE \"order_id\" > ? ORDER BY \"order_id\" LIMIT ? OFFSET ?",
+            "INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?)",
+            "INSERT INTO t_order (order_id, user_id, status) VALUES (1, 10, 'init'), (2, 20, 'init') RETURNING order_id",
+            "UPDATE t_order SET status = ?, price = price + 1 WHERE order_id = ? AND user_id = ?",
+            "DELETE FROM t_order WHERE order_id = ? OR user_id = 10",
+            "BEGIN",
+            "COMMIT",
+            "ROLLBACK");
+    
     @Override
     public String getDatabaseType() {
         return "PostgreSQL";
@@ -40,4 +58,9 @@ public final class PostgreSQLParserFacade implements SQLParserFacade {
     public Class<? extends SQLParser> getParserClass() {
         return PostgreSQLParser.class;
     }
+    
+    @Override
+    public Collection<String> getWarmUpSQLs() {
+        return WARM_UP_SQLS;
+    }
 }
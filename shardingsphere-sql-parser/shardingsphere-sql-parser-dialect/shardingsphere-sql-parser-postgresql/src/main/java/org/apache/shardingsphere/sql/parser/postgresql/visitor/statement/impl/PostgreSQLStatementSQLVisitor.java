@@ -537,6 +537,7 @@ public abstract class PostgreSQLStatementSQLVisitor extends PostgreSQLStatementB
         // TODO :deal with insert select
         PostgreSQLInsertStatement result = (PostgreSQLInsertStatement) visit(ctx.insertRest());
         result.setTable((SimpleTableSegment) visit(ctx.insertTarget()));
+        result.setReturning(null != ctx.returningClause());
         result.setParameterCount(getCurrentParameterIndex());
         return result;
     }
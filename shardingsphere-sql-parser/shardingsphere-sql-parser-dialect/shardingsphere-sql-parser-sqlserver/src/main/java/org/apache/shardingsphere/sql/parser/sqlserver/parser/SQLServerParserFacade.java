@@ -21,11 +21,28 @@ import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 import org.apache.shardingsphere.sql.parser.spi.SQLParserFacade;
 
+import java.util.Arrays;
+import java.util.Collection;
+
 /**
  * SQL parser facade for SQLServer.
  */
 public final class SQLServerParserFacade implements SQLParserFacade {
     
+    private static final Collection<String> WARM_UP_SQLS = Arrays.asList(
+            "SELECT * FROM t_order WHERE order_id = ?",
+            "SELECT order_id, user_id, status FROM t_order WHERE user_id = ? AND order_id IN (?, ?, ?)",
+            "SELECT o.order_id, i.item_id FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id WHERE o.user_id = ? AND o.status = 'init' ORDER BY o.order_id DESC",
+            "SELECT user_id, COUNT(*) AS cnt, SUM(price) AS total FROM t_order WHERE order_id BETWEEN ? AND ? GROUP BY user_id HAVING COUNT(*) > 1 ORDER BY user_id",
+            "SELECT DISTINCT status FROM t_order WHERE order_id IN (SELECT order_id FROM t_order_item WHERE item_id > ?)",
+            "SELECT TOP 10 * FROM [t_order] WHERE [order_id] > ? ORDER BY [order_id]",
+            "INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?)",
+            "INSERT INTO t_order (order_id, user_id, status) VALUES (1, 10, 'init'), (2, 20, 'init')",
+            "UPDATE t_order SET status = ?, price = price + 1 WHERE order_id = ? AND user_id = ?",
+            "DELETE FROM t_order WHERE order_id = ? OR user_id = 10",
+            "COMMIT",
+            "ROLLBACK");
+    
     @Override
     public String getDatabaseType() {
         return "SQLServer";
@@ -40,4 +57,9 @@ public final class SQLServerParserFacade implements SQLParserFacade {
     public Class<? extends SQLParser> getParserClass() {
         return SQLServerParser.class;
     }
+    
+    @Override
+    public Collection<String> getWarmUpSQLs() {
+        return WARM_UP_SQLS;
+    }
 }
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.api;
+
+import org.apache.shardingsphere.sql.parser.core.fastpath.FastPathSQLDialect;
+import org.apache.shardingsphere.sql.parser.core.fastpath.FastPathSQLDialectRegistry;
+import org.apache.shardingsphere.sql.parser.core.fastpath.FastPathSQLParser;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLParserFacadeRegistry;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.util.Optional;
+
+/**
+ * Fast path SQL parser engine.
+ * 
+ * <p>
+ * Parse simple DML to SQL statement without ANTLR, SQL which can not be recognized should be parsed by {@link SQLParserEngine} and {@link SQLVisitorEngine}.
+ * </p>
+ */
+public final class FastPathSQLParserEngine {
+    
+    private final FastPathSQLParser fastPathSQLParser;
+    
+    public FastPathSQLParserEngine(final String databaseType) {
+        Optional<FastPathSQLDialect> dialect = FastPathSQLDialectRegistry.getInstance().findDialect(databaseType);
+        fastPathSQLParser = dialect.isPresent() && SQLParserFacadeRegistry.getInstance().isSupported(databaseType) ? new FastPathSQLParser(dialect.get()) : null;
+    }
+    
+    /**
+     * Parse SQL.
+     * 
+     * @param sql SQL to be parsed
+     * @return SQL statement, empty if SQL can not be parsed by fast path
+     */
+    public Optional<SQLStatement> parse(final String sql) {
+        return null == fastPathSQLParser ? Optional.empty() : fastPathSQLParser.parse(sql);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.api;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.apache.shardingsphere.sql.parser.core.normalize.NormalizedSQL;
+import org.apache.shardingsphere.sql.parser.core.normalize.ParseTreeRebinder;
+import org.apache.shardingsphere.sql.parser.core.normalize.SQLLiteralNormalizer;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLParserExecutor;
+
+/**
+ * Literal normalized SQL parser engine.
+ * 
+ * <p>
+ * Parse tree is cached by literal normalized fingerprint of SQL, SQLs which only differ in literal values reuse the cached parse tree as template,
+ * the template is rebound to tokens of current SQL instead of parsing again.
+ * </p>
+ */
+public final class LiteralNormalizedSQLParserEngine {
+    
+    private final SQLLiteralNormalizer literalNormalizer;
+    
+    private final SQLParserExecutor sqlParserExecutor;
+    
+    private final Cache<String, ParseTree> parseTreeTemplateCache;
+    
+    public LiteralNormalizedSQLParserEngine(final String databaseType, final CacheOption cacheOption) {
+        literalNormalizer = new SQLLiteralNormalizer(databaseType);
+        sqlParserExecutor = new SQLParserExecutor(databaseType);
+        parseTreeTemplateCache = CacheBuilder.newBuilder().softValues().recordStats()
+                .initialCapacity(cacheOption.getInitialCapacity()).maximumSize(cacheOption.getMaximumSize()).concurrencyLevel(cacheOption.getConcurrencyLevel()).build();
+    }
+    
+    /**
+     * Parse SQL.
+     *
+     * @param sql SQL to be parsed
+     * @return parse tree
+     */
+    public ParseTree parse(final String sql) {
+        NormalizedSQL normalizedSQL = literalNormalizer.normalize(sql);
+        ParseTree template = parseTreeTemplateCache.getIfPresent(normalizedSQL.getFingerprint());
+        if (null != template) {
+            return ParseTreeRebinder.rebind(template, normalizedSQL.getTokens());
+        }
+        ParseTree result = sqlParserExecutor.parse(sql);
+        parseTreeTemplateCache.put(normalizedSQL.getFingerprint(), result);
+        return result;
+    }
+    
+    /**
+     * Get statistics of parse tree template cache.
+     *
+     * @return cache statistics
+     */
+    public CacheStats getCacheStats() {
+        return parseTreeTemplateCache.stats();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.api;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLParserFacadeRegistry;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
+
+import java.util.Collection;
+import java.util.LinkedList;
+
+/**
+ * SQL parser warm up engine.
+ * 
+ * <p>
+ * Parse representative SQLs of database dialect before serving, so that shared ATN and DFA caches of parser are filled before first request arrives.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class SQLParserWarmUpEngine {
+    
+    private final String databaseType;
+    
+    /**
+     * Warm up parser with representative SQLs of database dialect.
+     * 
+     * @return SQLs which can not be parsed
+     */
+    public Collection<String> warmUp() {
+        return warmUp(SQLParserFacadeRegistry.getInstance().getSQLParserFacade(databaseType).getWarmUpSQLs());
+    }
+    
+    /**
+     * Warm up parser.
+     * 
+     * @param sqls SQLs to be parsed
+     * @return SQLs which can not be parsed
+     */
+    public Collection<String> warmUp(final Collection<String> sqls) {
+        SQLParserExecutor sqlParserExecutor = new SQLParserExecutor(databaseType);
+        Collection<String> result = new LinkedList<>();
+        for (String each : sqls) {
+            try {
+                sqlParserExecutor.parse(each);
+            } catch (final SQLParsingException ex) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+}
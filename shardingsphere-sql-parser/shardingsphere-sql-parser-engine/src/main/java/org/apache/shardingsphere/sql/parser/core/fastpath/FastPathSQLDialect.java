@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.fastpath;
+
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.SetAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+
+import java.util.List;
+
+/**
+ * Fast path SQL dialect.
+ * 
+ * <p>
+ * Dialect creates statements and segments which are different between databases, the result must be same as the result of SQL visitor of the database.
+ * </p>
+ */
+public interface FastPathSQLDialect {
+    
+    /**
+     * Get database type.
+     * 
+     * @return database type
+     */
+    String getDatabaseType();
+    
+    /**
+     * New instance of select statement.
+     * 
+     * @return select statement
+     */
+    SelectStatement newSelectStatement();
+    
+    /**
+     * New instance of insert statement.
+     * 
+     * @return insert statement
+     */
+    InsertStatement newInsertStatement();
+    
+    /**
+     * New instance of update statement.
+     * 
+     * @return update statement
+     */
+    UpdateStatement newUpdateStatement();
+    
+    /**
+     * New instance of delete statement.
+     * 
+     * @return delete statement
+     */
+    DeleteStatement newDeleteStatement();
+    
+    /**
+     * Create insert columns segment.
+     * 
+     * @param leftParenthesisIndex index of left parenthesis
+     * @param rightParenthesisIndex index of right parenthesis
+     * @param columns insert columns
+     * @return insert columns segment
+     */
+    InsertColumnsSegment createInsertColumnsSegment(int leftParenthesisIndex, int rightParenthesisIndex, List<ColumnSegment> columns);
+    
+    /**
+     * Create set assignment segment.
+     * 
+     * @param setKeywordStartIndex start index of SET keyword
+     * @param assignments assignments
+     * @return set assignment segment
+     */
+    SetAssignmentSegment createSetAssignmentSegment(int setKeywordStartIndex, List<AssignmentSegment> assignments);
+}
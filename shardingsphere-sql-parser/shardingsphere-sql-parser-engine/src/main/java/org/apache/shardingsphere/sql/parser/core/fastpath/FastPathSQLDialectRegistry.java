@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.fastpath;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * Fast path SQL dialect registry.
+ */
+public final class FastPathSQLDialectRegistry {
+    
+    private static final FastPathSQLDialectRegistry INSTANCE = new FastPathSQLDialectRegistry();
+    
+    private final Map<String, FastPathSQLDialect> dialects = new LinkedHashMap<>();
+    
+    private FastPathSQLDialectRegistry() {
+        for (FastPathSQLDialect each : ServiceLoader.load(FastPathSQLDialect.class)) {
+            dialects.put(each.getDatabaseType(), each);
+        }
+    }
+    
+    /**
+     * Get instance.
+     *
+     * @return instance
+     */
+    public static FastPathSQLDialectRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Find fast path SQL dialect.
+     * 
+     * @param databaseType database type
+     * @return fast path SQL dialect
+     */
+    public Optional<FastPathSQLDialect> findDialect(final String databaseType) {
+        return Optional.ofNullable(dialects.get(databaseType));
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.fastpath;
+
+import org.antlr.v4.runtime.Vocabulary;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ShorthandProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.StringLiteralValue;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Fast path SQL parser.
+ * 
+ * <p>
+ * Recognize simple single table DML without ANTLR, supported SQLs are:
+ * </p>
+ * <ul>
+ *     <li>{@code SELECT * | column [, column ...] FROM table [WHERE condition]}</li>
+ *     <li>{@code INSERT INTO table (column [, column ...]) VALUES (value [, value ...]) [, (value [, value ...]) ...]}</li>
+ *     <li>{@code UPDATE table SET column = value [, column = value ...] [WHERE condition]}</li>
+ *     <li>{@code DELETE FROM table [WHERE condition]}</li>
+ * </ul>
+ * <p>
+ * Condition is {@code column = value [AND column = value ...]}, value is parameter marker, unsigned integer or single quoted string.
+ * Identifier must be plain word which is not a keyword of the database, other SQLs should be parsed by ANTLR.
+ * </p>
+ */
+public final class FastPathSQLParser {
+    
+    private final FastPathSQLDialect dialect;
+    
+    private final Collection<String> keywords;
+    
+    public FastPathSQLParser(final FastPathSQLDialect dialect) {
+        this.dialect = dialect;
+        keywords = loadKeywords(SQLParserFactory.newLexer(dialect.getDatabaseType(), "").getVocabulary());
+    }
+    
+    private Collection<String> loadKeywords(final Vocabulary vocabulary) {
+        Collection<String> result = new HashSet<>(vocabulary.getMaxTokenType(), 1);
+        for (int i = 1; i <= vocabulary.getMaxTokenType(); i++) {
+            String symbolicName = vocabulary.getSymbolicName(i);
+            if (null != symbolicName && !symbolicName.endsWith("_")) {
+                result.add(symbolicName.toUpperCase());
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Parse SQL.
+     * 
+     * @param sql SQL to be parsed
+     * @return SQL statement, empty if SQL is not supported by fast path
+     */
+    public Optional<SQLStatement> parse(final String sql) {
+        Optional<List<FastPathToken>> tokens = FastPathSQLScanner.scan(sql);
+        if (!tokens.isPresent()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new StatementBuilder(sql, tokens.get()).build());
+        } catch (final MismatchedException ignored) {
+            return Optional.empty();
+        }
+    }
+    
+    private final class StatementBuilder {
+        
+        private final String sql;
+        
+        private final List<FastPathToken> tokens;
+        
+        private int position;
+        
+        private int parameterIndex;
+        
+        StatementBuilder(final String sql, final List<FastPathToken> tokens) {
+            this.sql = sql;
+            this.tokens = tokens;
+        }
+        
+        SQLStatement build() {
+            FastPathToken first = next();
+            SQLStatement result;
+            if (first.isKeyword("SELECT")) {
+                result = buildSelectStatement();
+            } else if (first.isKeyword("INSERT")) {
+                result = buildInsertStatement();
+            } else if (first.isKeyword("UPDATE")) {
+                result = buildUpdateStatement();
+            } else if (first.isKeyword("DELETE")) {
+                result = buildDeleteStatement();
+            } else {
+                throw MismatchedException.INSTANCE;
+            }
+            if (FastPathTokenType.EOF != next().getType()) {
+                throw MismatchedException.INSTANCE;
+            }
+            return result;
+        }
+        
+        private SelectStatement buildSelectStatement() {
+            SelectStatement result = dialect.newSelectStatement();
+            result.setProjections(buildProjections());
+            nextKeyword("FROM");
+            result.setFrom(buildTable());
+            buildWhere().ifPresent(result::setWhere);
+            result.setParameterCount(parameterIndex);
+            return result;
+        }
+        
+        private ProjectionsSegment buildProjections() {
+            if (peek().isSymbol('*')) {
+                FastPathToken asterisk = next();
+                ProjectionsSegment result = new ProjectionsSegment(asterisk.getStartIndex(), asterisk.getStopIndex());
+                result.getProjections().add(new ShorthandProjectionSegment(asterisk.getStartIndex(), asterisk.getStopIndex()));
+                return result;
+            }
+            List<ColumnSegment> columns = buildColumns();
+            ProjectionsSegment result = new ProjectionsSegment(columns.get(0).getStartIndex(), columns.get(columns.size() - 1).getStopIndex());
+            for (ColumnSegment each : columns) {
+                result.getProjections().add(new ColumnProjectionSegment(each));
+            }
+            return result;
+        }
+        
+        private InsertStatement buildInsertStatement() {
+            InsertStatement result = dialect.newInsertStatement();
+            nextKeyword("INTO");
+            result.setTable(buildTable());
+            FastPathToken leftParenthesis = nextSymbol('(');
+            List<ColumnSegment> columns = buildColumns();
+            result.setInsertColumns(dialect.createInsertColumnsSegment(leftParenthesis.getStartIndex(), nextSymbol(')').getStopIndex(), columns));
+            nextKeyword("VALUES");
+            do {
+                result.getValues().add(buildInsertValues());
+            } while (nextSymbolIfPresent(','));
+            result.setParameterCount(parameterIndex);
+            return result;
+        }
+        
+        private InsertValuesSegment buildInsertValues() {
+            FastPathToken leftParenthesis = nextSymbol('(');
+            List<ExpressionSegment> values = new LinkedList<>();
+            do {
+                values.add(buildValue());
+            } while (nextSymbolIfPresent(','));
+            FastPathToken rightParenthesis = nextSymbol(')');
+            return new InsertValuesSegment(leftParenthesis.getStartIndex(), rightParenthesis.getStopIndex(), values);
+        }
+        
+        private UpdateStatement buildUpdateStatement() {
+            UpdateStatement result = dialect.newUpdateStatement();
+            result.setTableSegment(buildTable());
+            FastPathToken set = nextKeyword("SET");
+            List<AssignmentSegment> assignments = new LinkedList<>();
+            do {
+                ColumnSegment column = buildColumn();
+                nextSymbol('=');
+                ExpressionSegment value = buildValue();
+                assignments.add(new AssignmentSegment(column.getStartIndex(), value.getStopIndex(), column, value));
+            } while (nextSymbolIfPresent(','));
+            result.setSetAssignment(dialect.createSetAssignmentSegment(set.getStartIndex(), assignments));
+            buildWhere().ifPresent(result::setWhere);
+            result.setParameterCount(parameterIndex);
+            return result;
+        }
+        
+        private DeleteStatement buildDeleteStatement() {
+            DeleteStatement result = dialect.newDeleteStatement();
+            nextKeyword("FROM");
+            result.setTableSegment(buildTable());
+            buildWhere().ifPresent(result::setWhere);
+            result.setParameterCount(parameterIndex);
+            return result;
+        }
+        
+        private Optional<WhereSegment> buildWhere() {
+            if (!peek().isKeyword("WHERE")) {
+                return Optional.empty();
+            }
+            FastPathToken where = next();
+            ExpressionSegment expression = buildCondition();
+            while (peek().isKeyword("AND")) {
+                String operator = next().getText();
+                ExpressionSegment right = buildCondition();
+                expression = new BinaryOperationExpression(expression.getStartIndex(), right.getStopIndex(), expression, right, operator, getText(expression, right));
+            }
+            return Optional.of(new WhereSegment(where.getStartIndex(), expression.getStopIndex(), expression));
+        }
+        
+        private BinaryOperationExpression buildCondition() {
+            ColumnSegment column = buildColumn();
+            String operator = nextSymbol('=').getText();
+            ExpressionSegment value = buildValue();
+            return new BinaryOperationExpression(column.getStartIndex(), value.getStopIndex(), column, value, operator, getText(column, value));
+        }
+        
+        private String getText(final ExpressionSegment left, final ExpressionSegment right) {
+            return sql.substring(left.getStartIndex(), right.getStopIndex() + 1);
+        }
+        
+        private ExpressionSegment buildValue() {
+            FastPathToken token = next();
+            switch (token.getType()) {
+                case PARAMETER_MARKER:
+                    return new ParameterMarkerExpressionSegment(token.getStartIndex(), token.getStopIndex(), parameterIndex++);
+                case NUMBER:
+                    return new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), new NumberLiteralValue(token.getText()).getValue());
+                case STRING:
+                    return new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), new StringLiteralValue(token.getText()).getValue());
+                default:
+                    throw MismatchedException.INSTANCE;
+            }
+        }
+        
+        private SimpleTableSegment buildTable() {
+            FastPathToken token = nextIdentifier();
+            return new SimpleTableSegment(new TableNameSegment(token.getStartIndex(), token.getStopIndex(), new IdentifierValue(token.getText())));
+        }
+        
+        private List<ColumnSegment> buildColumns() {
+            List<ColumnSegment> result = new LinkedList<>();
+            do {
+                result.add(buildColumn());
+            } while (nextSymbolIfPresent(','));
+            return result;
+        }
+        
+        private ColumnSegment buildColumn() {
+            FastPathToken token = nextIdentifier();
+            return new ColumnSegment(token.getStartIndex(), token.getStopIndex(), new IdentifierValue(token.getText()));
+        }
+        
+        private FastPathToken nextIdentifier() {
+            FastPathToken result = next();
+            if (FastPathTokenType.WORD != result.getType() || keywords.contains(result.getText().toUpperCase())) {
+                throw MismatchedException.INSTANCE;
+            }
+            return result;
+        }
+        
+        private FastPathToken nextKeyword(final String keyword) {
+            FastPathToken result = next();
+            if (!result.isKeyword(keyword)) {
+                throw MismatchedException.INSTANCE;
+            }
+            return result;
+        }
+        
+        private FastPathToken nextSymbol(final char symbol) {
+            FastPathToken result = next();
+            if (!result.isSymbol(symbol)) {
+                throw MismatchedException.INSTANCE;
+            }
+            return result;
+        }
+        
+        private boolean nextSymbolIfPresent(final char symbol) {
+            if (peek().isSymbol(symbol)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+        
+        private FastPathToken peek() {
+            return tokens.get(position);
+        }
+        
+        private FastPathToken next() {
+            FastPathToken result = tokens.get(position);
+            if (FastPathTokenType.EOF != result.getType()) {
+                position++;
+            }
+            return result;
+        }
+    }
+    
+    private static final class MismatchedException extends RuntimeException {
+        
+        private static final long serialVersionUID = -2428436151376338042L;
+        
+        private static final MismatchedException INSTANCE = new MismatchedException();
+        
+        private MismatchedException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.fastpath;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Fast path SQL scanner.
+ * 
+ * <p>
+ * Only plain words, unsigned integers, single quoted strings without escape, parameter markers and symbols {@code ( ) , = *} are recognized,
+ * SQL contains any other character such as comment, quoted identifier or operator can not be scanned.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FastPathSQLScanner {
+    
+    private static final String SYMBOLS = "(),=*";
+    
+    /**
+     * Scan SQL.
+     * 
+     * @param sql SQL to be scanned
+     * @return tokens ended with EOF token, empty if SQL contains unrecognized character
+     */
+    public static Optional<List<FastPathToken>> scan(final String sql) {
+        List<FastPathToken> result = new ArrayList<>(32);
+        int length = sql.length();
+        int index = 0;
+        while (index < length) {
+            char current = sql.charAt(index);
+            if (isWhitespace(current)) {
+                index++;
+                continue;
+            }
+            int stopIndex;
+            FastPathTokenType type;
+            if (isWordStart(current)) {
+                stopIndex = skipWordPart(sql, index + 1);
+                type = FastPathTokenType.WORD;
+            } else if (isDigit(current)) {
+                stopIndex = skipDigits(sql, index + 1);
+                type = FastPathTokenType.NUMBER;
+            } else if ('\'' == current) {
+                stopIndex = skipString(sql, index + 1);
+                type = FastPathTokenType.STRING;
+            } else if ('?' == current) {
+                stopIndex = index + 1;
+                type = FastPathTokenType.PARAMETER_MARKER;
+            } else if (SYMBOLS.indexOf(current) >= 0) {
+                stopIndex = index + 1;
+                type = FastPathTokenType.SYMBOL;
+            } else {
+                return Optional.empty();
+            }
+            if (stopIndex < 0 || stopIndex < length && !isTokenBoundary(type, sql.charAt(stopIndex))) {
+                return Optional.empty();
+            }
+            result.add(new FastPathToken(type, sql.substring(index, stopIndex), index, stopIndex - 1));
+            index = stopIndex;
+        }
+        result.add(new FastPathToken(FastPathTokenType.EOF, "", length, length - 1));
+        return Optional.of(result);
+    }
+    
+    private static boolean isWhitespace(final char ch) {
+        return ' ' == ch || '\t' == ch || '\n' == ch || '\r' == ch;
+    }
+    
+    private static boolean isWordStart(final char ch) {
+        return ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z' || '_' == ch;
+    }
+    
+    private static boolean isDigit(final char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+    
+    private static int skipWordPart(final String sql, final int startIndex) {
+        int result = startIndex;
+        while (result < sql.length() && (isWordStart(sql.charAt(result)) || isDigit(sql.charAt(result)))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static int skipDigits(final String sql, final int startIndex) {
+        int result = startIndex;
+        while (result < sql.length() && isDigit(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static int skipString(final String sql, final int startIndex) {
+        for (int i = startIndex; i < sql.length(); i++) {
+            char current = sql.charAt(i);
+            if ('\'' == current) {
+                return i + 1;
+            }
+            if ('\\' == current || Character.isSurrogate(current)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+    
+    private static boolean isTokenBoundary(final FastPathTokenType type, final char next) {
+        if (FastPathTokenType.WORD == type || FastPathTokenType.NUMBER == type) {
+            return isWhitespace(next) || SYMBOLS.indexOf(next) >= 0;
+        }
+        if (FastPathTokenType.STRING == type) {
+            return '\'' != next;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.normalize;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parse tree rebinder.
+ *
+ * <p>
+ * Copy a cached template parse tree and bind the copy to tokens of another SQL with the same fingerprint,
+ * so that SQL visitor can build a fresh SQL statement without parsing SQL again.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ParseTreeRebinder {
+    
+    private static final Map<Class<?>, ContextMetaData> CONTEXT_META_DATA = new ConcurrentHashMap<>();
+    
+    /**
+     * Rebind parse tree to tokens.
+     *
+     * @param template template parse tree
+     * @param tokens tokens to be bound, must have the same token types with tokens of template parse tree
+     * @return rebound parse tree
+     */
+    public static ParseTree rebind(final ParseTree template, final List<Token> tokens) {
+        if (template instanceof TerminalNode) {
+            return new TerminalNodeImpl(tokens.get(((TerminalNode) template).getSymbol().getTokenIndex()));
+        }
+        return rebind((ParserRuleContext) template, null, tokens, new IdentityHashMap<>());
+    }
+    
+    private static ParserRuleContext rebind(final ParserRuleContext template, final ParserRuleContext parent, final List<Token> tokens, final Map<Object, Object> rebound) {
+        ContextMetaData metaData = CONTEXT_META_DATA.computeIfAbsent(template.getClass(), ContextMetaData::new);
+        ParserRuleContext result = metaData.newInstance(template, parent);
+        result.start = rebindToken(template.start, tokens);
+        result.stop = rebindToken(template.stop, tokens);
+        if (null != template.children) {
+            result.children = new ArrayList<>(template.children.size());
+            for (ParseTree each : template.children) {
+                result.children.add(rebindChild(each, result, tokens, rebound));
+            }
+        }
+        rebound.put(template, result);
+        metaData.copyLabels(template, result, tokens, rebound);
+        return result;
+    }
+    
+    private static ParseTree rebindChild(final ParseTree child, final ParserRuleContext parent, final List<Token> tokens, final Map<Object, Object> rebound) {
+        if (child instanceof ParserRuleContext) {
+            return rebind((ParserRuleContext) child, parent, tokens, rebound);
+        }
+        TerminalNodeImpl result = new TerminalNodeImpl(rebindToken(((TerminalNode) child).getSymbol(), tokens));
+        result.setParent(parent);
+        rebound.put(child, result);
+        return result;
+    }
+    
+    private static Token rebindToken(final Token token, final List<Token> tokens) {
+        return null == token || token.getTokenIndex() < 0 ? token : tokens.get(token.getTokenIndex());
+    }
+    
+    private static final class ContextMetaData {
+        
+        private final Constructor<?> constructor;
+        
+        private final boolean copyConstructor;
+        
+        private final Collection<Field> labelFields = new LinkedList<>();
+        
+        ContextMetaData(final Class<?> contextClass) {
+            constructor = findConstructor(contextClass);
+            copyConstructor = 1 == constructor.getParameterCount();
+            for (Class<?> clazz = contextClass; ParserRuleContext.class != clazz; clazz = clazz.getSuperclass()) {
+                for (Field each : clazz.getDeclaredFields()) {
+                    if (!Modifier.isStatic(each.getModifiers()) && isLabelType(each.getType())) {
+                        each.setAccessible(true);
+                        labelFields.add(each);
+                    }
+                }
+            }
+        }
+        
+        private Constructor<?> findConstructor(final Class<?> contextClass) {
+            for (Constructor<?> each : contextClass.getConstructors()) {
+                if (2 == each.getParameterCount() && ParserRuleContext.class == each.getParameterTypes()[0] && int.class == each.getParameterTypes()[1]) {
+                    return each;
+                }
+            }
+            for (Constructor<?> each : contextClass.getConstructors()) {
+                if (1 == each.getParameterCount() && ParserRuleContext.class.isAssignableFrom(each.getParameterTypes()[0])) {
+                    return each;
+                }
+            }
+            throw new IllegalStateException(String.format("Can not find constructor of `%s` to rebind", contextClass.getName()));
+        }
+        
+        private boolean isLabelType(final Class<?> fieldType) {
+            return Token.class.isAssignableFrom(fieldType) || ParserRuleContext.class.isAssignableFrom(fieldType) || List.class.isAssignableFrom(fieldType);
+        }
+        
+        @SneakyThrows(ReflectiveOperationException.class)
+        ParserRuleContext newInstance(final ParserRuleContext template, final ParserRuleContext parent) {
+            if (!copyConstructor) {
+                return (ParserRuleContext) constructor.newInstance(parent, template.invokingState);
+            }
+            ParserRuleContext result = (ParserRuleContext) constructor.newInstance(template);
+            result.parent = parent;
+            return result;
+        }
+        
+        @SneakyThrows(ReflectiveOperationException.class)
+        void copyLabels(final ParserRuleContext template, final ParserRuleContext target, final List<Token> tokens, final Map<Object, Object> rebound) {
+            for (Field each : labelFields) {
+                Object value = each.get(template);
+                each.set(target, value instanceof List ? rebindLabels((List<?>) value, tokens, rebound) : rebindLabel(value, tokens, rebound));
+            }
+        }
+        
+        private List<Object> rebindLabels(final List<?> labels, final List<Token> tokens, final Map<Object, Object> rebound) {
+            List<Object> result = new ArrayList<>(labels.size());
+            for (Object each : labels) {
+                result.add(rebindLabel(each, tokens, rebound));
+            }
+            return result;
+        }
+        
+        private Object rebindLabel(final Object label, final List<Token> tokens, final Map<Object, Object> rebound) {
+            if (null == label) {
+                return null;
+            }
+            if (rebound.containsKey(label)) {
+                return rebound.get(label);
+            }
+            return label instanceof Token ? rebindToken((Token) label, tokens) : label;
+        }
+    }
+}
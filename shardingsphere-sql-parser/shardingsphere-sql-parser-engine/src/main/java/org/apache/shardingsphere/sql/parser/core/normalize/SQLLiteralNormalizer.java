@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.normalize;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLParserFactory;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * SQL literal normalizer.
+ * 
+ * <p>
+ * Lex SQL once and mask literal tokens to build a fingerprint, SQLs which only differ in literal values share the same fingerprint.
+ * Because parser of every dialect decides on token types only, SQLs with the same fingerprint always have the same parse tree structure.
+ * </p>
+ */
+public final class SQLLiteralNormalizer {
+    
+    private static final Collection<String> LITERAL_TOKEN_NAMES = new HashSet<>(Arrays.asList(
+            "STRING_", "NUMBER_", "INT_NUM_", "FLOAT_NUM_", "DECIMAL_NUM_", "HEX_DIGIT_", "BIT_NUM_", "SINGLE_QUOTED_TEXT", "DOUBLE_QUOTED_TEXT", "NCHAR_TEXT"));
+    
+    private static final char TOKEN_SEPARATOR = (char) 1;
+    
+    private final String databaseType;
+    
+    private final BitSet literalTokenTypes;
+    
+    public SQLLiteralNormalizer(final String databaseType) {
+        this.databaseType = databaseType;
+        literalTokenTypes = getLiteralTokenTypes(SQLParserFactory.newLexer(databaseType, "").getVocabulary());
+    }
+    
+    private BitSet getLiteralTokenTypes(final Vocabulary vocabulary) {
+        BitSet result = new BitSet();
+        for (int i = 0; i <= vocabulary.getMaxTokenType(); i++) {
+            if (LITERAL_TOKEN_NAMES.contains(vocabulary.getSymbolicName(i))) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Normalize SQL.
+     * 
+     * @param sql SQL to be normalized
+     * @return normalized SQL
+     */
+    public NormalizedSQL normalize(final String sql) {
+        Lexer lexer = SQLParserFactory.newLexer(databaseType, sql);
+        CommonTokenStream tokenStream = new CommonTokenStream(lexer);
+        tokenStream.fill();
+        List<Token> tokens = tokenStream.getTokens();
+        StringBuilder fingerprint = new StringBuilder(sql.length() + tokens.size() * 4);
+        for (Token each : tokens) {
+            fingerprint.append(each.getType()).append(':');
+            if (Token.EOF != each.getType() && !literalTokenTypes.get(each.getType())) {
+                fingerprint.append(each.getText());
+            }
+            fingerprint.append(TOKEN_SEPARATOR);
+        }
+        return new NormalizedSQL(sql, fingerprint.toString(), tokens);
+    }
+}
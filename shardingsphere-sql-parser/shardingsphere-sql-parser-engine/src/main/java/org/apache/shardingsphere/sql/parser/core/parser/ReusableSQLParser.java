@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.parser;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.misc.Interval;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reusable SQL parser.
+ * 
+ * <p>
+ * Lexer, token stream and parser are created once per thread and database type, and rebound to new SQL for each parsing.
+ * Parser nested in another parsing of same thread is created as a disposable one.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReusableSQLParser implements AutoCloseable {
+    
+    private static final ThreadLocal<Map<String, ReusableSQLParser>> PARSERS = ThreadLocal.withInitial(HashMap::new);
+    
+    private static final CharStream EMPTY_CHAR_STREAM = new EmptyCharStream();
+    
+    private final Lexer lexer;
+    
+    private final CommonTokenStream tokenStream;
+    
+    private final Parser parser;
+    
+    private final boolean pooled;
+    
+    private boolean inUse;
+    
+    /**
+     * Acquire SQL parser of current thread and bind it to SQL.
+     * 
+     * @param databaseType database type
+     * @param sql SQL
+     * @return reusable SQL parser, should be closed after parsing
+     */
+    public static ReusableSQLParser acquire(final String databaseType, final String sql) {
+        Map<String, ReusableSQLParser> parsers = PARSERS.get();
+        ReusableSQLParser result = parsers.get(databaseType);
+        if (null == result) {
+            result = create(databaseType, true);
+            parsers.put(databaseType, result);
+        } else if (result.inUse) {
+            result = create(databaseType, false);
+        }
+        result.bind(SQLParserFactory.createCharStream(sql));
+        result.inUse = true;
+        return result;
+    }
+    
+    private static ReusableSQLParser create(final String databaseType, final boolean pooled) {
+        Parser parser = (Parser) SQLParserFactory.newInstance(databaseType, "");
+        CommonTokenStream tokenStream = (CommonTokenStream) parser.getTokenStream();
+        return new ReusableSQLParser((Lexer) tokenStream.getTokenSource(), tokenStream, parser, pooled);
+    }
+    
+    private void bind(final CharStream charStream) {
+        lexer.setInputStream(charStream);
+        tokenStream.setTokenSource(lexer);
+        parser.setTokenStream(tokenStream);
+    }
+    
+    /**
+     * Get SQL parser.
+     * 
+     * @return SQL parser
+     */
+    public SQLParser getSQLParser() {
+        return (SQLParser) parser;
+    }
+    
+    @Override
+    public void close() {
+        if (pooled) {
+            bind(EMPTY_CHAR_STREAM);
+            inUse = false;
+        }
+    }
+    
+    private static final class EmptyCharStream implements CharStream {
+        
+        @Override
+        public String getText(final Interval interval) {
+            return "";
+        }
+        
+        @Override
+        public void consume() {
+            throw new IllegalStateException("cannot consume EOF");
+        }
+        
+        @Override
+        public int LA(final int i) {
+            return 0 == i ? 0 : IntStream.EOF;
+        }
+        
+        @Override
+        public int mark() {
+            return -1;
+        }
+        
+        @Override
+        public void release(final int marker) {
+        }
+        
+        @Override
+        public int index() {
+            return 0;
+        }
+        
+        @Override
+        public void seek(final int index) {
+        }
+        
+        @Override
+        public int size() {
+            return 0;
+        }
+        
+        @Override
+        public String getSourceName() {
+            return IntStream.UNKNOWN_SOURCE_NAME;
+        }
+    }
+}
@@ -50,7 +50,12 @@ public final class SQLParserExecutor {
     }
     
     private ParseASTNode twoPhaseParse(final String sql) {
-        SQLParser sqlParser = SQLParserFactory.newInstance(databaseType, sql);
+        try (ReusableSQLParser reusableSQLParser = ReusableSQLParser.acquire(databaseType, sql)) {
+            return twoPhaseParse(reusableSQLParser.getSQLParser());
+        }
+    }
+    
+    private ParseASTNode twoPhaseParse(final SQLParser sqlParser) {
         try {
             setPredictionMode((Parser) sqlParser, PredictionMode.SLL);
             return (ParseASTNode) sqlParser.parse();
@@ -47,6 +47,16 @@ public final class SQLParserFacadeRegistry {
         return INSTANCE;
     }
     
+    /**
+     * Judge whether database type is supported.
+     * 
+     * @param databaseType database type
+     * @return supported or not
+     */
+    public boolean isSupported(final String databaseType) {
+        return facades.containsKey(databaseType);
+    }
+    
     /**
      * Get SQL parser facade.
      * 
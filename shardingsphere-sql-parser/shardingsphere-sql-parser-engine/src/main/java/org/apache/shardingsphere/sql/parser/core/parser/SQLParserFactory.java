@@ -50,18 +50,41 @@ public final class SQLParserFactory {
         return createSQLParser(createTokenStream(sql, sqlParserFacade.getLexerClass()), sqlParserFacade.getParserClass());
     }
     
+    /**
+     * New instance of SQL lexer.
+     *
+     * @param databaseType database type
+     * @param sql SQL
+     * @return SQL lexer
+     */
+    public static Lexer newLexer(final String databaseType, final String sql) {
+        return createLexer(sql, SQLParserFacadeRegistry.getInstance().getSQLParserFacade(databaseType).getLexerClass());
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
     private static SQLParser createSQLParser(final TokenStream tokenStream, final Class<? extends SQLParser> parserClass) {
         return parserClass.getConstructor(TokenStream.class).newInstance(tokenStream);
     }
     
-    @SneakyThrows(ReflectiveOperationException.class)
     private static TokenStream createTokenStream(final String sql, final Class<? extends SQLLexer> lexerClass) {
-        Lexer lexer = (Lexer) lexerClass.getConstructor(CharStream.class).newInstance(getSQLCharStream(sql));
-        return new CommonTokenStream(lexer);
+        return new CommonTokenStream(createLexer(sql, lexerClass));
     }
     
-    private static CharStream getSQLCharStream(final String sql) {
+    @SneakyThrows(ReflectiveOperationException.class)
+    private static Lexer createLexer(final String sql, final Class<? extends SQLLexer> lexerClass) {
+        return (Lexer) lexerClass.getConstructor(CharStream.class).newInstance(createCharStream(sql));
+    }
+    
+    /**
+     * Create char stream of SQL.
+     * 
+     * @param sql SQL
+     * @return char stream
+     */
+    public static CharStream createCharStream(final String sql) {
+        if (StringCharStream.isSupported(sql)) {
+            return new StringCharStream(sql);
+        }
         CodePointBuffer buffer = CodePointBuffer.withChars(CharBuffer.wrap(sql.toCharArray()));
         return CodePointCharStream.fromBuffer(buffer);
     }
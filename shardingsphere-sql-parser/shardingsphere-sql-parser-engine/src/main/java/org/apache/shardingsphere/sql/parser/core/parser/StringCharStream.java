@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.parser;
+
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+/**
+ * Char stream which reads SQL string directly without copying.
+ * 
+ * <p>
+ * Index of the stream is char index, it is same as code point index only if SQL does not contain supplementary characters.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class StringCharStream implements CharStream {
+    
+    private final String sql;
+    
+    private int position;
+    
+    @Override
+    public String getText(final Interval interval) {
+        int startIndex = Math.min(interval.a, sql.length());
+        int length = Math.min(interval.b - interval.a + 1, sql.length() - startIndex);
+        return length <= 0 ? "" : sql.substring(startIndex, startIndex + length);
+    }
+    
+    @Override
+    public void consume() {
+        if (position >= sql.length()) {
+            throw new IllegalStateException("cannot consume EOF");
+        }
+        position++;
+    }
+    
+    @Override
+    public int LA(final int i) {
+        if (0 == i) {
+            return 0;
+        }
+        int offset = i > 0 ? position + i - 1 : position + i;
+        return offset < 0 || offset >= sql.length() ? IntStream.EOF : sql.charAt(offset);
+    }
+    
+    @Override
+    public int mark() {
+        return -1;
+    }
+    
+    @Override
+    public void release(final int marker) {
+    }
+    
+    @Override
+    public int index() {
+        return position;
+    }
+    
+    @Override
+    public void seek(final int index) {
+        position = index;
+    }
+    
+    @Override
+    public int size() {
+        return sql.length();
+    }
+    
+    @Override
+    public String getSourceName() {
+        return IntStream.UNKNOWN_SOURCE_NAME;
+    }
+    
+    @Override
+    public String toString() {
+        return sql;
+    }
+    
+    /**
+     * Judge whether SQL can be read by string char stream.
+     * 
+     * @param sql SQL
+     * @return can be read or not
+     */
+    public static boolean isSupported(final String sql) {
+        for (int i = 0; i < sql.length(); i++) {
+            if (Character.isSurrogate(sql.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
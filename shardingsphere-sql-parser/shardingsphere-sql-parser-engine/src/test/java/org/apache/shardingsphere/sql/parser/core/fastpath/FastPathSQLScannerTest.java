@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.fastpath;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class FastPathSQLScannerTest {
+    
+    @Test
+    public void assertScan() {
+        Optional<List<FastPathToken>> actual = FastPathSQLScanner.scan("SELECT *\tFROM t_order WHERE order_id=? AND status = 'init'");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().size(), is(13));
+        assertToken(actual.get().get(0), FastPathTokenType.WORD, "SELECT", 0, 5);
+        assertToken(actual.get().get(1), FastPathTokenType.SYMBOL, "*", 7, 7);
+        assertToken(actual.get().get(5), FastPathTokenType.WORD, "order_id", 28, 35);
+        assertToken(actual.get().get(6), FastPathTokenType.SYMBOL, "=", 36, 36);
+        assertToken(actual.get().get(7), FastPathTokenType.PARAMETER_MARKER, "?", 37, 37);
+        assertToken(actual.get().get(11), FastPathTokenType.STRING, "'init'", 52, 57);
+        assertToken(actual.get().get(12), FastPathTokenType.EOF, "", 58, 57);
+    }
+    
+    @Test
+    public void assertScanNumber() {
+        Optional<List<FastPathToken>> actual = FastPathSQLScanner.scan("INSERT INTO t_order (order_id) VALUES (100)");
+        assertTrue(actual.isPresent());
+        assertToken(actual.get().get(8), FastPathTokenType.NUMBER, "100", 39, 41);
+    }
+    
+    @Test
+    public void assertScanUnsupportedSQL() {
+        assertFalse(FastPathSQLScanner.scan("SELECT * FROM t_order WHERE order_id = 1.5").isPresent());
+        assertFalse(FastPathSQLScanner.scan("SELECT * FROM t_order WHERE order_id = -1").isPresent());
+        assertFalse(FastPathSQLScanner.scan("SELECT * FROM t_order o WHERE o.order_id = 1").isPresent());
+        assertFalse(FastPathSQLScanner.scan("SELECT * FROM `t_order`").isPresent());
+        assertFalse(FastPathSQLScanner.scan("SELECT * FROM t_order WHERE status = 'it''s'").isPresent());
+        assertFalse(FastPathSQLScanner.scan("SELECT * FROM t_order WHERE status = 'init").isPresent());
+        assertFalse(FastPathSQLScanner.scan("SELECT * FROM t_order -- comment").isPresent());
+    }
+    
+    private void assertToken(final FastPathToken actual, final FastPathTokenType type, final String text, final int startIndex, final int stopIndex) {
+        assertThat(actual.getType(), is(type));
+        assertThat(actual.getText(), is(text));
+        assertThat(actual.getStartIndex(), is(startIndex));
+        assertThat(actual.getStopIndex(), is(stopIndex));
+    }
+}
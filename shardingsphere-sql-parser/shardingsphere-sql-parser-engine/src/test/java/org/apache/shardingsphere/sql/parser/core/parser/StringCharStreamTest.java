@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.parser;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class StringCharStreamTest {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE status = '中文'";
+    
+    @Test
+    public void assertReadSameAsCodePointCharStream() {
+        CharStream actual = new StringCharStream(SQL);
+        CharStream expected = CharStreams.fromString(SQL);
+        assertThat(actual.size(), is(expected.size()));
+        while (IntStream.EOF != expected.LA(1)) {
+            assertThat(actual.LA(1), is(expected.LA(1)));
+            assertThat(actual.LA(-1), is(expected.LA(-1)));
+            actual.consume();
+            expected.consume();
+            assertThat(actual.index(), is(expected.index()));
+        }
+        assertThat(actual.LA(1), is(IntStream.EOF));
+        assertThat(actual.getText(Interval.of(7, 7)), is(expected.getText(Interval.of(7, 7))));
+        assertThat(actual.getText(Interval.of(38, 100)), is(expected.getText(Interval.of(38, 100))));
+        assertThat(actual.getText(Interval.of(5, 4)), is(""));
+        actual.seek(0);
+        assertThat(actual.LA(1), is((int) 'S'));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertConsumeEOF() {
+        new StringCharStream("").consume();
+    }
+    
+    @Test
+    public void assertIsSupported() {
+        assertTrue(StringCharStream.isSupported(SQL));
+        assertFalse(StringCharStream.isSupported("SELECT '" + new String(Character.toChars(0x1F600)) + "'"));
+    }
+    
+    @Test
+    public void assertCreateCharStream() {
+        assertThat(SQLParserFactory.createCharStream(SQL), instanceOf(StringCharStream.class));
+        assertFalse(SQLParserFactory.createCharStream(new String(Character.toChars(0x1F600))) instanceof StringCharStream);
+    }
+}
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.sql.parser.spi;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 
+import java.util.Collection;
+
 /**
  * SQL parser facade.
  */
@@ -45,4 +47,11 @@ public interface SQLParserFacade {
      * @return SQL parser class type
      */
     Class<? extends SQLParser> getParserClass();
+    
+    /**
+     * Get representative SQLs to warm up SQL parser.
+     * 
+     * @return representative SQLs
+     */
+    Collection<String> getWarmUpSQLs();
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.test.sql.parser.parameterized.engine;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.api.FastPathSQLParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -33,10 +34,16 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 @RequiredArgsConstructor
@@ -46,6 +53,18 @@ public abstract class SQLParserParameterizedTest {
     
     private static final SQLParserTestCasesRegistry SQL_PARSER_TEST_CASES_REGISTRY = SQLParserTestCasesRegistryFactory.getInstance().getRegistry();
     
+    private static final Map<String, FastPathSQLParserEngine> FAST_PATH_PARSER_ENGINES = new ConcurrentHashMap<>();
+    
+    private static final Map<String, Collection<String>> FAST_PATH_SQL_CASE_IDS = new HashMap<>(2, 1);
+    
+    static {
+        FAST_PATH_SQL_CASE_IDS.put("MySQL", new HashSet<>(Arrays.asList("select_equal_with_same_sharding_column", "select_equal_with_single_table", "select_with_N_string_in_expression")));
+        FAST_PATH_SQL_CASE_IDS.put("PostgreSQL", new HashSet<>(Arrays.asList("select_equal_with_same_sharding_column", "select_equal_with_single_table", "select_with_N_string_in_expression",
+                "insert_with_all_placeholders", "insert_with_partial_placeholders", "insert_without_parameters", "insert_with_batch", "insert_with_batch_and_irregular_parameters",
+                "insert_with_generate_key_column", "insert_without_generate_key_column", "insert_with_batch_and_with_generate_key_column", "insert_with_batch_and_without_generate_key_column",
+                "insert_with_columnname_uuid", "update_with_number", "update_without_alias", "update_without_parameters", "delete_with_sharding_value", "delete_without_sharding_value")));
+    }
+    
     private final String sqlCaseId;
     
     private final String databaseType;
@@ -84,6 +103,19 @@ public abstract class SQLParserParameterizedTest {
         SQLStatementAssert.assertIs(new SQLCaseAssertContext(sqlCaseId, sqlCaseType), actual, expected);
     }
     
+    @Test
+    public final void assertFastPathSQL() {
+        String databaseType = "H2".equals(this.databaseType) ? "MySQL" : this.databaseType;
+        String sql = SQL_CASES_LOADER.getSQL(sqlCaseId, sqlCaseType, SQL_PARSER_TEST_CASES_REGISTRY.get(sqlCaseId).getParameters());
+        Optional<SQLStatement> actual = FAST_PATH_PARSER_ENGINES.computeIfAbsent(databaseType, FastPathSQLParserEngine::new).parse(sql);
+        if (FAST_PATH_SQL_CASE_IDS.getOrDefault(databaseType, Collections.emptySet()).contains(sqlCaseId)) {
+            assertTrue(String.format("Fast path is not hit by `%s`", sql), actual.isPresent());
+        }
+        if (actual.isPresent()) {
+            SQLStatementAssert.assertIs(new SQLCaseAssertContext(sqlCaseId, sqlCaseType), actual.get(), SQL_PARSER_TEST_CASES_REGISTRY.get(sqlCaseId));
+        }
+    }
+    
     private SQLStatement parseSQLStatement(final String databaseType, final String sql) {
         return new SQLVisitorEngine(databaseType, "STATEMENT", new Properties()).visit(new SQLParserEngine(databaseType).parse(sql, false));
     }